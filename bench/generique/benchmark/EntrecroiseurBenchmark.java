@@ -0,0 +1,107 @@
+package generique.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alphabetic.metier.entite.Mot;
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.croisement.Entrecroiseur;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.Generation;
+import generique.metier.evaluation.Evaluateur;
+import generique.metier.selection.Selecteur;
+import numeric.metier.entite.Nombre;
+import numeric.metier.operateur.OperateursNombre;
+
+/**
+ * EN - Benchmark of the creation of a new generation by the {@link Entrecroiseur}, from a generation of parents evaluated and selected beforehand
+ * FR - Benchmark de la création d'une nouvelle génération par l'{@link Entrecroiseur}, à partir d'une génération de parents évaluée et sélectionnée au préalable
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntrecroiseurBenchmark {
+
+	@State(Scope.Thread)
+	public static class EtatMot {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"1", "5", "12", "25", "100", "1000"})
+		int longueurMot;
+
+		Entrecroiseur<Mot> entrecroiseur;
+		Generation<Mot> parents;
+
+		@Setup
+		public void preparer() {
+
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+			String motMystere = JeuxDeDonnees.getMotMystere(longueurMot, source);
+
+			parents = JeuxDeDonnees.getGenerationMot(nbIndividus, longueurMot, source);
+			new Evaluateur<Mot, String>(() -> motMystere, OperateursMot::evaluer).evaluer(parents, null);
+			new Selecteur<Mot>(OperateursMot::selectionner, parents.getScoreDeSelection()).selectionnerEtEliminer(parents);
+
+			entrecroiseur = new Entrecroiseur<Mot>((x, y) -> OperateursMot.croiser(x, y, source), nbIndividus);
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class EtatNombre {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"32", "1024", "65536"})
+		int longueurNombre;
+
+		Entrecroiseur<Nombre> entrecroiseur;
+		Generation<Nombre> parents;
+
+		@Setup
+		public void preparer() {
+
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+
+			parents = JeuxDeDonnees.getGenerationNombre(nbIndividus, longueurNombre, source);
+			new Evaluateur<Nombre, Nombre>(() -> OperateursNombre.aleatoire(longueurNombre, source), OperateursNombre::evaluer).evaluer(parents, null);
+			new Selecteur<Nombre>(OperateursNombre::selectionner, parents.getScoreDeSelection()).selectionnerEtEliminer(parents);
+
+			entrecroiseur = new Entrecroiseur<Nombre>((x, y) -> OperateursNombre.croiser(x, y, source), nbIndividus);
+		}
+	}
+
+
+	@Benchmark
+	public Generation<Mot> croiserMot(EtatMot etat) {
+		return etat.entrecroiseur.getGeneration(etat.parents);
+	}
+
+
+	@Benchmark
+	public Generation<Nombre> croiserNombre(EtatNombre etat) {
+		return etat.entrecroiseur.getGeneration(etat.parents);
+	}
+
+}
@@ -0,0 +1,100 @@
+package generique.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alphabetic.metier.entite.Mot;
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.Generation;
+import generique.metier.entite.StatistiquesGeneration;
+import generique.metier.evaluation.Evaluateur;
+import numeric.metier.entite.Nombre;
+import numeric.metier.operateur.OperateursNombre;
+
+/**
+ * EN - Benchmark of the sequential evaluation of a whole generation by the {@link Evaluateur}, with the alphabetic and numeric fitness functions
+ *      As in the application, the evaluation stops at the first solution met, which is only likely for the very short words
+ * FR - Benchmark de l'évaluation séquentielle d'une génération entière par l'{@link Evaluateur}, avec les fonctions d'évaluation alphabétique et numérique
+ *      Comme dans l'application, l'évaluation s'arrête à la première solution rencontrée, ce qui n'est probable que pour les mots très courts
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluateurBenchmark {
+
+	@State(Scope.Thread)
+	public static class EtatMot {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"1", "5", "12", "25", "100", "1000"})
+		int longueurMot;
+
+		Evaluateur<Mot, String> evaluateur;
+		Generation<Mot> generation;
+
+		@Setup
+		public void preparer() {
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+			String motMystere = JeuxDeDonnees.getMotMystere(longueurMot, source);
+			evaluateur = new Evaluateur<Mot, String>(() -> motMystere, OperateursMot::evaluer);
+			generation = JeuxDeDonnees.getGenerationMot(nbIndividus, longueurMot, source);
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class EtatNombre {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"32", "1024", "65536"})
+		int longueurNombre;
+
+		Evaluateur<Nombre, Nombre> evaluateur;
+		Generation<Nombre> generation;
+
+		@Setup
+		public void preparer() {
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+			evaluateur = new Evaluateur<Nombre, Nombre>(() -> OperateursNombre.aleatoire(longueurNombre, source), OperateursNombre::evaluer);
+			generation = JeuxDeDonnees.getGenerationNombre(nbIndividus, longueurNombre, source);
+		}
+	}
+
+
+	@Benchmark
+	public StatistiquesGeneration<Mot> evaluerMot(EtatMot etat) {
+		etat.evaluateur.evaluer(etat.generation, null);
+		return etat.generation.getStatistiques();
+	}
+
+
+	@Benchmark
+	public StatistiquesGeneration<Nombre> evaluerNombre(EtatNombre etat) {
+		etat.evaluateur.evaluer(etat.generation, null);
+		return etat.generation.getStatistiques();
+	}
+
+}
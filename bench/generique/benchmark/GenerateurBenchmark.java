@@ -0,0 +1,104 @@
+package generique.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alphabetic.metier.entite.Mot;
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.Generation;
+import generique.metier.entite.GenerationCompacte;
+import generique.metier.entite.IndividuCompact;
+import generique.metier.initialisation.Generateur;
+import numeric.metier.entite.Nombre;
+import numeric.metier.operateur.OperateursNombre;
+
+/**
+ * EN - Benchmark of the random creation of a generation by the {@link Generateur}, for the words, the numbers and the compact generations
+ * FR - Benchmark de la création aléatoire d'une génération par le {@link Generateur}, pour les mots, les nombres et les générations compactes
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerateurBenchmark {
+
+	@State(Scope.Thread)
+	public static class EtatMot {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"1", "5", "12", "25", "100", "1000"})
+		int longueurMot;
+
+		Generateur<Mot> generateur;
+
+		@Setup
+		public void preparer() {
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+			generateur = new Generateur<Mot>(() -> OperateursMot.aleatoire(longueurMot, source));
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class EtatNombre {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"32", "1024", "65536"})
+		int longueurNombre;
+
+		Generateur<Nombre> generateur;
+		Generateur<IndividuCompact> generateurCompact;
+
+		@Setup
+		public void preparer() {
+
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+
+			generateur = new Generateur<Nombre>(() -> OperateursNombre.aleatoire(longueurNombre, source));
+
+			generateurCompact = new Generateur<IndividuCompact>(() -> OperateursNombre.aleatoireCompact(longueurNombre, source));
+			generateurCompact.setFabriqueGeneration(numero -> new GenerationCompacte(numero, nbIndividus, longueurNombre));
+		}
+	}
+
+
+	@Benchmark
+	public Generation<Mot> genererMot(EtatMot etat) {
+		return etat.generateur.getGeneration(etat.nbIndividus);
+	}
+
+
+	@Benchmark
+	public Generation<Nombre> genererNombre(EtatNombre etat) {
+		return etat.generateur.getGeneration(etat.nbIndividus);
+	}
+
+
+	@Benchmark
+	public Generation<IndividuCompact> genererCompact(EtatNombre etat) {
+		return etat.generateurCompact.getGeneration(etat.nbIndividus);
+	}
+
+}
@@ -0,0 +1,97 @@
+package generique.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alphabetic.metier.entite.Mot;
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.Generation;
+import generique.metier.evaluation.Evaluateur;
+import generique.metier.selection.Selecteur;
+
+/**
+ * EN - Benchmark of the operations of a {@link Generation} executed at each generation : calculation of the selection threshold and deletion of the individuals not selected
+ *      The statistics being kept by the generation, they are discarded before each calculation of the threshold so that the scan of the individuals is measured
+ * FR - Benchmark des opérations d'une {@link Generation} exécutées à chaque génération : calcul du seuil de sélection et suppression des individus non sélectionnés
+ *      Les statistiques étant conservées par la génération, elles sont abandonnées avant chaque calcul du seuil afin que le parcours des individus soit mesuré
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GenerationBenchmark {
+
+	@Param({"1000", "10000", "100000"})
+	int nbIndividus;
+
+	@Param({"5", "25", "1000"})
+	int longueurMot;
+
+	/**
+	 * EN - Evaluated generation whose individuals carry their selection flag
+	 * FR - Génération évaluée dont les individus portent leur indicateur de sélection
+	 */
+	private Generation<Mot> reference;
+
+	/**
+	 * EN - Copy of the reference generation, rebuilt before each deletion
+	 * FR - Copie de la génération de référence, reconstruite avant chaque suppression
+	 */
+	private Generation<Mot> copie;
+
+
+	@Setup
+	public void preparer() {
+
+		SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+		String motMystere = JeuxDeDonnees.getMotMystere(longueurMot, source);
+
+		reference = JeuxDeDonnees.getGenerationMot(nbIndividus, longueurMot, source);
+		new Evaluateur<Mot, String>(() -> motMystere, OperateursMot::evaluer).evaluer(reference, null);
+
+		Selecteur<Mot> selecteur = new Selecteur<Mot>(OperateursMot::selectionner, reference.getScoreDeSelection());
+		reference.getLesIndividus().forEach(selecteur::selectionner);
+	}
+
+
+	@Setup(Level.Invocation)
+	public void copier() {
+		copie = new Generation<Mot>(0);
+		copie.ajouterGroupeIndividu(reference.getLesIndividus());
+	}
+
+
+	@Benchmark
+	public Integer getScoreDeSelection() {
+		reference.setStatistiques(null);
+		return reference.getScoreDeSelection();
+	}
+
+
+	@Benchmark
+	public Generation<Mot> eliminerNonSelectionnes() {
+		copie.eliminerNonSelectionnes();
+		return copie;
+	}
+
+}
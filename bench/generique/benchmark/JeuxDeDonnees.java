@@ -0,0 +1,96 @@
+package generique.benchmark;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import alphabetic.metier.entite.Mot;
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.Generation;
+import generique.metier.entite.GenerationCompacte;
+import generique.metier.entite.IndividuCompact;
+import generique.metier.entite.Individu;
+import numeric.metier.entite.Nombre;
+import numeric.metier.operateur.OperateursNombre;
+
+/**
+ * EN - Utility class building the data sets of the benchmarks : mystery values and generations of random individuals
+ *      The mystery words of 1 to 25 letters are taken from dictionnaire.properties, as the application does, longer ones being synthetic
+ * FR - Classe utilitaire construisant les jeux de données des benchmarks : valeurs mystères et générations d'individus aléatoires
+ *      Les mots mystères de 1 à 25 lettres sont pris dans dictionnaire.properties, comme le fait l'application, les plus longs étant synthétiques
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+final class JeuxDeDonnees {
+
+	/**
+	 * EN - Seed of the sources of random numbers of the benchmarks, fixed so that the data sets are the same from one run to the next
+	 * FR - Graine des sources de nombres aléatoires des benchmarks, fixée afin que les jeux de données soient les mêmes d'une exécution à l'autre
+	 */
+	static final long GRAINE = 42L;
+
+
+	private JeuxDeDonnees() {
+	}
+
+
+	static SourceAleatoire getSourceAleatoire() {
+		return new SourceAleatoire(GRAINE);
+	}
+
+
+	/**
+	 * EN - Gives the mystery word of a length, read from the dictionary when it contains one, otherwise drawn at random
+	 * FR - Donne le mot mystère d'une longueur, lu dans le dictionnaire lorsqu'il en contient un, sinon tiré au hasard
+	 *
+	 * @param longueur EN-length of the word </br> FR-longueur du mot
+	 * @param source   EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the mystery word </br> FR-le mot mystère
+	 */
+	static String getMotMystere(int longueur, SourceAleatoire source) {
+
+		Properties dictionnaire = new Properties();
+
+		try (FileInputStream flux = new FileInputStream("dictionnaire.properties")) {
+			dictionnaire.load(flux);
+		} catch (IOException e) {
+			/* EN - Without dictionary, every mystery word is synthetic
+			 * FR - Sans dictionnaire, tous les mots mystères sont synthétiques */
+		}
+
+		String motMystere = dictionnaire.getProperty(String.valueOf(longueur));
+
+		return motMystere != null ? motMystere : OperateursMot.aleatoire(longueur, source).getValeur();
+	}
+
+
+	static Generation<Mot> getGenerationMot(int nbIndividus, int longueur, SourceAleatoire source) {
+		return remplir(new Generation<Mot>(0), nbIndividus, () -> OperateursMot.aleatoire(longueur, source));
+	}
+
+
+	static Generation<Nombre> getGenerationNombre(int nbIndividus, int nbBits, SourceAleatoire source) {
+		return remplir(new Generation<Nombre>(0), nbIndividus, () -> OperateursNombre.aleatoire(nbBits, source));
+	}
+
+
+	static Generation<IndividuCompact> getGenerationCompacte(int nbIndividus, int nbBits, SourceAleatoire source) {
+		return remplir(new GenerationCompacte(0, nbIndividus, nbBits), nbIndividus, () -> OperateursNombre.aleatoireCompact(nbBits, source));
+	}
+
+
+	private static <T extends Individu<?>> Generation<T> remplir(Generation<T> generation, int nbIndividus, Supplier<T> fabriqueIndividu) {
+
+		for (int i = 0; i < nbIndividus; i++) {
+			generation.ajouterIndividu(fabriqueIndividu.get());
+		}
+
+		return generation;
+	}
+
+}
@@ -0,0 +1,45 @@
+package generique.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * EN - Class allowing to launch the benchmarks of the generic engine, with the allocation profiler enabled
+ *      The usual JMH options can be given as arguments, for example a regular expression restricting the benchmarks or -p longueurMot=25
+ *      The benchmarks must be launched from the root of the project so that dictionnaire.properties is found
+ * FR - Classe permettant de lancer les benchmarks du moteur générique, avec le profileur d'allocation activé
+ *      Les options habituelles de JMH peuvent être données en arguments, par exemple une expression régulière restreignant les benchmarks ou -p longueurMot=25
+ *      Les benchmarks doivent être lancés depuis la racine du projet afin que dictionnaire.properties soit trouvé
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class LanceurBenchmarks {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+
+		CommandLineOptions optionsLigneDeCommande = new CommandLineOptions(args);
+
+		OptionsBuilder options = new OptionsBuilder();
+		options.parent(optionsLigneDeCommande);
+
+		/* EN - Without explicit selection, all the benchmarks of the package are launched
+		 * FR - Sans sélection explicite, tous les benchmarks du package sont lancés */
+		if (optionsLigneDeCommande.getIncludes().isEmpty())
+			options.include(LanceurBenchmarks.class.getPackage().getName() + ".*");
+
+		/* EN - Allocation profiling : bytes allocated per operation and garbage collections
+		 * FR - Profilage des allocations : octets alloués par opération et ramasse-miettes */
+		Options optionsCompletes = options.addProfiler(GCProfiler.class).build();
+
+		new Runner(optionsCompletes).run();
+	}
+
+}
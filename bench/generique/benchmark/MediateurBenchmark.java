@@ -0,0 +1,197 @@
+package generique.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import alphabetic.metier.entite.Mot;
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.croisement.CroisementEnPlace;
+import generique.metier.croisement.Entrecroiseur;
+import generique.metier.entite.Generation;
+import generique.metier.entite.Individu;
+import generique.metier.evaluation.Evaluateur;
+import generique.metier.initialisation.Generateur;
+import generique.metier.mediation.Mediateur;
+import generique.metier.selection.Selecteur;
+import numeric.metier.entite.Nombre;
+import numeric.metier.operateur.OperateursNombre;
+
+/**
+ * EN - Benchmark of a complete generation step, chaining the phases of {@link Mediateur#run()} :
+ *      selection and deletion, crossover, addition of random individuals, then evaluation of the new generation
+ *      The generation evolves from one invocation to the next and is drawn again when it contains a solution
+ *      The numeric step is measured with the allocating crossover and with the crossover in place, which reuses the individuals of the previous generations
+ * FR - Benchmark d'une étape de génération complète, enchaînant les phases de {@link Mediateur#run()} :
+ *      sélection et suppression, croisement, ajout d'individus aléatoires, puis évaluation de la nouvelle génération
+ *      La génération évolue d'une invocation à l'autre et est tirée à nouveau lorsqu'elle contient une solution
+ *      L'étape numérique est mesurée avec le croisement allouant et avec le croisement en place, qui réutilise les individus des générations précédentes
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MediateurBenchmark {
+
+	/**
+	 * EN - Components of the genetic algorithm and generation being processed
+	 * FR - Composants de l'algorithme génétique et génération en cours de traitement
+	 */
+	static class Etape<T extends Individu<?>, R> {
+
+		private final int nbIndividus;
+		private final Generateur<T> generateur;
+		private final Evaluateur<T, R> evaluateur;
+		private final Selecteur<T> selecteur;
+		private final Entrecroiseur<T> entrecroiseur;
+		private Generation<T> generation;
+
+		Etape(int nbIndividus, Supplier<R> fabriqueMystere, Supplier<T> fabriqueIndividu, BiConsumer<T, R> fonctionEvaluatrice,
+				BiConsumer<T, Integer> fonctionSelectrice, BiFunction<T, T, List<T>> fabriqueDescendants) {
+
+			this.nbIndividus = nbIndividus;
+			this.generateur = new Generateur<T>(fabriqueIndividu);
+			this.evaluateur = new Evaluateur<T, R>(fabriqueMystere, fonctionEvaluatrice);
+			this.selecteur = new Selecteur<T>(fonctionSelectrice, 0);
+			this.entrecroiseur = new Entrecroiseur<T>(fabriqueDescendants, nbIndividus);
+
+			initialiser();
+		}
+
+		/**
+		 * EN - Makes the crossover and the addition of random individuals write into the individuals released by the previous generations
+		 * FR - Fait écrire le croisement et l'ajout d'individus aléatoires dans les individus libérés par les générations précédentes
+		 */
+		Etape<T, R> enPlace(CroisementEnPlace<T> croisementEnPlace, Consumer<T> reinitialisationAleatoire, Supplier<T> fabriqueIndividuVierge) {
+
+			entrecroiseur.setCroisementEnPlace(croisementEnPlace);
+			entrecroiseur.setFabriqueIndividu(fabriqueIndividuVierge);
+			generateur.setReinitialisationAleatoire(reinitialisationAleatoire);
+			generateur.setFabriqueIndividuVierge(fabriqueIndividuVierge);
+
+			return this;
+		}
+
+		private void initialiser() {
+			generation = generateur.getGeneration(nbIndividus);
+			evaluateur.evaluer(generation, null);
+		}
+
+		Generation<T> executer() {
+
+			if (generation.contienSolution() || generation.nbIndividus() < 2)
+				initialiser();
+
+			selecteur.setSeuil(generation.getScoreDeSelection());
+			selecteur.selectionnerEtEliminer(generation);
+
+			generation = entrecroiseur.getGeneration(generation);
+
+			generateur.completer(generation, nbIndividus);
+
+			evaluateur.evaluer(generation, null);
+
+			return generation;
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class EtatMot {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"5", "12", "25", "100", "1000"})
+		int longueurMot;
+
+		Etape<Mot, String> etape;
+
+		@Setup
+		public void preparer() {
+
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+			String motMystere = JeuxDeDonnees.getMotMystere(longueurMot, source);
+
+			etape = new Etape<Mot, String>(nbIndividus, () -> motMystere, () -> OperateursMot.aleatoire(longueurMot, source),
+					OperateursMot::evaluer, OperateursMot::selectionner, (x, y) -> OperateursMot.croiser(x, y, source));
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class EtatNombre {
+
+		@Param({"1000", "10000"})
+		int nbIndividus;
+
+		@Param({"32", "1024", "65536"})
+		int longueurNombre;
+
+		Etape<Nombre, Nombre> etape;
+
+		@Setup
+		public void preparer() {
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+
+			etape = new Etape<Nombre, Nombre>(nbIndividus, () -> OperateursNombre.aleatoire(longueurNombre, source), () -> OperateursNombre.aleatoire(longueurNombre, source),
+					OperateursNombre::evaluer, OperateursNombre::selectionner, (x, y) -> OperateursNombre.croiser(x, y, source));
+		}
+	}
+
+
+	@State(Scope.Thread)
+	public static class EtatNombreEnPlace extends EtatNombre {
+
+		@Setup
+		public void preparerEnPlace() {
+
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire().scinder();
+
+			etape.enPlace(	(p1, p2, e1, e2) -> OperateursNombre.croiser(p1, p2, e1, e2, source), x -> OperateursNombre.reinitialiser(x, source),
+							() -> OperateursNombre.vierge(longueurNombre));
+		}
+	}
+
+
+	@Benchmark
+	public Generation<Mot> etapeMot(EtatMot etat) {
+		return etat.etape.executer();
+	}
+
+
+	@Benchmark
+	public Generation<Nombre> etapeNombre(EtatNombre etat) {
+		return etat.etape.executer();
+	}
+
+
+	@Benchmark
+	public Generation<Nombre> etapeNombreEnPlace(EtatNombreEnPlace etat) {
+		return etat.etape.executer();
+	}
+
+}
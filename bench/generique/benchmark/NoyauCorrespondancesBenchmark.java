@@ -0,0 +1,166 @@
+package generique.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.GenomeBinaire;
+import generique.metier.evaluation.NoyauCorrespondances;
+
+/**
+ * EN - Benchmark of the kernel of evaluation {@link NoyauCorrespondances}, per genome evaluated, against the former loop on the tables of characters
+ *      The threshold NoyauCorrespondances.SEUIL_BLOCS is the length from which the evaluation by blocks overtakes the scalar one
+ * FR - Benchmark du noyau d'évaluation {@link NoyauCorrespondances}, par génome évalué, face à l'ancienne boucle sur les tableaux de caractères
+ *      Le seuil NoyauCorrespondances.SEUIL_BLOCS est la longueur à partir de laquelle l'évaluation par blocs dépasse celle scalaire
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(NoyauCorrespondancesBenchmark.NB_GENOMES)
+public class NoyauCorrespondancesBenchmark {
+
+	/**
+	 * EN - Number of genomes evaluated per invocation, different so that the branches cannot be learnt by the processor
+	 * FR - Nombre de génomes évalués par invocation, différents afin que les branchements ne puissent être appris par le processeur
+	 */
+	static final int NB_GENOMES = 256;
+
+	@State(Scope.Thread)
+	public static class Etat {
+
+		@Param({"8", "32", "128", "1024", "8192"})
+		int longueur;
+
+		String reference;
+		String[] genomes;
+
+		byte[] octetsReference;
+		byte[][] octetsGenomes;
+
+		long[] correspondances;
+
+		@Setup
+		public void preparer() {
+
+			SourceAleatoire source = JeuxDeDonnees.getSourceAleatoire();
+
+			reference = JeuxDeDonnees.getMotMystere(longueur, source);
+			octetsReference = reference.getBytes(StandardCharsets.ISO_8859_1);
+
+			genomes = new String[NB_GENOMES];
+			octetsGenomes = new byte[NB_GENOMES][];
+
+			for (int i = 0; i < NB_GENOMES; i++) {
+				genomes[i] = OperateursMot.aleatoire(longueur, source).getValeur();
+				octetsGenomes[i] = genomes[i].getBytes(StandardCharsets.ISO_8859_1);
+			}
+
+			correspondances = new long[GenomeBinaire.getNbMots(longueur)];
+		}
+	}
+
+
+	/**
+	 * EN - Former evaluation of the words : tables of characters and one branch per locus
+	 * FR - Ancienne évaluation des mots : tableaux de caractères et un branchement par locus
+	 */
+	@Benchmark
+	public int tableauxDeCaracteres(Etat etat) {
+
+		int total = 0;
+
+		for (String genome : etat.genomes) {
+
+			char[] elementsReference = etat.reference.toCharArray();
+			char[] elementsGenome = genome.toCharArray();
+			long[] correspondances = etat.correspondances;
+
+			for (int i = 0; i < elementsGenome.length; i++) {
+				if (elementsGenome[i] == elementsReference[i]) {
+					total++;
+					correspondances[i >>> 6] |= 1L << i;
+				}
+			}
+		}
+
+		return total;
+	}
+
+
+	@Benchmark
+	public int scalaire(Etat etat) {
+
+		int total = 0;
+
+		for (String genome : etat.genomes) {
+			total += NoyauCorrespondances.compterScalaire(genome, etat.reference, etat.correspondances);
+		}
+
+		return total;
+	}
+
+
+	/**
+	 * EN - Kernel as used by the evaluation of the words, the implementation being selected by the length
+	 * FR - Noyau tel qu'utilisé par l'évaluation des mots, l'implémentation étant choisie selon la longueur
+	 */
+	@Benchmark
+	public int automatique(Etat etat) {
+
+		int total = 0;
+
+		for (String genome : etat.genomes) {
+			total += NoyauCorrespondances.compter(genome, etat.reference, etat.correspondances);
+		}
+
+		return total;
+	}
+
+
+	@Benchmark
+	public int scalaireOctets(Etat etat) {
+
+		int total = 0;
+
+		for (byte[] genome : etat.octetsGenomes) {
+			total += NoyauCorrespondances.compterScalaire(genome, etat.octetsReference, 0, etat.longueur, etat.correspondances);
+		}
+
+		return total;
+	}
+
+
+	@Benchmark
+	public int blocsOctets(Etat etat) {
+
+		int total = 0;
+
+		for (byte[] genome : etat.octetsGenomes) {
+			total += NoyauCorrespondances.compterParBlocs(genome, etat.octetsReference, etat.longueur, etat.correspondances);
+		}
+
+		return total;
+	}
+
+}
@@ -2,20 +2,35 @@ package alphabetic.lanceur;
 
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Properties;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.Logger;
 
-import org.apache.commons.lang3.RandomStringUtils;
-
+import alphabetic.metier.entite.Alphabet;
 import alphabetic.metier.entite.Mot;
+import alphabetic.metier.entite.MotCompact;
+import alphabetic.metier.operateur.OperateursMot;
+import alphabetic.metier.operateur.OperateursMotCompact;
+import alphabetic.metier.sauvegarde.CodecMot;
+import alphabetic.metier.sauvegarde.CodecMotCompact;
+import generique.metier.aleatoire.SourceAleatoire;
 import generique.metier.evaluation.Evaluateur;
+import generique.metier.journal.JournalAsynchrone;
+import generique.metier.journal.PolitiqueSaturation;
+import generique.metier.lot.SolveurParLot;
 import generique.metier.mediation.Mediateur;
+import generique.metier.migration.Archipel;
+import generique.metier.sauvegarde.CodecChaine;
 import lombok.extern.java.Log;
 
 
@@ -71,6 +86,28 @@ public class App {
 		 * FR - Récuperation de la longueur du mot à rechercher depuis la configuration  */
 		int longueurDeMot = Integer.valueOf(properties.getProperty("longueurMot")); 
 		
+		/* EN - Root source of random numbers, initialized by the seed of the configuration or, failing that, by a random seed logged to replay the run
+		 * FR - Source racine de nombres aléatoires, initialisée par la graine de la configuration ou, à défaut, par une graine aléatoire journalisée pour rejouer l'exécution */
+		SourceAleatoire sourceAleatoire = SourceAleatoire.creer(properties.getProperty("graineAleatoire"));
+		
+		log.log(Level.INFO, "Graine aléatoire : {0}", String.valueOf(sourceAleatoire.getGraine()));
+		
+		/* EN - A file of targets switches to the batch mode, see lancerLot
+		 * FR - Un fichier de cibles fait passer en mode lot, voir lancerLot */
+		String fichierCibles = properties.getProperty("fichierCibles", "");
+		
+		if (!fichierCibles.isBlank()) {
+			lancerLot(properties, Paths.get(fichierCibles.trim()), sourceAleatoire);
+			return;
+		}
+		
+		/* EN - The words can be stored as the indexes of their letters on one byte, see lancerMotCompact
+		 * FR - Les mots peuvent être rangés sous la forme des indices de leurs lettres sur un octet, voir lancerMotCompact */
+		if (Boolean.parseBoolean(properties.getProperty("motCompact", "false"))) {
+			lancerMotCompact(properties, dictionnaire, longueurDeMot, sourceAleatoire);
+			return;
+		}
+		
 		
 		/* EN - Reference of the function in charge of generating the mystery word.
 		 * FR - Référence de la fonction chargée de générer le mot mystère. */
@@ -83,53 +120,18 @@ public class App {
 		if (longueurDeMot > 0 && longueurDeMot < 26)
 			fonctionGeneratriceMotMystereAleatoire = () -> dictionnaire.getProperty(String.valueOf(longueurDeMot));
 		else
-			fonctionGeneratriceMotMystereAleatoire = () -> RandomStringUtils.randomAlphabetic(longueurDeMot).toLowerCase();
+			fonctionGeneratriceMotMystereAleatoire = () -> OperateursMot.aleatoire(longueurDeMot, sourceAleatoire).getValeur();
 				
 			
-		/* EN - Behavioral parameterization of the function in charge of generating an individual randomly.
-		 * FR - Paramétrage comportemental de la fonction chargée de générer un individu aléatoirement. */	
-		Supplier<Mot> fonctionGeneratriceIndividuAleatoire = () -> new Mot(RandomStringUtils.randomAlphabetic(longueurDeMot).toLowerCase());
-		
 		/* EN - Behavioral parameterization of the function responsible for evaluating an individual
 		 *      x : Mystery word to find
 		 *      y: Candidate individual to score 
 		 * FR - Paramétrage comportemental de la fonction chargée de l'évaluation d'un individu. 
 		 *      x : Mot mystère à trouver
 		 *      y : Individu candidat à scrorer */	
-		BiConsumer<Mot, String> fonctionEvaluatriceIndividu = (x,y) ->{
-			
-			/* EN - Table of characters constituting the mystery word
-			 * FR - Tableau des caractères constituant le mot mystère */
-			char[] elementsMotMystere = y.toCharArray();
-				
-			/* EN - Table of characters constituting an individual
-			 * FR - Tableau des caractères constituant un individu */
-			char[] elementsIndividu = x.getValeur().toCharArray();
-			
-			/* EN - Score obtained by the individual
-			 * FR - Score obtenu par l'individu */
-			int scoreIndividu = 0;
-			
-			
-			/* EN - Individual scoring loop
-			 * FR - Boucle de scoring de l'individu */
-			for (int i = 0; i < elementsIndividu.length; i++) {
-				if (elementsIndividu[i] == elementsMotMystere[i])
-					scoreIndividu++;
-			}
+		BiConsumer<Mot, String> fonctionEvaluatriceIndividu = OperateursMot::evaluer;
+
 
-			/* EN - Assignment of the score to the individual
-			 * FR - Affectation du score à l'individu */
-			x.setScore(scoreIndividu);
-			
-			/* EN - Designation of the individual as the solution where appropriate
-			 * FR - Désignation de l'individu comme solution le cas échéant */
-			x.setSolution(x.getScore() == elementsMotMystere.length);
-			
-		};
-		
-		
-		
 		/* EN - Evaluator Instantiation
 		 * FR - Instanciation de l'évaluateur */	
 		Evaluateur<Mot, String> evaluateurIndividu = new Evaluateur<Mot, String> (fonctionGeneratriceMotMystereAleatoire, fonctionEvaluatriceIndividu);
@@ -141,99 +143,71 @@ public class App {
 		 * FR - Paramétrage comportemental de la fonction chargée de la sélection des individus.			
 		 *      x : Individu candidat à la sélection
 		 *      y : Score seuil de sélection */	
-		 BiConsumer<Mot, Integer> fonctionSelectriceIndividu = (x,y) ->{
+		BiConsumer<Mot, Integer> fonctionSelectriceIndividu = OperateursMot::selectionner;
+
+
+		/* EN - Copy of an individual, for the migrants of the Archipelago and the snapshots of the generations
+		 * FR - Copie d'un individu, pour les migrants de l'Archipel et les instantanés des générations */
+		UnaryOperator<Mot> fonctionCopieIndividu = x -> new Mot(x.getValeur());
+
+
+		/* EN - Factory of the Mediators, all of them sharing the same evaluator and therefore the same mystery value
+		 *      Each Mediator receives its own source of random numbers, split from the root source, so that no source is shared between threads
+		 * FR - Fabrique des Mediateurs, tous partageant le même évaluateur et donc la même valeur mystère
+		 *      Chaque Mediateur reçoit sa propre source de nombres aléatoires, scindée de la source racine, afin qu'aucune source ne soit partagée entre threads */
+		Supplier<Mediateur<Mot, String>> fabriqueMediateur = () -> {
 			
-			x.setSelectionne(x.getScore() >= y);
-		
-		};
-	
-		
-		/* EN - Behavioral parameterization of the function in charge of the generation of children
-		 *      x : First parent individual to be crossed.
-		 *      y : Second parent individual to be crossed
-		 * FR - Paramétrage comportemental de la fonction chargée de la génération d'individus enfants
-		 *      x : Premier individu parent devant être croisé
-		 *      y : Second individu parent devant être croisé */	
-		BiFunction<Mot, Mot, List<Mot>> fonctionFabriqueDeDescendants = (x,y) -> { 
+			SourceAleatoire sourceMediateur = sourceAleatoire.scinder();
 			
+			/* EN - Behavioral parameterization of the function in charge of generating an individual randomly.
+			 * FR - Paramétrage comportemental de la fonction chargée de générer un individu aléatoirement. */	
+			Supplier<Mot> fonctionGeneratriceIndividuAleatoire = () -> OperateursMot.aleatoire(longueurDeMot, sourceMediateur);
 			
-			/* EN - Collection of individual children
-			 * FR - Collection d'individus enfants */
-			List<Mot> leGroupeEnfants = new ArrayList<Mot>();
-
-			/* EN - Table of characteristics constituting the first parent individual
-			 * FR - Tableau des caractères constituant le premier individu parent */
-			char[] elementsParentUn = x.getValeur().toCharArray();
-
-			/* EN - Table of characteristics constituting the second parent individual
-			 * FR - ableau des caractères constituant le second individu parent */
-			char[] elementsParentDeux = y.getValeur().toCharArray();
+			/* EN - Behavioral parameterization of the function in charge of the generation of children
+			 *      x : First parent individual to be crossed.
+			 *      y : Second parent individual to be crossed
+			 * FR - Paramétrage comportemental de la fonction chargée de la génération d'individus enfants
+			 *      x : Premier individu parent devant être croisé
+			 *      y : Second individu parent devant être croisé */	
+			BiFunction<Mot, Mot, List<Mot>> fonctionFabriqueDeDescendants = (x,y) -> OperateursMot.croiser(x, y, sourceMediateur);
 			
-			/* EN - Table of characters constituting the first child individual
-			 * FR - Tableau des caractères constituant le premier individu enfant */
-			char[] elementsEnfantUn = new char[elementsParentUn.length];
-
-			/* EN - Table of characters constituting the second child individual
-			 * FR - Tableau des caractères constituant le second individu enfant */
-			char[] elementsEnfantDeux = new char[elementsParentDeux.length];
+			Mediateur<Mot, String> mediateur = new Mediateur<Mot, String>(	
+					fonctionGeneratriceMotMystereAleatoire,
+					fonctionGeneratriceIndividuAleatoire,
+					fonctionEvaluatriceIndividu, 
+					evaluateurIndividu,
+					fonctionSelectriceIndividu,
+					fonctionFabriqueDeDescendants
+					);
 			
-			/* EN - Generation loop of the two children individuals
-			 * FR - Boucle de génération des deux individus enfants */			
-			for (int i = 0; i < elementsParentUn.length; i++) {
-				
-				/* EN - Random selection of the mode of transmission of traits from parent to offspring
-				 * FR - Choix aléatoire du mode de transmission des caractères des individus parents aux individus enfants */			
-				int choix = (int) ((Math.random() * 10) % 2);
-				
-				/* EN - Transmission of the characters from the parents to the children according to the determined mode
-				 * FR - Transmission des caractères des individus parents aux individus enfants selon le mode déterminé */			
-				if (choix == 1) {
-					elementsEnfantUn[i] = elementsParentUn[i];
-					elementsEnfantDeux[i] = elementsParentDeux[i];
-				} else {
-					elementsEnfantUn[i] = elementsParentDeux[i];
-					elementsEnfantDeux[i] = elementsParentUn[i];
-				}
-
-			}
-
-			/* EN - Instantiation of the first child individual from its characters
-			 * FR - Instanciation du premier individu enfant à partir de ses caractères */						
-			Mot enfantUn = new Mot(new String(elementsEnfantUn));
-
-			/* EN - Instantiation of the second child individual from its characters
-			 * FR - Instanciation du second individu enfant à partir de ses caractères */						
-			Mot enfantDeux = new Mot(new String(elementsEnfantDeux));
-			
-			/* EN - Designation of new individuals as children
-			 * FR - Désignation des nouveaux individus comme individu enfant */						
-			enfantUn.setEnfant(true);
-			enfantDeux.setEnfant(true);
-			
-			/* EN - Adding new individuals to the collection of children individuals
-			 * FR - Ajout des nouveaux individus à la collection des individus enfants */
-			leGroupeEnfants.add(enfantUn);
-			leGroupeEnfants.add(enfantDeux);
-			
-			return leGroupeEnfants; 
-					
-		}; 
-		
-		
-		/* EN - Instantiation of the Mediator
-		 * FR - Instanciation du Mediateur. */			
-		Mediateur<Mot, String> mediateur = new Mediateur<Mot, String>(	
-																		fonctionGeneratriceMotMystereAleatoire,
-																		fonctionGeneratriceIndividuAleatoire,
-																		fonctionEvaluatriceIndividu, 
-																		evaluateurIndividu,
-																		fonctionSelectriceIndividu,
-																		fonctionFabriqueDeDescendants
-																);
-
-		/* EN - Triggering the system by calling the Mediator's run() method
-		 * FR - Déclenchement du système par appel à la méthode run() du Mediateur. */			
-		mediateur.run();
+			/* EN - Crossover according to the mask drawn by the operator of crossover of the configuration, when one is set
+			 * FR - Croisement selon le masque tiré par l'opérateur de croisement de la configuration, lorsqu'il est fixé */
+			mediateur.setCroisementParMasque(OperateursMot::croiser);
+			mediateur.setFonctionNbLoci(Mot::getNbLoci);
+			
+			/* EN - Binary encodings and source of random numbers saved by the points of save
+			 * FR - Encodages binaires et source de nombres aléatoires sauvegardés par les points de sauvegarde */
+			mediateur.setCodecIndividu(new CodecMot());
+			mediateur.setCodecReference(new CodecChaine());
+			mediateur.setSourceAleatoire(sourceMediateur);
+			
+			/* EN - Copy of the best individual of the snapshots of the generations
+			 * FR - Copie du meilleur individu des instantanés des générations */
+			mediateur.setFonctionCopieIndividu(fonctionCopieIndividu);
+			
+			return mediateur;
+		};
+
+		/* EN - Number of islands evolving concurrently
+		 * FR - Nombre d'îles évoluant simultanément */
+		int nbIles = Integer.valueOf(properties.getProperty("nbIles", "1"));
+
+		/* EN - Triggering the system by calling the run() method of the Archipelago, or of the Mediator when there is only one island
+		 * FR - Déclenchement du système par appel à la méthode run() de l'Archipel, ou du Mediateur lorsqu'il n'y a qu'une île. */			
+		if (nbIles > 1)
+			new Archipel<Mot, String>(fabriqueMediateur, fonctionCopieIndividu, sourceAleatoire.scinder()).run();
+		else
+			fabriqueMediateur.get().run();
 		
 	
 		
@@ -242,6 +216,152 @@ public class App {
 			log.log(Level.SEVERE, "Cause : ", e.getCause());
 		}
 	}		
+
+	
+	/**
+	 * EN - Launches the search of each word of a file of targets, one word per line, the results being written in the file fichierResultats
+	 *      The configuration is loaded once for all the Mediators, each of them evaluating sequentially, the targets being solved concurrently,
+	 *      without point of save, and publishing its progress in a journal shared by the batch
+	 *      The random words being made of lowercase letters, a target with other letters can only be approached
+	 * FR - Lance la recherche de chaque mot d'un fichier de cibles, un mot par ligne, les résultats étant écrits dans le fichier fichierResultats
+	 *      La configuration est chargée une fois pour tous les Mediateurs, chacun évaluant séquentiellement, les cibles étant résolues simultanément,
+	 *      sans point de sauvegarde, et publiant son avancement dans un journal partagé par le lot
+	 *      Les mots aléatoires étant constitués de lettres minuscules, une cible comportant d'autres lettres ne peut qu'être approchée
+	 *
+	 * @param properties      EN-configuration </br> FR-configuration
+	 * @param fichierCibles   EN-file of the targets </br> FR-fichier des cibles
+	 * @param sourceAleatoire EN-root source of random numbers </br> FR-source racine de nombres aléatoires
+	 * @throws IOException EN-if a file cannot be read or written </br> FR-si un fichier ne peut être lu ou écrit
+	 */
+	private static void lancerLot(Properties properties, Path fichierCibles, SourceAleatoire sourceAleatoire) throws IOException {
+		
+		Properties configurationLot = new Properties();
+		configurationLot.putAll(properties);
+		configurationLot.setProperty("parallelismeEvaluation", "1");
+		configurationLot.setProperty("evaluationEnPipeline", "false");
+		configurationLot.setProperty("periodePointDeSauvegarde", "0");
+		configurationLot.setProperty("repriseRecherche", "false");
+		
+		try (JournalAsynchrone journal = new JournalAsynchrone(	Logger.getLogger(Mediateur.class.getName()), Integer.valueOf(properties.getProperty("capaciteJournal", "1024")),
+																PolitiqueSaturation.valueOf(properties.getProperty("politiqueJournal", "ABANDONNER").trim()))) {
+			
+			/* EN - Factory of the Mediator of a target, called in the order of the file so that the sources of random numbers are split in this order
+			 * FR - Fabrique du Mediateur d'une cible, appelée dans l'ordre du fichier afin que les sources de nombres aléatoires soient scindées dans cet ordre */
+			Function<String, Mediateur<Mot, String>> fabriqueMediateur = cible -> {
+				
+				SourceAleatoire sourceMediateur = sourceAleatoire.scinder();
+				
+				Mediateur<Mot, String> mediateur = new Mediateur<Mot, String>(	
+						() -> cible,
+						() -> OperateursMot.aleatoire(cible.length(), sourceMediateur),
+						OperateursMot::evaluer, 
+						new Evaluateur<Mot, String>(() -> cible, OperateursMot::evaluer),
+						OperateursMot::selectionner,
+						(x,y) -> OperateursMot.croiser(x, y, sourceMediateur)
+						);
+				
+				mediateur.setConfiguration(configurationLot);
+				mediateur.setJournal(journal);
+				mediateur.setSourceAleatoire(sourceMediateur);
+				mediateur.setCroisementParMasque(OperateursMot::croiser);
+				mediateur.setFonctionNbLoci(Mot::getNbLoci);
+				mediateur.setFonctionCopieIndividu(x -> new Mot(x.getValeur()));
+				
+				return mediateur;
+			};
+			
+			SolveurParLot<Mot, String> solveur = new SolveurParLot<Mot, String>(Function.identity(), fabriqueMediateur, Mot::getValeur, Integer.valueOf(properties.getProperty("nbThreadsLot", "0")));
+			
+			solveur.resoudre(fichierCibles, Paths.get(properties.getProperty("fichierResultats", "resultats.txt").trim()));
+			
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	
+	/**
+	 * EN - Launches the search of the mystery word with compact words, whose letters are stored as their indexes in the alphabet of the configuration
+	 *      The alphabet must contain all the letters of the mystery word, the accented letters of the dictionary included
+	 * FR - Lance la recherche du mot mystère avec des mots compacts, dont les lettres sont rangées sous la forme de leurs indices dans l'alphabet de la configuration
+	 *      L'alphabet doit contenir toutes les lettres du mot mystère, les lettres accentuées du dictionnaire comprises
+	 *
+	 * @param properties      EN-configuration </br> FR-configuration
+	 * @param dictionnaire    EN-dictionary of the mystery words </br> FR-dictionnaire des mots mystères
+	 * @param longueurDeMot   EN-length of the word to search </br> FR-longueur du mot à rechercher
+	 * @param sourceAleatoire EN-root source of random numbers </br> FR-source racine de nombres aléatoires
+	 */
+	private static void lancerMotCompact(Properties properties, Properties dictionnaire, int longueurDeMot, SourceAleatoire sourceAleatoire) {
+		
+		/* EN - Alphabet of the letters of the words, the configuration being read as Latin-1
+		 * FR - Alphabet des lettres des mots, la configuration étant lue en Latin-1 */
+		String lettres = properties.getProperty("alphabetMot");
+		Alphabet alphabet = lettres == null || lettres.isEmpty() ? Alphabet.MINUSCULES_ACCENTUEES : new Alphabet(lettres);
+		
+		
+		/* EN - Behavioral parameterization of the function in charge of generating the mystery word, encoded in the alphabet
+		 * FR - Paramétrage comportemental de la fonction chargée de générer le mot mystère, encodé dans l'alphabet */
+		Supplier<MotCompact> fonctionGeneratriceMotMystereAleatoire;
+		
+		if (longueurDeMot > 0 && longueurDeMot < 26)
+			fonctionGeneratriceMotMystereAleatoire = () -> MotCompact.encoder(dictionnaire.getProperty(String.valueOf(longueurDeMot)), alphabet);
+		else
+			fonctionGeneratriceMotMystereAleatoire = () -> OperateursMotCompact.aleatoire(longueurDeMot, alphabet, sourceAleatoire);
+		
+		
+		/* EN - Behavioral parameterization of the function responsible for evaluating an individual : comparison of the indexes by blocks
+		 * FR - Paramétrage comportemental de la fonction chargée de l'évaluation d'un individu : comparaison des indices par blocs */
+		BiConsumer<MotCompact, MotCompact> fonctionEvaluatriceIndividu = OperateursMotCompact::evaluer;
+		
+		Evaluateur<MotCompact, MotCompact> evaluateurIndividu = new Evaluateur<MotCompact, MotCompact> (fonctionGeneratriceMotMystereAleatoire, fonctionEvaluatriceIndividu);
+		
+		/* EN - Key of an individual in the evaluation cache : a ByteBuffer compares the content of the indexes
+		 * FR - Clé d'un individu dans le cache d'évaluation : un ByteBuffer compare le contenu des indices */
+		evaluateurIndividu.setFonctionCleCache(x -> ByteBuffer.wrap(x.getValeur().clone()));
+		
+		BiConsumer<MotCompact, Integer> fonctionSelectriceIndividu = OperateursMotCompact::selectionner;
+		
+		UnaryOperator<MotCompact> fonctionCopieIndividu = x -> new MotCompact(x.getValeur().clone(), x.getAlphabet());
+		
+		
+		/* EN - Factory of the Mediators, each of them with its own source of random numbers
+		 * FR - Fabrique des Mediateurs, chacun avec sa propre source de nombres aléatoires */
+		Supplier<Mediateur<MotCompact, MotCompact>> fabriqueMediateur = () -> {
+			
+			SourceAleatoire sourceMediateur = sourceAleatoire.scinder();
+			
+			Supplier<MotCompact> fonctionGeneratriceIndividuAleatoire = () -> OperateursMotCompact.aleatoire(longueurDeMot, alphabet, sourceMediateur);
+			
+			/* EN - Behavioral parameterization of the function in charge of the generation of children : mask-based crossover of the indexes
+			 * FR - Paramétrage comportemental de la fonction chargée de la génération d'individus enfants : croisement des indices par masque */
+			BiFunction<MotCompact, MotCompact, List<MotCompact>> fonctionFabriqueDeDescendants = (x,y) -> OperateursMotCompact.croiser(x, y, sourceMediateur);
+			
+			Mediateur<MotCompact, MotCompact> mediateur = new Mediateur<MotCompact, MotCompact>(	
+					fonctionGeneratriceMotMystereAleatoire,
+					fonctionGeneratriceIndividuAleatoire,
+					fonctionEvaluatriceIndividu, 
+					evaluateurIndividu,
+					fonctionSelectriceIndividu,
+					fonctionFabriqueDeDescendants
+					);
+			
+			mediateur.setCodecIndividu(new CodecMotCompact(alphabet));
+			mediateur.setCodecReference(new CodecMotCompact(alphabet));
+			mediateur.setSourceAleatoire(sourceMediateur);
+			mediateur.setFonctionCopieIndividu(fonctionCopieIndividu);
+			mediateur.setCroisementParMasque(OperateursMotCompact::croiser);
+			mediateur.setFonctionNbLoci(MotCompact::getNbLoci);
+			
+			return mediateur;
+		};
+		
+		int nbIles = Integer.valueOf(properties.getProperty("nbIles", "1"));
+		
+		if (nbIles > 1)
+			new Archipel<MotCompact, MotCompact>(fabriqueMediateur, fonctionCopieIndividu, sourceAleatoire.scinder()).run();
+		else
+			fabriqueMediateur.get().run();
+	}
 		
 	
 
@@ -0,0 +1,162 @@
+package alphabetic.metier.entite;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import lombok.NonNull;
+
+/**
+ * EN - Ordered set of the Latin-1 (ISO-8859-1) letters which can constitute a compact word, each letter being encoded by its index on one byte
+ *      The letters of a word outside the alphabet cannot be encoded : the alphabet must therefore contain all the letters of the mystery words
+ * FR - Ensemble ordonné des lettres Latin-1 (ISO-8859-1) pouvant constituer un mot compact, chaque lettre étant encodée par son indice sur un octet
+ *      Les lettres d'un mot hors de l'alphabet ne peuvent être encodées : l'alphabet doit donc contenir toutes les lettres des mots mystères
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public final class Alphabet implements Serializable {
+
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * EN - The 26 lowercase letters, alphabet of the random words of the application
+	 * FR - Les 26 lettres minuscules, alphabet des mots aléatoires de l'application
+	 */
+	public static final Alphabet MINUSCULES = new Alphabet("abcdefghijklmnopqrstuvwxyz");
+
+	/**
+	 * EN - Lowercase letters followed by the accented lowercase letters of the French language
+	 * FR - Lettres minuscules suivies des lettres minuscules accentuées de la langue française
+	 */
+	public static final Alphabet MINUSCULES_ACCENTUEES = new Alphabet("abcdefghijklmnopqrstuvwxyzàâäçéèêëîïôöùûüÿ");
+
+	/**
+	 * EN - Number of Latin-1 characters
+	 * FR - Nombre de caractères Latin-1
+	 */
+	private static final int NB_CARACTERES_LATIN_1 = 256;
+
+	/**
+	 * EN - Letters of the alphabet, by index
+	 * FR - Lettres de l'alphabet, par indice
+	 */
+	private final char[] lettres;
+
+	/**
+	 * EN - Index of each Latin-1 character in the alphabet, -1 when absent
+	 * FR - Indice de chaque caractère Latin-1 dans l'alphabet, -1 lorsqu'absent
+	 */
+	private final short[] indices = new short[NB_CARACTERES_LATIN_1];
+
+
+	/**
+	 * EN - Constructor of the class
+	 * FR - Construteur de la classe
+	 *
+	 * @param lettres EN-distinct Latin-1 letters of the alphabet, in the order of their indexes </br> FR-lettres Latin-1 distinctes de l'alphabet, dans l'ordre de leurs indices
+	 * @throws IllegalArgumentException EN-if the alphabet is empty or contains a letter twice or outside Latin-1 </br> FR-si l'alphabet est vide ou contient une lettre deux fois ou hors de Latin-1
+	 */
+	public Alphabet(@NonNull String lettres) {
+
+		if (lettres.isEmpty())
+			throw new IllegalArgumentException("Alphabet vide");
+
+		this.lettres = lettres.toCharArray();
+
+		Arrays.fill(indices, (short) -1);
+
+		for (int i = 0; i < this.lettres.length; i++) {
+
+			char lettre = this.lettres[i];
+
+			if (lettre >= NB_CARACTERES_LATIN_1)
+				throw new IllegalArgumentException("Lettre hors de Latin-1 dans l'alphabet : " + lettre);
+
+			if (indices[lettre] >= 0)
+				throw new IllegalArgumentException("Lettre en double dans l'alphabet : " + lettre);
+
+			indices[lettre] = (short) i;
+		}
+	}
+
+
+	/**
+	 * EN - Gives the number of letters of the alphabet, at most 256
+	 * FR - Donne le nombre de lettres de l'alphabet, au plus 256
+	 *
+	 * @return EN-the number of letters </br> FR-le nombre de lettres
+	 */
+	public int getTaille() {
+		return lettres.length;
+	}
+
+
+	/**
+	 * EN - Gives the letter of an index, read as an unsigned byte
+	 * FR - Donne la lettre d'un indice, lu comme un octet non signé
+	 *
+	 * @param indice EN-index of the letter </br> FR-indice de la lettre
+	 * @return EN-the letter </br> FR-la lettre
+	 */
+	public char getLettre(byte indice) {
+		return lettres[indice & 0xFF];
+	}
+
+
+	/**
+	 * EN - Encodes a word into the indexes of its letters
+	 * FR - Encode un mot en les indices de ses lettres
+	 *
+	 * @param mot EN-word to encode </br> FR-mot à encoder
+	 * @return EN-the indexes of the letters, one byte per letter </br> FR-les indices des lettres, un octet par lettre
+	 * @throws IllegalArgumentException EN-if a letter of the word is not in the alphabet </br> FR-si une lettre du mot n'est pas dans l'alphabet
+	 */
+	public byte[] encoder(@NonNull String mot) {
+
+		byte[] genome = new byte[mot.length()];
+
+		for (int i = 0; i < genome.length; i++) {
+
+			char lettre = mot.charAt(i);
+
+			if (lettre >= NB_CARACTERES_LATIN_1 || indices[lettre] < 0)
+				throw new IllegalArgumentException("Lettre hors de l'alphabet : " + lettre + " dans " + mot);
+
+			genome[i] = (byte) indices[lettre];
+		}
+
+		return genome;
+	}
+
+
+	/**
+	 * EN - Decodes the indexes of the letters of a word
+	 * FR - Décode les indices des lettres d'un mot
+	 *
+	 * @param genome EN-indexes of the letters </br> FR-indices des lettres
+	 * @return EN-the word </br> FR-le mot
+	 */
+	public String decoder(@NonNull byte[] genome) {
+
+		char[] mot = new char[genome.length];
+
+		for (int i = 0; i < mot.length; i++) {
+			mot[i] = getLettre(genome[i]);
+		}
+
+		return new String(mot);
+	}
+
+
+	@Override
+	public String toString() {
+		return new String(lettres);
+	}
+
+}
@@ -1,6 +1,6 @@
 package alphabetic.metier.entite;
 
-import generique.metier.entite.Individu;
+import generique.metier.entite.IndividuDecomposable;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -9,8 +9,10 @@ import lombok.ToString;
 /**
  * EN - Class Type representing the entity manipulated by the generic genetic algorithm
  *      Here a Word allowing the research of a mystery word
+ *      Its score being one point per well placed letter, a Word is decomposable : each letter is a locus
  * FR - Classe Type représentant l'entité manipulé par l'algorythme génétique générique
  *      Ici un Mot permettant la recherche d'un mot mystère
+ *      Son score étant d'un point par lettre bien placée, un Mot est décomposable : chaque lettre est un locus
  *       
  * @author Parlons Archi !
  * @see <a href="https://www.youtube.com/@christophecadet" /a>
@@ -18,7 +20,7 @@ import lombok.ToString;
  * @version 1.0
  */
 @ToString
-public class Mot implements Individu<String>{
+public class Mot implements IndividuDecomposable<String>{
 
 	
 	/**
@@ -32,7 +34,6 @@ public class Mot implements Individu<String>{
 	 * FR - Valeur du mot constitué par une chaine de caractères
 	 */
 	@Getter
-	@Setter
 	@NonNull
 	private String valeur;
 	
@@ -70,6 +71,33 @@ public class Mot implements Individu<String>{
 	@Setter
 	private boolean solution;
 	
+	/**
+	 * EN - Epoch of the evaluator which gave its score to the word, 0 when the score is not up to date with the value
+	 * FR - Epoque de l'évaluateur ayant donné son score au mot, 0 lorsque le score n'est pas à jour de la valeur
+	 */
+	@Getter
+	@Setter
+	@ToString.Exclude
+	private int epoqueEvaluation;
+	
+	/**
+	 * EN - Mask of the letters identical to those of the mystery word, filled by the evaluation, null when unknown
+	 * FR - Masque des lettres identiques à celles du mot mystère, rempli par l'évaluation, null lorsqu'inconnu
+	 */
+	@Getter
+	@Setter
+	@ToString.Exclude
+	private long[] correspondances;
+	
+	/**
+	 * EN - Mask of the letters taken from the first parent, filled by the crossover, null when unknown
+	 * FR - Masque des lettres prises chez le premier parent, rempli par le croisement, null lorsqu'inconnu
+	 */
+	@Getter
+	@Setter
+	@ToString.Exclude
+	private long[] origines;
+	
 	
 	/**
 	 * EN - Constructor of the class
@@ -87,6 +115,24 @@ public class Mot implements Individu<String>{
 		 */
 		score = -1;
 	}
+	
+	
+	/**
+	 * EN - Modifies the value of the word, the masks of its letters and its score being no longer valid
+	 * FR - Modifie la valeur du mot, les masques de ses lettres et son score n'étant plus valides
+	 */
+	public void setValeur(@NonNull String valeur) {
+		this.valeur = valeur;
+		this.correspondances = null;
+		this.origines = null;
+		this.epoqueEvaluation = 0;
+	}
+	
+	
+	@Override
+	public int getNbLoci() {
+		return valeur.length();
+	}
 
 
 
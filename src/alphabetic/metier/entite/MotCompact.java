@@ -0,0 +1,153 @@
+package alphabetic.metier.entite;
+
+import generique.metier.entite.IndividuDecomposable;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+/**
+ * EN - Compact variant of the {@link Mot} : each letter is stored on one byte as its index in an {@link Alphabet}
+ *      The genome takes half the memory of the characters of a String, and the operators work on the bytes without conversion
+ *      As a Mot, a compact word is decomposable : each letter is a locus
+ * FR - Variante compacte du {@link Mot} : chaque lettre est rangée sur un octet sous la forme de son indice dans un {@link Alphabet}
+ *      Le génome occupe la moitié de la mémoire des caractères d'une String, et les opérateurs travaillent sur les octets sans conversion
+ *      Comme un Mot, un mot compact est décomposable : chaque lettre est un locus
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class MotCompact implements IndividuDecomposable<byte[]> {
+
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * EN - Indexes of the letters of the word in the alphabet
+	 * FR - Indices des lettres du mot dans l'alphabet
+	 */
+	@Getter
+	@NonNull
+	private byte[] valeur;
+
+	/**
+	 * EN - Alphabet of the letters of the word
+	 * FR - Alphabet des lettres du mot
+	 */
+	@Getter
+	private final Alphabet alphabet;
+
+	/**
+	 * EN - Score of the word obtained at the last evaluation, -1 if never evaluated
+	 * FR - Score du mot obtenu à la dernière évaluation, -1 s'il n'a jamais été évalué
+	 */
+	@Getter
+	@Setter
+	private int score;
+
+	/**
+	 * EN - Indicates whether the word has been selected to participate in child word generation
+	 * FR - Indique si le mot a été sélectionné pour participer à la génération de mots enfants
+	 */
+	@Getter
+	@Setter
+	private boolean selectionne;
+
+	/**
+	 * EN - Indicates whether the word was generated by crossing parent words
+	 * FR - Indique si le mot a été généré par croisement de mots parents
+	 */
+	@Getter
+	@Setter
+	private boolean enfant;
+
+	/**
+	 * EN - Indicates if the word is the mystery word and therefore if it is a solution
+	 * FR - Indique si le mot est le mot mystère recherché et donc si il constitue une solution
+	 */
+	@Getter
+	@Setter
+	private boolean solution;
+
+	/**
+	 * EN - Epoch of the evaluator which gave its score to the word, 0 when the score is not up to date with the value
+	 * FR - Epoque de l'évaluateur ayant donné son score au mot, 0 lorsque le score n'est pas à jour de la valeur
+	 */
+	@Getter
+	@Setter
+	private int epoqueEvaluation;
+
+	/**
+	 * EN - Mask of the letters identical to those of the mystery word, filled by the evaluation, null when unknown
+	 * FR - Masque des lettres identiques à celles du mot mystère, rempli par l'évaluation, null lorsqu'inconnu
+	 */
+	@Getter
+	@Setter
+	private long[] correspondances;
+
+	/**
+	 * EN - Mask of the letters taken from the first parent, filled by the crossover, null when unknown
+	 * FR - Masque des lettres prises chez le premier parent, rempli par le croisement, null lorsqu'inconnu
+	 */
+	@Getter
+	@Setter
+	private long[] origines;
+
+
+	/**
+	 * EN - Constructor of the class
+	 * FR - Construteur de la classe
+	 *
+	 * @param valeur   EN-indexes of the letters of the word </br> FR-indices des lettres du mot
+	 * @param alphabet EN-alphabet of the letters </br> FR-alphabet des lettres
+	 */
+	public MotCompact(byte[] valeur, @NonNull Alphabet alphabet) {
+		setValeur(valeur);
+		this.alphabet = alphabet;
+		score = -1;
+	}
+
+
+	/**
+	 * EN - Creates a compact word from its letters
+	 * FR - Crée un mot compact à partir de ses lettres
+	 *
+	 * @param mot      EN-letters of the word </br> FR-lettres du mot
+	 * @param alphabet EN-alphabet of the letters </br> FR-alphabet des lettres
+	 * @return EN-the new word </br> FR-le nouveau mot
+	 * @throws IllegalArgumentException EN-if a letter of the word is not in the alphabet </br> FR-si une lettre du mot n'est pas dans l'alphabet
+	 */
+	public static MotCompact encoder(String mot, Alphabet alphabet) {
+		return new MotCompact(alphabet.encoder(mot), alphabet);
+	}
+
+
+	/**
+	 * EN - Modifies the value of the word, the masks of its letters and its score being no longer valid
+	 * FR - Modifie la valeur du mot, les masques de ses lettres et son score n'étant plus valides
+	 */
+	@Override
+	public void setValeur(@NonNull byte[] valeur) {
+		this.valeur = valeur;
+		this.correspondances = null;
+		this.origines = null;
+		this.epoqueEvaluation = 0;
+	}
+
+
+	@Override
+	public int getNbLoci() {
+		return valeur.length;
+	}
+
+
+	@Override
+	public String toString() {
+		return "MotCompact(valeur=" + alphabet.decoder(valeur) + ", score=" + score + ", selectionne=" + selectionne + ", enfant=" + enfant + ", solution=" + solution + ")";
+	}
+
+}
@@ -0,0 +1,227 @@
+package alphabetic.metier.operateur;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import alphabetic.metier.entite.Mot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.croisement.MelangeParMasque;
+import generique.metier.entite.GenomeBinaire;
+import generique.metier.evaluation.NoyauCorrespondances;
+
+/**
+ * EN - Utility class gathering the operators of the genetic algorithm applied to the Words : random generation, evaluation, selection and crossover
+ *      The operators are exposed as static methods so that they can be given by reference to the Mediator, and reused outside the application
+ *      The operators drawing random numbers receive the source of the Mediator which calls them
+ * FR - Classe utilitaire regroupant les opérateurs de l'algorithme génétique appliqués aux Mots : génération aléatoire, évaluation, sélection et croisement
+ *      Les opérateurs sont exposés sous forme de méthodes statiques afin de pouvoir être donnés par référence au Mediateur, et réutilisés en dehors de l'application
+ *      Les opérateurs tirant des nombres aléatoires reçoivent la source du Mediateur qui les appelle
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public final class OperateursMot {
+
+	private OperateursMot() {
+	}
+
+
+	/**
+	 * EN - Generates a word of random lowercase letters
+	 * FR - Génère un mot de lettres minuscules aléatoires
+	 *
+	 * @param longueur EN-length of the word </br> FR-longueur du mot
+	 * @param source   EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the new word </br> FR-le nouveau mot
+	 */
+	public static Mot aleatoire(int longueur, SourceAleatoire source) {
+
+		char[] lettres = new char[longueur];
+
+		for (int i = 0; i < longueur; i++) {
+			lettres[i] = (char) ('a' + source.nextInt(26));
+		}
+
+		return new Mot(new String(lettres));
+	}
+
+
+	/**
+	 * EN - Evaluates a word : one point per character identical to the one of the mystery word at the same position
+	 *      The identical characters are recorded in the mask of correspondences of the word, from which the score of its children can be deduced
+	 * FR - Evalue un mot : un point par caractère identique à celui du mot mystère à la même position
+	 *      Les caractères identiques sont enregistrés dans le masque de correspondances du mot, dont peut être déduit le score de ses enfants
+	 *
+	 * @param individu    EN-candidate individual to score </br> FR-individu candidat à scorer
+	 * @param motMystere  EN-mystery word to find </br> FR-mot mystère à trouver
+	 */
+	public static void evaluer(Mot individu, String motMystere) {
+
+		/* EN - Mask of the characters identical to those of the mystery word
+		 * FR - Masque des caractères identiques à ceux du mot mystère */
+		long[] correspondances = new long[GenomeBinaire.getNbMots(individu.getValeur().length())];
+
+		/* EN - Score obtained by the individual, the characters being compared by the kernel suited to the length of the word
+		 * FR - Score obtenu par l'individu, les caractères étant comparés par le noyau adapté à la longueur du mot */
+		int scoreIndividu = NoyauCorrespondances.compter(individu.getValeur(), motMystere, correspondances);
+
+		individu.setCorrespondances(correspondances);
+
+		/* EN - Assignment of the score to the individual
+		 * FR - Affectation du score à l'individu */
+		individu.setScore(scoreIndividu);
+
+		/* EN - Designation of the individual as the solution where appropriate
+		 * FR - Désignation de l'individu comme solution le cas échéant */
+		individu.setSolution(individu.getScore() == motMystere.length());
+	}
+
+
+	/**
+	 * EN - Selects a word when its score reaches the selection threshold
+	 * FR - Sélectionne un mot lorsque son score atteint le seuil de sélection
+	 *
+	 * @param individu EN-individual candidate for selection </br> FR-individu candidat à la sélection
+	 * @param seuil    EN-selection threshold score </br> FR-score seuil de sélection
+	 */
+	public static void selectionner(Mot individu, Integer seuil) {
+		individu.setSelectionne(individu.getScore() >= seuil);
+	}
+
+
+	/**
+	 * EN - Crosses two parent words into two child words, each character being taken at random from one parent or the other
+	 * FR - Croise deux mots parents en deux mots enfants, chaque caractère étant pris au hasard chez l'un ou l'autre des parents
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param source     EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the two child individuals </br> FR-les deux individus enfants
+	 */
+	public static List<Mot> croiser(Mot parentUn, Mot parentDeux, SourceAleatoire source) {
+
+		/* EN - Collection of individual children
+		 * FR - Collection d'individus enfants */
+		List<Mot> leGroupeEnfants = new ArrayList<Mot>();
+
+		/* EN - Table of characteristics constituting the first parent individual
+		 * FR - Tableau des caractères constituant le premier individu parent */
+		char[] elementsParentUn = parentUn.getValeur().toCharArray();
+
+		/* EN - Table of characteristics constituting the second parent individual
+		 * FR - Tableau des caractères constituant le second individu parent */
+		char[] elementsParentDeux = parentDeux.getValeur().toCharArray();
+
+		/* EN - Table of characters constituting the first child individual
+		 * FR - Tableau des caractères constituant le premier individu enfant */
+		char[] elementsEnfantUn = new char[elementsParentUn.length];
+
+		/* EN - Table of characters constituting the second child individual
+		 * FR - Tableau des caractères constituant le second individu enfant */
+		char[] elementsEnfantDeux = new char[elementsParentDeux.length];
+
+		/* EN - Mask of the characters of the first child taken from the first parent, those of the second child being the others
+		 * FR - Masque des caractères du premier enfant pris chez le premier parent, ceux du second enfant étant les autres */
+		long[] originesEnfantUn = new long[GenomeBinaire.getNbMots(elementsParentUn.length)];
+		long[] originesEnfantDeux = new long[originesEnfantUn.length];
+
+		/* EN - Generation loop of the two children individuals
+		 * FR - Boucle de génération des deux individus enfants */
+		for (int i = 0; i < elementsParentUn.length; i++) {
+
+			/* EN - Random selection of the mode of transmission of traits from parent to offspring, then transmission according to the determined mode
+			 * FR - Choix aléatoire du mode de transmission des caractères des individus parents aux individus enfants, puis transmission selon le mode déterminé */
+			if (source.nextBoolean()) {
+				elementsEnfantUn[i] = elementsParentUn[i];
+				elementsEnfantDeux[i] = elementsParentDeux[i];
+				originesEnfantUn[i >>> 6] |= 1L << i;
+			} else {
+				elementsEnfantUn[i] = elementsParentDeux[i];
+				elementsEnfantDeux[i] = elementsParentUn[i];
+				originesEnfantDeux[i >>> 6] |= 1L << i;
+			}
+
+		}
+
+		/* EN - Instantiation of the two child individuals from their characters
+		 * FR - Instanciation des deux individus enfants à partir de leurs caractères */
+		Mot enfantUn = new Mot(new String(elementsEnfantUn));
+		Mot enfantDeux = new Mot(new String(elementsEnfantDeux));
+
+		/* EN - Designation of new individuals as children
+		 * FR - Désignation des nouveaux individus comme individu enfant */
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+
+		enfantUn.setOrigines(originesEnfantUn);
+		enfantDeux.setOrigines(originesEnfantDeux);
+
+		/* EN - Adding new individuals to the collection of children individuals
+		 * FR - Ajout des nouveaux individus à la collection des individus enfants */
+		leGroupeEnfants.add(enfantUn);
+		leGroupeEnfants.add(enfantDeux);
+
+		return leGroupeEnfants;
+	}
+
+
+	/**
+	 * EN - Crosses two parent words into two child words according to a mask drawn by the operator of crossover of the Entrecroiseur
+	 *      The mask is also the origin of the characters of the first child, its complement that of the second child
+	 * FR - Croise deux mots parents en deux mots enfants selon un masque tiré par l'opérateur de croisement de l'Entrecroiseur
+	 *      Le masque est aussi l'origine des caractères du premier enfant, son complément celle du second enfant
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param masque     EN-crossover mask, bit i being 1 when character i of the first child comes from the first parent </br> FR-masque de croisement, le bit i valant 1 lorsque le caractère i du premier enfant vient du premier parent
+	 * @return EN-the two child individuals </br> FR-les deux individus enfants
+	 */
+	public static List<Mot> croiser(Mot parentUn, Mot parentDeux, long[] masque) {
+
+		char[] elementsParentUn = parentUn.getValeur().toCharArray();
+		char[] elementsParentDeux = parentDeux.getValeur().toCharArray();
+
+		int longueur = elementsParentUn.length;
+
+		char[] elementsEnfantUn = new char[longueur];
+		char[] elementsEnfantDeux = new char[longueur];
+
+		MelangeParMasque.croiser(elementsParentUn, elementsParentDeux, masque, elementsEnfantUn, elementsEnfantDeux, longueur);
+
+		Mot enfantUn = new Mot(new String(elementsEnfantUn));
+		Mot enfantDeux = new Mot(new String(elementsEnfantDeux));
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+
+		enfantUn.setOrigines(origines(masque, longueur, false));
+		enfantDeux.setOrigines(origines(masque, longueur, true));
+
+		List<Mot> leGroupeEnfants = new ArrayList<Mot>(2);
+		leGroupeEnfants.add(enfantUn);
+		leGroupeEnfants.add(enfantDeux);
+
+		return leGroupeEnfants;
+	}
+
+
+	/**
+	 * EN - Copies the mask, or its complement, as the origins of the characters of a child, the bits beyond the length being set to zero
+	 * FR - Copie le masque, ou son complément, comme origines des caractères d'un enfant, les bits au delà de la longueur étant mis à zéro
+	 */
+	private static long[] origines(long[] masque, int longueur, boolean complement) {
+
+		long[] origines = new long[GenomeBinaire.getNbMots(longueur)];
+
+		for (int i = 0; i < origines.length; i++) {
+			origines[i] = complement ? ~masque[i] : masque[i];
+		}
+
+		origines[origines.length - 1] &= GenomeBinaire.getMasqueDernierMot(longueur);
+
+		return origines;
+	}
+
+}
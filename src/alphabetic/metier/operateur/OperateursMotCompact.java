@@ -0,0 +1,162 @@
+package alphabetic.metier.operateur;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import alphabetic.metier.entite.Alphabet;
+import alphabetic.metier.entite.MotCompact;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.croisement.MelangeParMasque;
+import generique.metier.entite.GenomeBinaire;
+import generique.metier.evaluation.NoyauCorrespondances;
+
+/**
+ * EN - Utility class gathering the operators of the genetic algorithm applied to the compact Words, working directly on the indexes of their letters
+ *      The operators are exposed as static methods so that they can be given by reference to the Mediator, and reused outside the application
+ * FR - Classe utilitaire regroupant les opérateurs de l'algorithme génétique appliqués aux Mots compacts, travaillant directement sur les indices de leurs lettres
+ *      Les opérateurs sont exposés sous forme de méthodes statiques afin de pouvoir être donnés par référence au Mediateur, et réutilisés en dehors de l'application
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public final class OperateursMotCompact {
+
+	private OperateursMotCompact() {
+	}
+
+
+	/**
+	 * EN - Generates a compact word of random letters of the alphabet
+	 * FR - Génère un mot compact de lettres aléatoires de l'alphabet
+	 *
+	 * @param longueur EN-length of the word </br> FR-longueur du mot
+	 * @param alphabet EN-alphabet of the letters </br> FR-alphabet des lettres
+	 * @param source   EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the new word </br> FR-le nouveau mot
+	 */
+	public static MotCompact aleatoire(int longueur, Alphabet alphabet, SourceAleatoire source) {
+
+		byte[] lettres = new byte[longueur];
+
+		for (int i = 0; i < longueur; i++) {
+			lettres[i] = (byte) source.nextInt(alphabet.getTaille());
+		}
+
+		return new MotCompact(lettres, alphabet);
+	}
+
+
+	/**
+	 * EN - Evaluates a compact word : one point per letter identical to the one of the mystery word at the same position, the indexes being compared by blocks
+	 *      The identical letters are recorded in the mask of correspondences of the word, from which the score of its children can be deduced
+	 * FR - Evalue un mot compact : un point par lettre identique à celle du mot mystère à la même position, les indices étant comparés par blocs
+	 *      Les lettres identiques sont enregistrées dans le masque de correspondances du mot, dont peut être déduit le score de ses enfants
+	 *
+	 * @param individu   EN-candidate individual to score </br> FR-individu candidat à scorer
+	 * @param motMystere EN-mystery word to find, of the same alphabet </br> FR-mot mystère à trouver, du même alphabet
+	 */
+	public static void evaluer(MotCompact individu, MotCompact motMystere) {
+
+		int longueur = individu.getNbLoci();
+
+		long[] correspondances = new long[GenomeBinaire.getNbMots(longueur)];
+
+		individu.setScore(NoyauCorrespondances.compter(individu.getValeur(), motMystere.getValeur(), longueur, correspondances));
+
+		individu.setCorrespondances(correspondances);
+
+		individu.setSolution(individu.getScore() == motMystere.getNbLoci());
+	}
+
+
+	/**
+	 * EN - Selects a compact word when its score reaches the selection threshold
+	 * FR - Sélectionne un mot compact lorsque son score atteint le seuil de sélection
+	 *
+	 * @param individu EN-individual candidate for selection </br> FR-individu candidat à la sélection
+	 * @param seuil    EN-selection threshold score </br> FR-score seuil de sélection
+	 */
+	public static void selectionner(MotCompact individu, Integer seuil) {
+		individu.setSelectionne(individu.getScore() >= seuil);
+	}
+
+
+	/**
+	 * EN - Crosses two parent compact words into two child words according to a random mask, one word of 64 bits being drawn for 64 letters of the parents
+	 *      The mask is also the origin of the letters of the first child, its complement that of the second child
+	 * FR - Croise deux mots compacts parents en deux mots enfants selon un masque aléatoire, un mot de 64 bits étant tiré pour 64 lettres des parents
+	 *      Le masque est aussi l'origine des lettres du premier enfant, son complément celle du second enfant
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param source     EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the two child individuals </br> FR-les deux individus enfants
+	 */
+	public static List<MotCompact> croiser(MotCompact parentUn, MotCompact parentDeux, SourceAleatoire source) {
+
+		long[] masque = new long[GenomeBinaire.getNbMots(parentUn.getNbLoci())];
+
+		for (int i = 0; i < masque.length; i++) {
+			masque[i] = source.nextLong();
+		}
+
+		return croiser(parentUn, parentDeux, masque);
+	}
+
+
+	/**
+	 * EN - Crosses two parent compact words into two child words according to a mask, drawn at random or by the operator of crossover of the Entrecroiseur
+	 *      The letters are transmitted 8 at a time by {@link MelangeParMasque}
+	 *      The mask is also the origin of the letters of the first child, its complement that of the second child
+	 * FR - Croise deux mots compacts parents en deux mots enfants selon un masque, tiré au hasard ou par l'opérateur de croisement de l'Entrecroiseur
+	 *      Les lettres sont transmises 8 à la fois par {@link MelangeParMasque}
+	 *      Le masque est aussi l'origine des lettres du premier enfant, son complément celle du second enfant
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param masque     EN-crossover mask, bit i being 1 when letter i of the first child comes from the first parent </br> FR-masque de croisement, le bit i valant 1 lorsque la lettre i du premier enfant vient du premier parent
+	 * @return EN-the two child individuals </br> FR-les deux individus enfants
+	 */
+	public static List<MotCompact> croiser(MotCompact parentUn, MotCompact parentDeux, long[] masque) {
+
+		byte[] elementsParentUn = parentUn.getValeur();
+		byte[] elementsParentDeux = parentDeux.getValeur();
+
+		int longueur = elementsParentUn.length;
+
+		byte[] elementsEnfantUn = new byte[longueur];
+		byte[] elementsEnfantDeux = new byte[longueur];
+
+		/* EN - Origin of the letters of each child, bit i being 1 when letter i comes from the first parent
+		 * FR - Origine des lettres de chaque enfant, le bit i valant 1 lorsque la lettre i vient du premier parent */
+		long[] originesEnfantUn = new long[GenomeBinaire.getNbMots(longueur)];
+		long[] originesEnfantDeux = new long[originesEnfantUn.length];
+
+		for (int i = 0; i < originesEnfantUn.length; i++) {
+			originesEnfantUn[i] = masque[i];
+			originesEnfantDeux[i] = ~masque[i];
+		}
+
+		/* EN - Transmission of the letters from the parents to the children according to the mask
+		 * FR - Transmission des lettres des individus parents aux individus enfants selon le masque */
+		MelangeParMasque.croiser(elementsParentUn, elementsParentDeux, masque, elementsEnfantUn, elementsEnfantDeux, longueur);
+
+		MotCompact enfantUn = new MotCompact(elementsEnfantUn, parentUn.getAlphabet());
+		MotCompact enfantDeux = new MotCompact(elementsEnfantDeux, parentUn.getAlphabet());
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+
+		enfantUn.setOrigines(originesEnfantUn);
+		enfantDeux.setOrigines(originesEnfantDeux);
+
+		List<MotCompact> leGroupeEnfants = new ArrayList<MotCompact>(2);
+		leGroupeEnfants.add(enfantUn);
+		leGroupeEnfants.add(enfantDeux);
+
+		return leGroupeEnfants;
+	}
+
+}
@@ -0,0 +1,40 @@
+package alphabetic.metier.sauvegarde;
+
+import java.nio.ByteBuffer;
+
+import alphabetic.metier.entite.Mot;
+import generique.metier.sauvegarde.CodecBinaire;
+import generique.metier.sauvegarde.CodecChaine;
+
+/**
+ * EN - Binary encoding of a Word in a point of save : the encoding of its value as a character string
+ * FR - Encodage binaire d'un Mot dans un point de sauvegarde : l'encodage de sa valeur comme chaîne de caractères
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class CodecMot implements CodecBinaire<Mot> {
+
+	private final CodecChaine codecValeur = new CodecChaine();
+
+
+	@Override
+	public int getTaille(Mot valeur) {
+		return codecValeur.getTaille(valeur.getValeur());
+	}
+
+
+	@Override
+	public void ecrire(Mot valeur, ByteBuffer tampon) {
+		codecValeur.ecrire(valeur.getValeur(), tampon);
+	}
+
+
+	@Override
+	public Mot lire(ByteBuffer tampon) {
+		return new Mot(codecValeur.lire(tampon));
+	}
+
+}
@@ -0,0 +1,55 @@
+package alphabetic.metier.sauvegarde;
+
+import java.nio.ByteBuffer;
+
+import alphabetic.metier.entite.Alphabet;
+import alphabetic.metier.entite.MotCompact;
+import generique.metier.sauvegarde.CodecBinaire;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * EN - Binary encoding of a compact Word in a point of save : its length, then the indexes of its letters on one byte each
+ *      The alphabet is not saved : the search must be resumed with the alphabet of the configuration it was started with
+ * FR - Encodage binaire d'un Mot compact dans un point de sauvegarde : sa longueur, puis les indices de ses lettres sur un octet chacun
+ *      L'alphabet n'est pas sauvegardé : la recherche doit être reprise avec l'alphabet de la configuration avec laquelle elle a été démarrée
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@AllArgsConstructor
+public class CodecMotCompact implements CodecBinaire<MotCompact> {
+
+	/**
+	 * EN - Alphabet of the words read
+	 * FR - Alphabet des mots lus
+	 */
+	@NonNull
+	private final Alphabet alphabet;
+
+
+	@Override
+	public int getTaille(MotCompact valeur) {
+		return Integer.BYTES + valeur.getNbLoci();
+	}
+
+
+	@Override
+	public void ecrire(MotCompact valeur, ByteBuffer tampon) {
+		tampon.putInt(valeur.getNbLoci());
+		tampon.put(valeur.getValeur());
+	}
+
+
+	@Override
+	public MotCompact lire(ByteBuffer tampon) {
+
+		byte[] lettres = new byte[tampon.getInt()];
+		tampon.get(lettres);
+
+		return new MotCompact(lettres, alphabet);
+	}
+
+}
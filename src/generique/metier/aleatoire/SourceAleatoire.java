@@ -0,0 +1,114 @@
+package generique.metier.aleatoire;
+
+import java.util.SplittableRandom;
+
+import lombok.Getter;
+
+/**
+ * EN - Source of random numbers of the genetic operators, based on a SplittableRandom initialized by a seed
+ *      A source is not thread safe and has no lock : it must be confined to a single thread, each worker (Mediator, island...)
+ *      receiving its own source obtained by {@link #scinder()}
+ *      Two sources created with the same seed, then split in the same order, give the same sequences of numbers, which makes a run reproducible
+ * FR - Source de nombres aléatoires des opérateurs génétiques, reposant sur un SplittableRandom initialisé par une graine
+ *      Une source n'est pas thread safe et ne comporte aucun verrou : elle doit être confinée à un seul thread, chaque travailleur (Mediateur, île...)
+ *      recevant sa propre source obtenue par {@link #scinder()}
+ *      Deux sources créées avec la même graine, puis scindées dans le même ordre, donnent les mêmes suites de nombres, ce qui rend une exécution reproductible
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class SourceAleatoire {
+
+	/**
+	 * EN - Seed with which the source has been initialized last
+	 * FR - Graine avec laquelle la source a été initialisée en dernier
+	 */
+	@Getter
+	private long graine;
+
+	/**
+	 * EN - Generator of the numbers
+	 * FR - Générateur des nombres
+	 */
+	private SplittableRandom generateur;
+
+
+	/**
+	 * EN - Creates a source initialized by a seed drawn at random, to be read with {@link #getGraine()} in order to replay the run
+	 * FR - Crée une source initialisée par une graine tirée au hasard, à lire avec {@link #getGraine()} pour rejouer l'exécution
+	 */
+	public SourceAleatoire() {
+		this(new SplittableRandom().nextLong());
+	}
+
+
+	/**
+	 * EN - Creates a source initialized by a seed
+	 * FR - Crée une source initialisée par une graine
+	 *
+	 * @param graine EN-seed of the source </br> FR-graine de la source
+	 */
+	public SourceAleatoire(long graine) {
+		reinitialiser(graine);
+	}
+
+
+	/**
+	 * EN - Initializes again the source with a seed, the following numbers being those of a new source created with this seed
+	 *      Reseeding the source with a seed drawn from itself allows its state to be saved as a single number
+	 * FR - Initialise à nouveau la source avec une graine, les nombres suivants étant ceux d'une nouvelle source créée avec cette graine
+	 *      Réensemencer la source avec une graine tirée d'elle-même permet de sauvegarder son état sous la forme d'un seul nombre
+	 *
+	 * @param graine EN-new seed of the source </br> FR-nouvelle graine de la source
+	 */
+	public void reinitialiser(long graine) {
+		this.graine = graine;
+		this.generateur = new SplittableRandom(graine);
+	}
+
+
+	/**
+	 * EN - Creates the source described by the configuration : initialized by the seed when one is given, otherwise by a seed drawn at random
+	 * FR - Crée la source décrite par la configuration : initialisée par la graine lorsqu'une est donnée, sinon par une graine tirée au hasard
+	 *
+	 * @param graine EN-seed read from the configuration, null or empty when absent </br> FR-graine lue dans la configuration, null ou vide lorsqu'absente
+	 * @return EN-the new source </br> FR-la nouvelle source
+	 */
+	public static SourceAleatoire creer(String graine) {
+		return graine == null || graine.isBlank() ? new SourceAleatoire() : new SourceAleatoire(Long.parseLong(graine.trim()));
+	}
+
+
+	/**
+	 * EN - Creates a new independent source, whose seed is drawn from this source
+	 * FR - Crée une nouvelle source indépendante, dont la graine est tirée de cette source
+	 *
+	 * @return EN-the new source, to be confined to another thread </br> FR-la nouvelle source, à confiner à un autre thread
+	 */
+	public SourceAleatoire scinder() {
+		return new SourceAleatoire(generateur.nextLong());
+	}
+
+
+	public int nextInt(int borne) {
+		return generateur.nextInt(borne);
+	}
+
+
+	public long nextLong() {
+		return generateur.nextLong();
+	}
+
+
+	public boolean nextBoolean() {
+		return generateur.nextBoolean();
+	}
+
+
+	public double nextDouble() {
+		return generateur.nextDouble();
+	}
+
+}
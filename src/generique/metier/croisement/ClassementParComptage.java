@@ -0,0 +1,176 @@
+package generique.metier.croisement;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import generique.metier.entite.Individu;
+
+/**
+ * EN - Ranking strategy based on a counting sort, the scores being small bounded integers (from 0 to the length of the genome)
+ *      A first pass counts the individuals per score, a second one places directly the individuals among the nbMax best ones :
+ *      the ranking costs O(n + range of the scores) without any comparison
+ *      The working arrays and the returned list are kept from one call to the next, so that a steady-state ranking allocates nothing :
+ *      the strategy must therefore be confined to a single thread, and the returned list is only valid until the next call
+ *      When the range of the scores is large compared to the number of individuals, the strategy falls back to {@link ClassementParTri}
+ * FR - Stratégie de classement reposant sur un tri par comptage, les scores étant de petits entiers bornés (de 0 à la longueur du génome)
+ *      Une première passe compte les individus par score, une seconde place directement les individus parmi les nbMax meilleurs :
+ *      le classement coûte O(n + étendue des scores) sans aucune comparaison
+ *      Les tableaux de travail et la liste rendue sont conservés d'un appel à l'autre, de sorte qu'un classement en régime établi n'alloue rien :
+ *      la stratégie doit donc être confinée à un seul thread, et la liste rendue n'est valable que jusqu'à l'appel suivant
+ *      Lorsque l'étendue des scores est grande au regard du nombre d'individus, la stratégie se replie sur {@link ClassementParTri}
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+public class ClassementParComptage<T extends Individu<?>> implements StrategieClassement<T> {
+
+	/**
+	 * EN - Strategy used when the range of the scores does not suit a counting sort
+	 * FR - Stratégie utilisée lorsque l'étendue des scores ne se prête pas à un tri par comptage
+	 */
+	private final StrategieClassement<T> classementDeRepli = new ClassementParTri<T>();
+
+	/**
+	 * EN - Scores of the individuals, read once
+	 * FR - Scores des individus, lus une seule fois
+	 */
+	private int[] scores = new int[0];
+
+	/**
+	 * EN - Number of individuals per score then position of the next individual of each score, the best score being in bucket 0
+	 * FR - Nombre d'individus par score puis position du prochain individu de chaque score, le meilleur score étant dans la case 0
+	 */
+	private int[] positions = new int[0];
+
+	/**
+	 * EN - Ranking returned, reused from one call to the next
+	 * FR - Classement rendu, réutilisé d'un appel à l'autre
+	 */
+	private final Classement<T> classement = new Classement<T>();
+
+
+	@Override
+	public List<T> classer(List<T> individus, int nbMax) {
+
+		int nbIndividus = individus.size();
+
+		classement.vider(Math.max(0, Math.min(nbMax, nbIndividus)));
+
+		if (classement.taille == 0)
+			return classement;
+
+		/*
+		 * EN - Scores read once, and bounds of the scores
+		 * FR - Scores lus une seule fois, et bornes des scores
+		 */
+		if (scores.length < nbIndividus)
+			scores = new int[nbIndividus];
+
+		int scoreMin = Integer.MAX_VALUE;
+		int scoreMax = Integer.MIN_VALUE;
+
+		for (int i = 0; i < nbIndividus; i++) {
+
+			int score = individus.get(i).getScore();
+
+			scores[i] = score;
+			scoreMin = Math.min(scoreMin, score);
+			scoreMax = Math.max(scoreMax, score);
+		}
+
+		long etendue = (long) scoreMax - scoreMin + 1;
+
+		if (etendue > 4L * nbIndividus + 64)
+			return classementDeRepli.classer(individus, nbMax);
+
+		/*
+		 * EN - Number of individuals per score
+		 * FR - Nombre d'individus par score
+		 */
+		if (positions.length < etendue)
+			positions = new int[(int) etendue];
+
+		Arrays.fill(positions, 0, (int) etendue, 0);
+
+		for (int i = 0; i < nbIndividus; i++) {
+			positions[scoreMax - scores[i]]++;
+		}
+
+		/*
+		 * EN - Position of the first individual of each score in the ranking
+		 * FR - Position du premier individu de chaque score dans le classement
+		 */
+		int position = 0;
+
+		for (int i = 0; i < etendue; i++) {
+
+			int nbIndividusDuScore = positions[i];
+
+			positions[i] = position;
+			position += nbIndividusDuScore;
+		}
+
+		/*
+		 * EN - Placement of the individuals in their original order, which makes the sort stable, the ones beyond nbMax being left aside
+		 * FR - Placement des individus dans leur ordre d'origine, ce qui rend le tri stable, ceux au delà de nbMax étant laissés de côté
+		 */
+		for (int i = 0; i < nbIndividus; i++) {
+
+			int rang = positions[scoreMax - scores[i]]++;
+
+			if (rang < classement.taille)
+				classement.individus[rang] = individus.get(i);
+		}
+
+		return classement;
+	}
+
+
+	/**
+	 * EN - Read-only list of the ranked individuals, backed by an array kept from one ranking to the next
+	 * FR - Liste en lecture seule des individus classés, adossée à un tableau conservé d'un classement à l'autre
+	 */
+	private static class Classement<T> extends AbstractList<T> implements RandomAccess {
+
+		private Object[] individus = new Object[0];
+
+		private int taille;
+
+		private void vider(int taille) {
+
+			if (individus.length < taille)
+				individus = new Object[taille];
+
+			/*
+			 * EN - References of the previous ranking released beyond the new size
+			 * FR - Références du classement précédent libérées au delà de la nouvelle taille
+			 */
+			Arrays.fill(individus, taille, Math.max(taille, this.taille), null);
+
+			this.taille = taille;
+			modCount++;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(int index) {
+
+			if (index < 0 || index >= taille)
+				throw new IndexOutOfBoundsException("Index : " + index + ", Taille : " + taille);
+
+			return (T) individus[index];
+		}
+
+		@Override
+		public int size() {
+			return taille;
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+package generique.metier.croisement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import generique.metier.entite.Individu;
+
+/**
+ * EN - Ranking strategy sorting a copy of the individuals with a comparator on the score, in O(n log n)
+ *      It accepts any score, whatever the range of values
+ * FR - Stratégie de classement triant une copie des individus avec un comparateur sur le score, en O(n log n)
+ *      Elle accepte n'importe quel score, quelle que soit l'étendue des valeurs
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+public class ClassementParTri<T extends Individu<?>> implements StrategieClassement<T> {
+
+	@Override
+	public List<T> classer(List<T> individus, int nbMax) {
+
+		List<T> lesIndividus = new ArrayList<T>(individus);
+
+		/*
+		 * EN - Stable sort by decreasing score
+		 * FR - Tri stable par score décroissant
+		 */
+		lesIndividus.sort(Comparator.comparingInt((T individu) -> individu.getScore()).reversed());
+
+		return nbMax < lesIndividus.size() ? new ArrayList<T>(lesIndividus.subList(0, Math.max(nbMax, 0))) : lesIndividus;
+	}
+
+}
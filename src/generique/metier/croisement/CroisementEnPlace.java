@@ -0,0 +1,36 @@
+package generique.metier.croisement;
+
+import generique.metier.entite.Individu;
+
+/**
+ * EN - Crossover writing the genomes of two children into existing individuals, rather than creating new ones
+ *      The children are provided by the {@link Entrecroiseur}, taken from the slots of the generation being built :
+ *      their score and flags are already reset, the crossover only has to write their value and to designate them as children
+ *      The value of a child must be entirely overwritten, as it still holds the one of an individual of a former generation
+ * FR - Croisement écrivant les génomes de deux enfants dans des individus existants, plutôt que d'en créer de nouveaux
+ *      Les enfants sont fournis par l'{@link Entrecroiseur}, pris parmi les emplacements de la génération en construction :
+ *      leur score et leurs indicateurs sont déjà remis à zéro, le croisement n'a plus qu'à écrire leur valeur et à les désigner comme enfants
+ *      La valeur d'un enfant doit être entièrement écrasée, car elle contient encore celle d'un individu d'une génération antérieure
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+@FunctionalInterface
+public interface CroisementEnPlace<T extends Individu<?>> {
+
+	/**
+	 * EN - Crosses two parents into two children
+	 * FR - Croise deux parents en deux enfants
+	 *
+	 * @param parentUn   EN-first parent individual, left untouched </br> FR-premier individu parent, laissé intact
+	 * @param parentDeux EN-second parent individual, left untouched </br> FR-second individu parent, laissé intact
+	 * @param enfantUn   EN-first child individual, whose value is overwritten </br> FR-premier individu enfant, dont la valeur est écrasée
+	 * @param enfantDeux EN-second child individual, whose value is overwritten </br> FR-second individu enfant, dont la valeur est écrasée
+	 */
+	void croiser(T parentUn, T parentDeux, T enfantUn, T enfantDeux);
+
+}
@@ -0,0 +1,33 @@
+package generique.metier.croisement;
+
+import generique.metier.entite.Individu;
+
+/**
+ * EN - Crossover in place according to a mask drawn by the {@link Entrecroiseur} with its {@link OperateurCroisement}, under the same conditions as {@link CroisementEnPlace}
+ *      The mask is reused by the Entrecroiseur from one crossover to the next : it must neither be modified nor kept by the crossover
+ * FR - Croisement en place selon un masque tiré par l'{@link Entrecroiseur} avec son {@link OperateurCroisement}, dans les mêmes conditions que {@link CroisementEnPlace}
+ *      Le masque est réutilisé par l'Entrecroiseur d'un croisement à l'autre : il ne doit être ni modifié ni conservé par le croisement
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+@FunctionalInterface
+public interface CroisementEnPlaceParMasque<T extends Individu<?>> {
+
+	/**
+	 * EN - Crosses two parents into two children
+	 * FR - Croise deux parents en deux enfants
+	 *
+	 * @param parentUn   EN-first parent individual, left untouched </br> FR-premier individu parent, laissé intact
+	 * @param parentDeux EN-second parent individual, left untouched </br> FR-second individu parent, laissé intact
+	 * @param masque     EN-crossover mask, one bit per locus, bit 1 when the locus of the first child comes from the first parent </br> FR-masque de croisement, un bit par locus, bit à 1 lorsque le locus du premier enfant vient du premier parent
+	 * @param enfantUn   EN-first child individual, whose value is overwritten </br> FR-premier individu enfant, dont la valeur est écrasée
+	 * @param enfantDeux EN-second child individual, whose value is overwritten </br> FR-second individu enfant, dont la valeur est écrasée
+	 */
+	void croiser(T parentUn, T parentDeux, long[] masque, T enfantUn, T enfantDeux);
+
+}
@@ -0,0 +1,34 @@
+package generique.metier.croisement;
+
+import java.util.List;
+
+import generique.metier.entite.Individu;
+
+/**
+ * EN - Crossover creating two children from two parents according to a mask drawn by the {@link Entrecroiseur} with its {@link OperateurCroisement}
+ *      The mask is reused by the Entrecroiseur from one crossover to the next : it must neither be modified nor kept by the crossover
+ * FR - Croisement créant deux enfants à partir de deux parents selon un masque tiré par l'{@link Entrecroiseur} avec son {@link OperateurCroisement}
+ *      Le masque est réutilisé par l'Entrecroiseur d'un croisement à l'autre : il ne doit être ni modifié ni conservé par le croisement
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+@FunctionalInterface
+public interface CroisementParMasque<T extends Individu<?>> {
+
+	/**
+	 * EN - Crosses two parents into two children
+	 * FR - Croise deux parents en deux enfants
+	 *
+	 * @param parentUn   EN-first parent individual </br> FR-premier individu parent
+	 * @param parentDeux EN-second parent individual </br> FR-second individu parent
+	 * @param masque     EN-crossover mask, one bit per locus, bit 1 when the locus of the first child comes from the first parent </br> FR-masque de croisement, un bit par locus, bit à 1 lorsque le locus du premier enfant vient du premier parent
+	 * @return EN-the two child individuals </br> FR-les deux individus enfants
+	 */
+	List<T> croiser(T parentUn, T parentDeux, long[] masque);
+
+}
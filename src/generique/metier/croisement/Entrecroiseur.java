@@ -1,11 +1,18 @@
 package generique.metier.croisement;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
 
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.GenomeBinaire;
 import generique.metier.entite.Generation;
 import generique.metier.entite.Individu;
+import generique.metier.entite.IndividuDecomposable;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
@@ -41,38 +48,279 @@ public class Entrecroiseur<T extends Individu<?>> {
 	@Setter
 	private int nbIndividuParGeneration; 
 	
+	/**
+	 * EN - Factory of generation, receiving the number of the generation to create
+	 * FR - Fabrique de génération, recevant le numéro de la génération à créer
+	 */
+	@Setter
+	@NonNull
+	private IntFunction<Generation<T>> fabriqueGeneration = Generation::new;
+	
+	/**
+	 * EN - Strategy ranking the parents by decreasing score, a counting sort by default
+	 * FR - Stratégie classant les parents par score décroissant, un tri par comptage par défaut
+	 */
+	@Setter
+	@NonNull
+	private StrategieClassement<T> strategieClassement = new ClassementParComptage<T>();
+	
+	/**
+	 * EN - Optional crossover writing the children into the individuals of the generation being built, null to create the children with fabriqueDescendants
+	 *      The generations are then double-buffered : the parent generation received is kept and reused to build the following generation
+	 * FR - Croisement optionnel écrivant les enfants dans les individus de la génération en construction, null pour créer les enfants avec fabriqueDescendants
+	 *      Les générations sont alors doublement tamponnées : la génération parente reçue est conservée et réutilisée pour construire la génération suivante
+	 */
+	@Setter
+	private CroisementEnPlace<T> croisementEnPlace;
+	
+	/**
+	 * EN - Factory of blank individuals used by the crossover in place as long as the generations have no individual to reuse
+	 * FR - Fabrique d'individus vierges utilisée par le croisement en place tant que les générations n'ont pas d'individu à réutiliser
+	 */
+	@Setter
+	private Supplier<T> fabriqueIndividu;
+	
+	/**
+	 * EN - Former parent generation, available to build the next generation when the crossover is done in place
+	 * FR - Ancienne génération parente, disponible pour construire la prochaine génération lorsque le croisement est fait en place
+	 */
+	private Generation<T> generationLibre;
+	
+	/**
+	 * EN - Indicates whether the score of the decomposable children is deduced from the masks of their parents, instead of being evaluated
+	 * FR - Indique si le score des enfants décomposables est déduit des masques de leurs parents, au lieu d'être évalué
+	 */
+	@Setter
+	private boolean evaluationDecomposable;
+	
+	/**
+	 * EN - Number of elites : best parents carried over unchanged, score included, at the head of the new generation, 0 without elitism
+	 * FR - Nombre d'élites : meilleurs parents reportés inchangés, score compris, en tête de la nouvelle génération, 0 sans élitisme
+	 */
+	@Setter
+	private int nbElites;
+	
+	/**
+	 * EN - Method of copying an individual, required by the elitism with a crossover in place, the parent generation being then reused
+	 * FR - Méthode de copie d'un individu, requise par l'élitisme avec un croisement en place, la génération parente étant alors réutilisée
+	 */
+	@Setter
+	private UnaryOperator<T> fonctionCopieIndividu;
+	
+	/**
+	 * EN - Optional operator drawing the masks of the crossovers by mask, null to use croisementEnPlace or fabriqueDescendants only
+	 * FR - Opérateur optionnel tirant les masques des croisements par masque, null pour utiliser uniquement croisementEnPlace ou fabriqueDescendants
+	 */
+	@Setter
+	private OperateurCroisement operateurCroisement;
+	
+	/**
+	 * EN - Number of loci of a segment of the crossover by segments
+	 * FR - Nombre de loci d'un segment du croisement par segments
+	 */
+	@Setter
+	private int longueurSegment = 8;
+	
+	/**
+	 * EN - Source of random numbers drawing the masks, required by the crossovers by mask
+	 * FR - Source de nombres aléatoires tirant les masques, requise par les croisements par masque
+	 */
+	@Setter
+	private SourceAleatoire sourceAleatoire;
+	
+	/**
+	 * EN - Function giving the number of loci of an individual, required by the crossovers by mask
+	 * FR - Fonction donnant le nombre de loci d'un individu, requise par les croisements par masque
+	 */
+	@Setter
+	private ToIntFunction<T> fonctionNbLoci;
+	
+	/**
+	 * EN - Optional crossover by mask creating the children, replacing fabriqueDescendants when an operator is set
+	 * FR - Croisement par masque optionnel créant les enfants, remplaçant fabriqueDescendants lorsqu'un opérateur est fixé
+	 */
+	@Setter
+	private CroisementParMasque<T> croisementParMasque;
+	
+	/**
+	 * EN - Optional crossover by mask in place, replacing croisementEnPlace when an operator is set
+	 * FR - Croisement par masque en place optionnel, remplaçant croisementEnPlace lorsqu'un opérateur est fixé
+	 */
+	@Setter
+	private CroisementEnPlaceParMasque<T> croisementEnPlaceParMasque;
+	
+	/**
+	 * EN - Mask of the crossovers, reused from one crossover to the next and enlarged on demand
+	 * FR - Masque des croisements, réutilisé d'un croisement à l'autre et agrandi à la demande
+	 */
+	private long[] masque = new long[0];
+	
+	
+	/**
+	 * EN - Creates the next generation by crossing the individuals of the parent generation, ranked by decreasing score, two by two
+	 *      With a crossover in place, the parent generation is taken over by the Entrecroiseur and must no longer be used by the caller
+	 * FR - Crée la génération suivante en croisant deux à deux les individus de la génération parente, classés par score décroissant
+	 *      Avec un croisement en place, la génération parente est reprise par l'Entrecroiseur et ne doit plus être utilisée par l'appelant
+	 * 
+	 * @param generationParent EN-generation of the selected parents </br> FR-génération des parents sélectionnés
+	 * @return EN-the new generation </br> FR-la nouvelle génération
+	 */
 	public Generation<T> getGeneration(Generation<T> generationParent) {
 		
-		Generation<T> nouvelleGeneration = new Generation<T>(generationParent.getNumero()+1);
+		return getGeneration(generationParent, null);
+	}
+	
+	
+	/**
+	 * EN - Creates the next generation as {@link #getGeneration(Generation)}, handing over each child as soon as it is complete, score deduced included
+	 * FR - Crée la génération suivante comme {@link #getGeneration(Generation)}, en remettant chaque enfant dès qu'il est complet, score déduit compris
+	 * 
+	 * @param generationParent EN-generation of the selected parents </br> FR-génération des parents sélectionnés
+	 * @param suiteEnfant      EN-receiver of the children, in the order of the new generation, null for none </br> FR-destinataire des enfants, dans l'ordre de la nouvelle génération, null pour aucun
+	 * @return EN-the new generation </br> FR-la nouvelle génération
+	 */
+	public Generation<T> getGeneration(Generation<T> generationParent, Consumer<? super T> suiteEnfant) {
+		
+		Generation<T> nouvelleGeneration;
+		
+		if (croisementEnPlace != null && generationLibre != null && generationLibre != generationParent) {
+			nouvelleGeneration = generationLibre;
+			nouvelleGeneration.reinitialiser(generationParent.getNumero()+1);
+		} else {
+			nouvelleGeneration = fabriqueGeneration.apply(generationParent.getNumero()+1);
+		}
 			
 		/*
-		 * EN - Sorting of individuals by score
-		 * FR - Tri des individus par score
+		 * EN - Ranking of individuals by score, in a new list so that the parent generation is left untouched
+		 *      Each couple giving at least one child, at most twice as many parents as individuals per generation are needed
+		 * FR - Classement des individus par score, dans une nouvelle liste afin de laisser la génération parente intacte
+		 *      Chaque couple donnant au moins un enfant, il faut au plus deux fois plus de parents que d'individus par génération
 		 */
-		generationParent.getLesIndividus().sort(new Comparator<T>() {
-
-			@Override
-			public int compare(T motA, T motB) {
-				return motB.getScore() - motA.getScore();
-			}
+		List<T> lesParents = strategieClassement.classer(generationParent.getLesIndividus(), 2 * nbIndividuParGeneration);
+		
+		/*
+		 * EN - Elitism : the first parents of the ranking are carried over unchanged, so that the best score never decreases from one generation to the next
+		 *      Their score being up to date, they are not evaluated again
+		 * FR - Elitisme : les premiers parents du classement sont reportés inchangés, afin que le meilleur score ne baisse jamais d'une génération à l'autre
+		 *      Leur score étant à jour, ils ne sont pas évalués à nouveau
+		 */
+		int nbElitesReportees = croisementEnPlace != null && fonctionCopieIndividu == null ? 0 : Math.min(nbElites, Math.min(lesParents.size(), nbIndividuParGeneration));
+		
+		for (int i = 0; i < nbElitesReportees; i++) {
+			
+			nouvelleGeneration.ajouterIndividu(croisementEnPlace != null ? copierElite(lesParents.get(i)) : lesParents.get(i));
 			
-		});
+			if (suiteEnfant != null)
+				suiteEnfant.accept(nouvelleGeneration.getLesIndividus().get(i));
+		}
 		
 		int index = 0;
 		
-		while(nouvelleGeneration.nbIndividus() < nbIndividuParGeneration && index < generationParent.nbIndividus()-1) {
-						
-			nouvelleGeneration.ajouterGroupeIndividu(fabriqueDescendants.apply(	generationParent.getLesIndividus().get(index), 
-																				generationParent.getLesIndividus().get(index+1)
-																			  )
-													);
+		boolean parMasque = operateurCroisement != null && sourceAleatoire != null && fonctionNbLoci != null;
+		
+		while(nouvelleGeneration.nbIndividus() < nbIndividuParGeneration && index < lesParents.size()-1) {
+			
+			if (croisementEnPlace != null) {
+				
+				/*
+				 * EN - The children are written into individuals released by a former generation
+				 * FR - Les enfants sont écrits dans des individus libérés par une génération antérieure
+				 */
+				T enfantUn = nouvelleGeneration.allouer(fabriqueIndividu);
+				T enfantDeux = nouvelleGeneration.allouer(fabriqueIndividu);
+				
+				if (parMasque && croisementEnPlaceParMasque != null)
+					croisementEnPlaceParMasque.croiser(lesParents.get(index), lesParents.get(index+1), tirerMasque(lesParents.get(index)), enfantUn, enfantDeux);
+				else
+					croisementEnPlace.croiser(lesParents.get(index), lesParents.get(index+1), enfantUn, enfantDeux);
+				
+				if (evaluationDecomposable) {
+					deduireScore(lesParents.get(index), lesParents.get(index+1), enfantUn);
+					deduireScore(lesParents.get(index), lesParents.get(index+1), enfantDeux);
+				}
+				
+				if (suiteEnfant != null) {
+					suiteEnfant.accept(enfantUn);
+					suiteEnfant.accept(enfantDeux);
+				}
+				
+			} else {
+				
+				List<T> lesEnfants = parMasque && croisementParMasque != null	? croisementParMasque.croiser(lesParents.get(index), lesParents.get(index+1), tirerMasque(lesParents.get(index)))
+																				: fabriqueDescendants.apply(lesParents.get(index), lesParents.get(index+1));
+				
+				if (evaluationDecomposable) {
+					for (T enfant : lesEnfants)
+						deduireScore(lesParents.get(index), lesParents.get(index+1), enfant);
+				}
+				
+				nouvelleGeneration.ajouterGroupeIndividu(lesEnfants);
+				
+				if (suiteEnfant != null)
+					lesEnfants.forEach(suiteEnfant);
+			}
 			
 			index+=2;
 		}
 		
+		/*
+		 * EN - The parent generation will host the generation after next
+		 * FR - La génération parente accueillera la génération d'après
+		 */
+		if (croisementEnPlace != null)
+			generationLibre = generationParent;
+		
 		return nouvelleGeneration;
 	}
 
+	/**
+	 * EN - Copies an elite which cannot be shared, the parent generation being reused by the crossover in place : value, score and epoch of evaluation,
+	 *      as well as the correspondences of a decomposable individual, from which the score of its children is deduced
+	 * FR - Copie une élite qui ne peut être partagée, la génération parente étant réutilisée par le croisement en place : valeur, score et époque d'évaluation,
+	 *      ainsi que les correspondances d'un individu décomposable, dont est déduit le score de ses enfants
+	 */
+	private T copierElite(T elite) {
+		
+		T copie = fonctionCopieIndividu.apply(elite);
+		
+		copie.setScore(elite.getScore());
+		copie.setSolution(elite.isSolution());
+		copie.setEpoqueEvaluation(elite.getEpoqueEvaluation());
+		
+		if (copie instanceof IndividuDecomposable && elite instanceof IndividuDecomposable) {
+			long[] correspondances = ((IndividuDecomposable<?>) elite).getCorrespondances();
+			((IndividuDecomposable<?>) copie).setCorrespondances(correspondances != null ? correspondances.clone() : null);
+		}
+		
+		return copie;
+	}
+
+	/**
+	 * EN - Draws the mask of the crossover of a couple with the operator, the parents of a couple having the same number of loci
+	 * FR - Tire le masque du croisement d'un couple avec l'opérateur, les parents d'un couple ayant le même nombre de loci
+	 */
+	private long[] tirerMasque(T parent) {
+		
+		int nbLoci = fonctionNbLoci.applyAsInt(parent);
+		
+		if (masque.length < GenomeBinaire.getNbMots(nbLoci))
+			masque = new long[GenomeBinaire.getNbMots(nbLoci)];
+		
+		operateurCroisement.tirerMasque(masque, nbLoci, longueurSegment, sourceAleatoire);
+		
+		return masque;
+	}
+
+	/**
+	 * EN - Deduces the score of a child from its parents when they are all decomposable, the child being otherwise left to the evaluator
+	 * FR - Déduit le score d'un enfant de ses parents lorsqu'ils sont tous décomposables, l'enfant étant sinon laissé à l'évaluateur
+	 */
+	private void deduireScore(T parentUn, T parentDeux, T enfant) {
+		
+		if (enfant instanceof IndividuDecomposable && parentUn instanceof IndividuDecomposable && parentDeux instanceof IndividuDecomposable)
+			((IndividuDecomposable<?>) enfant).deduireScore((IndividuDecomposable<?>) parentUn, (IndividuDecomposable<?>) parentDeux);
+	}
+
 	public Entrecroiseur(@NonNull BiFunction<T, T, List<T>> fabriqueDescendants, int nbIndividuParGeneration) {
 		setFabriqueDescendants(fabriqueDescendants);
 		setNbIndividuParGeneration(nbIndividuParGeneration);
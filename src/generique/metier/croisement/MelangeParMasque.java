@@ -0,0 +1,114 @@
+package generique.metier.croisement;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * EN - Application of the mask of a crossover, drawn by an {@link OperateurCroisement}, to genomes of characters or of bytes
+ *      Bit i of the mask is 1 when locus i of the first child comes from the first parent, locus i of the second child then coming from the second parent
+ *      The genomes of bytes are blended 8 loci at a time : the 8 bits of the mask are spread over the 8 bytes of a long by a table,
+ *      then the bytes of the parents are selected by AND and OR operations, without branch nor random draw per locus
+ *      The bit-packed genomes are blended by {@link generique.metier.entite.GenomeBinaire}
+ * FR - Application du masque d'un croisement, tiré par un {@link OperateurCroisement}, à des génomes de caractères ou d'octets
+ *      Le bit i du masque vaut 1 lorsque le locus i du premier enfant vient du premier parent, le locus i du second enfant venant alors du second parent
+ *      Les génomes d'octets sont mélangés 8 loci à la fois : les 8 bits du masque sont étalés sur les 8 octets d'un long par une table,
+ *      puis les octets des parents sont sélectionnés par des opérations ET et OU, sans branchement ni tirage aléatoire par locus
+ *      Les génomes compactés en bits sont mélangés par {@link generique.metier.entite.GenomeBinaire}
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public final class MelangeParMasque {
+
+	/**
+	 * EN - View of a byte array as longs, byte i of the array being byte i of the long from the least significant one
+	 * FR - Vue d'un tableau d'octets sous forme de longs, l'octet i du tableau étant l'octet i du long en partant du moins significatif
+	 */
+	private static final VarHandle OCTETS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * EN - For each value of 8 bits, the long whose byte i is 0xFF when bit i is 1, 0 otherwise
+	 * FR - Pour chaque valeur de 8 bits, le long dont l'octet i vaut 0xFF lorsque le bit i vaut 1, 0 sinon
+	 */
+	private static final long[] ETALEMENTS = new long[256];
+
+	static {
+		for (int bits = 0; bits < 256; bits++) {
+			for (int i = 0; i < 8; i++) {
+				if ((bits & (1 << i)) != 0)
+					ETALEMENTS[bits] |= 0xFFL << (i << 3);
+			}
+		}
+	}
+
+
+	private MelangeParMasque() {
+	}
+
+
+	/**
+	 * EN - Crosses two parent genomes of characters into two child genomes according to a mask
+	 * FR - Croise deux génomes parents de caractères en deux génomes enfants selon un masque
+	 *
+	 * @param parentUn   EN-characters of the first parent </br> FR-caractères du premier parent
+	 * @param parentDeux EN-characters of the second parent </br> FR-caractères du second parent
+	 * @param masque     EN-crossover mask, one bit per locus </br> FR-masque de croisement, un bit par locus
+	 * @param enfantUn   EN-characters of the first child, filled by the method </br> FR-caractères du premier enfant, remplis par la méthode
+	 * @param enfantDeux EN-characters of the second child, filled by the method </br> FR-caractères du second enfant, remplis par la méthode
+	 * @param longueur   EN-number of loci </br> FR-nombre de loci
+	 */
+	public static void croiser(char[] parentUn, char[] parentDeux, long[] masque, char[] enfantUn, char[] enfantDeux, int longueur) {
+
+		for (int i = 0; i < longueur; i++) {
+
+			/* EN - Bits of the characters to exchange : all of them when the locus comes from the second parent, none otherwise
+			 * FR - Bits des caractères à échanger : tous lorsque le locus vient du second parent, aucun sinon */
+			int echange = (parentUn[i] ^ parentDeux[i]) & ((int) (masque[i >>> 6] >>> i & 1) - 1);
+
+			enfantUn[i] = (char) (parentUn[i] ^ echange);
+			enfantDeux[i] = (char) (parentDeux[i] ^ echange);
+		}
+	}
+
+
+	/**
+	 * EN - Crosses two parent genomes of bytes into two child genomes according to a mask, 8 loci at a time
+	 * FR - Croise deux génomes parents d'octets en deux génomes enfants selon un masque, 8 loci à la fois
+	 *
+	 * @param parentUn   EN-bytes of the first parent </br> FR-octets du premier parent
+	 * @param parentDeux EN-bytes of the second parent </br> FR-octets du second parent
+	 * @param masque     EN-crossover mask, one bit per locus </br> FR-masque de croisement, un bit par locus
+	 * @param enfantUn   EN-bytes of the first child, filled by the method </br> FR-octets du premier enfant, remplis par la méthode
+	 * @param enfantDeux EN-bytes of the second child, filled by the method </br> FR-octets du second enfant, remplis par la méthode
+	 * @param longueur   EN-number of loci </br> FR-nombre de loci
+	 */
+	public static void croiser(byte[] parentUn, byte[] parentDeux, long[] masque, byte[] enfantUn, byte[] enfantDeux, int longueur) {
+
+		int i = 0;
+
+		for (; i + Long.BYTES <= longueur; i += Long.BYTES) {
+
+			/* EN - Bytes of the first parent in the first child, the 8 bits of the mask being in the same word as i is a multiple of 8
+			 * FR - Octets du premier parent dans le premier enfant, les 8 bits du masque étant dans le même mot car i est un multiple de 8 */
+			long choix = ETALEMENTS[(int) (masque[i >>> 6] >>> i) & 0xFF];
+
+			long octetsUn = (long) OCTETS.get(parentUn, i);
+			long octetsDeux = (long) OCTETS.get(parentDeux, i);
+
+			OCTETS.set(enfantUn, i, (octetsUn & choix) | (octetsDeux & ~choix));
+			OCTETS.set(enfantDeux, i, (octetsDeux & choix) | (octetsUn & ~choix));
+		}
+
+		for (; i < longueur; i++) {
+
+			int echange = (parentUn[i] ^ parentDeux[i]) & ((int) (masque[i >>> 6] >>> i & 1) - 1);
+
+			enfantUn[i] = (byte) (parentUn[i] ^ echange);
+			enfantDeux[i] = (byte) (parentDeux[i] ^ echange);
+		}
+	}
+
+}
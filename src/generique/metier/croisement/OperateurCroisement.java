@@ -0,0 +1,171 @@
+package generique.metier.croisement;
+
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.GenomeBinaire;
+
+/**
+ * EN - Crossover operators, each of them drawing the mask of a crossover : bit i of the mask is 1 when locus i of the first child comes from the first parent,
+ *      locus i of the second child then coming from the second parent, and conversely
+ *      The mask is then applied to the genomes by word operations, whatever their storage (see {@link MelangeParMasque} and {@link GenomeBinaire})
+ *      The bits of the last word beyond the number of loci are set to zero
+ * FR - Opérateurs de croisement, chacun tirant le masque d'un croisement : le bit i du masque vaut 1 lorsque le locus i du premier enfant vient du premier parent,
+ *      le locus i du second enfant venant alors du second parent, et inversement
+ *      Le masque est ensuite appliqué aux génomes par opérations sur des mots, quel que soit leur stockage (voir {@link MelangeParMasque} et {@link GenomeBinaire})
+ *      Les bits du dernier mot au delà du nombre de loci sont mis à zéro
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public enum OperateurCroisement {
+
+	/**
+	 * EN - Uniform crossover : each locus comes from either parent with the same probability, one random word being drawn for 64 loci
+	 * FR - Croisement uniforme : chaque locus vient de l'un ou l'autre parent avec la même probabilité, un mot aléatoire étant tiré pour 64 loci
+	 */
+	UNIFORME {
+
+		@Override
+		public void tirerMasque(long[] masque, int nbLoci, int longueurSegment, SourceAleatoire source) {
+
+			int nbMots = GenomeBinaire.getNbMots(nbLoci);
+
+			for (int i = 0; i < nbMots; i++) {
+				masque[i] = source.nextLong();
+			}
+
+			masque[nbMots - 1] &= GenomeBinaire.getMasqueDernierMot(nbLoci);
+		}
+	},
+
+	/**
+	 * EN - One-point crossover : the loci before a point drawn at random come from the first parent, the following ones from the second parent
+	 * FR - Croisement en un point : les loci avant un point tiré au hasard viennent du premier parent, les suivants du second parent
+	 */
+	UN_POINT {
+
+		@Override
+		public void tirerMasque(long[] masque, int nbLoci, int longueurSegment, SourceAleatoire source) {
+
+			effacer(masque, nbLoci);
+
+			remplir(masque, 0, nbLoci > 1 ? 1 + source.nextInt(nbLoci - 1) : nbLoci);
+		}
+	},
+
+	/**
+	 * EN - Two-point crossover : the loci between two distinct points drawn at random come from the second parent, the others from the first parent
+	 * FR - Croisement en deux points : les loci entre deux points distincts tirés au hasard viennent du second parent, les autres du premier parent
+	 */
+	DEUX_POINTS {
+
+		@Override
+		public void tirerMasque(long[] masque, int nbLoci, int longueurSegment, SourceAleatoire source) {
+
+			if (nbLoci < 3) {
+				UN_POINT.tirerMasque(masque, nbLoci, longueurSegment, source);
+				return;
+			}
+
+			int premierPoint = 1 + source.nextInt(nbLoci - 1);
+			int secondPoint = 1 + source.nextInt(nbLoci - 2);
+
+			if (secondPoint >= premierPoint)
+				secondPoint++;
+			else {
+				int point = premierPoint;
+				premierPoint = secondPoint;
+				secondPoint = point;
+			}
+
+			effacer(masque, nbLoci);
+
+			remplir(masque, 0, premierPoint);
+			remplir(masque, secondPoint, nbLoci);
+		}
+	},
+
+	/**
+	 * EN - Crossover by segments : the loci are grouped by consecutive segments of a fixed length, each segment coming from either parent with the same probability,
+	 *      one random word being drawn for 64 segments ; neighbouring loci thus stay together, unlike with the uniform crossover
+	 * FR - Croisement par segments : les loci sont groupés en segments consécutifs d'une longueur fixe, chaque segment venant de l'un ou l'autre parent avec la même probabilité,
+	 *      un mot aléatoire étant tiré pour 64 segments ; les loci voisins restent ainsi ensemble, contrairement au croisement uniforme
+	 */
+	SEGMENTS {
+
+		@Override
+		public void tirerMasque(long[] masque, int nbLoci, int longueurSegment, SourceAleatoire source) {
+
+			int longueur = Math.max(1, longueurSegment);
+
+			effacer(masque, nbLoci);
+
+			long tirage = 0;
+
+			for (int segment = 0, debut = 0; debut < nbLoci; segment++, debut += longueur) {
+
+				if ((segment & 63) == 0)
+					tirage = source.nextLong();
+
+				if ((tirage & (1L << segment)) != 0)
+					remplir(masque, debut, Math.min(nbLoci, debut + longueur));
+			}
+		}
+	};
+
+
+	/**
+	 * EN - Draws the mask of a crossover
+	 * FR - Tire le masque d'un croisement
+	 *
+	 * @param masque          EN-mask, filled by the method on its first words, at least one word per 64 loci </br> FR-masque, rempli par la méthode sur ses premiers mots, au moins un mot pour 64 loci
+	 * @param nbLoci          EN-number of loci of the genomes, at least 1 </br> FR-nombre de loci des génomes, au moins 1
+	 * @param longueurSegment EN-number of loci of a segment, used by {@link #SEGMENTS} only </br> FR-nombre de loci d'un segment, utilisé par {@link #SEGMENTS} uniquement
+	 * @param source          EN-source of random numbers </br> FR-source de nombres aléatoires
+	 */
+	public abstract void tirerMasque(long[] masque, int nbLoci, int longueurSegment, SourceAleatoire source);
+
+
+	/**
+	 * EN - Reads an operator from the configuration
+	 * FR - Lit un opérateur depuis la configuration
+	 *
+	 * @param nom EN-name of the operator, empty or null for none </br> FR-nom de l'opérateur, vide ou null pour aucun
+	 * @return EN-the operator, null for none </br> FR-l'opérateur, null pour aucun
+	 * @throws IllegalArgumentException EN-if the name is unknown </br> FR-si le nom est inconnu
+	 */
+	public static OperateurCroisement lire(String nom) {
+		return nom == null || nom.isBlank() ? null : valueOf(nom.trim());
+	}
+
+
+	private static void effacer(long[] masque, int nbLoci) {
+
+		int nbMots = GenomeBinaire.getNbMots(nbLoci);
+
+		for (int i = 0; i < nbMots; i++) {
+			masque[i] = 0L;
+		}
+	}
+
+
+	/**
+	 * EN - Sets to 1 the bits of the mask from debut included to fin excluded, word by word
+	 * FR - Met à 1 les bits du masque de debut inclus à fin exclu, mot par mot
+	 */
+	private static void remplir(long[] masque, int debut, int fin) {
+
+		while (debut < fin) {
+
+			int mot = debut >>> 6;
+			int finMot = Math.min(fin, (mot + 1) << 6);
+			int nbBits = finMot - debut;
+
+			masque[mot] |= (nbBits == 64 ? -1L : ((1L << nbBits) - 1)) << debut;
+
+			debut = finMot;
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+package generique.metier.croisement;
+
+import java.util.List;
+
+import generique.metier.entite.Individu;
+
+/**
+ * EN - Strategy ranking the parent individuals by decreasing score before they are paired by the {@link Entrecroiseur}
+ *      The ranking is returned in another list : the list received, which may be the one of a generation, is never reordered
+ *      The returned list may be reused by the strategy, it is then only valid until the next ranking
+ *      Individuals having the same score keep their original relative order, so that the pairs formed do not depend on the strategy
+ * FR - Stratégie classant les individus parents par score décroissant avant leur appariement par l'{@link Entrecroiseur}
+ *      Le classement est rendu dans une autre liste : la liste reçue, qui peut être celle d'une génération, n'est jamais réordonnée
+ *      La liste rendue peut être réutilisée par la stratégie, elle n'est alors valable que jusqu'au classement suivant
+ *      Les individus ayant le même score conservent leur ordre relatif d'origine, afin que les couples formés ne dépendent pas de la stratégie
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+@FunctionalInterface
+public interface StrategieClassement<T extends Individu<?>> {
+
+	/**
+	 * EN - Ranks the best individuals by decreasing score
+	 * FR - Classe les meilleurs individus par score décroissant
+	 *
+	 * @param individus EN-individuals to rank, left untouched </br> FR-individus à classer, laissés intacts
+	 * @param nbMax     EN-maximum number of individuals to return, the best ones </br> FR-nombre maximum d'individus à rendre, les meilleurs
+	 * @return EN-the min(nbMax, individus.size()) best individuals, ranked by decreasing score </br> FR-les min(nbMax, individus.size()) meilleurs individus, classés par score décroissant
+	 */
+	List<T> classer(List<T> individus, int nbMax);
+
+}
@@ -0,0 +1,246 @@
+package generique.metier.diffusion;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import generique.metier.entite.Individu;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.java.Log;
+
+/**
+ * EN - Publisher of the snapshots of the generations, conflating the snapshots to the latest one for the subscribers which do not keep up
+ *      The Mediator only replaces the latest snapshot then signals the subscribers : it never waits for them, whatever their demand
+ *      Each subscriber is served by tasks of the executor, one at a time, which deliver the latest snapshot not yet delivered as long as it has demand :
+ *      a slow subscriber thus receives fewer snapshots, but always the most recent one, and the final snapshot before the completion
+ * FR - Diffuseur des instantanés des générations, réduisant les instantanés au dernier pour les abonnés qui ne suivent pas
+ *      Le Mediateur ne fait que remplacer le dernier instantané puis signaler les abonnés : il ne les attend jamais, quelle que soit leur demande
+ *      Chaque abonné est servi par des tâches de l'exécuteur, une à la fois, qui livrent le dernier instantané non encore livré tant qu'il a de la demande :
+ *      un abonné lent reçoit ainsi moins d'instantanés, mais toujours le plus récent, et l'instantané final avant la complétion
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+@Log
+public class DiffuseurInstantanes<T extends Individu<?>> implements Flow.Publisher<InstantaneGeneration<T>> {
+
+	/**
+	 * EN - Executor delivering the snapshots to the subscribers
+	 * FR - Exécuteur livrant les instantanés aux abonnés
+	 */
+	@Setter
+	@NonNull
+	private volatile Executor executeur = ForkJoinPool.commonPool();
+
+	private final CopyOnWriteArrayList<Abonnement> abonnements = new CopyOnWriteArrayList<Abonnement>();
+
+	/**
+	 * EN - Latest snapshot published
+	 * FR - Dernier instantané publié
+	 */
+	private volatile InstantaneGeneration<T> dernier;
+
+	/**
+	 * EN - Indicates whether the publication is over, the subscribers being completed once the latest snapshot delivered
+	 * FR - Indique si la publication est terminée, les abonnés étant complétés une fois le dernier instantané livré
+	 */
+	private volatile boolean ferme;
+
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super InstantaneGeneration<T>> abonne) {
+
+		Abonnement abonnement = new Abonnement(abonne);
+
+		abonnements.add(abonnement);
+
+		abonnement.signaler();
+	}
+
+
+	/**
+	 * EN - Indicates whether snapshots are awaited, allowing the Mediator not to build them otherwise
+	 * FR - Indique si des instantanés sont attendus, permettant au Mediateur de ne pas les construire sinon
+	 *
+	 * @return true EN-if the publisher has subscribers </br> FR-si le diffuseur a des abonnés
+	 */
+	public boolean hasAbonnes() {
+		return !abonnements.isEmpty();
+	}
+
+
+	/**
+	 * EN - Publishes a snapshot, which replaces the previous one for the subscribers which have not received it yet
+	 * FR - Publie un instantané, qui remplace le précédent pour les abonnés ne l'ayant pas encore reçu
+	 *
+	 * @param instantane EN-snapshot of the generation </br> FR-instantané de la génération
+	 */
+	public void publier(@NonNull InstantaneGeneration<T> instantane) {
+
+		if (ferme)
+			return;
+
+		this.dernier = instantane;
+
+		for (Abonnement abonnement : abonnements) {
+			abonnement.signaler();
+		}
+	}
+
+
+	/**
+	 * EN - Ends the publication : each subscriber is completed once it has received the latest snapshot
+	 * FR - Termine la publication : chaque abonné est complété une fois le dernier instantané reçu
+	 */
+	public void fermer() {
+
+		this.ferme = true;
+
+		for (Abonnement abonnement : abonnements) {
+			abonnement.signaler();
+		}
+	}
+
+
+	/**
+	 * EN - Subscription of a subscriber, whose signals are serialized by a counter of work : only the task which raises it from zero delivers
+	 * FR - Abonnement d'un abonné, dont les signaux sont sérialisés par un compteur de travail : seule la tâche qui le fait passer de zéro livre
+	 */
+	private class Abonnement implements Flow.Subscription, Runnable {
+
+		private final Flow.Subscriber<? super InstantaneGeneration<T>> abonne;
+
+		private final AtomicLong demande = new AtomicLong();
+
+		private final AtomicInteger travail = new AtomicInteger();
+
+		/**
+		 * EN - Latest snapshot delivered, only used by the task delivering
+		 * FR - Dernier instantané livré, utilisé par la seule tâche qui livre
+		 */
+		private InstantaneGeneration<T> livre;
+
+		private boolean souscrit;
+
+		private volatile boolean termine;
+
+		private volatile IllegalArgumentException erreur;
+
+
+		Abonnement(@NonNull Flow.Subscriber<? super InstantaneGeneration<T>> abonne) {
+			this.abonne = abonne;
+		}
+
+
+		@Override
+		public void request(long n) {
+
+			if (n <= 0)
+				erreur = new IllegalArgumentException("Demande non positive : " + n);
+			else
+				demande.getAndAccumulate(n, (courante, ajout) -> courante + ajout < 0 ? Long.MAX_VALUE : courante + ajout);
+
+			signaler();
+		}
+
+
+		@Override
+		public void cancel() {
+			terminer();
+		}
+
+
+		void signaler() {
+
+			if (travail.getAndIncrement() != 0)
+				return;
+
+			try {
+				executeur.execute(this);
+			} catch (RejectedExecutionException e) {
+				terminer();
+			}
+		}
+
+
+		@Override
+		public void run() {
+
+			int manquant = 1;
+
+			do {
+
+				livrer();
+
+				manquant = travail.addAndGet(-manquant);
+
+			} while (manquant != 0);
+		}
+
+
+		private void livrer() {
+
+			try {
+
+				if (!souscrit) {
+					souscrit = true;
+					abonne.onSubscribe(this);
+				}
+
+				if (termine)
+					return;
+
+				if (erreur != null) {
+					terminer();
+					abonne.onError(erreur);
+					return;
+				}
+
+				/* EN - The end of the publication is read before the snapshot, so that the final snapshot is delivered before the completion
+				 * FR - La fin de la publication est lue avant l'instantané, afin que l'instantané final soit livré avant la complétion */
+				boolean fin = ferme;
+				InstantaneGeneration<T> instantane = dernier;
+
+				if (instantane != null && instantane != livre && demande.get() > 0) {
+
+					livre = instantane;
+
+					if (demande.get() != Long.MAX_VALUE)
+						demande.decrementAndGet();
+
+					abonne.onNext(instantane);
+				}
+
+				if (fin && instantane == livre && !termine) {
+					terminer();
+					abonne.onComplete();
+				}
+
+			} catch (RuntimeException e) {
+
+				terminer();
+
+				if (log.isLoggable(Level.WARNING))
+					log.log(Level.WARNING, "Abonné aux instantanés en échec, abonnement annulé", e);
+			}
+		}
+
+
+		private void terminer() {
+			termine = true;
+			abonnements.remove(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,52 @@
+package generique.metier.diffusion;
+
+import generique.metier.entite.Individu;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * EN - Immutable snapshot of a generation, published by the Mediator once the generation is evaluated
+ *      The best individual is a copy, the individuals of the generation being reused by the following generations
+ * FR - Instantané immuable d'une génération, publié par le Mediateur une fois la génération évaluée
+ *      Le meilleur individu est une copie, les individus de la génération étant réutilisés par les générations suivantes
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class InstantaneGeneration<T extends Individu<?>> {
+
+	private final int numeroGeneration;
+
+	/**
+	 * EN - Copy of the best individual of the generation, null when the Mediator has no copy function
+	 * FR - Copie du meilleur individu de la génération, null lorsque le Mediateur n'a pas de fonction de copie
+	 */
+	private final T meilleurIndividu;
+
+	private final int meilleurScore;
+
+	private final int sommeScore;
+
+	private final int scoreDeSelection;
+
+	/**
+	 * EN - Indicates whether the best individual is a solution
+	 * FR - Indique si le meilleur individu est une solution
+	 */
+	private final boolean solution;
+
+	/**
+	 * EN - Processing time elapsed, in nanoseconds
+	 * FR - Durée de traitement écoulée, en nanosecondes
+	 */
+	private final long dureeEcoulee;
+
+}
@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 
@@ -79,6 +81,22 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	private Integer numero;	
 	
 	
+	/**
+	 * EN - Statistics of the generation, filled during the evaluation or calculated on first request
+	 *      They are discarded as soon as the composition of the generation changes
+	 * FR - Statistiques de la génération, remplies pendant l'évaluation ou calculées à la première demande
+	 *      Elles sont abandonnées dès que la composition de la génération change
+	 */
+	private StatistiquesGeneration<T> statistiques;
+	
+	
+	/**
+	 * EN - Individuals which have left the generation, kept to be reused by {@link #allouer(Supplier)} rather than allocating new ones
+	 * FR - Individus ayant quitté la génération, conservés pour être réutilisés par {@link #allouer(Supplier)} plutôt que d'en allouer de nouveaux
+	 */
+	private transient List<T> individusRecyclables;
+	
+	
 	/**
  	 * EN - Constructor allowing to specify the order number of the generation
 	 * FR - Construteur permettant de préciser le numéro d'ordre de la génération
@@ -88,6 +106,19 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	public Generation(int numero) {
 		this.numero = numero;
 	}
+	
+	
+	/**
+	 * EN - Constructor allowing a subclass to provide its own list of individuals
+	 * FR - Constructeur permettant à une sous-classe de fournir sa propre liste d'individus
+	 * 
+	 * @param numero      EN-number of the generation </br> FR-numéro de la génération
+	 * @param lesIndividus EN-list of the individuals of the generation </br> FR-liste des individus de la génération
+	 */
+	protected Generation(int numero, @NonNull List<T> lesIndividus) {
+		this.numero = numero;
+		this.lesIndividus = lesIndividus;
+	}
 
 
 	/**
@@ -98,6 +129,7 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	 */
 	public void ajouterIndividu(@NonNull T nouvelIndividu) {
 		this.lesIndividus.add(nouvelIndividu);
+		invaliderStatistiques();
 	}
 
 	
@@ -110,6 +142,7 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	public void ajouterGroupeIndividu(@NonNull List<T> groupeIndividus) {
 		if(! groupeIndividus.contains(null))
 			this.lesIndividus.addAll(groupeIndividus);
+		invaliderStatistiques();
 	}
 	
 	
@@ -121,6 +154,7 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	 */	
 	public void enleverIndividu(@NonNull T individu) {
 			this.lesIndividus.remove(individu);
+			invaliderStatistiques();
 	}
 
 	
@@ -143,24 +177,114 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	 */
 	public void eliminerNonSelectionnes() {
 
-		/*
-		 * EN - needed to override the locks set by the foreach on the List<T> theIndividuals
-		 * FR - necessaire pour outrepasser les verrous positionnés par le foreach sur la List<T> lesIndividus */
-		List<T> lesIndividusLocaux = new ArrayList<>();
-		
-		lesIndividusLocaux.addAll(lesIndividus);
+		conserverSi(Individu::isSelectionne);
+
+	}
+
+	
+	/**
+	 * EN - Keeps only the individuals meeting a criterion
+	 *      The kept individuals are moved to the front of the list in a single pass, keeping their order, then the tail of the list is cut off
+	 *      The individuals which are not kept may be reused by {@link #allouer(Supplier)}
+	 * FR - Ne conserve que les individus répondant à un critère
+	 *      Les individus conservés sont ramenés en tête de liste en une seule passe, en conservant leur ordre, puis la fin de la liste est coupée
+	 *      Les individus non conservés peuvent être réutilisés par {@link #allouer(Supplier)}
+	 * 
+	 * @param critere EN-criterion applied once to each individual, in the order of the list </br> FR-critère appliqué une fois à chaque individu, dans l'ordre de la liste
+	 */
+	public void conserverSi(@NonNull Predicate<? super T> critere) {
 		
+		int nbConserves = 0;
 		
-		for (T individu : lesIndividusLocaux) {
+		for (int i = 0; i < lesIndividus.size(); i++) {
 			
-			if (!individu.isSelectionne()) {
-				this.lesIndividus.remove(individu);
+			T individu = lesIndividus.get(i);
+			
+			if (critere.test(individu)) {
+				
+				if (i != nbConserves)
+					lesIndividus.set(nbConserves, individu);
+				
+				nbConserves++;
+			} else {
+				recycler(individu);
 			}
 		}
-
+		
+		lesIndividus.subList(nbConserves, lesIndividus.size()).clear();
+		
+		invaliderStatistiques();
 	}
 
 	
+	/**
+	 * EN - Empties the generation in order to reuse it under a new number, its individuals being kept to be reused by {@link #allouer(Supplier)}
+	 *      The individuals of the generation must no longer be used elsewhere, their content being overwritten when they are reused
+	 * FR - Vide la génération afin de la réutiliser sous un nouveau numéro, ses individus étant conservés pour être réutilisés par {@link #allouer(Supplier)}
+	 *      Les individus de la génération ne doivent plus être utilisés par ailleurs, leur contenu étant écrasé lors de leur réutilisation
+	 * 
+	 * @param numero EN-new number of the generation </br> FR-nouveau numéro de la génération
+	 */
+	public void reinitialiser(int numero) {
+		
+		this.numero = numero;
+		
+		libererIndividus();
+		
+		invaliderStatistiques();
+	}
+	
+	
+	/**
+	 * EN - Removes all the individuals of the generation, keeping them to be reused
+	 * FR - Retire tous les individus de la génération, en les conservant pour être réutilisés
+	 */
+	protected void libererIndividus() {
+		
+		for (int i = 0; i < lesIndividus.size(); i++) {
+			recycler(lesIndividus.get(i));
+		}
+		
+		lesIndividus.clear();
+	}
+	
+	
+	/**
+	 * EN - Adds at the end of the generation an individual ready to be filled : score at -1, not up to date, and flags lowered, its value being left as it is
+	 *      A previously released individual is reused when there is one, otherwise the factory creates one
+	 * FR - Ajoute en fin de génération un individu prêt à être rempli : score à -1, pas à jour, et indicateurs baissés, sa valeur étant laissée en l'état
+	 *      Un individu précédemment libéré est réutilisé lorsqu'il y en a un, sinon la fabrique en crée un
+	 * 
+	 * @param fabriqueIndividu EN-factory of individuals, used when no individual can be reused </br> FR-fabrique d'individus, utilisée lorsqu'aucun individu ne peut être réutilisé
+	 * @return EN-the individual added </br> FR-l'individu ajouté
+	 */
+	public T allouer(@NonNull Supplier<T> fabriqueIndividu) {
+		
+		T individu = individusRecyclables == null || individusRecyclables.isEmpty() ? fabriqueIndividu.get() : individusRecyclables.remove(individusRecyclables.size() - 1);
+		
+		individu.setScore(-1);
+		individu.setEpoqueEvaluation(0);
+		individu.setSolution(false);
+		individu.setSelectionne(false);
+		individu.setEnfant(false);
+		
+		lesIndividus.add(individu);
+		
+		invaliderStatistiques();
+		
+		return individu;
+	}
+	
+	
+	private void recycler(T individu) {
+		
+		if (individusRecyclables == null)
+			individusRecyclables = new ArrayList<T>();
+		
+		individusRecyclables.add(individu);
+	}
+	
+	
 	/**
 	 * EN - Gives the sum of the individual scores of each Individual
 	 * FR - Donne la somme des scores individuels de chaque Individu
@@ -169,13 +293,7 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	 */
 	public Integer getSommeScore() {
 		
-		int somme = 0;
-		
-		for (T individu : lesIndividus) {
-			somme += individu.getScore();
-		}
-		
-		return somme ;
+		return getStatistiques().getSomme();
 	}
 	
 	
@@ -201,34 +319,7 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	 */
 	public Integer getScoreDeSelection() {
 		
-		int scoreMax = 0;
-		
-		for (T individu : lesIndividus) {
-			if (individu.getScore() > scoreMax )
-				scoreMax = individu.getScore();
-		}
-		
-		int[] repartitionScores = new int[scoreMax+1];
-		
-		for (T individu : lesIndividus) {
-			repartitionScores[individu.getScore()]+=1;
-		}
-		
-		
-		int sommePonderee = 0;
-
-		if (log.isLoggable(Level.FINE))
-			log.log(Level.FINE,"Répartition :");
-		
-		for (int i = 1; i < repartitionScores.length; i++) {
-
-			if (log.isLoggable(Level.FINE))
-				log.log(Level.FINE,String.valueOf(repartitionScores[i]));
-
-			sommePonderee+=repartitionScores[i] * i + 1;
-		}
-
-		return (int) sommePonderee / lesIndividus.size() ;
+		return getStatistiques().getScoreDeSelection();
 	}
 	
 	
@@ -240,12 +331,7 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	 */
 	public boolean contienSolution() {
 		
-		for (T individu : lesIndividus) {
-			if (individu.isSolution())
-				return true;
-		}
-		
-		return false;
+		return getStatistiques().contientSolution();
 	}
 
 	
@@ -257,14 +343,138 @@ public class Generation <T extends Individu<?>> implements Serializable{
 	 */
 	public T getMeilleurIndividu() {
 		
-		T meilleureSolution = null;
+		return getStatistiques().getMeilleurIndividu();
+	}
+	
+	
+	/**
+	 * EN - Gives the statistics of the generation, calculated in a single pass if they have not been filled during the evaluation
+	 * FR - Donne les statistiques de la génération, calculées en une seule passe si elles n'ont pas été remplies pendant l'évaluation
+	 * 
+	 * @return EN-the statistics of the generation </br> FR-les statistiques de la génération
+	 */
+	public StatistiquesGeneration<T> getStatistiques() {
+		
+		if (statistiques == null)
+			statistiques = calculerStatistiques();
+		
+		return statistiques;
+	}
+	
+	
+	/**
+	 * EN - Provides the statistics accumulated while evaluating all the individuals of the generation
+	 * FR - Fournit les statistiques accumulées lors de l'évaluation de tous les individus de la génération
+	 * 
+	 * @param statistiques EN-statistics of the generation </br> FR-statistiques de la génération
+	 */
+	public void setStatistiques(StatistiquesGeneration<T> statistiques) {
+		this.statistiques = statistiques;
+	}
+	
+	
+	/**
+	 * EN - Indicates whether the individuals already added stay usable by another thread while the generation goes on growing,
+	 *      which allows them to be evaluated during the building of the generation
+	 * FR - Indique si les individus déjà ajoutés restent utilisables par un autre thread pendant que la génération continue de croître,
+	 *      ce qui permet de les évaluer pendant la construction de la génération
+	 * 
+	 * @return true EN-if the individuals do not depend on the storage of the generation </br> FR-si les individus ne dépendent pas du stockage de la génération
+	 */
+	public boolean isIndividusStables() {
+		return true;
+	}
+	
+	
+	/**
+	 * EN - Discards the statistics after a change in the composition of the generation
+	 * FR - Abandonne les statistiques suite à un changement de la composition de la génération
+	 */
+	protected void invaliderStatistiques() {
+		this.statistiques = null;
+	}
+	
+	
+	/**
+	 * EN - Calculates the statistics of the generation by going through all its individuals
+	 * FR - Calcule les statistiques de la génération en parcourant tous ses individus
+	 * 
+	 * @return EN-the statistics of the generation </br> FR-les statistiques de la génération
+	 */
+	protected StatistiquesGeneration<T> calculerStatistiques() {
+		
+		StatistiquesGeneration<T> statistiques = new StatistiquesGeneration<T>();
+		
+		for (T individu : lesIndividus) {
+			statistiques.accumuler(individu);
+		}
+		
+		return statistiques;
+	}
+	
+	
+	/**
+	 * EN - Returns the individuals with the highest scores, from the best to the least good
+	 * FR - Renvoit les individus ayant les meilleurs scores, du meilleur au moins bon
+	 * 
+	 * @param nb EN-number of individuals expected </br> FR-nombre d'individus attendus
+	 * @return EN-at most nb individuals with the highest scores </br> FR-au plus nb individus ayant les meilleurs scores
+	 */
+	public List<T> getMeilleursIndividus(int nb) {
+		
+		List<T> meilleursIndividus = new ArrayList<T>(nb);
 		
 		for (T individu : lesIndividus) {
-				if (meilleureSolution ==null || individu.getScore() > meilleureSolution.getScore())
-						meilleureSolution = individu;
+			
+			if (meilleursIndividus.size() < nb || individu.getScore() > meilleursIndividus.get(meilleursIndividus.size()-1).getScore()) {
+				
+				int position = meilleursIndividus.size();
+				
+				while (position > 0 && meilleursIndividus.get(position-1).getScore() < individu.getScore())
+					position--;
+				
+				meilleursIndividus.add(position, individu);
+				
+				if (meilleursIndividus.size() > nb)
+					meilleursIndividus.remove(nb);
+			}
+		}
+		
+		return meilleursIndividus;
+	}
+	
+	
+	/**
+	 * EN - Replaces the individuals with the lowest scores by the given individuals
+	 * FR - Remplace les individus ayant les scores les plus faibles par les individus donnés
+	 * 
+	 * @param remplacants EN-individuals to be placed in the generation </br> FR-individus à placer dans la génération
+	 */
+	public void remplacerPiresIndividus(@NonNull List<T> remplacants) {
+		
+		/*
+		 * EN - Positions already taken by a replacing individual, which must not be replaced in turn
+		 * FR - Positions déjà occupées par un individu remplaçant, qui ne doivent pas être remplacées à leur tour */
+		boolean[] remplaces = new boolean[lesIndividus.size()];
+		
+		for (T remplacant : remplacants) {
+			
+			int indexPire = -1;
+			
+			for (int i = 0; i < remplaces.length; i++) {
+				if (!remplaces[i] && (indexPire < 0 || lesIndividus.get(i).getScore() < lesIndividus.get(indexPire).getScore()))
+					indexPire = i;
+			}
+			
+			if (indexPire < 0) {
+				lesIndividus.add(remplacant);
+			} else {
+				lesIndividus.set(indexPire, remplacant);
+				remplaces[indexPire] = true;
+			}
 		}
 		
-		return meilleureSolution;
+		invaliderStatistiques();
 	}
 	
 }
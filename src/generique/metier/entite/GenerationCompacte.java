@@ -0,0 +1,419 @@
+package generique.metier.entite;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+
+/**
+ * EN - Generation whose data are stored as structure of arrays rather than as a list of objects
+ *      The binary genomes are packed one after the other in a single array of long, the scores in an array of int
+ *      and the selected, child and solution flags in three bitsets
+ *      The individuals are exposed through {@link IndividuCompact} views designating a slot of the arrays :
+ *      a view follows its slot, so after a deletion it shows the individual which has taken the place
+ *      The list of individuals accepts additions at the end, replacements and deletions, the data being copied into the slots,
+ *      but cannot be sorted in place
+ *      A generation emptied by {@link #reinitialiser(int)} keeps its arrays, its slots being reused by {@link #allouer(Supplier)}
+ *
+ * FR - Génération dont les données sont rangées sous forme de structure de tableaux plutôt que de liste d'objets
+ *      Les génomes binaires sont regroupés les uns à la suite des autres dans un unique tableau de long, les scores dans un tableau d'int
+ *      et les indicateurs sélectionné, enfant et solution dans trois ensembles de bits
+ *      Les individus sont exposés au travers de vues {@link IndividuCompact} désignant un emplacement des tableaux :
+ *      une vue suit son emplacement, ainsi après une suppression elle montre l'individu qui en a pris la place
+ *      La liste des individus accepte les ajouts en fin, les remplacements et les suppressions, les données étant copiées dans les emplacements,
+ *      mais ne peut pas être triée sur place
+ *      Une génération vidée par {@link #reinitialiser(int)} conserve ses tableaux, ses emplacements étant réutilisés par {@link #allouer(Supplier)}
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class GenerationCompacte extends Generation<IndividuCompact> {
+
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * EN - Number of bits of a genome
+	 * FR - Nombre de bits d'un génome
+	 */
+	@Getter
+	private final int nbBits;
+
+	/**
+	 * EN - Number of words of 64 bits of a genome
+	 * FR - Nombre de mots de 64 bits d'un génome
+	 */
+	@Getter
+	private final int nbMots;
+
+	/**
+	 * EN - Number of slots occupied
+	 * FR - Nombre d'emplacements occupés
+	 */
+	int taille;
+
+	/**
+	 * EN - Genomes of the individuals, the genome of slot i starting at word i * nbMots
+	 * FR - Génomes des individus, le génome de l'emplacement i commençant au mot i * nbMots
+	 */
+	long[] genomes;
+
+	/**
+	 * EN - Scores of the individuals
+	 * FR - Scores des individus
+	 */
+	int[] scores;
+
+	/**
+	 * EN - Epochs of the evaluation of the scores, 0 when the score is not up to date with the genome
+	 * FR - Epoques de l'évaluation des scores, 0 lorsque le score n'est pas à jour du génome
+	 */
+	int[] epoques;
+
+	/**
+	 * EN - Bitsets of the flags, modified atomically so that individuals can be evaluated in parallel
+	 * FR - Ensembles de bits des indicateurs, modifiés atomiquement pour que les individus puissent être évalués en parallèle
+	 */
+	AtomicLongArray selectionnes;
+	AtomicLongArray enfants;
+	AtomicLongArray solutions;
+
+	/**
+	 * EN - Views on the slots, created on first access
+	 * FR - Vues sur les emplacements, créées au premier accès
+	 */
+	private transient IndividuCompact[] vues;
+
+
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 *
+	 * @param numero   EN-number of the generation </br> FR-numéro de la génération
+	 * @param capacite EN-initial number of slots </br> FR-nombre initial d'emplacements
+	 * @param nbBits   EN-number of bits of a genome </br> FR-nombre de bits d'un génome
+	 */
+	public GenerationCompacte(int numero, int capacite, int nbBits) {
+
+		super(numero, new ListeVues());
+
+		((ListeVues) getLesIndividus()).generation = this;
+
+		this.nbBits = nbBits;
+		this.nbMots = GenomeBinaire.getNbMots(nbBits);
+
+		capacite = Math.max(capacite, 1);
+
+		this.genomes = new long[capacite * nbMots];
+		this.scores = new int[capacite];
+		this.epoques = new int[capacite];
+		this.selectionnes = new AtomicLongArray(getNbMotsDrapeaux(capacite));
+		this.enfants = new AtomicLongArray(getNbMotsDrapeaux(capacite));
+		this.solutions = new AtomicLongArray(getNbMotsDrapeaux(capacite));
+	}
+
+
+	/**
+	 * EN - Gives the view on a slot
+	 * FR - Donne la vue sur un emplacement
+	 *
+	 * @param index EN-index of the slot </br> FR-indice de l'emplacement
+	 * @return EN-the view on the slot </br> FR-la vue sur l'emplacement
+	 */
+	IndividuCompact vue(int index) {
+
+		if (vues == null || vues.length < scores.length)
+			vues = vues == null ? new IndividuCompact[scores.length] : Arrays.copyOf(vues, scores.length);
+
+		if (vues[index] == null)
+			vues[index] = new IndividuCompact(this, index);
+
+		return vues[index];
+	}
+
+
+	/**
+	 * EN - Adds an empty slot at the end of the generation : genome at zero, score at -1 and flags lowered
+	 * FR - Ajoute un emplacement vide à la fin de la génération : génome à zéro, score à -1 et indicateurs baissés
+	 *
+	 * @return EN-the view on the new slot </br> FR-la vue sur le nouvel emplacement
+	 */
+	public IndividuCompact ajouterEmplacement() {
+
+		if (taille == scores.length)
+			agrandir(scores.length * 2);
+
+		int index = taille++;
+
+		invaliderStatistiques();
+
+		Arrays.fill(genomes, index * nbMots, (index + 1) * nbMots, 0L);
+		scores[index] = -1;
+		epoques[index] = 0;
+		setDrapeau(selectionnes, index, false);
+		setDrapeau(enfants, index, false);
+		setDrapeau(solutions, index, false);
+
+		return vue(index);
+	}
+
+
+	/**
+	 * EN - The views read the arrays of the generation, which are replaced when it grows
+	 * FR - Les vues lisent les tableaux de la génération, qui sont remplacés lorsqu'elle croît
+	 */
+	@Override
+	public boolean isIndividusStables() {
+		return false;
+	}
+
+
+	/**
+	 * EN - Adds an empty slot at the end of the generation, the factory being useless as the slots belong to the generation
+	 * FR - Ajoute un emplacement vide à la fin de la génération, la fabrique étant inutile car les emplacements appartiennent à la génération
+	 */
+	@Override
+	public IndividuCompact allouer(Supplier<IndividuCompact> fabriqueIndividu) {
+		return ajouterEmplacement();
+	}
+
+
+	/**
+	 * EN - Releases all the slots, the arrays being kept
+	 * FR - Libère tous les emplacements, les tableaux étant conservés
+	 */
+	@Override
+	protected void libererIndividus() {
+		taille = 0;
+	}
+
+
+	/**
+	 * EN - Copies an individual, whatever its generation, into a slot
+	 * FR - Copie un individu, quelle que soit sa génération, dans un emplacement
+	 *
+	 * @param source EN-individual to copy </br> FR-individu à copier
+	 * @param index  EN-index of the destination slot </br> FR-indice de l'emplacement de destination
+	 */
+	void copier(IndividuCompact source, int index) {
+
+		GenerationCompacte generationSource = source.getGeneration();
+		int indexSource = source.getIndex();
+
+		if (generationSource == this && indexSource == index)
+			return;
+
+		System.arraycopy(generationSource.genomes, indexSource * nbMots, genomes, index * nbMots, nbMots);
+		scores[index] = generationSource.scores[indexSource];
+		epoques[index] = generationSource.epoques[indexSource];
+		setDrapeau(selectionnes, index, getDrapeau(generationSource.selectionnes, indexSource));
+		setDrapeau(enfants, index, getDrapeau(generationSource.enfants, indexSource));
+		setDrapeau(solutions, index, getDrapeau(generationSource.solutions, indexSource));
+	}
+
+
+	/**
+	 * EN - Calculates the statistics of the generation by going through the arrays
+	 * FR - Calcule les statistiques de la génération en parcourant les tableaux
+	 */
+	@Override
+	protected StatistiquesGeneration<IndividuCompact> calculerStatistiques() {
+
+		StatistiquesGeneration<IndividuCompact> statistiques = new StatistiquesGeneration<IndividuCompact>();
+
+		for (int i = 0; i < taille; i++) {
+			statistiques.accumuler(scores[i], getDrapeau(solutions, i), vue(i));
+		}
+
+		return statistiques;
+	}
+
+
+	/**
+	 * EN - Keeps only the individuals meeting a criterion, by moving the slots directly within the arrays
+	 * FR - Ne conserve que les individus répondant à un critère, en déplaçant les emplacements directement au sein des tableaux
+	 */
+	@Override
+	public void conserverSi(Predicate<? super IndividuCompact> critere) {
+
+		int nbConserves = 0;
+
+		for (int i = 0; i < taille; i++) {
+			if (critere.test(vue(i)))
+				deplacer(i, nbConserves++);
+		}
+
+		taille = nbConserves;
+
+		invaliderStatistiques();
+	}
+
+
+	/**
+	 * EN - Moves the content of a slot to another slot of the generation
+	 * FR - Déplace le contenu d'un emplacement vers un autre emplacement de la génération
+	 */
+	private void deplacer(int source, int destination) {
+
+		if (source == destination)
+			return;
+
+		System.arraycopy(genomes, source * nbMots, genomes, destination * nbMots, nbMots);
+		scores[destination] = scores[source];
+		epoques[destination] = epoques[source];
+		setDrapeau(selectionnes, destination, getDrapeau(selectionnes, source));
+		setDrapeau(enfants, destination, getDrapeau(enfants, source));
+		setDrapeau(solutions, destination, getDrapeau(solutions, source));
+	}
+
+
+	/**
+	 * EN - Increases the number of slots
+	 * FR - Augmente le nombre d'emplacements
+	 */
+	private void agrandir(int capacite) {
+
+		genomes = Arrays.copyOf(genomes, capacite * nbMots);
+		scores = Arrays.copyOf(scores, capacite);
+		epoques = Arrays.copyOf(epoques, capacite);
+		selectionnes = agrandir(selectionnes, capacite);
+		enfants = agrandir(enfants, capacite);
+		solutions = agrandir(solutions, capacite);
+	}
+
+
+	private static AtomicLongArray agrandir(AtomicLongArray drapeaux, int capacite) {
+
+		AtomicLongArray nouveauxDrapeaux = new AtomicLongArray(getNbMotsDrapeaux(capacite));
+
+		for (int i = 0; i < drapeaux.length(); i++) {
+			nouveauxDrapeaux.set(i, drapeaux.get(i));
+		}
+
+		return nouveauxDrapeaux;
+	}
+
+
+	private static int getNbMotsDrapeaux(int capacite) {
+		return GenomeBinaire.getNbMots(capacite);
+	}
+
+
+	static boolean getDrapeau(AtomicLongArray drapeaux, int index) {
+		return (drapeaux.get(index >>> 6) & (1L << index)) != 0L;
+	}
+
+
+	static void setDrapeau(AtomicLongArray drapeaux, int index, boolean valeur) {
+
+		long bit = 1L << index;
+		int indexMot = index >>> 6;
+
+		long mot;
+		do {
+			mot = drapeaux.get(indexMot);
+			if (((mot & bit) != 0L) == valeur)
+				return;
+		} while (!drapeaux.compareAndSet(indexMot, mot, mot ^ bit));
+	}
+
+
+	/**
+	 * EN - List of the views on the occupied slots, the modifications being carried over to the arrays of the generation
+	 * FR - Liste des vues sur les emplacements occupés, les modifications étant reportées sur les tableaux de la génération
+	 */
+	private static class ListeVues extends AbstractList<IndividuCompact> implements RandomAccess, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private GenerationCompacte generation;
+
+		@Override
+		public IndividuCompact get(int index) {
+			verifierIndex(index);
+			return generation.vue(index);
+		}
+
+		@Override
+		public int size() {
+			return generation.taille;
+		}
+
+		/**
+		 * EN - Overwrites a slot, the replaced individual being returned as a copy taken beforehand, as the view on the slot would show the new individual
+		 * FR - Ecrase un emplacement, l'individu remplacé étant renvoyé sous forme d'une copie prise au préalable, car la vue sur l'emplacement montrerait le nouvel individu
+		 */
+		@Override
+		public IndividuCompact set(int index, IndividuCompact individu) {
+
+			verifierIndex(index);
+
+			IndividuCompact remplace = generation.vue(index).copie();
+
+			generation.copier(individu, index);
+			generation.invaliderStatistiques();
+
+			return remplace;
+		}
+
+		@Override
+		public void add(int index, IndividuCompact individu) {
+
+			if (index != generation.taille)
+				throw new UnsupportedOperationException("Une génération compacte n'accepte les ajouts qu'en fin de génération");
+
+			IndividuCompact emplacement = generation.ajouterEmplacement();
+			generation.copier(individu, emplacement.getIndex());
+		}
+
+		/**
+		 * EN - Removes a slot, the removed individual being returned as a copy, as the slot is then taken by the following individual
+		 * FR - Enlève un emplacement, l'individu enlevé étant renvoyé sous forme d'une copie, car l'emplacement est ensuite pris par l'individu suivant
+		 */
+		@Override
+		public IndividuCompact remove(int index) {
+
+			verifierIndex(index);
+
+			IndividuCompact enleve = generation.vue(index).copie();
+
+			removeRange(index, index + 1);
+
+			return enleve;
+		}
+
+		@Override
+		protected void removeRange(int debut, int fin) {
+
+			for (int i = fin; i < generation.taille; i++) {
+				generation.deplacer(i, debut + i - fin);
+			}
+
+			generation.taille -= fin - debut;
+			generation.invaliderStatistiques();
+			modCount++;
+		}
+
+		@Override
+		public void sort(Comparator<? super IndividuCompact> comparateur) {
+			throw new UnsupportedOperationException("Une génération compacte ne peut pas être triée sur place");
+		}
+
+		private void verifierIndex(int index) {
+			if (index < 0 || index >= generation.taille)
+				throw new IndexOutOfBoundsException("Index : " + index + ", Taille : " + generation.taille);
+		}
+	}
+
+}
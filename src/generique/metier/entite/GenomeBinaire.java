@@ -0,0 +1,205 @@
+package generique.metier.entite;
+
+import generique.metier.aleatoire.SourceAleatoire;
+
+/**
+ * EN - Utility class gathering the operations on binary genomes packed in words of 64 bits
+ *      Locus i of a genome is stored in word i / 64 at position i % 64, the bits of the last word beyond the genome length being zero
+ *      A genome is designated by an array of long and the index of its first word, which allows several genomes to share the same array
+ * FR - Classe utilitaire regroupant les opérations sur les génomes binaires regroupés en mots de 64 bits
+ *      Le locus i d'un génome est rangé dans le mot i / 64 à la position i % 64, les bits du dernier mot au delà de la longueur du génome étant à zéro
+ *      Un génome est désigné par un tableau de long et l'indice de son premier mot, ce qui permet à plusieurs génomes de partager le même tableau
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public final class GenomeBinaire {
+
+	private GenomeBinaire() {
+	}
+
+
+	/**
+	 * EN - Gives the number of words of 64 bits needed to store a number of bits
+	 * FR - Donne le nombre de mots de 64 bits nécessaires pour stocker un nombre de bits
+	 *
+	 * @param nbBits EN-number of bits </br> FR-nombre de bits
+	 * @return EN-the number of words </br> FR-le nombre de mots
+	 */
+	public static int getNbMots(int nbBits) {
+		return (nbBits + Long.SIZE - 1) >>> 6;
+	}
+
+
+	/**
+	 * EN - Gives the mask of the significant bits of the last word
+	 * FR - Donne le masque des bits significatifs du dernier mot
+	 *
+	 * @param nbBits EN-number of bits </br> FR-nombre de bits
+	 * @return EN-the mask of the last word </br> FR-le masque du dernier mot
+	 */
+	public static long getMasqueDernierMot(int nbBits) {
+		return -1L >>> (-nbBits & (Long.SIZE - 1));
+	}
+
+
+	/**
+	 * EN - Counts the bits that differ between two genomes : XOR then bit count, word by word
+	 * FR - Compte les bits qui diffèrent entre deux génomes : XOR puis comptage des bits, mot par mot
+	 *
+	 * @param a       EN-words of the first genome </br> FR-mots du premier génome
+	 * @param debutA  EN-index of the first word of the first genome </br> FR-indice du premier mot du premier génome
+	 * @param b       EN-words of the second genome </br> FR-mots du second génome
+	 * @param debutB  EN-index of the first word of the second genome </br> FR-indice du premier mot du second génome
+	 * @param nbMots  EN-number of words of a genome </br> FR-nombre de mots d'un génome
+	 * @return EN-the number of different bits </br> FR-le nombre de bits différents
+	 */
+	public static int getNbBitsDifferents(long[] a, int debutA, long[] b, int debutB, int nbMots) {
+
+		int nbBitsDifferents = 0;
+
+		for (int i = 0; i < nbMots; i++) {
+			nbBitsDifferents += Long.bitCount(a[debutA + i] ^ b[debutB + i]);
+		}
+
+		return nbBitsDifferents;
+	}
+
+
+	/**
+	 * EN - Crosses two parent genomes into two child genomes according to a mask, word by word
+	 *      Where the mask bit is 1, the first child takes the bit of the first parent and the second child the bit of the second parent, and conversely
+	 * FR - Croise deux génomes parents en deux génomes enfants selon un masque, mot par mot
+	 *      Là où le bit du masque vaut 1, le premier enfant prend le bit du premier parent et le second enfant celui du second parent, et inversement
+	 *
+	 * @param parentUn        EN-words of the first parent </br> FR-mots du premier parent
+	 * @param debutParentUn   EN-index of the first word of the first parent </br> FR-indice du premier mot du premier parent
+	 * @param parentDeux      EN-words of the second parent </br> FR-mots du second parent
+	 * @param debutParentDeux EN-index of the first word of the second parent </br> FR-indice du premier mot du second parent
+	 * @param masque          EN-crossover mask, one word per word of genome </br> FR-masque de croisement, un mot par mot de génome
+	 * @param enfantUn        EN-words of the first child, filled by the method </br> FR-mots du premier enfant, remplis par la méthode
+	 * @param debutEnfantUn   EN-index of the first word of the first child </br> FR-indice du premier mot du premier enfant
+	 * @param enfantDeux      EN-words of the second child, filled by the method </br> FR-mots du second enfant, remplis par la méthode
+	 * @param debutEnfantDeux EN-index of the first word of the second child </br> FR-indice du premier mot du second enfant
+	 * @param nbMots          EN-number of words of a genome </br> FR-nombre de mots d'un génome
+	 */
+	public static void croiser(	long[] parentUn, int debutParentUn, long[] parentDeux, int debutParentDeux, long[] masque,
+								long[] enfantUn, int debutEnfantUn, long[] enfantDeux, int debutEnfantDeux, int nbMots) {
+
+		for (int i = 0; i < nbMots; i++) {
+
+			long motParentUn = parentUn[debutParentUn + i];
+			long motParentDeux = parentDeux[debutParentDeux + i];
+
+			enfantUn[debutEnfantUn + i] = (motParentUn & masque[i]) | (motParentDeux & ~masque[i]);
+			enfantDeux[debutEnfantDeux + i] = (motParentDeux & masque[i]) | (motParentUn & ~masque[i]);
+		}
+	}
+
+
+	/**
+	 * EN - Crosses two parent genomes into two child genomes according to a random mask, the word of the mask being drawn for each word of genome
+	 *      The words drawn are the same as those of a mask drawn beforehand, without the allocation of the mask
+	 * FR - Croise deux génomes parents en deux génomes enfants selon un masque aléatoire, le mot du masque étant tiré pour chaque mot de génome
+	 *      Les mots tirés sont les mêmes que ceux d'un masque tiré au préalable, sans l'allocation du masque
+	 *
+	 * @param parentUn        EN-words of the first parent </br> FR-mots du premier parent
+	 * @param debutParentUn   EN-index of the first word of the first parent </br> FR-indice du premier mot du premier parent
+	 * @param parentDeux      EN-words of the second parent </br> FR-mots du second parent
+	 * @param debutParentDeux EN-index of the first word of the second parent </br> FR-indice du premier mot du second parent
+	 * @param source          EN-source of random numbers drawing the mask </br> FR-source de nombres aléatoires tirant le masque
+	 * @param enfantUn        EN-words of the first child, filled by the method </br> FR-mots du premier enfant, remplis par la méthode
+	 * @param debutEnfantUn   EN-index of the first word of the first child </br> FR-indice du premier mot du premier enfant
+	 * @param enfantDeux      EN-words of the second child, filled by the method </br> FR-mots du second enfant, remplis par la méthode
+	 * @param debutEnfantDeux EN-index of the first word of the second child </br> FR-indice du premier mot du second enfant
+	 * @param nbMots          EN-number of words of a genome </br> FR-nombre de mots d'un génome
+	 */
+	public static void croiser(	long[] parentUn, int debutParentUn, long[] parentDeux, int debutParentDeux, SourceAleatoire source,
+								long[] enfantUn, int debutEnfantUn, long[] enfantDeux, int debutEnfantDeux, int nbMots) {
+
+		for (int i = 0; i < nbMots; i++) {
+
+			long masque = source.nextLong();
+			long motParentUn = parentUn[debutParentUn + i];
+			long motParentDeux = parentDeux[debutParentDeux + i];
+
+			enfantUn[debutEnfantUn + i] = (motParentUn & masque) | (motParentDeux & ~masque);
+			enfantDeux[debutEnfantDeux + i] = (motParentDeux & masque) | (motParentUn & ~masque);
+		}
+	}
+
+
+	/**
+	 * EN - Draws at random the bits of a genome, the bits of the last word beyond the genome length being set to zero
+	 * FR - Tire au hasard les bits d'un génome, les bits du dernier mot au delà de la longueur du génome étant mis à zéro
+	 *
+	 * @param mots   EN-words of the genome, filled by the method </br> FR-mots du génome, remplis par la méthode
+	 * @param debut  EN-index of the first word of the genome </br> FR-indice du premier mot du génome
+	 * @param nbBits EN-number of bits of the genome </br> FR-nombre de bits du génome
+	 * @param source EN-source of random numbers </br> FR-source de nombres aléatoires
+	 */
+	public static void remplirAleatoirement(long[] mots, int debut, int nbBits, SourceAleatoire source) {
+
+		int nbMots = getNbMots(nbBits);
+
+		for (int i = 0; i < nbMots; i++) {
+			mots[debut + i] = source.nextLong();
+		}
+
+		mots[debut + nbMots - 1] &= getMasqueDernierMot(nbBits);
+	}
+
+
+	/**
+	 * EN - Writes the bits of a genome as a character string of '0' and '1', truncated beyond a maximum number of bits
+	 * FR - Ecrit les bits d'un génome sous forme de chaîne de caractères de '0' et de '1', tronquée au delà d'un nombre maximum de bits
+	 *
+	 * @param mots      EN-words of the genome </br> FR-mots du génome
+	 * @param debut     EN-index of the first word of the genome </br> FR-indice du premier mot du génome
+	 * @param nbBits    EN-number of bits of the genome </br> FR-nombre de bits du génome
+	 * @param nbBitsMax EN-maximum number of bits written </br> FR-nombre maximum de bits écrits
+	 * @return EN-the character string </br> FR-la chaîne de caractères
+	 */
+	public static String toString(long[] mots, int debut, int nbBits, int nbBitsMax) {
+
+		StringBuilder bits = new StringBuilder(Math.min(nbBits, nbBitsMax) + 16);
+
+		for (int i = 0; i < nbBits && i < nbBitsMax; i++) {
+			bits.append((mots[debut + (i >>> 6)] >>> i & 1L) == 0 ? '0' : '1');
+		}
+
+		if (nbBits > nbBitsMax)
+			bits.append("...(").append(nbBits).append(" bits)");
+
+		return bits.toString();
+	}
+
+
+	/**
+	 * EN - Reads the bits of a genome from a character string of '0' and '1', written as by {@link #toString(long[], int, int, int)}
+	 * FR - Lit les bits d'un génome depuis une chaîne de caractères de '0' et de '1', écrite comme par {@link #toString(long[], int, int, int)}
+	 *
+	 * @param bits EN-character string, one character per bit </br> FR-chaîne de caractères, un caractère par bit
+	 * @return EN-the words of the genome </br> FR-les mots du génome
+	 * @throws IllegalArgumentException EN-if a character is neither '0' nor '1' </br> FR-si un caractère n'est ni '0' ni '1'
+	 */
+	public static long[] lire(String bits) {
+
+		long[] mots = new long[getNbMots(bits.length())];
+
+		for (int i = 0; i < bits.length(); i++) {
+
+			char bit = bits.charAt(i);
+
+			if (bit == '1')
+				mots[i >>> 6] |= 1L << i;
+			else if (bit != '0')
+				throw new IllegalArgumentException("Caractère binaire invalide : " + bit);
+		}
+
+		return mots;
+	}
+
+}
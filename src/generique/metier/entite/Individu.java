@@ -83,6 +83,15 @@ public interface Individu <T> extends Serializable{
 	 * @return true si l'Individu, de par sa valeur, représente une solution acceptable, au sens évaluation des algorithmes génétiques, sinon false
 	 */
 	boolean isSolution();
+	
+	
+	/**
+	 * EN - Allows to designate the Individual as an acceptable solution, in the sense of evaluation of genetic algorithms
+	 * FR - Permet de désigner l'Individu comme une solution acceptable, au sens évaluation des algorithmes génétiques
+	 * 
+	 * @param solution true EN-if the Individual represents an acceptable solution, otherwise false </br> FR-si l'Individu représente une solution acceptable, sinon false
+	 */
+	void setSolution(boolean solution);
 
 	
 	/**
@@ -94,6 +103,15 @@ public interface Individu <T> extends Serializable{
 	boolean isSelectionne();
 	
 	
+	/**
+	 * EN - Allows to designate the Individual as selected to participate to the crossover phase
+	 * FR - Permet de désigner l'Individu comme sélectionné pour participer à la phase de croisement
+	 * 
+	 * @param selectionne true EN-if the Individual is selected, otherwise false </br> FR-si l'Individu est sélectionné, sinon false
+	 */
+	void setSelectionne(boolean selectionne);
+	
+	
 	/**	
 	 * EN - indicates if the Individual is a Child Individual, in the sense of evaluation of the genetic algorithms  
 	 * A Child Individual is an Individual obtained by crossing two Individuals coming from a previous {@link generique.metier.entite.Generation} 
@@ -105,5 +123,35 @@ public interface Individu <T> extends Serializable{
 	 */	
 	boolean isEnfant();
 	
+	
+	/**
+	 * EN - Allows to designate the Individual as a Child Individual
+	 * FR - Permet de désigner l'Individu comme un Individu Enfant
+	 * 
+	 * @param enfant true EN-if the Individual is a Child Individual, otherwise false </br> FR-si l'Individu est un Individu Enfant, sinon false
+	 */
+	void setEnfant(boolean enfant);
+	
+	
+	/**
+	 * EN - Returns the epoch of the evaluator which gave its score to the Individual, see {@link generique.metier.evaluation.Evaluateur#getEpoque()}
+	 * An epoch of 0 designates an Individual whose score is not up to date with its value : never evaluated, or value modified since
+	 * 
+	 * FR - Renvoit l'époque de l'évaluateur ayant donné son score à l'Individu, voir {@link generique.metier.evaluation.Evaluateur#getEpoque()}
+	 * Une époque à 0 désigne un Individu dont le score n'est pas à jour de sa valeur : jamais évalué, ou valeur modifiée depuis
+	 * 
+	 * @return EN-the epoch of the evaluation of the score, 0 if the score is not up to date </br> FR-l'époque de l'évaluation du score, 0 si le score n'est pas à jour
+	 */
+	int getEpoqueEvaluation();
+	
+	
+	/**
+	 * EN - Allows to record the epoch of the evaluator which gave its score to the Individual, or to mark the score as not up to date with 0
+	 * FR - Permet d'enregistrer l'époque de l'évaluateur ayant donné son score à l'Individu, ou de marquer le score comme n'étant pas à jour avec 0
+	 * 
+	 * @param epoqueEvaluation EN-epoch of the evaluation of the score, 0 if the score is not up to date </br> FR-époque de l'évaluation du score, 0 si le score n'est pas à jour
+	 */
+	void setEpoqueEvaluation(int epoqueEvaluation);
+	
 
 }
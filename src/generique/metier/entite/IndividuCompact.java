@@ -0,0 +1,213 @@
+package generique.metier.entite;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * EN - Individual with a binary genome seen through a slot of a {@link GenerationCompacte}
+ *      The view holds no data of its own : the genome, the score and the flags are read and written in the arrays of the generation
+ *      An individual that does not belong to any generation yet is created with {@link #creer(int)}, in a generation of its own
+ * FR - Individu à génome binaire vu au travers d'un emplacement d'une {@link GenerationCompacte}
+ *      La vue ne détient aucune donnée propre : le génome, le score et les indicateurs sont lus et écrits dans les tableaux de la génération
+ *      Un individu n'appartenant encore à aucune génération est créé avec {@link #creer(int)}, dans une génération qui lui est propre
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class IndividuCompact implements Individu<long[]> {
+
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * EN - Maximum number of bits displayed by toString()
+	 * FR - Nombre maximum de bits affichés par toString()
+	 */
+	private static final int NB_BITS_AFFICHES = 128;
+
+	/**
+	 * EN - Generation holding the data of the individual
+	 * FR - Génération détenant les données de l'individu
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private final GenerationCompacte generation;
+
+	/**
+	 * EN - Index of the slot of the individual within the generation
+	 * FR - Indice de l'emplacement de l'individu au sein de la génération
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private final int index;
+
+
+	IndividuCompact(GenerationCompacte generation, int index) {
+		this.generation = generation;
+		this.index = index;
+	}
+
+
+	/**
+	 * EN - Creates an individual which does not belong to any generation, its genome being at zero
+	 * FR - Crée un individu n'appartenant à aucune génération, son génome étant à zéro
+	 *
+	 * @param nbBits EN-number of bits of the genome </br> FR-nombre de bits du génome
+	 * @return EN-the new individual </br> FR-le nouvel individu
+	 */
+	public static IndividuCompact creer(int nbBits) {
+		return new GenerationCompacte(0, 1, nbBits).ajouterEmplacement();
+	}
+
+
+	/**
+	 * EN - Creates a copy of the individual which does not belong to any generation
+	 * FR - Crée une copie de l'individu n'appartenant à aucune génération
+	 *
+	 * @return EN-the copy </br> FR-la copie
+	 */
+	public IndividuCompact copie() {
+
+		IndividuCompact copie = creer(getNbBits());
+		copie.generation.copier(this, copie.index);
+
+		return copie;
+	}
+
+
+	/**
+	 * EN - Returns a copy of the words of the genome
+	 * FR - Retourne une copie des mots du génome
+	 */
+	@Override
+	public long[] getValeur() {
+
+		long[] valeur = new long[getNbMots()];
+		System.arraycopy(generation.genomes, getDebutGenome(), valeur, 0, valeur.length);
+
+		return valeur;
+	}
+
+
+	/**
+	 * EN - Copies the given words into the genome, the score being no longer valid
+	 * FR - Copie les mots donnés dans le génome, le score n'étant plus valide
+	 */
+	@Override
+	public void setValeur(@NonNull long[] valeur) {
+		System.arraycopy(valeur, 0, generation.genomes, getDebutGenome(), getNbMots());
+		generation.epoques[index] = 0;
+	}
+
+
+	/**
+	 * EN - Gives the array holding the genome, shared with the other individuals of the generation
+	 * FR - Donne le tableau contenant le génome, partagé avec les autres individus de la génération
+	 *
+	 * @return EN-the array of the genomes of the generation </br> FR-le tableau des génomes de la génération
+	 */
+	public long[] getTamponGenomes() {
+		return generation.genomes;
+	}
+
+
+	/**
+	 * EN - Gives the index of the first word of the genome in {@link #getTamponGenomes()}
+	 * FR - Donne l'indice du premier mot du génome dans {@link #getTamponGenomes()}
+	 *
+	 * @return EN-the index of the first word </br> FR-l'indice du premier mot
+	 */
+	public int getDebutGenome() {
+		return index * generation.getNbMots();
+	}
+
+
+	public int getNbBits() {
+		return generation.getNbBits();
+	}
+
+
+	public int getNbMots() {
+		return generation.getNbMots();
+	}
+
+
+	/**
+	 * EN - Counts the bits identical to those of another individual of the same size
+	 * FR - Compte les bits identiques à ceux d'un autre individu de même taille
+	 *
+	 * @param autre EN-individual to compare with </br> FR-individu avec lequel comparer
+	 * @return EN-the number of identical bits </br> FR-le nombre de bits identiques
+	 */
+	public int getNbBitsCommuns(IndividuCompact autre) {
+		return getNbBits() - GenomeBinaire.getNbBitsDifferents(getTamponGenomes(), getDebutGenome(), autre.getTamponGenomes(), autre.getDebutGenome(), getNbMots());
+	}
+
+
+	@Override
+	public int getScore() {
+		return generation.scores[index];
+	}
+
+
+	@Override
+	public void setScore(int score) {
+		generation.scores[index] = score;
+	}
+
+
+	@Override
+	public int getEpoqueEvaluation() {
+		return generation.epoques[index];
+	}
+
+
+	@Override
+	public void setEpoqueEvaluation(int epoqueEvaluation) {
+		generation.epoques[index] = epoqueEvaluation;
+	}
+
+
+	@Override
+	public boolean isSolution() {
+		return GenerationCompacte.getDrapeau(generation.solutions, index);
+	}
+
+
+	public void setSolution(boolean solution) {
+		GenerationCompacte.setDrapeau(generation.solutions, index, solution);
+	}
+
+
+	@Override
+	public boolean isSelectionne() {
+		return GenerationCompacte.getDrapeau(generation.selectionnes, index);
+	}
+
+
+	public void setSelectionne(boolean selectionne) {
+		GenerationCompacte.setDrapeau(generation.selectionnes, index, selectionne);
+	}
+
+
+	@Override
+	public boolean isEnfant() {
+		return GenerationCompacte.getDrapeau(generation.enfants, index);
+	}
+
+
+	public void setEnfant(boolean enfant) {
+		GenerationCompacte.setDrapeau(generation.enfants, index, enfant);
+	}
+
+
+	@Override
+	public String toString() {
+		return "IndividuCompact(valeur=" + GenomeBinaire.toString(getTamponGenomes(), getDebutGenome(), getNbBits(), NB_BITS_AFFICHES) + ", score=" + getScore() + ", selectionne=" + isSelectionne() + ", enfant=" + isEnfant() + ", solution=" + isSolution() + ")";
+	}
+
+}
@@ -0,0 +1,108 @@
+package generique.metier.entite;
+
+/**
+ * EN - Generic interface of an Individual whose score is decomposable by locus : one point per locus matching the reference of the evaluator
+ *      The Individual carries the mask of its matching loci, filled by its full evaluation, and, when it is a child, the mask of the origin of its loci
+ *      The score of a child can then be deduced from the masks of its parents, without comparing it with the reference
+ *      The loci are packed in words of 64 bits as the genomes of {@link GenomeBinaire}
+ * FR - Interface générique d'un Individu dont le score est décomposable par locus : un point par locus correspondant à la référence de l'évaluateur
+ *      L'Individu porte le masque de ses loci correspondants, rempli par son évaluation complète, et, lorsqu'il est enfant, le masque de l'origine de ses loci
+ *      Le score d'un enfant peut alors être déduit des masques de ses parents, sans le comparer à la référence
+ *      Les loci sont regroupés en mots de 64 bits comme les génomes de {@link GenomeBinaire}
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the value characterizing the Individual </br> FR-Type de la valeur caractérisant l'Individu
+ */
+public interface IndividuDecomposable<T> extends Individu<T> {
+
+
+	/**
+	 * EN - Returns the number of loci of the Individual
+	 * FR - Retourne le nombre de loci de l'Individu
+	 *
+	 * @return EN-the number of loci </br> FR-le nombre de loci
+	 */
+	int getNbLoci();
+
+
+	/**
+	 * EN - Returns the mask of the loci matching the reference, bit i being 1 when locus i matches, null when unknown
+	 * FR - Retourne le masque des loci correspondant à la référence, le bit i valant 1 lorsque le locus i correspond, null lorsqu'inconnu
+	 *
+	 * @return EN-the mask of the matching loci </br> FR-le masque des loci correspondants
+	 */
+	long[] getCorrespondances();
+
+
+	/**
+	 * EN - Allows to assign the mask of the loci matching the reference
+	 * FR - Permet d'attribuer le masque des loci correspondant à la référence
+	 *
+	 * @param correspondances EN-mask of the matching loci, null when unknown </br> FR-masque des loci correspondants, null lorsqu'inconnu
+	 */
+	void setCorrespondances(long[] correspondances);
+
+
+	/**
+	 * EN - Returns the mask of the origin of the loci of a child, bit i being 1 when locus i comes from the first parent, null when unknown
+	 * FR - Retourne le masque de l'origine des loci d'un enfant, le bit i valant 1 lorsque le locus i vient du premier parent, null lorsqu'inconnu
+	 *
+	 * @return EN-the mask of the origin of the loci </br> FR-le masque de l'origine des loci
+	 */
+	long[] getOrigines();
+
+
+	/**
+	 * EN - Allows to assign the mask of the origin of the loci, filled by the crossover
+	 * FR - Permet d'attribuer le masque de l'origine des loci, rempli par le croisement
+	 *
+	 * @param origines EN-mask of the origin of the loci, null when unknown </br> FR-masque de l'origine des loci, null lorsqu'inconnu
+	 */
+	void setOrigines(long[] origines);
+
+
+	/**
+	 * EN - Deduces the score of the child from the masks of its parents : the matching loci are taken from the parent of each locus, then counted
+	 *      The child keeps its score at -1 when one of the masks is unknown, so that it is fully evaluated
+	 * FR - Déduit le score de l'enfant des masques de ses parents : les loci correspondants sont pris chez le parent de chaque locus, puis comptés
+	 *      L'enfant garde son score à -1 lorsque l'un des masques est inconnu, afin qu'il soit évalué complètement
+	 *
+	 * @param parentUn   EN-first parent given to the crossover </br> FR-premier parent donné au croisement
+	 * @param parentDeux EN-second parent given to the crossover </br> FR-second parent donné au croisement
+	 * @return EN-true if the score has been deduced, otherwise false </br> FR-true si le score a été déduit, sinon false
+	 */
+	default boolean deduireScore(IndividuDecomposable<?> parentUn, IndividuDecomposable<?> parentDeux) {
+
+		long[] origines = getOrigines();
+		long[] correspondancesUn = parentUn.getCorrespondances();
+		long[] correspondancesDeux = parentDeux.getCorrespondances();
+
+		if (origines == null || correspondancesUn == null || correspondancesDeux == null) {
+			setCorrespondances(null);
+			return false;
+		}
+
+		long[] correspondances = getCorrespondances();
+
+		if (correspondances == null || correspondances.length != origines.length)
+			correspondances = new long[origines.length];
+
+		int score = 0;
+
+		for (int i = 0; i < origines.length; i++) {
+			correspondances[i] = (correspondancesUn[i] & origines[i]) | (correspondancesDeux[i] & ~origines[i]);
+			score += Long.bitCount(correspondances[i]);
+		}
+
+		setCorrespondances(correspondances);
+		setScore(score);
+		setSolution(score == getNbLoci());
+
+		return true;
+	}
+
+}
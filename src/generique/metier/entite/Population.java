@@ -3,10 +3,11 @@ package generique.metier.entite;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
+import generique.metier.stagnation.DetecteurStagnation;
 import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
 
 /**
  * 
@@ -36,10 +37,13 @@ public class Population<T extends Generation<?>> implements Serializable{
 	private List<T> lesGenerations = new ArrayList<T>();
 	
 	/**
-	 * EN - Map allowing to follow the evolution of the generations in terms of score
-	 * FR - Map permettant le suivi de l'évolution des générations en termes de score
+	 * EN - Detector allowing to follow the evolution of the generations in terms of score, over a fixed window
+	 * FR - Détecteur permettant le suivi de l'évolution des générations en termes de score, sur une fenêtre fixe
 	 */
-	private NavigableMap<Integer, Integer> recensement = new TreeMap<Integer, Integer>();
+	@Getter
+	@Setter
+	@NonNull
+	private DetecteurStagnation detecteurStagnation = new DetecteurStagnation();
 	
 	/**
 	 * EN - History a generation
@@ -71,27 +75,18 @@ public class Population<T extends Generation<?>> implements Serializable{
 	 */
 	public void recenser(T generation) {
 		
-		this.recensement.put(generation.getNumero(), generation.getSommeScore());
+		this.detecteurStagnation.recenser(generation.getSommeScore(), generation.getStatistiques().getScoreMax());
 	
 	}
 	
 	/**
-	 * EN - indicates whether a population is decreasing
-	 *      A population is said to be decreasing when the score of the last 5 generations continuously decreases
-	 * FR - indique si une population est decroissante
-	 *      Une population est dite decroissante lorque le score des 5 dernières générations décroit continuellement
+	 * EN - indicates whether a population stagnates, according to the criteria of its detector
+	 * FR - indique si une population stagne, selon les critères de son détecteur
 	 *      
-	 * @return true EN-if the population is decreasing</br> FR-si la population est decroissante
+	 * @return true EN-if the population stagnates</br> FR-si la population stagne
 	 */
-	public boolean isPopulationDecroissante() {
-		
-		int nbDeGenerationDecroissante = 0;
+	public boolean isPopulationStagnante() {
 		
-		if (recensement.size() > 10 ) 
-			for (int i = 0; i < 5; i++) 
-				if (recensement.descendingMap().get(1) < recensement.descendingMap().get(i+1))
-					nbDeGenerationDecroissante++;
-			
-		return (nbDeGenerationDecroissante == 5);
+		return detecteurStagnation.isStagnation();
 	}
 }
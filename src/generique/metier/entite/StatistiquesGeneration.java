@@ -0,0 +1,200 @@
+package generique.metier.entite;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * EN - Generic class accumulating the statistics of a {@link Generation} while its individuals are evaluated
+ *      The statistics are gathered in a single pass : sum of the scores, best individual, presence of a solution and distribution of the scores
+ *      Two accumulators filled on consecutive slices of a generation can be merged, the first one receiving the second one
+ * FR - Classe générique accumulant les statistiques d'une {@link Generation} pendant que ses individus sont évalués
+ *      Les statistiques sont rassemblées en une seule passe : somme des scores, meilleur individu, présence d'une solution et répartition des scores
+ *      Deux accumulateurs remplis sur des tranches consécutives d'une génération peuvent être fusionnés, le premier recevant le second
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals of the generation </br> FR-Type des individus de la génération
+ */
+public class StatistiquesGeneration<T extends Individu<?>> implements Serializable {
+
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * EN - Number of individuals accumulated
+	 * FR - Nombre d'individus accumulés
+	 */
+	@Getter
+	private int nbIndividus;
+
+	/**
+	 * EN - Sum of the scores of the individuals
+	 * FR - Somme des scores des individus
+	 */
+	@Getter
+	private int somme;
+
+	/**
+	 * EN - Highest score, zero if no individual has a positive score
+	 * FR - Score le plus élevé, zéro si aucun individu n'a de score positif
+	 */
+	@Getter
+	private int scoreMax;
+
+	/**
+	 * EN - First individual met with the highest score
+	 * FR - Premier individu rencontré ayant le score le plus élevé
+	 */
+	@Getter
+	private T meilleurIndividu;
+
+	/**
+	 * EN - Indicates whether one of the individuals is a solution
+	 * FR - Indique si l'un des individus est une solution
+	 */
+	private boolean solution;
+
+	/**
+	 * EN - Number of individuals per score, for the scores between 0 and scoreMax
+	 * FR - Nombre d'individus par score, pour les scores compris entre 0 et scoreMax
+	 */
+	private int[] repartitionScores = new int[16];
+
+	/**
+	 * EN - Selection threshold, calculated on first request
+	 * FR - Seuil de sélection, calculé à la première demande
+	 */
+	private Integer scoreDeSelection;
+
+
+	/**
+	 * EN - Accumulates an individual
+	 * FR - Accumule un individu
+	 *
+	 * @param individu EN-evaluated individual </br> FR-individu évalué
+	 */
+	public void accumuler(T individu) {
+		accumuler(individu.getScore(), individu.isSolution(), individu);
+	}
+
+
+	/**
+	 * EN - Accumulates an individual whose score and solution flag are already known
+	 * FR - Accumule un individu dont le score et l'indicateur de solution sont déjà connus
+	 *
+	 * @param score    EN-score of the individual </br> FR-score de l'individu
+	 * @param solution EN-solution flag of the individual </br> FR-indicateur de solution de l'individu
+	 * @param individu EN-individual </br> FR-individu
+	 */
+	public void accumuler(int score, boolean solution, T individu) {
+
+		nbIndividus++;
+		somme += score;
+
+		if (meilleurIndividu == null || score > meilleurIndividu.getScore())
+			meilleurIndividu = individu;
+
+		this.solution |= solution;
+
+		if (score >= 0) {
+
+			if (score >= repartitionScores.length)
+				repartitionScores = Arrays.copyOf(repartitionScores, Math.max(score + 1, repartitionScores.length * 2));
+
+			repartitionScores[score]++;
+
+			if (score > scoreMax)
+				scoreMax = score;
+		}
+
+		scoreDeSelection = null;
+	}
+
+
+	/**
+	 * EN - Merges the statistics of the following slice of the generation
+	 * FR - Fusionne les statistiques de la tranche suivante de la génération
+	 *
+	 * @param suite EN-statistics of the following slice </br> FR-statistiques de la tranche suivante
+	 * @return EN-these statistics, completed </br> FR-ces statistiques, complétées
+	 */
+	public StatistiquesGeneration<T> fusionner(StatistiquesGeneration<T> suite) {
+
+		nbIndividus += suite.nbIndividus;
+		somme += suite.somme;
+
+		if (suite.meilleurIndividu != null && (meilleurIndividu == null || suite.meilleurIndividu.getScore() > meilleurIndividu.getScore()))
+			meilleurIndividu = suite.meilleurIndividu;
+
+		solution |= suite.solution;
+
+		if (suite.scoreMax >= repartitionScores.length)
+			repartitionScores = Arrays.copyOf(repartitionScores, suite.scoreMax + 1);
+
+		for (int i = 0; i <= suite.scoreMax && i < suite.repartitionScores.length; i++) {
+			repartitionScores[i] += suite.repartitionScores[i];
+		}
+
+		scoreMax = Math.max(scoreMax, suite.scoreMax);
+		scoreDeSelection = null;
+
+		return this;
+	}
+
+
+	/**
+	 * EN - Indicates whether one of the individuals is a solution
+	 * FR - Indique si l'un des individus est une solution
+	 *
+	 * @return true EN-if one of the individuals is a solution </br> FR-si l'un des individus est une solution
+	 */
+	public boolean contientSolution() {
+		return solution;
+	}
+
+
+	/**
+	 * EN - Gives the number of individuals having a score
+	 * FR - Donne le nombre d'individus ayant un score
+	 *
+	 * @param score EN-score </br> FR-score
+	 * @return EN-the number of individuals having this score </br> FR-le nombre d'individus ayant ce score
+	 */
+	public int getNbIndividus(int score) {
+		return score >= 0 && score <= scoreMax ? repartitionScores[score] : 0;
+	}
+
+
+	/**
+	 * EN - Gives the selection threshold, averaged on the distribution of the individuals by score
+	 *      @see Generation#getScoreDeSelection()
+	 * FR - Donne le seuil de sélection, moyenné sur la répartition des individus par score
+	 *      @see Generation#getScoreDeSelection()
+	 *
+	 * @return EN-the selection threshold </br> FR-le seuil de sélection
+	 */
+	public Integer getScoreDeSelection() {
+
+		if (scoreDeSelection == null) {
+
+			int sommePonderee = 0;
+
+			for (int i = 1; i <= scoreMax; i++) {
+				sommePonderee += repartitionScores[i] * i + 1;
+			}
+
+			scoreDeSelection = sommePonderee / nbIndividus;
+		}
+
+		return scoreDeSelection;
+	}
+
+}
@@ -0,0 +1,202 @@
+package generique.metier.evaluation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+
+/**
+ * EN - Bounded cache of the results of evaluation, indexed by the value of the genome
+ *      The cache is divided into segments, each one protected by its own lock and evicting its least recently used entry when it is full,
+ *      so that evaluations carried out in parallel rarely compete for the same lock
+ *      A result gathers the score and the solution flag of the evaluated individual
+ * FR - Cache borné des résultats d'évaluation, indexé par la valeur du génome
+ *      Le cache est découpé en segments, chacun protégé par son propre verrou et évinçant son entrée la moins récemment utilisée lorsqu'il est plein,
+ *      de sorte que les évaluations menées en parallèle se disputent rarement le même verrou
+ *      Un résultat regroupe le score et l'indicateur de solution de l'individu évalué
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <K> EN-Type of the keys, whose equals and hashCode must rely on the value of the genome </br> FR-Type des clés, dont equals et hashCode doivent reposer sur la valeur du génome
+ */
+public class CacheEvaluation<K> {
+
+	/**
+	 * EN - Maximum number of segments
+	 * FR - Nombre maximum de segments
+	 */
+	private static final int NB_SEGMENTS_MAX = 64;
+
+	/**
+	 * EN - Maximum number of entries kept by the cache
+	 * FR - Nombre maximum d'entrées conservées par le cache
+	 */
+	@Getter
+	private final int capacite;
+
+	/**
+	 * EN - Segments of the cache, the number of segments being a power of two
+	 * FR - Segments du cache, le nombre de segments étant une puissance de deux
+	 */
+	private final Segment<K>[] segments;
+
+	/**
+	 * EN - Number of requests satisfied by the cache
+	 * FR - Nombre de demandes satisfaites par le cache
+	 */
+	private final LongAdder nbSucces;
+
+	/**
+	 * EN - Number of requests not satisfied by the cache
+	 * FR - Nombre de demandes non satisfaites par le cache
+	 */
+	private final LongAdder nbEchecs;
+
+
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 *
+	 * @param capacite EN-maximum number of entries kept by the cache </br> FR-nombre maximum d'entrées conservées par le cache
+	 */
+	public CacheEvaluation(int capacite) {
+		this(capacite, new LongAdder(), new LongAdder());
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private CacheEvaluation(int capacite, LongAdder nbSucces, LongAdder nbEchecs) {
+
+		this.capacite = capacite;
+		this.nbSucces = nbSucces;
+		this.nbEchecs = nbEchecs;
+
+		int nbSegments = Math.min(NB_SEGMENTS_MAX, Integer.highestOneBit(Math.max(1, capacite / 16)));
+
+		this.segments = (Segment<K>[]) new Segment<?>[nbSegments];
+
+		for (int i = 0; i < nbSegments; i++) {
+			segments[i] = new Segment<K>(Math.max(1, capacite / nbSegments));
+		}
+	}
+
+
+	/**
+	 * EN - Looks for the result of evaluation of a genome
+	 * FR - Recherche le résultat d'évaluation d'un génome
+	 *
+	 * @param cle EN-key of the genome </br> FR-clé du génome
+	 * @return EN-the result encoded by {@link #encoder(int, boolean)}, null if the genome is not in the cache </br> FR-le résultat encodé par {@link #encoder(int, boolean)}, null si le génome n'est pas dans le cache
+	 */
+	public Integer get(K cle) {
+
+		Segment<K> segment = getSegment(cle);
+
+		Integer resultat;
+
+		synchronized (segment) {
+			resultat = segment.get(cle);
+		}
+
+		if (resultat == null)
+			nbEchecs.increment();
+		else
+			nbSucces.increment();
+
+		return resultat;
+	}
+
+
+	/**
+	 * EN - Records the result of evaluation of a genome
+	 * FR - Enregistre le résultat d'évaluation d'un génome
+	 *
+	 * @param cle      EN-key of the genome </br> FR-clé du génome
+	 * @param resultat EN-result encoded by {@link #encoder(int, boolean)} </br> FR-résultat encodé par {@link #encoder(int, boolean)}
+	 */
+	public void put(K cle, int resultat) {
+
+		Segment<K> segment = getSegment(cle);
+
+		synchronized (segment) {
+			segment.put(cle, resultat);
+		}
+	}
+
+
+	/**
+	 * EN - Creates an empty cache of the same capacity, which goes on counting the requests of this one
+	 *      Used when the reference of the evaluation changes, the results recorded so far being no longer valid
+	 * FR - Crée un cache vide de même capacité, qui poursuit le décompte des demandes de celui-ci
+	 *      Utilisé lorsque la référence de l'évaluation change, les résultats enregistrés jusque là n'étant plus valides
+	 *
+	 * @return EN-the empty cache </br> FR-le cache vide
+	 */
+	public CacheEvaluation<K> vide() {
+		return new CacheEvaluation<K>(capacite, nbSucces, nbEchecs);
+	}
+
+
+	/**
+	 * EN - Encodes a score and a solution flag in a single integer
+	 * FR - Encode un score et un indicateur de solution dans un seul entier
+	 */
+	public static int encoder(int score, boolean solution) {
+		return score << 1 | (solution ? 1 : 0);
+	}
+
+
+	public static int getScore(int resultat) {
+		return resultat >> 1;
+	}
+
+
+	public static boolean isSolution(int resultat) {
+		return (resultat & 1) != 0;
+	}
+
+
+	public long getNbSucces() {
+		return nbSucces.sum();
+	}
+
+
+	public long getNbEchecs() {
+		return nbEchecs.sum();
+	}
+
+
+	private Segment<K> getSegment(K cle) {
+
+		int h = cle.hashCode();
+
+		return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+	}
+
+
+	/**
+	 * EN - Segment of the cache : map in access order evicting its oldest entry beyond its capacity
+	 * FR - Segment du cache : map en ordre d'accès évinçant sa plus ancienne entrée au delà de sa capacité
+	 */
+	private static class Segment<K> extends LinkedHashMap<K, Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int capacite;
+
+		Segment(int capacite) {
+			super(16, 0.75f, true);
+			this.capacite = capacite;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, Integer> plusAncienne) {
+			return size() > capacite;
+		}
+	}
+
+}
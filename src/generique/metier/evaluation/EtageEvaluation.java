@@ -0,0 +1,297 @@
+package generique.metier.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.function.BooleanSupplier;
+
+import generique.metier.entite.Generation;
+import generique.metier.entite.Individu;
+import generique.metier.entite.StatistiquesGeneration;
+import lombok.NonNull;
+
+/**
+ * EN - Stage of evaluation of a pipeline of generations : the individuals of a generation are evaluated by a dedicated thread while they are being built
+ *      The building thread hands over the individuals in the order of the generation, by batches passed through a bounded queue,
+ *      so that the crossover and the random completion of the end of the generation overlap the evaluation of its beginning ;
+ *      the queue being bounded, the building waits when the evaluation lags behind
+ *      The individuals are evaluated in the order of the generation, the evaluation stopping at the first solution or at the stop of the treatment,
+ *      as a sequential evaluation by {@link Evaluateur#evaluer(Generation, java.util.concurrent.ForkJoinPool, BooleanSupplier)} : the results are identical
+ *      The individuals handed over must no longer be modified by the building thread until the end of the generation
+ * FR - Etage d'évaluation d'un pipeline de générations : les individus d'une génération sont évalués par un thread dédié pendant leur construction
+ *      Le thread de construction remet les individus dans l'ordre de la génération, par lots passés au travers d'une file bornée,
+ *      de sorte que le croisement et le complément aléatoire de la fin de la génération recouvrent l'évaluation de son début ;
+ *      la file étant bornée, la construction attend lorsque l'évaluation prend du retard
+ *      Les individus sont évalués dans l'ordre de la génération, l'évaluation s'arrêtant à la première solution ou à l'arrêt du traitement,
+ *      comme une évaluation séquentielle par {@link Evaluateur#evaluer(Generation, java.util.concurrent.ForkJoinPool, BooleanSupplier)} : les résultats sont identiques
+ *      Les individus remis ne doivent plus être modifiés par le thread de construction jusqu'à la fin de la génération
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+public class EtageEvaluation<T extends Individu<?>> implements AutoCloseable {
+
+	/**
+	 * EN - Marker of the end of a generation in the queue of the batches
+	 * FR - Marqueur de la fin d'une génération dans la file des lots
+	 */
+	private static final List<Object> FIN_GENERATION = new ArrayList<Object>(0);
+
+	private final Evaluateur<T, ?> evaluateur;
+
+	/**
+	 * EN - Stop of the treatment, read as often as by the sequential evaluation
+	 * FR - Arrêt du traitement, lu aussi souvent que par l'évaluation séquentielle
+	 */
+	private final BooleanSupplier arret;
+
+	/**
+	 * EN - Number of individuals of a batch
+	 * FR - Nombre d'individus d'un lot
+	 */
+	private final int tailleLot;
+
+	private final BlockingQueue<List<?>> lots;
+
+	/**
+	 * EN - Result of the evaluation of a generation handed back to the building thread : statistics, or error of the evaluation
+	 * FR - Résultat de l'évaluation d'une génération remis au thread de construction : statistiques, ou erreur de l'évaluation
+	 */
+	private final SynchronousQueue<Object> resultats = new SynchronousQueue<Object>();
+
+	private final Thread etage;
+
+	/**
+	 * EN - Thread building the generation, whose interruption stops the evaluation as it stops the sequential evaluation
+	 * FR - Thread construisant la génération, dont l'interruption arrête l'évaluation comme elle arrête l'évaluation séquentielle
+	 */
+	private volatile Thread constructeur;
+
+	/**
+	 * EN - Batch being filled by the building thread
+	 * FR - Lot en cours de remplissage par le thread de construction
+	 */
+	private List<T> lot;
+
+
+	/**
+	 * EN - Constructor, starting the thread of the stage
+	 * FR - Constructeur, démarrant le thread de l'étage
+	 *
+	 * @param evaluateur EN-evaluator of the individuals </br> FR-évaluateur des individus
+	 * @param arret      EN-stop of the treatment </br> FR-arrêt du traitement
+	 * @param tailleLot  EN-number of individuals of a batch </br> FR-nombre d'individus d'un lot
+	 * @param capacite   EN-maximum number of batches waiting for the evaluation </br> FR-nombre maximum de lots en attente d'évaluation
+	 */
+	public EtageEvaluation(@NonNull Evaluateur<T, ?> evaluateur, @NonNull BooleanSupplier arret, int tailleLot, int capacite) {
+
+		this.evaluateur = evaluateur;
+		this.arret = arret;
+		this.tailleLot = Math.max(1, tailleLot);
+		this.lots = new ArrayBlockingQueue<List<?>>(Math.max(1, capacite));
+
+		this.etage = new Thread(this::evaluerLots, "etage-evaluation");
+		this.etage.setDaemon(true);
+		this.etage.start();
+	}
+
+
+	/**
+	 * EN - Begins a generation, on the building thread
+	 * FR - Commence une génération, sur le thread de construction
+	 */
+	public void commencer() {
+		constructeur = Thread.currentThread();
+		lot = new ArrayList<T>(tailleLot);
+	}
+
+
+	/**
+	 * EN - Hands over the next individual of the generation, complete, to the evaluation
+	 * FR - Remet l'individu suivant de la génération, complet, à l'évaluation
+	 *
+	 * @param individu EN-individual, in the order of the generation </br> FR-individu, dans l'ordre de la génération
+	 */
+	public void ajouter(T individu) {
+
+		lot.add(individu);
+
+		if (lot.size() == tailleLot) {
+			deposer(lot);
+			lot = new ArrayList<T>(tailleLot);
+		}
+	}
+
+
+	/**
+	 * EN - Ends the generation : waits for the evaluation of the individuals handed over, then provides its statistics to the generation
+	 * FR - Termine la génération : attend l'évaluation des individus remis, puis fournit ses statistiques à la génération
+	 *
+	 * @param generation EN-generation whose individuals have all been handed over </br> FR-génération dont les individus ont tous été remis
+	 */
+	@SuppressWarnings("unchecked")
+	public void terminer(Generation<T> generation) {
+
+		if (!lot.isEmpty())
+			deposer(lot);
+
+		lot = null;
+
+		deposer(FIN_GENERATION);
+
+		Object resultat = attendreResultat();
+
+		if (resultat instanceof RuntimeException)
+			throw (RuntimeException) resultat;
+
+		if (resultat instanceof Error)
+			throw (Error) resultat;
+
+		generation.setStatistiques((StatistiquesGeneration<T>) resultat);
+	}
+
+
+	/**
+	 * EN - Stops the thread of the stage
+	 * FR - Arrête le thread de l'étage
+	 */
+	@Override
+	public void close() {
+
+		etage.interrupt();
+
+		try {
+			etage.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	/**
+	 * EN - Loop of the thread of the stage : evaluates the batches as they arrive, then hands back the result at the end of each generation
+	 *      Once the evaluation is over, by solution, stop or error, the following batches of the generation are only drained
+	 * FR - Boucle du thread de l'étage : évalue les lots au fur et à mesure de leur arrivée, puis remet le résultat à la fin de chaque génération
+	 *      Une fois l'évaluation finie, par solution, arrêt ou erreur, les lots suivants de la génération sont seulement vidés
+	 */
+	@SuppressWarnings("unchecked")
+	private void evaluerLots() {
+
+		StatistiquesGeneration<T> statistiques = new StatistiquesGeneration<T>();
+		Throwable erreur = null;
+		boolean evaluationFinie = false;
+		int tailleTranche = evaluateur.getTailleTranche();
+		int avantControle = tailleTranche;
+
+		try {
+
+			while (true) {
+
+				List<?> lotRecu = lots.take();
+
+				if (lotRecu == FIN_GENERATION) {
+
+					resultats.put(erreur != null ? erreur : statistiques);
+
+					statistiques = new StatistiquesGeneration<T>();
+					erreur = null;
+					evaluationFinie = false;
+					tailleTranche = evaluateur.getTailleTranche();
+					avantControle = tailleTranche;
+
+					continue;
+				}
+
+				if (evaluationFinie)
+					continue;
+
+				try {
+
+					for (T individu : (List<T>) lotRecu) {
+
+						evaluateur.evaluer(individu);
+
+						statistiques.accumuler(individu);
+
+						if (individu.isSolution()) {
+							evaluationFinie = true;
+							break;
+						}
+
+						if (--avantControle == 0) {
+
+							Thread thread = constructeur;
+
+							if (arret.getAsBoolean() || (thread != null && thread.isInterrupted())) {
+								evaluationFinie = true;
+								break;
+							}
+
+							avantControle = tailleTranche;
+						}
+					}
+
+				} catch (RuntimeException | Error e) {
+					erreur = e;
+					evaluationFinie = true;
+				}
+			}
+
+		} catch (InterruptedException e) {
+			/* EN - Closing of the stage
+			 * FR - Fermeture de l'étage */
+		}
+	}
+
+
+	/**
+	 * EN - Puts a batch in the queue, the interruption of the building thread being kept for the stop of the treatment rather than abandoning the batch
+	 * FR - Place un lot dans la file, l'interruption du thread de construction étant conservée pour l'arrêt du traitement plutôt que d'abandonner le lot
+	 */
+	private void deposer(List<?> lotADeposer) {
+
+		boolean interrompu = false;
+
+		while (true) {
+
+			try {
+				lots.put(lotADeposer);
+				break;
+			} catch (InterruptedException e) {
+				interrompu = true;
+			}
+		}
+
+		if (interrompu)
+			Thread.currentThread().interrupt();
+	}
+
+
+	private Object attendreResultat() {
+
+		boolean interrompu = false;
+		Object resultat;
+
+		while (true) {
+
+			try {
+				resultat = resultats.take();
+				break;
+			} catch (InterruptedException e) {
+				interrompu = true;
+			}
+		}
+
+		if (interrompu)
+			Thread.currentThread().interrupt();
+
+		return resultat;
+	}
+
+}
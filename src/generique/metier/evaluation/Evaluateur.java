@@ -1,9 +1,19 @@
 package generique.metier.evaluation;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import generique.metier.entite.Generation;
 import generique.metier.entite.Individu;
+import generique.metier.entite.IndividuDecomposable;
+import generique.metier.entite.StatistiquesGeneration;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -13,17 +23,25 @@ import lombok.Setter;
  *      The evaluator is asked to evaluate an Individual against a reference that he is the only one to hold
  *      This reference is created by a method received in parameter
  *      The evaluation of an individual is delegated to a method received in parameter 
+ *      A generation can be evaluated in parallel, slice by slice, using a ForkJoinPool
  * FR - Classe générique représentant l'évaluateur.
  *      L'évaluateur est sollicité pour évaluer un Individu par rapport à une référence qu'il est le seul à détenir
  *      Cette réference est créée par une méthode reçue en paramètre
  *      L'évaluation d'un individu est déléguée à une méthode reçue en paramètre 
+ *      Une génération peut être évaluée en parallèle, par tranches, au moyen d'un ForkJoinPool
  * 
  * @author Parlons Archi !
  * @see <a href="https://www.youtube.com/@christophecadet" /a>
  * 
  * @version 1.0
  */
-public class Evaluateur<Individu, V> {
+public class Evaluateur<T extends Individu<?>, V> {
+
+	/**
+	 * EN - Counter of the epochs, shared by all the evaluators so that a score given against a reference is never taken for a score given against another one
+	 * FR - Compteur des époques, partagé par tous les évaluateurs afin qu'un score donné par rapport à une référence ne soit jamais pris pour un score donné par rapport à une autre
+	 */
+	private static final AtomicInteger COMPTEUR_EPOQUES = new AtomicInteger();
 
 	/**
 	 * En - Manufacture of the reference allowing the evaluator to evaluate an individual
@@ -34,12 +52,22 @@ public class Evaluateur<Individu, V> {
 	private Supplier<V> fabriqueMotMystere;
 	
 	/**
-	 * En - Reference allowing the evaluator to evaluate an individual
-	 * FR - Référence permettant à l'évaluateur d'évaluer un individu
+	 * En - Reference allowing the evaluator to evaluate an individual, replaced when a search is resumed from a checkpoint
+	 * FR - Référence permettant à l'évaluateur d'évaluer un individu, remplacée lorsqu'une recherche est reprise depuis un point de sauvegarde
 	 */
 	@Getter
+	@NonNull
 	private V motMystere;
 	
+	/**
+	 * EN - Epoch of the reference, recorded in the individuals evaluated, and renewed when the reference is replaced
+	 *      An individual already marked with the current epoch is not evaluated again : its score is up to date with its value and with the reference
+	 * FR - Epoque de la référence, enregistrée dans les individus évalués, et renouvelée lorsque la référence est remplacée
+	 *      Un individu déjà marqué de l'époque courante n'est pas évalué à nouveau : son score est à jour de sa valeur et de la référence
+	 */
+	@Getter
+	private volatile int epoque = COMPTEUR_EPOQUES.incrementAndGet();
+	
 
 	/**
 	 * EN - evaluation method called to evaluate an individual
@@ -47,7 +75,50 @@ public class Evaluateur<Individu, V> {
 	 */
 	@Setter
 	@NonNull
-	private BiConsumer<Individu, V> evaluateurIndividu;
+	private BiConsumer<T, V> evaluateurIndividu;
+	
+	/**
+	 * EN - Number of individuals below which a slice of the generation is evaluated without being split
+	 * FR - Nombre d'individus en deçà duquel une tranche de la génération est évaluée sans être divisée
+	 */
+	@Getter
+	@Setter
+	private int tailleTranche = 1000;
+	
+	/**
+	 * EN - Optional cache of the results of evaluation against the current reference, null when disabled, replaced by an empty cache when the reference is replaced
+	 * FR - Cache optionnel des résultats d'évaluation par rapport à la référence courante, null lorsqu'il est désactivé, remplacé par un cache vide lorsque la référence est remplacée
+	 */
+	@Getter
+	private volatile CacheEvaluation<Object> cache;
+	
+	/**
+	 * EN - Method giving the key of an individual in the cache, whose equals and hashCode must rely on the value of the genome
+	 * FR - Méthode donnant la clé d'un individu dans le cache, dont equals et hashCode doivent reposer sur la valeur du génome
+	 */
+	@Setter
+	@NonNull
+	private Function<T, Object> fonctionCleCache = individu -> individu.getValeur();
+	
+	/**
+	 * EN - Indicates whether the score of the decomposable individuals already deduced from their parents is kept, without calling the evaluation method
+	 * FR - Indique si le score des individus décomposables déjà déduit de leurs parents est conservé, sans appel à la méthode d'évaluation
+	 */
+	@Getter
+	@Setter
+	private boolean evaluationDecomposable;
+	
+	/**
+	 * EN - Number of scores kept because they were deduced from the parents
+	 * FR - Nombre de scores conservés car déduits des parents
+	 */
+	private final LongAdder nbScoresDeduits = new LongAdder();
+	
+	/**
+	 * EN - Number of evaluations avoided because the individual was already evaluated against the reference
+	 * FR - Nombre d'évaluations évitées car l'individu était déjà évalué par rapport à la référence
+	 */
+	private final LongAdder nbEvaluationsEvitees = new LongAdder();
 	
 
 	/**
@@ -57,7 +128,7 @@ public class Evaluateur<Individu, V> {
 	 * @param fabriqueMotMystere @see {@link #fabriqueMotMystere}
 	 * @param evaluateurIndividu @see {@link #evaluateurIndividu}
 	 */
-	public Evaluateur(Supplier<V> fabriqueMotMystere, BiConsumer<Individu, V> evaluateurIndividu) {
+	public Evaluateur(Supplier<V> fabriqueMotMystere, BiConsumer<T, V> evaluateurIndividu) {
 
 		this.motMystere = fabriqueMotMystere.get();
 	
@@ -74,12 +145,194 @@ public class Evaluateur<Individu, V> {
 	 * 
 	 * @param individu EN-individual to evaluate </br> FR-individu à évaluer
 	 */
-	public void evaluer(Individu individu) {
+	public void evaluer(T individu) {
+		
+		int epoque = this.epoque;
 		
-		this.evaluateurIndividu.accept(individu, motMystere);
+		/*
+		 * EN - An individual already evaluated against the reference, and not modified since, keeps its score
+		 * FR - Un individu déjà évalué par rapport à la référence, et non modifié depuis, conserve son score
+		 */
+		if (individu.getEpoqueEvaluation() == epoque) {
+			nbEvaluationsEvitees.increment();
+			return;
+		}
+		
+		calculerScore(individu);
+		
+		individu.setEpoqueEvaluation(epoque);
 		
 	}
-
-
 	
+	
+	/**
+	 * EN - Gives its score to an individual : deduced from its parents, taken from the cache or calculated by the evaluation method
+	 * FR - Donne son score à un individu : déduit de ses parents, repris du cache ou calculé par la méthode d'évaluation
+	 */
+	private void calculerScore(T individu) {
+		
+		/*
+		 * EN - A decomposable child whose score has been deduced from its parents is not evaluated again
+		 * FR - Un enfant décomposable dont le score a été déduit de ses parents n'est pas évalué à nouveau
+		 */
+		if (evaluationDecomposable && individu.getScore() >= 0 && individu instanceof IndividuDecomposable && ((IndividuDecomposable<?>) individu).getCorrespondances() != null) {
+			nbScoresDeduits.increment();
+			return;
+		}
+		
+		/*
+		 * EN - The cache is read before the reference : a cache replaced with the reference always comes with the new reference
+		 *      The cache only keeps the score and the solution flag : the decomposable individuals bypass it when their children deduce their score from their correspondences
+		 * FR - Le cache est lu avant la référence : un cache remplacé avec la référence est toujours accompagné de la nouvelle référence
+		 *      Le cache ne conserve que le score et l'indicateur de solution : les individus décomposables le contournent lorsque leurs enfants déduisent leur score de leurs correspondances
+		 */
+		CacheEvaluation<Object> cache = this.cache;
+		
+		if (cache == null || evaluationDecomposable && individu instanceof IndividuDecomposable) {
+			this.evaluateurIndividu.accept(individu, motMystere);
+			return;
+		}
+		
+		/*
+		 * EN - A genome already evaluated takes the recorded result without calling the evaluation method
+		 * FR - Un génome déjà évalué reprend le résultat enregistré sans appel à la méthode d'évaluation
+		 */
+		Object cle = fonctionCleCache.apply(individu);
+		
+		Integer resultat = cache.get(cle);
+		
+		if (resultat != null) {
+			individu.setScore(CacheEvaluation.getScore(resultat));
+			individu.setSolution(CacheEvaluation.isSolution(resultat));
+		} else {
+			this.evaluateurIndividu.accept(individu, motMystere);
+			cache.put(cle, CacheEvaluation.encoder(individu.getScore(), individu.isSolution()));
+		}
+		
+	}
+	
+	
+	/**
+	 * EN - Gives the number of scores kept because they were deduced from the parents, since the creation of the evaluator
+	 * FR - Donne le nombre de scores conservés car déduits des parents, depuis la création de l'évaluateur
+	 * 
+	 * @return EN-the number of deduced scores </br> FR-le nombre de scores déduits
+	 */
+	public long getNbScoresDeduits() {
+		return nbScoresDeduits.sum();
+	}
+	
+	
+	/**
+	 * EN - Gives the number of evaluations avoided because the individual was already evaluated against the reference, since the creation of the evaluator
+	 * FR - Donne le nombre d'évaluations évitées car l'individu était déjà évalué par rapport à la référence, depuis la création de l'évaluateur
+	 * 
+	 * @return EN-the number of evaluations avoided </br> FR-le nombre d'évaluations évitées
+	 */
+	public long getNbEvaluationsEvitees() {
+		return nbEvaluationsEvitees.sum();
+	}
+	
+	
+	/**
+	 * EN - Replaces the reference, the scores given against the former reference, by the individuals or by the cache, being no longer up to date
+	 * FR - Remplace la référence, les scores donnés par rapport à l'ancienne référence, par les individus ou par le cache, n'étant plus à jour
+	 * 
+	 * @param motMystere EN-new reference </br> FR-nouvelle référence
+	 */
+	public synchronized void setMotMystere(@NonNull V motMystere) {
+		
+		this.motMystere = motMystere;
+		this.epoque = COMPTEUR_EPOQUES.incrementAndGet();
+		
+		if (this.cache != null)
+			this.cache = this.cache.vide();
+	}
+	
+	
+	/**
+	 * EN - Enables the cache of the results of evaluation, or disables it with a capacity of zero
+	 *      The cache is kept when it already has the requested capacity, which allows several Mediators to share the evaluator
+	 * FR - Active le cache des résultats d'évaluation, ou le désactive avec une capacité nulle
+	 *      Le cache est conservé lorsqu'il a déjà la capacité demandée, ce qui permet à plusieurs Mediateurs de partager l'évaluateur
+	 * 
+	 * @param capacite EN-maximum number of genomes kept by the cache </br> FR-nombre maximum de génomes conservés par le cache
+	 */
+	public synchronized void setCapaciteCache(int capacite) {
+		
+		if (capacite <= 0)
+			this.cache = null;
+		else if (this.cache == null || this.cache.getCapacite() != capacite)
+			this.cache = new CacheEvaluation<Object>(capacite);
+		
+	}
+	
+	
+	/**
+	 * EN - method of requesting the evaluation of the individuals of a generation
+	 *      The evaluation is distributed over the pool when one is given and stops as soon as a solution is found
+	 *      The statistics of the generation are accumulated during the evaluation and provided to the generation
+	 * FR - méthode permettant de demander l'évaluation des individus d'une génération
+	 *      L'évaluation est répartie sur le pool lorsqu'il est fourni et s'arrête dès qu'une solution est trouvée
+	 *      Les statistiques de la génération sont accumulées pendant l'évaluation et fournies à la génération
+	 * 
+	 * @param generation EN-generation whose individuals are to be evaluated </br> FR-génération dont les individus sont à évaluer
+	 * @param poolEvaluation EN-pool used to evaluate in parallel, null to evaluate on the calling thread </br> FR-pool utilisé pour évaluer en parallèle, null pour évaluer sur le thread appelant
+	 */
+	public void evaluer(Generation<T> generation, ForkJoinPool poolEvaluation) {
+		
+		evaluer(generation, poolEvaluation, () -> false);
+		
+	}
+	
+	
+	/**
+	 * EN - method of requesting the evaluation of the individuals of a generation, which can be interrupted midway
+	 *      The stop is read after each slice of the evaluator : the generation then keeps the statistics of the individuals evaluated so far,
+	 *      at least those of its first slice
+	 * FR - méthode permettant de demander l'évaluation des individus d'une génération, qui peut être interrompue en cours de route
+	 *      L'arrêt est lu après chaque tranche de l'évaluateur : la génération conserve alors les statistiques des individus évalués jusque là,
+	 *      au moins celles de sa première tranche
+	 * 
+	 * @param generation EN-generation whose individuals are to be evaluated </br> FR-génération dont les individus sont à évaluer
+	 * @param poolEvaluation EN-pool used to evaluate in parallel, null to evaluate on the calling thread </br> FR-pool utilisé pour évaluer en parallèle, null pour évaluer sur le thread appelant
+	 * @param arret EN-stop of the treatment </br> FR-arrêt du traitement
+	 */
+	public void evaluer(Generation<T> generation, ForkJoinPool poolEvaluation, BooleanSupplier arret) {
+		
+		List<T> individus = generation.getLesIndividus();
+		
+		StatistiquesGeneration<T> statistiques;
+		
+		if (poolEvaluation == null || individus.size() <= tailleTranche) {
+			
+			statistiques = new StatistiquesGeneration<T>();
+			
+			int avantControle = tailleTranche;
+			
+			for (T individu : individus) {
+				evaluer(individu);
+				
+				statistiques.accumuler(individu);
+				
+				if (individu.isSolution())
+					break;
+				
+				if (--avantControle == 0) {
+					
+					if (arret.getAsBoolean())
+						break;
+					
+					avantControle = tailleTranche;
+				}
+			}
+			
+		} else {
+			statistiques = poolEvaluation.invoke(new TacheEvaluation<T>(this, individus, 0, individus.size(), new AtomicBoolean(), arret));
+		}
+		
+		generation.setStatistiques(statistiques);
+		
+	}
+
 }
@@ -0,0 +1,224 @@
+package generique.metier.evaluation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * EN - Kernel of evaluation counting the loci of a genome identical to those of a reference, and recording them in a mask of correspondences
+ *      Two implementations are provided, selected automatically by the length of the genome :
+ *      - scalar, comparing the loci one by one, for the short genomes whose preparation would cost more than the comparison
+ *      - by blocks, reading 8 loci of one byte in a long and detecting the identical ones by arithmetic on the lanes of the long (SWAR),
+ *        the number of identical loci being given by a population count and their mask by a multiplication gathering the high bits of the lanes
+ *      The text genomes are copied in buffers of bytes specific to each thread, so that the evaluation allocates nothing :
+ *      their characters must therefore be Latin-1 (ISO-8859-1), as those of the dictionary and of the random words
+ * FR - Noyau d'évaluation comptant les loci d'un génome identiques à ceux d'une référence, et les enregistrant dans un masque de correspondances
+ *      Deux implémentations sont fournies, choisies automatiquement selon la longueur du génome :
+ *      - scalaire, comparant les loci un à un, pour les génomes courts dont la préparation coûterait plus que la comparaison
+ *      - par blocs, lisant 8 loci d'un octet dans un long et détectant ceux identiques par arithmétique sur les voies du long (SWAR),
+ *        le nombre de loci identiques étant donné par un comptage de population et leur masque par une multiplication regroupant les bits de poids fort des voies
+ *      Les génomes textuels sont copiés dans des tampons d'octets propres à chaque thread, afin que l'évaluation n'alloue rien :
+ *      leurs caractères doivent donc être Latin-1 (ISO-8859-1), comme ceux du dictionnaire et des mots aléatoires
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public final class NoyauCorrespondances {
+
+	/**
+	 * EN - Length of genome from which the evaluation by blocks is used, measured by NoyauCorrespondancesBenchmark
+	 * FR - Longueur de génome à partir de laquelle l'évaluation par blocs est utilisée, mesurée par NoyauCorrespondancesBenchmark
+	 */
+	public static final int SEUIL_BLOCS = 32;
+
+	/**
+	 * EN - Access to the bytes of an array 8 by 8, the locus of lowest index being in the lane of low weight
+	 * FR - Accès aux octets d'un tableau 8 par 8, le locus d'indice le plus faible étant dans la voie de poids faible
+	 */
+	private static final VarHandle BLOCS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private static final long BITS_BAS = 0x7F7F7F7F7F7F7F7FL;
+
+	/**
+	 * EN - Multiplier moving the high bit of the lane k of a long to the bit 56 + k
+	 * FR - Multiplicateur déplaçant le bit de poids fort de la voie k d'un long vers le bit 56 + k
+	 */
+	private static final long REGROUPEMENT = 0x0102040810204080L;
+
+	/**
+	 * EN - Buffers of the text genomes of each thread
+	 * FR - Tampons des génomes textuels de chaque thread
+	 */
+	private static final ThreadLocal<Tampons> TAMPONS = ThreadLocal.withInitial(Tampons::new);
+
+
+	private NoyauCorrespondances() {
+	}
+
+
+	/**
+	 * EN - Counts the characters of a word identical to those of a reference word at the same position
+	 * FR - Compte les caractères d'un mot identiques à ceux d'un mot de référence à la même position
+	 *
+	 * @param genome          EN-word evaluated </br> FR-mot évalué
+	 * @param reference       EN-reference word, at least as long as the evaluated word </br> FR-mot de référence, au moins aussi long que le mot évalué
+	 * @param correspondances EN-mask receiving the identical characters, of GenomeBinaire.getNbMots(length) words, or null </br> FR-masque recevant les caractères identiques, de GenomeBinaire.getNbMots(longueur) mots, ou null
+	 * @return EN-the number of identical characters </br> FR-le nombre de caractères identiques
+	 */
+	@SuppressWarnings("deprecation")
+	public static int compter(String genome, String reference, long[] correspondances) {
+
+		int longueur = genome.length();
+
+		if (longueur < SEUIL_BLOCS)
+			return compterScalaire(genome, reference, correspondances);
+
+		Tampons tampons = TAMPONS.get();
+
+		/* EN - The characters are copied by their byte of low weight, which is exact for Latin-1 and which the compact Strings copy without conversion
+		 *      The reference, identical from one individual to the next, is only copied when it changes
+		 * FR - Les caractères sont copiés par leur octet de poids faible, ce qui est exact pour Latin-1 et que les String compactes copient sans conversion
+		 *      La référence, identique d'un individu au suivant, n'est copiée que lorsqu'elle change */
+		byte[] octetsGenome = tampons.reserverGenome(longueur);
+		genome.getBytes(0, longueur, octetsGenome, 0);
+
+		if (tampons.reference != reference) {
+			byte[] octetsReference = tampons.reserverReference(reference.length());
+			reference.getBytes(0, reference.length(), octetsReference, 0);
+			tampons.reference = reference;
+		}
+
+		return compterParBlocs(octetsGenome, tampons.octetsReference, longueur, correspondances);
+	}
+
+
+	/**
+	 * EN - Counts the loci of a genome of bytes identical to those of a reference, with the implementation suited to its length
+	 * FR - Compte les loci d'un génome d'octets identiques à ceux d'une référence, avec l'implémentation adaptée à sa longueur
+	 *
+	 * @param genome          EN-genome evaluated </br> FR-génome évalué
+	 * @param reference       EN-reference genome </br> FR-génome de référence
+	 * @param longueur        EN-number of loci compared </br> FR-nombre de loci comparés
+	 * @param correspondances EN-mask receiving the identical loci, or null </br> FR-masque recevant les loci identiques, ou null
+	 * @return EN-the number of identical loci </br> FR-le nombre de loci identiques
+	 */
+	public static int compter(byte[] genome, byte[] reference, int longueur, long[] correspondances) {
+
+		if (longueur < SEUIL_BLOCS)
+			return compterScalaire(genome, reference, 0, longueur, correspondances);
+
+		return compterParBlocs(genome, reference, longueur, correspondances);
+	}
+
+
+	/**
+	 * EN - Scalar implementation on words, comparing the characters one by one without copy
+	 * FR - Implémentation scalaire sur les mots, comparant les caractères un à un sans copie
+	 */
+	public static int compterScalaire(String genome, String reference, long[] correspondances) {
+
+		int nbIdentiques = 0;
+
+		for (int i = 0; i < genome.length(); i++) {
+			if (genome.charAt(i) == reference.charAt(i)) {
+				nbIdentiques++;
+				marquer(correspondances, i);
+			}
+		}
+
+		return nbIdentiques;
+	}
+
+
+	/**
+	 * EN - Scalar implementation on bytes, also used for the loci ending a genome evaluated by blocks
+	 * FR - Implémentation scalaire sur les octets, aussi utilisée pour les loci terminant un génome évalué par blocs
+	 */
+	public static int compterScalaire(byte[] genome, byte[] reference, int debut, int fin, long[] correspondances) {
+
+		int nbIdentiques = 0;
+
+		for (int i = debut; i < fin; i++) {
+			if (genome[i] == reference[i]) {
+				nbIdentiques++;
+				marquer(correspondances, i);
+			}
+		}
+
+		return nbIdentiques;
+	}
+
+
+	/**
+	 * EN - Implementation by blocks of 8 loci
+	 * FR - Implémentation par blocs de 8 loci
+	 */
+	public static int compterParBlocs(byte[] genome, byte[] reference, int longueur, long[] correspondances) {
+
+		int nbIdentiques = 0;
+		int finBlocs = longueur & ~7;
+
+		for (int i = 0; i < finBlocs; i += 8) {
+
+			/* EN - Lanes at zero for the identical loci, then high bit of each lane set if and only if the lane is at zero :
+			 *      the low bits are added to 0x7F, which reaches the high bit as soon as one of them is set, without carry to the next lane
+			 * FR - Voies à zéro pour les loci identiques, puis bit de poids fort de chaque voie levé si et seulement si la voie est à zéro :
+			 *      les bits de poids faible sont ajoutés à 0x7F, ce qui atteint le bit de poids fort dès que l'un d'eux est levé, sans retenue vers la voie suivante */
+			long difference = (long) BLOCS.get(genome, i) ^ (long) BLOCS.get(reference, i);
+			long identiques = ~(((difference & BITS_BAS) + BITS_BAS) | difference | BITS_BAS);
+
+			nbIdentiques += Long.bitCount(identiques);
+
+			if (correspondances != null)
+				correspondances[i >>> 6] |= (((identiques >>> 7) * REGROUPEMENT) >>> 56) << i;
+		}
+
+		return nbIdentiques + compterScalaire(genome, reference, finBlocs, longueur, correspondances);
+	}
+
+
+	private static void marquer(long[] correspondances, int locus) {
+		if (correspondances != null)
+			correspondances[locus >>> 6] |= 1L << locus;
+	}
+
+
+	/**
+	 * EN - Buffers of a thread, enlarged on demand
+	 * FR - Tampons d'un thread, agrandis à la demande
+	 */
+	private static final class Tampons {
+
+		private byte[] octetsGenome = new byte[0];
+
+		private byte[] octetsReference = new byte[0];
+
+		/**
+		 * EN - Reference whose bytes are in the buffer, compared by identity
+		 * FR - Référence dont les octets sont dans le tampon, comparée par identité
+		 */
+		private String reference;
+
+
+		byte[] reserverGenome(int longueur) {
+
+			if (octetsGenome.length < longueur)
+				octetsGenome = new byte[longueur];
+
+			return octetsGenome;
+		}
+
+
+		byte[] reserverReference(int longueur) {
+
+			if (octetsReference.length < longueur)
+				octetsReference = new byte[longueur];
+
+			return octetsReference;
+		}
+
+	}
+
+}
@@ -0,0 +1,118 @@
+package generique.metier.evaluation;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import generique.metier.entite.Individu;
+import generique.metier.entite.StatistiquesGeneration;
+
+/**
+ * EN - Task evaluating a slice of a generation within a ForkJoinPool
+ *      The slice is split in two as long as it exceeds the slice size of the evaluator
+ *      All the tasks share a flag allowing them to stop as soon as a solution is found, and each slice but the first is skipped once the stop of the treatment is requested
+ *      Each task returns the statistics of its slice, those of the two halves being merged in the order of the generation
+ * FR - Tâche évaluant une tranche d'une génération au sein d'un ForkJoinPool
+ *      La tranche est divisée en deux tant qu'elle dépasse la taille de tranche de l'évaluateur
+ *      Toutes les tâches partagent un indicateur leur permettant de s'arrêter dès qu'une solution est trouvée, et chaque tranche hormis la première est ignorée une fois l'arrêt du traitement demandé
+ *      Chaque tâche renvoit les statistiques de sa tranche, celles des deux moitiés étant fusionnées dans l'ordre de la génération
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+class TacheEvaluation<T extends Individu<?>> extends RecursiveTask<StatistiquesGeneration<T>> {
+
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * EN - Evaluator in charge of the evaluation of each individual
+	 * FR - Evaluateur chargé de l'évaluation de chaque individu
+	 */
+	private final Evaluateur<T, ?> evaluateur;
+
+	/**
+	 * EN - Individuals of the generation being evaluated
+	 * FR - Individus de la génération en cours d'évaluation
+	 */
+	private final List<T> individus;
+
+	/**
+	 * EN - Index of the first individual of the slice (inclusive)
+	 * FR - Indice du premier individu de la tranche (inclus)
+	 */
+	private final int debut;
+
+	/**
+	 * EN - Index of the last individual of the slice (exclusive)
+	 * FR - Indice du dernier individu de la tranche (exclu)
+	 */
+	private final int fin;
+
+	/**
+	 * EN - Flag shared by all the tasks, raised as soon as a solution is found
+	 * FR - Indicateur partagé par toutes les tâches, levé dès qu'une solution est trouvée
+	 */
+	private final AtomicBoolean solutionTrouvee;
+
+	/**
+	 * EN - Stop of the treatment, read before the evaluation of each slice but the first, so that the generation keeps at least one evaluated slice
+	 * FR - Arrêt du traitement, lu avant l'évaluation de chaque tranche hormis la première, afin que la génération conserve au moins une tranche évaluée
+	 */
+	private final BooleanSupplier arret;
+
+
+	TacheEvaluation(Evaluateur<T, ?> evaluateur, List<T> individus, int debut, int fin, AtomicBoolean solutionTrouvee, BooleanSupplier arret) {
+		this.evaluateur = evaluateur;
+		this.individus = individus;
+		this.debut = debut;
+		this.fin = fin;
+		this.solutionTrouvee = solutionTrouvee;
+		this.arret = arret;
+	}
+
+
+	@Override
+	protected StatistiquesGeneration<T> compute() {
+
+		if (fin - debut <= evaluateur.getTailleTranche()) {
+
+			StatistiquesGeneration<T> statistiques = new StatistiquesGeneration<T>();
+
+			if (debut > 0 && arret.getAsBoolean())
+				return statistiques;
+
+			for (int i = debut; i < fin && !solutionTrouvee.get(); i++) {
+
+				T individu = individus.get(i);
+
+				evaluateur.evaluer(individu);
+
+				statistiques.accumuler(individu);
+
+				if (individu.isSolution())
+					solutionTrouvee.set(true);
+			}
+
+			return statistiques;
+
+		} else {
+
+			int milieu = (debut + fin) >>> 1;
+
+			TacheEvaluation<T> premiereMoitie = new TacheEvaluation<T>(evaluateur, individus, debut, milieu, solutionTrouvee, arret);
+			TacheEvaluation<T> secondeMoitie = new TacheEvaluation<T>(evaluateur, individus, milieu, fin, solutionTrouvee, arret);
+
+			secondeMoitie.fork();
+
+			return premiereMoitie.compute().fusionner(secondeMoitie.join());
+		}
+	}
+
+}
@@ -1,10 +1,11 @@
 package generique.metier.initialisation;
 
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import generique.metier.entite.Generation;
 import generique.metier.entite.Individu;
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
 
@@ -18,7 +19,6 @@ import lombok.Setter;
  * 
  * @version 1.0
  */
-@AllArgsConstructor
 public class Generateur<T extends Individu<?>> {
 
 	/**
@@ -29,6 +29,39 @@ public class Generateur<T extends Individu<?>> {
 	@NonNull
 	private Supplier<T> fabriqueIndividu;
 	
+	/**
+	 * EN - Factory of generation, receiving the number of the generation to create
+	 * FR - Fabrique de génération, recevant le numéro de la génération à créer
+	 */
+	@Setter
+	@NonNull
+	private IntFunction<Generation<T>> fabriqueGeneration = Generation::new;
+	
+	/**
+	 * EN - Optional method drawing again at random the value of an existing individual, allowing a generation to be completed without creating individuals
+	 * FR - Méthode optionnelle tirant à nouveau au hasard la valeur d'un individu existant, permettant de compléter une génération sans créer d'individus
+	 */
+	@Setter
+	private Consumer<T> reinitialisationAleatoire;
+	
+	/**
+	 * EN - Optional factory of blank individuals, used with the random reinitialization as long as the generation has no individual to reuse
+	 * FR - Fabrique optionnelle d'individus vierges, utilisée avec la réinitialisation aléatoire tant que la génération n'a pas d'individu à réutiliser
+	 */
+	@Setter
+	private Supplier<T> fabriqueIndividuVierge;
+	
+	
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 * 
+	 * @param fabriqueIndividu @see {@link #fabriqueIndividu}
+	 */
+	public Generateur(@NonNull Supplier<T> fabriqueIndividu) {
+		setFabriqueIndividu(fabriqueIndividu);
+	}
+	
 	
 	/**
 	 * EN - Method to obtain a new generation of x individuals
@@ -39,7 +72,7 @@ public class Generateur<T extends Individu<?>> {
 	 */
 	public Generation<T> getGeneration(int nbIndividu) {
 		
-		Generation<T> generationInitiale = new Generation<T>(0);
+		Generation<T> generationInitiale = fabriqueGeneration.apply(0);
 			
 		for (int i = 0; i < nbIndividu; i++) {
 			generationInitiale.ajouterIndividu(fabriqueIndividu.get());
@@ -47,4 +80,47 @@ public class Generateur<T extends Individu<?>> {
 		
 		return generationInitiale;
 	}
+	
+	
+	/**
+	 * EN - Completes a generation with random individuals up to x individuals
+	 *      When a random reinitialization is available, the individuals released by the generation are reused
+	 * FR - Complète une génération avec des individus aléatoires jusqu'à x individus
+	 *      Lorsqu'une réinitialisation aléatoire est disponible, les individus libérés par la génération sont réutilisés
+	 * 
+	 * @param generation EN-generation to complete </br> FR-génération à compléter
+	 * @param nbIndividu EN-number of individuals expected in the generation </br> FR-nombre d'individus attendus dans la génération
+	 */
+	public void completer(Generation<T> generation, int nbIndividu) {
+		
+		completer(generation, nbIndividu, null);
+	}
+	
+	
+	/**
+	 * EN - Completes a generation as {@link #completer(Generation, int)}, handing over each individual added as soon as it is drawn
+	 * FR - Complète une génération comme {@link #completer(Generation, int)}, en remettant chaque individu ajouté dès qu'il est tiré
+	 * 
+	 * @param generation    EN-generation to complete </br> FR-génération à compléter
+	 * @param nbIndividu    EN-number of individuals expected in the generation </br> FR-nombre d'individus attendus dans la génération
+	 * @param suiteIndividu EN-receiver of the individuals added, null for none </br> FR-destinataire des individus ajoutés, null pour aucun
+	 */
+	public void completer(Generation<T> generation, int nbIndividu, Consumer<? super T> suiteIndividu) {
+		
+		while (generation.nbIndividus() < nbIndividu) {
+			
+			T individu;
+			
+			if (reinitialisationAleatoire != null) {
+				individu = generation.allouer(fabriqueIndividuVierge != null ? fabriqueIndividuVierge : fabriqueIndividu);
+				reinitialisationAleatoire.accept(individu);
+			} else {
+				individu = fabriqueIndividu.get();
+				generation.ajouterIndividu(individu);
+			}
+			
+			if (suiteIndividu != null)
+				suiteIndividu.accept(individu);
+		}
+	}
 }
\ No newline at end of file
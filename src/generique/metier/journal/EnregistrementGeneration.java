@@ -0,0 +1,98 @@
+package generique.metier.journal;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * EN - Structured record of the progress of a generation, written by the Mediator then formatted by the thread of the {@link JournalAsynchrone}
+ *      The records are allocated once by the journal and reused : they only hold copies of the values of the generation,
+ *      whose individuals can be recycled as soon as the record is published
+ * FR - Enregistrement structuré de l'avancement d'une génération, écrit par le Mediateur puis mis en forme par le thread du {@link JournalAsynchrone}
+ *      Les enregistrements sont alloués une fois par le journal puis réutilisés : ils ne contiennent que des copies des valeurs de la génération,
+ *      dont les individus peuvent être recyclés dès la publication de l'enregistrement
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@Getter
+public class EnregistrementGeneration {
+
+	private int numeroGeneration;
+
+	/**
+	 * EN - Processing time elapsed, in milliseconds
+	 * FR - Durée de traitement écoulée, en millisecondes
+	 */
+	private long dureeTraitement;
+
+	/**
+	 * EN - Reference searched by the evaluator, which is never modified during the search
+	 * FR - Référence recherchée par l'évaluateur, qui n'est jamais modifiée pendant la recherche
+	 */
+	private Object motMystere;
+
+	private int sommeScore;
+
+	private int scoreDeSelection;
+
+	/**
+	 * EN - Copy of the best individual with its score and its flags, taken when publishing since the individual can be recycled afterwards, and described when formatting
+	 * FR - Copie du meilleur individu avec son score et ses indicateurs, prise à la publication car l'individu peut être recyclé ensuite, et décrite à la mise en forme
+	 */
+	private Object meilleurIndividu;
+
+	/**
+	 * EN - Number of individuals per score, from score 1 to {@link #nbScores}
+	 * FR - Nombre d'individus par score, du score 1 à {@link #nbScores}
+	 */
+	@Getter(lombok.AccessLevel.NONE)
+	private int[] repartition = new int[16];
+
+	private int nbScores;
+
+
+	void remplir(int numeroGeneration, long dureeTraitement, Object motMystere, int sommeScore, int scoreDeSelection, Object meilleurIndividu) {
+		this.numeroGeneration = numeroGeneration;
+		this.dureeTraitement = dureeTraitement;
+		this.motMystere = motMystere;
+		this.sommeScore = sommeScore;
+		this.scoreDeSelection = scoreDeSelection;
+		this.meilleurIndividu = meilleurIndividu;
+		this.nbScores = 0;
+	}
+
+
+	void ajouterRepartition(int nbIndividus) {
+
+		if (nbScores == repartition.length)
+			repartition = Arrays.copyOf(repartition, 2 * nbScores);
+
+		repartition[nbScores++] = nbIndividus;
+	}
+
+
+	/**
+	 * EN - Gives the number of individuals having a score
+	 * FR - Donne le nombre d'individus ayant un score
+	 *
+	 * @param score EN-score between 1 and {@link #getNbScores()} </br> FR-score compris entre 1 et {@link #getNbScores()}
+	 * @return EN-the number of individuals </br> FR-le nombre d'individus
+	 */
+	public int getRepartition(int score) {
+		return repartition[score - 1];
+	}
+
+
+	/**
+	 * EN - Releases the references held by the record once formatted
+	 * FR - Libère les références retenues par l'enregistrement une fois mis en forme
+	 */
+	void liberer() {
+		this.motMystere = null;
+		this.meilleurIndividu = null;
+	}
+
+}
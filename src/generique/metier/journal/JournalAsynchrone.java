@@ -0,0 +1,368 @@
+package generique.metier.journal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import generique.metier.entite.Generation;
+import generique.metier.entite.Individu;
+import generique.metier.entite.StatistiquesGeneration;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * EN - Journal of the progress of the generations, formatted and written by a background thread so that the disk I/O of the log handlers does not block the evolution
+ *      The Mediator publishes one structured record per generation in a bounded ring buffer, without lock nor formatting :
+ *      each place of the buffer carries a sequence number telling whether it is free for a writer or ready for the reader
+ *      The only allocation when publishing is the copy of the best individual, whose description is built by the background thread
+ *      Several Mediators can publish in the same journal, the records being read by its single thread in the order of publication
+ *      When the buffer is full, the record is dropped or the Mediator waits, depending on the {@link PolitiqueSaturation}
+ *      With a capacity of zero, the journal has no thread and the records are written on the calling thread
+ * FR - Journal de l'avancement des générations, mis en forme et écrit par un thread d'arrière-plan afin que les écritures disque des gestionnaires de journalisation ne bloquent pas l'évolution
+ *      Le Mediateur publie un enregistrement structuré par génération dans un tampon circulaire borné, sans verrou ni mise en forme :
+ *      chaque place du tampon porte un numéro de séquence indiquant si elle est libre pour un écrivain ou prête pour le lecteur
+ *      La seule allocation à la publication est la copie du meilleur individu, dont la description est construite par le thread d'arrière-plan
+ *      Plusieurs Mediateurs peuvent publier dans le même journal, les enregistrements étant lus par son unique thread dans l'ordre de publication
+ *      Lorsque le tampon est plein, l'enregistrement est abandonné ou le Mediateur attend, selon la {@link PolitiqueSaturation}
+ *      Avec une capacité nulle, le journal n'a pas de thread et les enregistrements sont écrits sur le thread appelant
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class JournalAsynchrone implements AutoCloseable {
+
+	/**
+	 * EN - Pause of the background thread when the buffer is empty, and of a blocked writer, in nanoseconds
+	 * FR - Pause du thread d'arrière-plan lorsque le tampon est vide, et d'un écrivain bloqué, en nanosecondes
+	 */
+	private static final long PAUSE = 1_000_000L;
+
+	/**
+	 * EN - Logger to which the records are written
+	 * FR - Logger dans lequel les enregistrements sont écrits
+	 */
+	private final Logger journal;
+
+	@Getter
+	private final PolitiqueSaturation politique;
+
+	/**
+	 * EN - Places of the ring buffer, allocated once, null when the journal is synchronous
+	 * FR - Places du tampon circulaire, allouées une fois, null lorsque le journal est synchrone
+	 */
+	private final EnregistrementGeneration[] enregistrements;
+
+	/**
+	 * EN - Sequence number of each place : equal to the position of the writer when the place is free, to this position plus one once published
+	 * FR - Numéro de séquence de chaque place : égal à la position de l'écrivain lorsque la place est libre, à cette position plus un une fois publiée
+	 */
+	private final AtomicLongArray sequences;
+
+	private final int masque;
+
+	/**
+	 * EN - Position of the next place to be reserved by a writer
+	 * FR - Position de la prochaine place à réserver par un écrivain
+	 */
+	private final AtomicLong positionEcriture = new AtomicLong();
+
+	/**
+	 * EN - Position of the next place to be read by the background thread
+	 * FR - Position de la prochaine place à lire par le thread d'arrière-plan
+	 */
+	private final AtomicLong positionLecture = new AtomicLong();
+
+	/**
+	 * EN - Record of the synchronous journal
+	 * FR - Enregistrement du journal synchrone
+	 */
+	private final EnregistrementGeneration enregistrementDirect;
+
+	private final LongAdder nbAbandons = new LongAdder();
+
+	private final Thread lecteur;
+
+	private volatile boolean actif = true;
+
+
+	/**
+	 * EN - Constructor, starting the background thread when the capacity is positive
+	 * FR - Constructeur, démarrant le thread d'arrière-plan lorsque la capacité est positive
+	 *
+	 * @param journal   EN-logger to which the records are written </br> FR-logger dans lequel les enregistrements sont écrits
+	 * @param capacite  EN-number of records of the buffer, rounded up to a power of two, 0 for a synchronous journal </br> FR-nombre d'enregistrements du tampon, arrondi à une puissance de deux, 0 pour un journal synchrone
+	 * @param politique EN-behaviour when the buffer is full </br> FR-comportement lorsque le tampon est plein
+	 */
+	public JournalAsynchrone(@NonNull Logger journal, int capacite, @NonNull PolitiqueSaturation politique) {
+
+		this.journal = journal;
+		this.politique = politique;
+
+		if (capacite <= 0) {
+
+			this.enregistrements = null;
+			this.sequences = null;
+			this.masque = 0;
+			this.enregistrementDirect = new EnregistrementGeneration();
+			this.lecteur = null;
+
+			return;
+		}
+
+		int taille = Integer.highestOneBit(Math.max(2, capacite) - 1) << 1;
+
+		this.enregistrements = new EnregistrementGeneration[taille];
+		this.sequences = new AtomicLongArray(taille);
+		this.masque = taille - 1;
+		this.enregistrementDirect = null;
+
+		for (int i = 0; i < taille; i++) {
+			enregistrements[i] = new EnregistrementGeneration();
+			sequences.set(i, i);
+		}
+
+		this.lecteur = new Thread(this::lire, "journal-generations");
+		this.lecteur.setDaemon(true);
+		this.lecteur.start();
+	}
+
+
+	/**
+	 * EN - Publishes the progress of a generation, the values being copied so that the generation can go on being modified
+	 *      Nothing is published when the logger does not log at INFO level, nor once the journal is closed
+	 * FR - Publie l'avancement d'une génération, les valeurs étant copiées afin que la génération puisse continuer à être modifiée
+	 *      Rien n'est publié lorsque le logger ne journalise pas au niveau INFO, ni une fois le journal fermé
+	 *
+	 * @param generation      EN-evaluated generation </br> FR-génération évaluée
+	 * @param motMystere      EN-reference searched by the evaluator </br> FR-référence recherchée par l'évaluateur
+	 * @param dureeTraitement EN-processing time elapsed, in milliseconds </br> FR-durée de traitement écoulée, en millisecondes
+	 * @param fonctionCopie   EN-copy of an individual, null to describe the best individual when publishing </br> FR-copie d'un individu, null pour décrire le meilleur individu à la publication
+	 */
+	public <T extends Individu<?>> void publier(Generation<T> generation, Object motMystere, long dureeTraitement, UnaryOperator<T> fonctionCopie) {
+
+		if (!actif || !journal.isLoggable(Level.INFO))
+			return;
+
+		if (enregistrements == null) {
+
+			synchronized (enregistrementDirect) {
+				remplir(enregistrementDirect, generation, motMystere, dureeTraitement, fonctionCopie);
+				ecrire(enregistrementDirect);
+			}
+
+			return;
+		}
+
+		long position = reserver();
+
+		if (position < 0) {
+			nbAbandons.increment();
+			return;
+		}
+
+		int index = (int) position & masque;
+
+		remplir(enregistrements[index], generation, motMystere, dureeTraitement, fonctionCopie);
+
+		sequences.set(index, position + 1);
+	}
+
+
+	/**
+	 * EN - Waits until the records published so far have been written
+	 * FR - Attend que les enregistrements publiés jusqu'ici aient été écrits
+	 */
+	public void attendreEcriture() {
+
+		if (lecteur == null)
+			return;
+
+		long cible = positionEcriture.get();
+
+		while (positionLecture.get() < cible && lecteur.isAlive()) {
+			LockSupport.unpark(lecteur);
+			LockSupport.parkNanos(PAUSE / 10);
+		}
+	}
+
+
+	/**
+	 * EN - Closes the journal once the records published have been written, the following records being ignored
+	 * FR - Ferme le journal une fois les enregistrements publiés écrits, les enregistrements suivants étant ignorés
+	 */
+	@Override
+	public void close() {
+
+		actif = false;
+
+		if (lecteur == null)
+			return;
+
+		LockSupport.unpark(lecteur);
+
+		try {
+			lecteur.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	/**
+	 * EN - Gives the number of records dropped because the buffer was full
+	 * FR - Donne le nombre d'enregistrements abandonnés car le tampon était plein
+	 *
+	 * @return EN-the number of dropped records </br> FR-le nombre d'enregistrements abandonnés
+	 */
+	public long getNbAbandons() {
+		return nbAbandons.sum();
+	}
+
+
+	/**
+	 * EN - Reserves a place of the buffer for a writer
+	 * FR - Réserve une place du tampon pour un écrivain
+	 *
+	 * @return EN-the position of the place, -1 if the buffer is full and the record must be dropped </br> FR-la position de la place, -1 si le tampon est plein et l'enregistrement doit être abandonné
+	 */
+	private long reserver() {
+
+		while (true) {
+
+			long position = positionEcriture.get();
+			long ecart = sequences.get((int) position & masque) - position;
+
+			if (ecart == 0 && positionEcriture.compareAndSet(position, position + 1))
+				return position;
+
+			if (ecart < 0) {
+
+				if (politique == PolitiqueSaturation.ABANDONNER || !actif)
+					return -1;
+
+				LockSupport.parkNanos(PAUSE);
+			}
+		}
+	}
+
+
+	/**
+	 * EN - Loop of the background thread, which writes the published records then pauses when the buffer is empty, until the journal is closed
+	 * FR - Boucle du thread d'arrière-plan, qui écrit les enregistrements publiés puis fait une pause lorsque le tampon est vide, jusqu'à la fermeture du journal
+	 */
+	private void lire() {
+
+		int taille = enregistrements.length;
+
+		while (true) {
+
+			boolean actif = this.actif;
+			boolean vide = true;
+
+			long position = positionLecture.get();
+			int index = (int) position & masque;
+
+			while (sequences.get(index) == position + 1) {
+
+				EnregistrementGeneration enregistrement = enregistrements[index];
+
+				try {
+					ecrire(enregistrement);
+				} catch (RuntimeException e) {
+					journal.log(Level.WARNING, "Echec de l'écriture du journal", e);
+				}
+
+				enregistrement.liberer();
+
+				sequences.set(index, position + taille);
+				positionLecture.set(++position);
+
+				index = (int) position & masque;
+				vide = false;
+			}
+
+			if (vide) {
+
+				if (!actif)
+					return;
+
+				LockSupport.parkNanos(this, PAUSE);
+			}
+		}
+	}
+
+
+	private <T extends Individu<?>> void remplir(	EnregistrementGeneration enregistrement, Generation<T> generation, Object motMystere, long dureeTraitement,
+													UnaryOperator<T> fonctionCopie) {
+
+		StatistiquesGeneration<T> statistiques = generation.getStatistiques();
+
+		enregistrement.remplir(	generation.getNumero(), dureeTraitement, motMystere, statistiques.getSomme(), statistiques.getScoreDeSelection(),
+								copier(statistiques.getMeilleurIndividu(), fonctionCopie));
+
+		if (journal.isLoggable(Level.FINE)) {
+			for (int score = 1; score <= statistiques.getScoreMax(); score++) {
+				enregistrement.ajouterRepartition(statistiques.getNbIndividus(score));
+			}
+		}
+	}
+
+
+	/**
+	 * EN - Copies the best individual with its score and its flags, so that it is described by the thread of the journal
+	 *      Without copy function, the individual is described when publishing
+	 * FR - Copie le meilleur individu avec son score et ses indicateurs, afin qu'il soit décrit par le thread du journal
+	 *      Sans fonction de copie, l'individu est décrit à la publication
+	 */
+	private static <T extends Individu<?>> Object copier(T individu, UnaryOperator<T> fonctionCopie) {
+
+		if (individu == null)
+			return null;
+
+		if (fonctionCopie == null)
+			return individu.toString();
+
+		T copie = fonctionCopie.apply(individu);
+
+		copie.setScore(individu.getScore());
+		copie.setSelectionne(individu.isSelectionne());
+		copie.setEnfant(individu.isEnfant());
+		copie.setSolution(individu.isSolution());
+
+		return copie;
+	}
+
+
+	/**
+	 * EN - Formats a record into the messages of the logger
+	 * FR - Met en forme un enregistrement dans les messages du logger
+	 */
+	private void ecrire(EnregistrementGeneration enregistrement) {
+
+		journal.log(Level.INFO, "Generation {0} en cours de traitement", enregistrement.getNumeroGeneration());
+
+		if (journal.isLoggable(Level.FINE)) {
+
+			StringBuilder repartition = new StringBuilder();
+
+			for (int score = 1; score <= enregistrement.getNbScores(); score++) {
+				repartition.append(' ').append(enregistrement.getRepartition(score));
+			}
+
+			journal.log(Level.FINE, "Duree de traitement : {0} ms", enregistrement.getDureeTraitement());
+			journal.log(Level.FINE, "Mot mystere : {0}", enregistrement.getMotMystere());
+			journal.log(Level.FINE, "Score cumulé : {0}", enregistrement.getSommeScore());
+			journal.log(Level.FINE, "Répartition :{0}", repartition);
+			journal.log(Level.FINE, "Score de Sélection : {0}", enregistrement.getScoreDeSelection());
+		}
+
+		journal.log(Level.INFO, "Meilleure solution : {0}", enregistrement.getMeilleurIndividu());
+	}
+
+}
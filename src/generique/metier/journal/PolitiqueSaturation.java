@@ -0,0 +1,26 @@
+package generique.metier.journal;
+
+/**
+ * EN - Behaviour of the {@link JournalAsynchrone} when its buffer is full
+ * FR - Comportement du {@link JournalAsynchrone} lorsque son tampon est plein
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public enum PolitiqueSaturation {
+
+	/**
+	 * EN - The record is dropped and counted, the evolution is never slowed down by the log
+	 * FR - L'enregistrement est abandonné et compté, l'évolution n'est jamais ralentie par le journal
+	 */
+	ABANDONNER,
+
+	/**
+	 * EN - The Mediator waits for a free place, no record is lost
+	 * FR - Le Mediateur attend une place libre, aucun enregistrement n'est perdu
+	 */
+	BLOQUER
+
+}
@@ -0,0 +1,140 @@
+package generique.metier.lot;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import lombok.NonNull;
+
+/**
+ * EN - Writer of the results of a batch, one line per target, written by a background thread through a buffered writer
+ *      The solving threads only put their line in a bounded queue : they do not wait for the disk, unless the queue is full
+ *      The lines are written in Latin-1 (ISO-8859-1), as the dictionary, in the order in which the targets are solved
+ * FR - Ecrivain des résultats d'un lot, une ligne par cible, écrites par un thread d'arrière-plan au travers d'un écrivain tamponné
+ *      Les threads de résolution ne font que déposer leur ligne dans une file bornée : ils n'attendent pas le disque, sauf si la file est pleine
+ *      Les lignes sont écrites en Latin-1 (ISO-8859-1), comme le dictionnaire, dans l'ordre dans lequel les cibles sont résolues
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class EcrivainResultats implements AutoCloseable {
+
+	/**
+	 * EN - Line marking the end of the results, compared by identity
+	 * FR - Ligne marquant la fin des résultats, comparée par identité
+	 */
+	private static final String FIN = new String("");
+
+	private final BufferedWriter ecrivain;
+
+	private final BlockingQueue<String> lignes;
+
+	private final Thread thread;
+
+	/**
+	 * EN - First error of writing met by the background thread, thrown again by the following calls
+	 * FR - Première erreur d'écriture rencontrée par le thread d'arrière-plan, relancée par les appels suivants
+	 */
+	private volatile IOException erreur;
+
+
+	/**
+	 * EN - Constructor, creating or replacing the file of the results then starting the background thread
+	 * FR - Constructeur, créant ou remplaçant le fichier des résultats puis démarrant le thread d'arrière-plan
+	 *
+	 * @param fichier  EN-file of the results </br> FR-fichier des résultats
+	 * @param capacite EN-number of lines waiting to be written beyond which the solving threads wait </br> FR-nombre de lignes en attente d'écriture au delà duquel les threads de résolution attendent
+	 * @throws IOException EN-if the file cannot be created </br> FR-si le fichier ne peut être créé
+	 */
+	public EcrivainResultats(@NonNull Path fichier, int capacite) throws IOException {
+
+		this.ecrivain = Files.newBufferedWriter(fichier, StandardCharsets.ISO_8859_1);
+		this.lignes = new ArrayBlockingQueue<String>(Math.max(1, capacite));
+
+		this.thread = new Thread(this::ecrire, "ecrivain-resultats");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+
+	/**
+	 * EN - Puts a line of result in the queue, waiting while the queue is full
+	 * FR - Dépose une ligne de résultat dans la file, en attendant tant que la file est pleine
+	 *
+	 * @param ligne EN-line of result, without line separator </br> FR-ligne de résultat, sans séparateur de ligne
+	 * @throws InterruptedException EN-if the thread is interrupted while waiting </br> FR-si le thread est interrompu pendant l'attente
+	 */
+	public void publier(@NonNull String ligne) throws InterruptedException {
+
+		if (erreur != null)
+			throw new UncheckedIOException(erreur);
+
+		lignes.put(ligne);
+	}
+
+
+	/**
+	 * EN - Closes the file once the lines published have been written
+	 * FR - Ferme le fichier une fois les lignes publiées écrites
+	 *
+	 * @throws IOException EN-if a line could not be written </br> FR-si une ligne n'a pu être écrite
+	 */
+	@Override
+	public void close() throws IOException {
+
+		try {
+			lignes.put(FIN);
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		ecrivain.close();
+
+		if (erreur != null)
+			throw erreur;
+	}
+
+
+	/**
+	 * EN - Loop of the background thread, writing the lines until the end mark, then flushing the buffer
+	 *      After an error the lines are still taken from the queue without being written, so that the solving threads never stay blocked
+	 * FR - Boucle du thread d'arrière-plan, écrivant les lignes jusqu'à la marque de fin, puis vidant le tampon
+	 *      Après une erreur les lignes sont encore retirées de la file sans être écrites, afin que les threads de résolution ne restent jamais bloqués
+	 */
+	private void ecrire() {
+
+		try {
+
+			String ligne;
+
+			while ((ligne = lignes.take()) != FIN) {
+
+				if (erreur == null) {
+					try {
+						ecrivain.write(ligne);
+						ecrivain.newLine();
+					} catch (IOException e) {
+						erreur = e;
+					}
+				}
+			}
+
+			if (erreur == null)
+				ecrivain.flush();
+
+		} catch (IOException e) {
+			erreur = e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,245 @@
+package generique.metier.lot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+import generique.metier.entite.Individu;
+import generique.metier.mediation.Mediateur;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+/**
+ * EN - Solver of a batch of targets read from a file, one target per line, each target being searched by its own Mediator
+ *      The file is read line by line as the targets are solved, so that its size is not limited by the memory
+ *      The Mediators are built by the reading thread, in the order of the file, then run by a pool of a bounded number of threads :
+ *      the search being bound by the processor, more threads than processors would only share them
+ *      The reading waits as long as every thread is busy and a target per thread is already waiting, which bounds the Mediators in memory
+ *      The configuration, the logging and the warm-up of the virtual machine are thus paid once for the whole batch instead of once per target
+ *      Each result is written as a line : target, best genome, number of generations, elapsed time in milliseconds and solution flag, separated by tabulations
+ * FR - Solveur d'un lot de cibles lues dans un fichier, une cible par ligne, chaque cible étant recherchée par son propre Mediateur
+ *      Le fichier est lu ligne à ligne au fur et à mesure de la résolution des cibles, afin que sa taille ne soit pas limitée par la mémoire
+ *      Les Mediateurs sont construits par le thread de lecture, dans l'ordre du fichier, puis exécutés par un pool d'un nombre borné de threads :
+ *      la recherche étant limitée par le processeur, plus de threads que de processeurs ne feraient que se les partager
+ *      La lecture attend tant que chaque thread est occupé et qu'une cible par thread est déjà en attente, ce qui borne les Mediateurs en mémoire
+ *      La configuration, la journalisation et la chauffe de la machine virtuelle sont ainsi payées une fois pour tout le lot au lieu d'une fois par cible
+ *      Chaque résultat est écrit sous forme d'une ligne : cible, meilleur génome, nombre de générations, durée écoulée en millisecondes et indicateur de solution, séparés par des tabulations
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ * @param <R> EN-Type of the targets </br> FR-Type des cibles
+ */
+@Log
+public class SolveurParLot<T extends Individu<?>, R> {
+
+	/**
+	 * EN - Number of lines of result waiting to be written per solving thread
+	 * FR - Nombre de lignes de résultat en attente d'écriture par thread de résolution
+	 */
+	private static final int CAPACITE_ECRITURE_PAR_THREAD = 64;
+
+	/**
+	 * EN - Reading of a target from a line of the file, without its spaces at the ends
+	 * FR - Lecture d'une cible depuis une ligne du fichier, sans ses espaces aux extrémités
+	 */
+	private final Function<String, R> lectureCible;
+
+	/**
+	 * EN - Factory of the Mediator searching a target
+	 * FR - Fabrique du Mediateur recherchant une cible
+	 */
+	private final Function<R, Mediateur<T, R>> fabriqueMediateur;
+
+	/**
+	 * EN - Textual form of the best genome of a result
+	 * FR - Forme textuelle du meilleur génome d'un résultat
+	 */
+	private final Function<T, String> formatGenome;
+
+	/**
+	 * EN - Number of threads running the Mediators
+	 * FR - Nombre de threads exécutant les Mediateurs
+	 */
+	@Getter
+	private final int nbThreads;
+
+	private final LongAdder nbSolutions = new LongAdder();
+
+	private final LongAdder nbEchecs = new LongAdder();
+
+
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 *
+	 * @param lectureCible      EN-reading of a target from a line </br> FR-lecture d'une cible depuis une ligne
+	 * @param fabriqueMediateur EN-factory of the Mediator searching a target, called by the reading thread </br> FR-fabrique du Mediateur recherchant une cible, appelée par le thread de lecture
+	 * @param formatGenome      EN-textual form of a genome </br> FR-forme textuelle d'un génome
+	 * @param nbThreads         EN-number of solving threads, 0 for one per processor </br> FR-nombre de threads de résolution, 0 pour un par processeur
+	 */
+	public SolveurParLot(	@NonNull Function<String, R> lectureCible, @NonNull Function<R, Mediateur<T, R>> fabriqueMediateur,
+							@NonNull Function<T, String> formatGenome, int nbThreads) {
+
+		this.lectureCible = lectureCible;
+		this.fabriqueMediateur = fabriqueMediateur;
+		this.formatGenome = formatGenome;
+		this.nbThreads = nbThreads > 0 ? nbThreads : Runtime.getRuntime().availableProcessors();
+	}
+
+
+	/**
+	 * EN - Solves the targets of a file, Latin-1 encoded, and writes their results, the empty lines being ignored
+	 *      A target which cannot be read or searched is logged and written with an error in place of its result, without stopping the batch
+	 * FR - Résout les cibles d'un fichier, encodé en Latin-1, et écrit leurs résultats, les lignes vides étant ignorées
+	 *      Une cible qui ne peut être lue ou recherchée est journalisée et écrite avec une erreur à la place de son résultat, sans arrêter le lot
+	 *
+	 * @param fichierCibles    EN-file of the targets, one per line </br> FR-fichier des cibles, une par ligne
+	 * @param fichierResultats EN-file of the results, created or replaced </br> FR-fichier des résultats, créé ou remplacé
+	 * @return EN-the number of targets treated </br> FR-le nombre de cibles traitées
+	 * @throws IOException          EN-if a file cannot be read or written </br> FR-si un fichier ne peut être lu ou écrit
+	 * @throws InterruptedException EN-if the thread is interrupted while waiting </br> FR-si le thread est interrompu pendant l'attente
+	 */
+	public long resoudre(@NonNull Path fichierCibles, @NonNull Path fichierResultats) throws IOException, InterruptedException {
+
+		long debut = System.nanoTime();
+		long nbCibles = 0;
+
+		AtomicInteger numeroThread = new AtomicInteger();
+		ExecutorService executeur = Executors.newFixedThreadPool(nbThreads, tache -> new Thread(tache, "solveur-lot-" + numeroThread.incrementAndGet()));
+
+		/* EN - Places of the targets being solved or waiting for a thread
+		 * FR - Places des cibles en cours de résolution ou en attente d'un thread */
+		Semaphore places = new Semaphore(2 * nbThreads);
+
+		try (	BufferedReader lecteur = Files.newBufferedReader(fichierCibles, StandardCharsets.ISO_8859_1);
+				EcrivainResultats ecrivain = new EcrivainResultats(fichierResultats, CAPACITE_ECRITURE_PAR_THREAD * nbThreads)) {
+
+			String ligne;
+
+			while ((ligne = lecteur.readLine()) != null) {
+
+				String cible = ligne.trim();
+
+				if (cible.isEmpty())
+					continue;
+
+				nbCibles++;
+
+				Mediateur<T, R> mediateur;
+
+				try {
+					mediateur = fabriqueMediateur.apply(lectureCible.apply(cible));
+				} catch (RuntimeException e) {
+					echouer(cible, e, ecrivain);
+					continue;
+				}
+
+				places.acquire();
+
+				executeur.execute(() -> {
+					try {
+						rechercher(cible, mediateur, ecrivain);
+					} finally {
+						places.release();
+					}
+				});
+			}
+
+			executeur.shutdown();
+			executeur.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+		} finally {
+			executeur.shutdownNow();
+		}
+
+		if (log.isLoggable(Level.INFO))
+			log.log(Level.INFO, "Lot de {0} cibles résolu en {1} ms : {2} solutions, {3} échecs", new Object[] {nbCibles, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut), getNbSolutions(), getNbEchecs()});
+
+		return nbCibles;
+	}
+
+
+	/**
+	 * EN - Gives the number of targets found so far
+	 * FR - Donne le nombre de cibles trouvées jusqu'ici
+	 *
+	 * @return EN-the number of solutions </br> FR-le nombre de solutions
+	 */
+	public long getNbSolutions() {
+		return nbSolutions.sum();
+	}
+
+
+	/**
+	 * EN - Gives the number of targets which could not be read or searched so far
+	 * FR - Donne le nombre de cibles n'ayant pu être lues ou recherchées jusqu'ici
+	 *
+	 * @return EN-the number of failures </br> FR-le nombre d'échecs
+	 */
+	public long getNbEchecs() {
+		return nbEchecs.sum();
+	}
+
+
+	/**
+	 * EN - Runs the Mediator of a target on the current thread then publishes its result
+	 * FR - Exécute le Mediateur d'une cible sur le thread courant puis publie son résultat
+	 */
+	private void rechercher(String cible, Mediateur<T, R> mediateur, EcrivainResultats ecrivain) {
+
+		try {
+
+			long debut = System.nanoTime();
+
+			mediateur.run();
+
+			T meilleurIndividu = mediateur.getMeilleurIndividu();
+			boolean solution = meilleurIndividu != null && meilleurIndividu.isSolution();
+
+			if (solution)
+				nbSolutions.increment();
+
+			ecrivain.publier(	cible + '\t' + (meilleurIndividu == null ? "" : formatGenome.apply(meilleurIndividu)) + '\t' + mediateur.getNumeroGeneration()
+								+ '\t' + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debut) + '\t' + solution);
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			echouer(cible, e, ecrivain);
+		}
+	}
+
+
+	private void echouer(String cible, RuntimeException e, EcrivainResultats ecrivain) {
+
+		nbEchecs.increment();
+
+		if (log.isLoggable(Level.WARNING))
+			log.log(Level.WARNING, "Echec de la cible " + cible, e);
+
+		try {
+			ecrivain.publier(cible + "\tERREUR : " + e.getMessage());
+		} catch (InterruptedException interruption) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException erreurEcriture) {
+			/* EN - The writer has already failed, its error being thrown at its closing
+			 * FR - L'écrivain a déjà échoué, son erreur étant levée à sa fermeture */
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+package generique.metier.mediation;
+
+/**
+ * EN - Token allowing a treatment to be cancelled from outside : the Mediator reads it between two generations and during the evaluation,
+ *      then stops keeping the best individual found so far
+ *      A token can be shared by several Mediators (islands of an Archipelago, batch of searches) to cancel them together, and remains cancelled once cancelled
+ * FR - Jeton permettant d'annuler un traitement depuis l'extérieur : le Mediateur le lit entre deux générations et pendant l'évaluation,
+ *      puis s'arrête en conservant le meilleur individu trouvé jusque là
+ *      Un jeton peut être partagé par plusieurs Mediateurs (îles d'un Archipel, lot de recherches) pour les annuler ensemble, et reste annulé une fois annulé
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class JetonAnnulation {
+
+	/**
+	 * EN - Indicates whether the cancellation has been requested
+	 * FR - Indique si l'annulation a été demandée
+	 */
+	private volatile boolean annule;
+
+
+	/**
+	 * EN - Requests the cancellation of the treatments reading the token
+	 * FR - Demande l'annulation des traitements lisant le jeton
+	 */
+	public void annuler() {
+		this.annule = true;
+	}
+
+
+	/**
+	 * EN - Indicates whether the cancellation has been requested
+	 * FR - Indique si l'annulation a été demandée
+	 *
+	 * @return true EN-if the treatments must stop </br> FR-si les traitements doivent s'arrêter
+	 */
+	public boolean isAnnule() {
+		return annule;
+	}
+
+}
@@ -2,23 +2,52 @@ package generique.metier.mediation;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.croisement.CroisementEnPlace;
+import generique.metier.croisement.CroisementEnPlaceParMasque;
+import generique.metier.croisement.CroisementParMasque;
 import generique.metier.croisement.Entrecroiseur;
+import generique.metier.croisement.OperateurCroisement;
+import generique.metier.diffusion.DiffuseurInstantanes;
+import generique.metier.diffusion.InstantaneGeneration;
 import generique.metier.entite.Generation;
 import generique.metier.entite.Individu;
 import generique.metier.entite.Population;
+import generique.metier.entite.StatistiquesGeneration;
+import generique.metier.evaluation.EtageEvaluation;
 import generique.metier.evaluation.Evaluateur;
 import generique.metier.initialisation.Generateur;
+import generique.metier.journal.JournalAsynchrone;
+import generique.metier.journal.PolitiqueSaturation;
+import generique.metier.metrique.PhaseMediateur;
+import generique.metier.metrique.RegistreMetriques;
+import generique.metier.sauvegarde.CodecBinaire;
+import generique.metier.sauvegarde.PointDeSauvegarde;
+import generique.metier.sauvegarde.Reprise;
 import generique.metier.selection.Selecteur;
+import generique.metier.stagnation.DetecteurStagnation;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.java.Log;
@@ -54,11 +83,68 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
 	private int nbIndividusParGeneration; 
 	
 	/**
-	 * EN - Maximum allowable treatment time
-	 * FR - Durée maximale de traitement autorisée
+	 * EN - Maximum allowable treatment time, in nanoseconds
+	 * FR - Durée maximale de traitement autorisée, en nanosecondes
 	 */	
 	private long dureeTraitement;
 	
+	/**
+	 * EN - Optional budget of treatment time, taking precedence over the configuration (dureeExecution in uniteDureeExecution)
+	 * FR - Budget optionnel de temps de traitement, prioritaire sur la configuration (dureeExecution en uniteDureeExecution)
+	 */
+	@Setter
+	private Duration budgetTraitement;
+	
+	/**
+	 * EN - Number of threads dedicated to the evaluation of a generation (1 : evaluation on the calling thread, 0 : one thread per processor)
+	 * FR - Nombre de threads dédiés à l'évaluation d'une génération (1 : évaluation sur le thread appelant, 0 : un thread par processeur)
+	 */
+	private int parallelismeEvaluation;
+	
+	/**
+	 * EN - Indicates whether the score of the decomposable children is deduced from their parents rather than evaluated
+	 * FR - Indique si le score des enfants décomposables est déduit de leurs parents plutôt qu'évalué
+	 */
+	private boolean evaluationDecomposable;
+	
+	/**
+	 * EN - Number of best individuals carried over unchanged from one generation to the next, 0 without elitism
+	 * FR - Nombre de meilleurs individus reportés inchangés d'une génération à la suivante, 0 sans élitisme
+	 */
+	private int nbElites;
+	
+	/**
+	 * EN - Pool used for the parallel evaluation, created by the Mediator when none is provided
+	 * FR - Pool utilisé pour l'évaluation parallèle, créé par le Mediateur lorsqu'aucun n'est fourni
+	 */
+	@Setter
+	private ForkJoinPool poolEvaluation;
+	
+	/**
+	 * EN - Indicates whether the evaluation pool has been created by the Mediator and must therefore be stopped by it
+	 * FR - Indique si le pool d'évaluation a été créé par le Mediateur et doit donc être arrêté par lui
+	 */
+	private boolean poolEvaluationInterne;
+	
+	/**
+	 * EN - Optional stage evaluating the individuals of a generation while it is being built, enabled by the configuration (evaluationEnPipeline), null otherwise
+	 * FR - Etage optionnel évaluant les individus d'une génération pendant sa construction, activé par la configuration (evaluationEnPipeline), null sinon
+	 */
+	private EtageEvaluation<T> etageEvaluation;
+	
+	/**
+	 * EN - Journal of the progress of the generations, created by the Mediator from the configuration when none is provided
+	 * FR - Journal de l'avancement des générations, créé par le Mediateur à partir de la configuration lorsqu'aucun n'est fourni
+	 */
+	@Setter
+	private JournalAsynchrone journal;
+	
+	/**
+	 * EN - Indicates whether the journal has been created by the Mediator and must therefore be closed by it
+	 * FR - Indique si le journal a été créé par le Mediateur et doit donc être fermé par lui
+	 */
+	private boolean journalInterne;
+	
 	/**
 	 * EN - Generator in charge of the creation of a generation of individuals
 	 * FR - Générateur chargé de la creation d'une génération d'individus
@@ -91,10 +177,39 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
 	private Population<Generation<T>> population = new Population<Generation<T>>();
 	
 	/**
-	 * EN - LocalDateTime of treatment start allowing the treatment to be stopped when the maximum allocated time has elapsed
-	 * FR - LocalDateTime de début de traitement permettant l'arrêt du traitement lorsque le temps maximum alloué est écoulé
+	 * EN - Start of the treatment, given by System.nanoTime()
+	 * FR - Début du traitement, donné par System.nanoTime()
+	 */
+	private long debutTraitement;
+	
+	/**
+	 * EN - Deadline of the treatment, given by System.nanoTime(), allowing the treatment to be stopped when the maximum allocated time has elapsed
+	 * FR - Echéance du traitement, donnée par System.nanoTime(), permettant l'arrêt du traitement lorsque le temps maximum alloué est écoulé
+	 */
+	private long echeance;
+	
+	/**
+	 * EN - End of the last slice of generations, given by System.nanoTime(), 0 before the first one
+	 *      The time spent waiting until the next slice is counted neither in the treatment time nor in its budget
+	 * FR - Fin de la dernière tranche de générations, donnée par System.nanoTime(), 0 avant la première
+	 *      Le temps d'attente jusqu'à la tranche suivante n'est compté ni dans la durée du traitement ni dans son budget
 	 */
-	private LocalDateTime startAt;
+	private long finTranche;
+	
+	/**
+	 * EN - Token allowing the treatment to be cancelled from outside
+	 * FR - Jeton permettant d'annuler le traitement depuis l'extérieur
+	 */
+	@NonNull
+	@Getter
+	@Setter
+	private JetonAnnulation jetonAnnulation = new JetonAnnulation();
+	
+	/**
+	 * EN - Stop of the treatment, also read by the evaluator during the evaluation of a generation
+	 * FR - Arrêt du traitement, lu aussi par l'évaluateur pendant l'évaluation d'une génération
+	 */
+	private final BooleanSupplier arretDemande = this::isArretDemande;
 	
 	
     /**
@@ -125,9 +240,17 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
      * @see Evaluateur
      */	
 	@NonNull	
+	@Getter
 	@Setter
 	private Evaluateur<T, R> evaluateurIndividu;
 	
+	/**
+	 * EN - Indicates whether the evaluator is shared with other Mediators and configured by their owner, the Mediator then leaving its configuration and its reference untouched
+	 * FR - Indique si l'évaluateur est partagé avec d'autres Mediateurs et configuré par leur propriétaire, le Mediateur laissant alors sa configuration et sa référence intactes
+	 */
+	@Setter
+	private boolean evaluateurPartage;
+	
 	
     /**
      * EN - Method of selecting an individual
@@ -144,6 +267,162 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
 	@NonNull	
 	@Setter
 	private BiFunction<T, T, List<T>> fonctionFabriqueDeDescendants;
+	
+	/**
+	 * EN - Additional stopping condition evaluated at each generation, allowing the treatment to be stopped from outside
+	 * FR - Condition d'arrêt supplémentaire évaluée à chaque génération, permettant d'arrêter le traitement depuis l'extérieur
+	 */
+	@NonNull
+	@Setter
+	private BooleanSupplier conditionArretExterne = () -> false;
+	
+	/**
+	 * EN - Treatment applied to each new generation once evaluated and surveyed
+	 * FR - Traitement appliqué à chaque nouvelle génération une fois évaluée et recensée
+	 */
+	@NonNull
+	@Setter
+	private Consumer<Generation<T>> traitementFinDeGeneration = generation -> {};
+	
+	/**
+	 * EN - Factory of generation, receiving the number of the generation to create, allowing an alternative implementation of Generation to be used
+	 * FR - Fabrique de génération, recevant le numéro de la génération à créer, permettant d'utiliser une implémentation alternative de Generation
+	 */
+	@NonNull
+	@Setter
+	private IntFunction<Generation<T>> fabriqueGeneration = Generation::new;
+	
+	/**
+	 * EN - Optional crossover writing the children into reused individuals, null to create the children with fonctionFabriqueDeDescendants
+	 * FR - Croisement optionnel écrivant les enfants dans des individus réutilisés, null pour créer les enfants avec fonctionFabriqueDeDescendants
+	 */
+	@Setter
+	private CroisementEnPlace<T> croisementEnPlace;
+	
+	/**
+	 * EN - Optional method drawing again at random the value of an existing individual, allowing the generations to be completed with reused individuals
+	 * FR - Méthode optionnelle tirant à nouveau au hasard la valeur d'un individu existant, permettant de compléter les générations avec des individus réutilisés
+	 */
+	@Setter
+	private Consumer<T> fonctionReinitialisationAleatoire;
+	
+	/**
+	 * EN - Optional factory of blank individuals, overwritten by the crossover in place or the random reinitialization, null to use fonctionGeneratriceIndividuAleatoire
+	 * FR - Fabrique optionnelle d'individus vierges, écrasés par le croisement en place ou la réinitialisation aléatoire, null pour utiliser fonctionGeneratriceIndividuAleatoire
+	 */
+	@Setter
+	private Supplier<T> fabriqueIndividuVierge;
+	
+	/**
+	 * EN - Optional source of random numbers of the operators, reseeded at each point of save so that its state is saved with it
+	 * FR - Source optionnelle de nombres aléatoires des opérateurs, réensemencée à chaque point de sauvegarde afin que son état soit sauvegardé avec lui
+	 */
+	@Setter
+	private SourceAleatoire sourceAleatoire;
+	
+	/**
+	 * EN - Optional crossover according to a mask drawn by the operator of crossover of the configuration, replacing fonctionFabriqueDeDescendants
+	 * FR - Croisement optionnel selon un masque tiré par l'opérateur de croisement de la configuration, remplaçant fonctionFabriqueDeDescendants
+	 */
+	@Setter
+	private CroisementParMasque<T> croisementParMasque;
+	
+	/**
+	 * EN - Optional crossover in place according to a mask drawn by the operator of crossover of the configuration, replacing croisementEnPlace
+	 * FR - Croisement en place optionnel selon un masque tiré par l'opérateur de croisement de la configuration, remplaçant croisementEnPlace
+	 */
+	@Setter
+	private CroisementEnPlaceParMasque<T> croisementEnPlaceParMasque;
+	
+	/**
+	 * EN - Function giving the number of loci of an individual, required with the crossovers by mask
+	 * FR - Fonction donnant le nombre de loci d'un individu, requise avec les croisements par masque
+	 */
+	@Setter
+	private ToIntFunction<T> fonctionNbLoci;
+	
+	/**
+	 * EN - Operator of crossover drawing the masks, null to keep the crossovers provided without mask
+	 * FR - Opérateur de croisement tirant les masques, null pour conserver les croisements fournis sans masque
+	 */
+	private OperateurCroisement operateurCroisement;
+	
+	/**
+	 * EN - Number of loci of a segment of the crossover by segments
+	 * FR - Nombre de loci d'un segment du croisement par segments
+	 */
+	private int longueurSegmentCroisement;
+	
+	/**
+	 * EN - Binary encoding of the individuals, required by the points of save
+	 * FR - Encodage binaire des individus, requis par les points de sauvegarde
+	 */
+	@Getter
+	@Setter
+	private CodecBinaire<T> codecIndividu;
+	
+	/**
+	 * EN - Binary encoding of the reference to be found, required by the points of save
+	 * FR - Encodage binaire de la référence à trouver, requis par les points de sauvegarde
+	 */
+	@Getter
+	@Setter
+	private CodecBinaire<R> codecReference;
+	
+	/**
+	 * EN - Suffix of the file of the point of save, distinguishing the Mediators of an Archipelago
+	 * FR - Suffixe du fichier du point de sauvegarde, distinguant les Mediateurs d'un Archipel
+	 */
+	@NonNull
+	@Setter
+	private String suffixePointDeSauvegarde = "";
+	
+	/**
+	 * EN - Number of generations between two points of save, 0 when disabled
+	 * FR - Nombre de générations entre deux points de sauvegarde, 0 lorsque désactivés
+	 */
+	private int periodePointDeSauvegarde;
+	
+	/**
+	 * EN - Indicates whether the search resumes from the last point of save when it exists
+	 * FR - Indique si la recherche reprend depuis le dernier point de sauvegarde lorsqu'il existe
+	 */
+	private boolean repriseRecherche;
+	
+	/**
+	 * EN - Point of save of the search, null when the points of save are disabled
+	 * FR - Point de sauvegarde de la recherche, null lorsque les points de sauvegarde sont désactivés
+	 */
+	private PointDeSauvegarde<T, R> pointDeSauvegarde;
+	
+	/**
+	 * EN - Registry of the metrics of the treatment : duration of each phase, throughputs and allocation per generation
+	 * FR - Registre des métriques du traitement : durée de chaque phase, débits et allocation par génération
+	 */
+	@Getter
+	private final RegistreMetriques metriques = new RegistreMetriques();
+	
+	/**
+	 * EN - Publisher of the snapshots of the generations
+	 * FR - Diffuseur des instantanés des générations
+	 */
+	private final DiffuseurInstantanes<T> diffuseurInstantanes = new DiffuseurInstantanes<T>();
+	
+	/**
+	 * EN - Optional copy of an individual, giving the best individual of the snapshots, null to publish the snapshots without individual
+	 * FR - Copie optionnelle d'un individu, donnant le meilleur individu des instantanés, null pour publier les instantanés sans individu
+	 */
+	@Setter
+	private UnaryOperator<T> fonctionCopieIndividu;
+	
+	/**
+	 * EN - Optional configuration provided by the caller, which takes precedence over the file geneticConfig.properties, only read when null
+	 *      A configuration shared by several Mediators is only read by them, and loaded once
+	 * FR - Configuration optionnelle fournie par l'appelant, prioritaire sur le fichier geneticConfig.properties, lu uniquement lorsqu'elle est null
+	 *      Une configuration partagée par plusieurs Mediateurs n'est que lue par eux, et chargée une seule fois
+	 */
+	@Setter
+	private Properties configuration;
 
 
 
@@ -152,15 +431,73 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
 	try {
 		
 		/*
-		 * EN - Configuration loading
-		 * FR - Chargement de la configuration
+		 * EN - Configuration loading, the configuration provided by the caller takes precedence over the file
+		 * FR - Chargement de la configuration, la configuration fournie par l'appelant est prioritaire sur le fichier
 		 */
-		Properties properties = new Properties();
-	    properties.load(new FileInputStream("geneticConfig.properties"));
+		Properties properties = configuration;
+		
+		if (properties == null) {
+			properties = new Properties();
+			
+			try (FileInputStream fichier = new FileInputStream("geneticConfig.properties")) {
+				properties.load(fichier);
+			}
+		}
 
 	
 		this.nbIndividusParGeneration = Integer.valueOf(properties.getProperty("nbIndividusParGeneration")); 
-		this.dureeTraitement = Integer.valueOf(properties.getProperty("dureeExecution"));
+		this.dureeTraitement = budgetTraitement != null	? budgetTraitement.toNanos()
+														: TimeUnit.valueOf(properties.getProperty("uniteDureeExecution", "MINUTES").trim()).toNanos(Long.valueOf(properties.getProperty("dureeExecution")));
+		this.parallelismeEvaluation = Integer.valueOf(properties.getProperty("parallelismeEvaluation", "1"));
+		
+		if (!evaluateurPartage) {
+			this.evaluateurIndividu.setTailleTranche(Integer.valueOf(properties.getProperty("tailleTrancheEvaluation", "1000")));
+			this.evaluateurIndividu.setCapaciteCache(Integer.valueOf(properties.getProperty("tailleCacheEvaluation", "0")));
+		}
+		
+		this.evaluationDecomposable = Boolean.parseBoolean(properties.getProperty("evaluationDecomposable", "false"));
+		this.nbElites = Integer.valueOf(properties.getProperty("nbElites", "0"));
+		this.periodePointDeSauvegarde = Integer.valueOf(properties.getProperty("periodePointDeSauvegarde", "0"));
+		this.repriseRecherche = Boolean.parseBoolean(properties.getProperty("repriseRecherche", "false"));
+		this.operateurCroisement = OperateurCroisement.lire(properties.getProperty("operateurCroisement", ""));
+		this.longueurSegmentCroisement = Integer.valueOf(properties.getProperty("longueurSegmentCroisement", "8"));
+		
+		/*
+		 * EN - Evaluation in pipeline, overlapping the crossover and the completion of each generation
+		 * FR - Evaluation en pipeline, recouvrant le croisement et le complément de chaque génération
+		 */
+		if (Boolean.parseBoolean(properties.getProperty("evaluationEnPipeline", "false")))
+			this.etageEvaluation = new EtageEvaluation<T>(	evaluateurIndividu, arretDemande, Integer.valueOf(properties.getProperty("tailleLotPipeline", "64")),
+															Integer.valueOf(properties.getProperty("capaciteFilePipeline", "8")));
+		
+		/*
+		 * EN - Journal of the progress, the journal provided by the caller takes precedence over the configuration
+		 * FR - Journal de l'avancement, le journal fourni par l'appelant est prioritaire sur la configuration
+		 */
+		if (this.journal == null) {
+			this.journal = new JournalAsynchrone(	log, Integer.valueOf(properties.getProperty("capaciteJournal", "1024")),
+													PolitiqueSaturation.valueOf(properties.getProperty("politiqueJournal", "ABANDONNER").trim()));
+			this.journalInterne = true;
+		}
+		
+		/*
+		 * EN - Point of save, enabled by the configuration when the binary encodings have been provided
+		 * FR - Point de sauvegarde, activé par la configuration lorsque les encodages binaires ont été fournis
+		 */
+		if ((periodePointDeSauvegarde > 0 || repriseRecherche) && codecIndividu != null && codecReference != null)
+			this.pointDeSauvegarde = new PointDeSauvegarde<T, R>(	Paths.get(properties.getProperty("fichierPointDeSauvegarde", "pointDeSauvegarde") + suffixePointDeSauvegarde + ".bin"),
+																	codecIndividu, codecReference);
+		else if ((periodePointDeSauvegarde > 0 || repriseRecherche) && log.isLoggable(Level.WARNING))
+			log.log(Level.WARNING, "Points de sauvegarde désactivés : encodages binaires non fournis");
+		
+		this.population.setDetecteurStagnation(new DetecteurStagnation(	Integer.valueOf(properties.getProperty("fenetreStagnation", "500")),
+																			DetecteurStagnation.lireCriteres(properties.getProperty("criteresStagnation", "")),
+																			Double.valueOf(properties.getProperty("seuilPenteStagnation", "0"))));
+		if (!evaluateurPartage)
+			this.evaluateurIndividu.setEvaluationDecomposable(evaluationDecomposable);
+		
+		if (evaluationDecomposable && evaluateurIndividu.getCache() != null && log.isLoggable(Level.WARNING))
+			log.log(Level.WARNING, "Cache d'évaluation contourné par les individus décomposables : leurs correspondances ne sont pas conservées par le cache");
 		
 		} catch (IOException e) {
 			if (log.isLoggable(Level.SEVERE)) {
@@ -175,9 +512,59 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
 		
 		this.entrecroiseurIndividus = new Entrecroiseur<T> (fonctionFabriqueDeDescendants, nbIndividusParGeneration);
 		
+		this.entrecroiseurIndividus.setFabriqueGeneration(fabriqueGeneration);
+		
+		this.entrecroiseurIndividus.setCroisementEnPlace(croisementEnPlace);
+		
+		this.entrecroiseurIndividus.setEvaluationDecomposable(evaluationDecomposable);
+		
+		/*
+		 * EN - Elitism, the elites being copied with a crossover in place
+		 * FR - Elitisme, les élites étant copiées avec un croisement en place
+		 */
+		this.entrecroiseurIndividus.setNbElites(nbElites);
+		
+		this.entrecroiseurIndividus.setFonctionCopieIndividu(fonctionCopieIndividu);
+		
+		if (nbElites > 0 && croisementEnPlace != null && fonctionCopieIndividu == null && log.isLoggable(Level.WARNING))
+			log.log(Level.WARNING, "Elitisme désactivé : méthode de copie des individus non fournie pour le croisement en place");
+		
+		this.entrecroiseurIndividus.setFabriqueIndividu(fabriqueIndividuVierge != null ? fabriqueIndividuVierge : fonctionGeneratriceIndividuAleatoire);
+		
+		/*
+		 * EN - Crossover by mask, enabled by the configuration when the source of random numbers, the number of loci and the crossover matching the mode have been provided
+		 * FR - Croisement par masque, activé par la configuration lorsque la source de nombres aléatoires, le nombre de loci et le croisement correspondant au mode ont été fournis
+		 */
+		if (operateurCroisement != null && sourceAleatoire != null && fonctionNbLoci != null
+				&& (croisementEnPlace != null ? croisementEnPlaceParMasque != null : croisementParMasque != null)) {
+			this.entrecroiseurIndividus.setOperateurCroisement(operateurCroisement);
+			this.entrecroiseurIndividus.setLongueurSegment(longueurSegmentCroisement);
+			this.entrecroiseurIndividus.setSourceAleatoire(sourceAleatoire);
+			this.entrecroiseurIndividus.setFonctionNbLoci(fonctionNbLoci);
+			this.entrecroiseurIndividus.setCroisementParMasque(croisementParMasque);
+			this.entrecroiseurIndividus.setCroisementEnPlaceParMasque(croisementEnPlaceParMasque);
+		} else if (operateurCroisement != null && log.isLoggable(Level.WARNING))
+			log.log(Level.WARNING, "Opérateur de croisement {0} ignoré : croisement par masque, nombre de loci ou source aléatoire non fournis", operateurCroisement);
+		
 		this.gs = new Generateur<T>(fonctionGeneratriceIndividuAleatoire);
 		
-		this.startAt = LocalDateTime.now();
+		this.gs.setFabriqueGeneration(fabriqueGeneration);
+		
+		this.gs.setReinitialisationAleatoire(fonctionReinitialisationAleatoire);
+		
+		this.gs.setFabriqueIndividuVierge(fabriqueIndividuVierge);
+		
+		/*
+		 * EN - Parallel evaluation set-up, the pool provided by the caller takes precedence over the configuration
+		 * FR - Mise en place de l'évaluation parallèle, le pool fourni par l'appelant est prioritaire sur la configuration
+		 */
+		if (this.poolEvaluation == null && this.parallelismeEvaluation != 1) {
+			this.poolEvaluation = this.parallelismeEvaluation > 1 ? new ForkJoinPool(this.parallelismeEvaluation) : new ForkJoinPool();
+			this.poolEvaluationInterne = true;
+		}
+		
+		this.debutTraitement = System.nanoTime();
+		this.echeance = debutTraitement + dureeTraitement;
 		
 		
 	}
@@ -212,51 +599,105 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
 	@Override
 	public void run() {
 		
-		init();
+		try {
+			
+			demarrer();
+			
+			avancer(Integer.MAX_VALUE);
+			
+			terminer();
+			
+		} finally {
+			liberer();
+		}
+	}
+	
+	
+	/**
+	 * EN - Starts the treatment : configuration, then resumption from the point of save or creation and evaluation of the initial generation
+	 *      With {@link #avancer(int)} and {@link #terminer()}, allows the treatment to be run in slices of generations, possibly on different threads one after the other
+	 * FR - Démarre le traitement : configuration, puis reprise depuis le point de sauvegarde ou création et évaluation de la génération initiale
+	 *      Avec {@link #avancer(int)} et {@link #terminer()}, permet d'exécuter le traitement par tranches de générations, éventuellement sur des threads différents l'un après l'autre
+	 */
+	public void demarrer() {
 		
-		/*
-		 *  EN - Random initialization of the first generation
-		 *  FR - Initialisation aléatoire de la première génération
-		 */
-		g = gs.getGeneration(nbIndividusParGeneration);
+		init();
 		
+		metriques.demarrer();
 		
 		/*
-		 * EN - Assessment of individuals in the initial generation
-		 * FR - Evaluation des individus de la génération initiale
+		 *  EN - Resumption from the last point of save, otherwise random initialization of the first generation
+		 *  FR - Reprise depuis le dernier point de sauvegarde, sinon initialisation aléatoire de la première génération
 		 */
-		for (T individu : g.getLesIndividus()) {
-			evaluateurIndividu.evaluer(individu);
+		if (!reprendre()) {
+			
+			long debut = System.nanoTime();
+			
+			g = gs.getGeneration(nbIndividusParGeneration);
+			
+			debut = metriques.mesurer(PhaseMediateur.GENERATION_INITIALE, debut, g);
+			
+			
+			/*
+			 * EN - Assessment of individuals in the initial generation
+			 * FR - Evaluation des individus de la génération initiale
+			 */
+			evaluateurIndividu.evaluer(g, poolEvaluation, arretDemande);
+			
+			metriques.mesurer(PhaseMediateur.EVALUATION, debut, g);
+			
+			if (log.isLoggable(Level.FINE)) {
+				log.log(Level.FINE,"Generation initiale évaluée\n");
+			}
 		}
 		
-		if (log.isLoggable(Level.FINE)) {
-			log.log(Level.FINE,"Generation initiale évaluée\n");
+		diffuser();
+	}
+	
+	
+	/**
+	 * EN - Indicates whether the treatment is over : the generation contains the solution, the population stagnates or the stop is requested
+	 * FR - Indique si le traitement est fini : la génération contient la solution, la population stagne ou l'arrêt est demandé
+	 * 
+	 * @return true EN-if no generation remains to be processed </br> FR-si aucune génération ne reste à traiter
+	 */
+	public boolean isTermine() {
+		return g.contienSolution() || population.isPopulationStagnante() || isArretDemande();
+	}
+	
+	
+	/**
+	 * EN - Processes generations of the treatment started, as long as it is not over
+	 *      The start and the deadline of the treatment are shifted by the time elapsed since the previous slice
+	 * FR - Traite des générations du traitement démarré, tant qu'il n'est pas fini
+	 *      Le début et l'échéance du traitement sont décalés du temps écoulé depuis la tranche précédente
+	 * 
+	 * @param nbGenerations EN-maximum number of generations processed </br> FR-nombre maximum de générations traitées
+	 * @return true EN-if the treatment is over </br> FR-si le traitement est fini
+	 */
+	public boolean avancer(int nbGenerations) {
+		
+		if (finTranche != 0) {
+			long attente = System.nanoTime() - finTranche;
+			debutTraitement += attente;
+			echeance += attente;
 		}
 		
 		/*
 		 * EN - Stopping condition
-		 * 		Processing stops if the allotted time has elapsed or if the generation being processed contains the desired solution or if the population is decreasing
+		 * 		Processing stops if the generation being processed contains the desired solution or if the population stagnates or if the stop is requested (allotted time elapsed, cancellation)
 		 * FR - Condition d'arrêt
-		 *      Le traitement s'arrête si le temps alloué est écoulé oue si la génération en cours de traitement contient la solution recherchée ou si la population est decroissante
+		 *      Le traitement s'arrête si la génération en cours de traitement contient la solution recherchée ou si la population stagne ou si l'arrêt est demandé (temps alloué écoulé, annulation)
 		 */
-		while(Duration.between(startAt, LocalDateTime.now()).toMinutes() < dureeTraitement && !g.contienSolution() && !population.isPopulationDecroissante()) {
+		for (int i = 0; i < nbGenerations && !isTermine(); i++) {
 			
-			if (log.isLoggable(Level.INFO)) {
-
-				log.log(Level.INFO, "Generation {0} en cours de traitement", g.getNumero());
-				
-
-				if (log.isLoggable(Level.FINE)) {
-					
-					log.log(Level.FINE, "Duree de traitement : {0} minutes", Duration.between(startAt, LocalDateTime.now()).toMinutes());
-					log.log(Level.FINE, "Mot mystere : {0}",evaluateurIndividu.getMotMystere());
-					log.log(Level.FINE, "Score cumulé : {0}", g.getSommeScore());
-					log.log(Level.FINE, "Score de Sélection : {0}", g.getScoreDeSelection());
-
-				}
-				
-				log.log(Level.INFO, "Meilleure solution : {0}", g.getMeilleurIndividu());
-			}
+			/*
+			 * EN - One record of progress per generation, formatted out of the evolution loop by the journal
+			 * FR - Un enregistrement d'avancement par génération, mis en forme hors de la boucle d'évolution par le journal
+			 */
+			journal.publier(g, evaluateurIndividu.getMotMystere(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debutTraitement), fonctionCopieIndividu);
+			
+			long debut = metriques.debuterGeneration();
 			
 			
 			/*
@@ -266,72 +707,381 @@ public class Mediateur<T extends Individu<?>, R> implements Runnable {
 			selecteurIndividu.setSeuil(g.getScoreDeSelection());
 			
 			/*
-			 * EN - Selection of individuals from the generation being processed
-			 * FR - Sélection des individus de la génération en cours de traitement
+			 * EN - Selection of individuals from the generation being processed and deletion of unselected individuals, in a single pass
+			 * FR - Sélection des individus de la génération en cours de traitement et suppression des individus non sélectionnés, en une seule passe
 			 */
-			for (T individu : g.getLesIndividus()) {
-				selecteurIndividu.selectionner(individu);
-			}
+			selecteurIndividu.selectionnerEtEliminer(g);
 			
+			debut = metriques.mesurer(PhaseMediateur.SELECTION, debut, g);
 			
 			/*
-			 * EN - Deletion of unselected individuals from the generation being processed
-			 * FR - Suppression des individus non sélectionnés de la génération en cours de traitement
+			 * EN - In pipeline, the children and the individuals of completion are evaluated by the stage of evaluation as soon as they are built,
+			 *      the generations whose individuals depend on their storage being processed sequentially
+			 * FR - En pipeline, les enfants et les individus de complément sont évalués par l'étage d'évaluation dès leur construction,
+			 *      les générations dont les individus dépendent de leur stockage étant traitées séquentiellement
 			 */
+			if (etageEvaluation != null && g.isIndividusStables()) {
+				
+				etageEvaluation.commencer();
+				
+				g = entrecroiseurIndividus.getGeneration(g, etageEvaluation::ajouter);
+				
+				debut = metriques.mesurer(PhaseMediateur.CROISEMENT, debut, g);
+				
+				gs.completer(g, nbIndividusParGeneration, etageEvaluation::ajouter);
+				
+				debut = metriques.mesurer(PhaseMediateur.COMPLEMENT, debut, g);
+				
+				/*
+				 *  EN - Waiting for the end of the evaluation of the generation
+				 *  FR - Attente de la fin de l'évaluation de la génération
+				 */
+				etageEvaluation.terminer(g);
+				
+			} else {
+				
+				/*
+				 * EN - Crossbreeding of the remaining individuals to create the new generation
+				 * FR - Croisement des individus restant pour créer la nouvelle génération
+				 */
+				
+				g = entrecroiseurIndividus.getGeneration(g);
+				
+				debut = metriques.mesurer(PhaseMediateur.CROISEMENT, debut, g);
+				
+				/*
+				 * EN - Add additional individuals if necessary
+				 * FR - Ajout d'individus supplementaires si necessaire
+				 */
+	
+				gs.completer(g, nbIndividusParGeneration);
+				
+				debut = metriques.mesurer(PhaseMediateur.COMPLEMENT, debut, g);
+	
+				/*
+				 *  En - Evaluation of the new generation of individuals
+				 *  FR - Evaluation des individus de la nouvelle generation
+				 */
+				
+				evaluateurIndividu.evaluer(g, poolEvaluation, arretDemande);
+			}
 			
-			g.eliminerNonSelectionnes();
+			debut = metriques.mesurer(PhaseMediateur.EVALUATION, debut, g);
 			
 			/*
-			 * EN - Crossbreeding of the remaining individuals to create the new generation
-			 * FR - Croisement des individus restant pour créer la nouvelle génération
+			 *  En - Generation census
+			 *  FR - Recensement de la génération
 			 */
+			population.recenser(g);
 			
-			g = entrecroiseurIndividus.getGeneration(g);
+			metriques.mesurer(PhaseMediateur.RECENSEMENT, debut, g);
 			
+			metriques.terminerGeneration(g);
 			
 			/*
-			 * EN - Add additional individuals if necessary
-			 * FR - Ajout d'individus supplementaires si necessaire
+			 *  En - End of generation treatment
+			 *  FR - Traitement de fin de génération
 			 */
-
-			if (g.nbIndividus() < nbIndividusParGeneration) {
-				g.ajouterGroupeIndividu(gs.getGeneration(nbIndividusParGeneration-g.nbIndividus()).getLesIndividus());
-			}
+			traitementFinDeGeneration.accept(g);
 			
-
 			/*
-			 *  En - Evaluation of the new generation of individuals
-			 *  FR - Evaluation des individus de la nouvelle generation
+			 *  En - Snapshot of the generation for the subscribers
+			 *  FR - Instantané de la génération pour les abonnés
 			 */
-			
-			for (T individu : g.getLesIndividus()) {
-				evaluateurIndividu.evaluer(individu);
-			}
+			diffuser();
 			
 			/*
-			 *  En - Generation census
-			 *  FR - Recensement de la génération
+			 *  En - Periodic point of save
+			 *  FR - Point de sauvegarde périodique
 			 */
-			population.recenser(g);
+			if (pointDeSauvegarde != null && periodePointDeSauvegarde > 0 && g.getNumero() % periodePointDeSauvegarde == 0)
+				sauvegarder();
 			
 		}
 		
+		finTranche = System.nanoTime();
+		
+		return isTermine();
+	}
+	
+	
+	/**
+	 * EN - Ends the treatment : final messages, then release of the resources by {@link #liberer()}
+	 * FR - Termine le traitement : messages finaux, puis libération des ressources par {@link #liberer()}
+	 */
+	public void terminer() {
+		
+		metriques.arreter();
+		
+		/*
+		 * EN - The records of progress are written before the final messages, the journal being closed if it was created by the Mediator
+		 * FR - Les enregistrements d'avancement sont écrits avant les messages finaux, le journal étant fermé s'il a été créé par le Mediateur
+		 */
+		diffuseurInstantanes.fermer();
+		
+		long nbAbandonsJournal = journal.getNbAbandons();
+		
+		if (journalInterne)
+			fermerJournal();
+		else
+			journal.attendreEcriture();
+		
 		if (log.isLoggable(Level.INFO)) { 
 
 			log.log(Level.INFO, "END !");
 			log.log(Level.INFO, "le mot Mystère est ? : {0}", evaluateurIndividu.getMotMystere());
 			log.log(Level.INFO, "La meilleure solution trouvée est : {0}", g.getMeilleurIndividu());
-			log.log(Level.INFO, "Population décroissante ? : {0}", population.isPopulationDecroissante());
-			log.log(Level.INFO, "Temps écoulé : {0} minutes", Duration.between(startAt, LocalDateTime.now()).toMinutes());
+			log.log(Level.INFO, "Population stagnante ? : {0}", population.isPopulationStagnante() ? population.getDetecteurStagnation().getCritereAtteint() : false);
+			log.log(Level.INFO, "Temps écoulé : {0} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - debutTraitement));
+			
+			if (jetonAnnulation.isAnnule())
+				log.log(Level.INFO, "Traitement annulé");
+			
+			if (evaluateurIndividu.getCache() != null)
+				log.log(Level.INFO, "Cache d''évaluation : {0} succès, {1} échecs", new Object[] {evaluateurIndividu.getCache().getNbSucces(), evaluateurIndividu.getCache().getNbEchecs()});
+			
+			if (evaluationDecomposable)
+				log.log(Level.INFO, "Scores déduits des parents : {0}", evaluateurIndividu.getNbScoresDeduits());
+			
+			if (nbElites > 0)
+				log.log(Level.INFO, "Evaluations évitées : {0}", evaluateurIndividu.getNbEvaluationsEvitees());
+			
+			log.log(Level.INFO, "Métriques : {0}", metriques);
+			
+			if (nbAbandonsJournal > 0)
+				log.log(Level.INFO, "Enregistrements du journal abandonnés : {0}", nbAbandonsJournal);
 
 		}
+		
+		liberer();
+	}
+	
+	
+	/**
+	 * EN - Releases the resources of the treatment : snapshots, journal and evaluation pool when they were created by the Mediator, and stage of evaluation of the pipeline
+	 *      Called by {@link #terminer()} and by {@link #run()} even when the treatment fails, it can be called again without effect,
+	 *      in particular by a caller running the treatment in slices which stops on an exception
+	 * FR - Libère les ressources du traitement : instantanés, journal et pool d'évaluation lorsqu'ils ont été créés par le Mediateur, et étage d'évaluation du pipeline
+	 *      Appelée par {@link #terminer()} et par {@link #run()} même lorsque le traitement échoue, elle peut être rappelée sans effet,
+	 *      notamment par un appelant exécutant le traitement par tranches qui s'arrête sur une exception
+	 */
+	public void liberer() {
+		
+		diffuseurInstantanes.fermer();
+		
+		if (journalInterne)
+			fermerJournal();
 
-
+		/*
+		 * EN - Stopping the evaluation pool if it was created by the Mediator
+		 * FR - Arrêt du pool d'évaluation s'il a été créé par le Mediateur
+		 */
+		if (poolEvaluationInterne) {
+			poolEvaluation.shutdown();
+			poolEvaluation = null;
+			poolEvaluationInterne = false;
+		}
 		
+		/*
+		 * EN - Stopping the stage of evaluation of the pipeline
+		 * FR - Arrêt de l'étage d'évaluation du pipeline
+		 */
+		if (etageEvaluation != null) {
+			etageEvaluation.close();
+			etageEvaluation = null;
+		}
+	}
+	
+	
+	/**
+	 * EN - Closes the journal created by the Mediator, once the records published have been written
+	 * FR - Ferme le journal créé par le Mediateur, une fois les enregistrements publiés écrits
+	 */
+	private void fermerJournal() {
 		
+		journal.close();
+		journal = null;
+		journalInterne = false;
 	}
 	
 	
+	/**
+	 * EN - Submits the treatment to an executor
+	 *      Cancelling the returned Future cancels the token of the Mediator, the treatment then stopping at the next check, without waiting for the end of the generation ;
+	 *      the best individual found so far remains available through {@link #getMeilleurIndividu()}
+	 * FR - Soumet le traitement à un exécuteur
+	 *      Annuler le Future renvoyé annule le jeton du Mediateur, le traitement s'arrêtant alors au contrôle suivant, sans attendre la fin de la génération ;
+	 *      le meilleur individu trouvé jusque là reste disponible par {@link #getMeilleurIndividu()}
+	 * 
+	 * @param executeur EN-executor running the treatment </br> FR-exécuteur exécutant le traitement
+	 * @return EN-the future best individual of the treatment </br> FR-le futur meilleur individu du traitement
+	 */
+	public Future<T> soumettre(@NonNull ExecutorService executeur) {
+		
+		FutureTask<T> traitement = new FutureTask<T>(() -> {
+			run();
+			return getMeilleurIndividu();
+		}) {
+			@Override
+			public boolean cancel(boolean interrompre) {
+				jetonAnnulation.annuler();
+				return super.cancel(interrompre);
+			}
+		};
+		
+		executeur.execute(traitement);
+		
+		return traitement;
+	}
+	
+	
+	/**
+	 * EN - Gives the stream of the snapshots of the generations, published once each generation is evaluated and completed at the end of the treatment
+	 *      The publication never slows the evolution down : a subscriber which does not keep up only receives the latest snapshot
+	 * FR - Donne le flux des instantanés des générations, publiés une fois chaque génération évaluée et complété à la fin du traitement
+	 *      La publication ne ralentit jamais l'évolution : un abonné qui ne suit pas ne reçoit que le dernier instantané
+	 * 
+	 * @return EN-the publisher of the snapshots </br> FR-le diffuseur des instantanés
+	 */
+	public Flow.Publisher<InstantaneGeneration<T>> getInstantanes() {
+		return diffuseurInstantanes;
+	}
+	
+	
+	/**
+	 * EN - Publishes the snapshot of the generation being processed, only built when there are subscribers
+	 * FR - Publie l'instantané de la génération en cours de traitement, construit uniquement lorsqu'il y a des abonnés
+	 */
+	private void diffuser() {
+		
+		if (!diffuseurInstantanes.hasAbonnes())
+			return;
+		
+		StatistiquesGeneration<T> statistiques = g.getStatistiques();
+		T meilleurIndividu = g.getMeilleurIndividu();
+		
+		diffuseurInstantanes.publier(new InstantaneGeneration<T>(	g.getNumero(),
+																	meilleurIndividu != null && fonctionCopieIndividu != null ? fonctionCopieIndividu.apply(meilleurIndividu) : null,
+																	statistiques.getScoreMax(), statistiques.getSomme(), statistiques.getScoreDeSelection(), statistiques.contientSolution(),
+																	System.nanoTime() - debutTraitement));
+	}
+	
+	
+	/**
+	 * EN - Indicates whether the stop of the treatment is requested : allotted time elapsed, cancelled token, interrupted thread or external stopping condition
+	 *      The check only reads System.nanoTime() and does not allocate, it can therefore be done during a generation
+	 * FR - Indique si l'arrêt du traitement est demandé : temps alloué écoulé, jeton annulé, thread interrompu ou condition d'arrêt externe
+	 *      Le contrôle ne lit que System.nanoTime() et n'alloue pas, il peut donc être fait pendant une génération
+	 * 
+	 * @return true EN-if the treatment must stop </br> FR-si le traitement doit s'arrêter
+	 */
+	private boolean isArretDemande() {
+		return System.nanoTime() - echeance >= 0 || jetonAnnulation.isAnnule() || Thread.currentThread().isInterrupted() || conditionArretExterne.getAsBoolean();
+	}
+	
+	
+	/**
+	 * EN - Returns the best individual of the generation being processed
+	 * FR - Renvoit le meilleur individu de la génération en cours de traitement
+	 * 
+	 * @return EN-the best individual, null if the treatment has not started </br> FR-le meilleur individu, null si le traitement n'a pas démarré
+	 */
+	public T getMeilleurIndividu() {
+		return g == null ? null : g.getMeilleurIndividu();
+	}
 	
+	
+	/**
+	 * EN - Returns the number of the generation being processed
+	 * FR - Renvoit le numéro de la génération en cours de traitement
+	 * 
+	 * @return EN-the number of the generation, 0 if the treatment has not started </br> FR-le numéro de la génération, 0 si le traitement n'a pas démarré
+	 */
+	public int getNumeroGeneration() {
+		return g == null ? 0 : g.getNumero();
+	}
+	
+	
+	/**
+	 * EN - Resumes the search from the last point of save when the configuration asks for it and the point of save exists
+	 *      The generation, the mystery value, the window of the stagnation detector, the source of random numbers and the elapsed time are restored,
+	 *      the mystery value of a shared evaluator being restored by its owner
+	 * FR - Reprend la recherche depuis le dernier point de sauvegarde lorsque la configuration le demande et que le point de sauvegarde existe
+	 *      La génération, la valeur mystère, la fenêtre du détecteur de stagnation, la source de nombres aléatoires et la durée écoulée sont restaurées,
+	 *      la valeur mystère d'un évaluateur partagé étant restaurée par son propriétaire
+	 * 
+	 * @return true EN-if the search has been resumed, false to start a new search </br> FR-si la recherche a été reprise, false pour démarrer une nouvelle recherche
+	 */
+	private boolean reprendre() {
+		
+		if (!repriseRecherche || pointDeSauvegarde == null || !pointDeSauvegarde.existe())
+			return false;
+		
+		try {
+			
+			Reprise<T, R> reprise = pointDeSauvegarde.lire(fabriqueGeneration, population.getDetecteurStagnation());
+			
+			g = reprise.getGeneration();
+			
+			/*
+			 * EN - A shared evaluator gets the reference from its owner before the Mediators start
+			 * FR - Un évaluateur partagé reçoit la référence de son propriétaire avant le démarrage des Mediateurs
+			 */
+			if (!evaluateurPartage)
+				evaluateurIndividu.setMotMystere(reprise.getReference());
+			
+			if (sourceAleatoire != null)
+				sourceAleatoire.reinitialiser(reprise.getGraine());
+			
+			debutTraitement -= reprise.getDureeEcoulee();
+			echeance -= reprise.getDureeEcoulee();
+			
+			if (log.isLoggable(Level.INFO))
+				log.log(Level.INFO, "Reprise de la génération {0} depuis {1}", new Object[] {g.getNumero(), pointDeSauvegarde.getChemin()});
+			
+			return true;
+			
+		} catch (IOException e) {
+			
+			if (log.isLoggable(Level.WARNING))
+				log.log(Level.WARNING, "Point de sauvegarde illisible, nouvelle recherche : {0}", e.getMessage());
+			
+			return false;
+		}
+	}
+	
+	
+	/**
+	 * EN - Saves the search : the source of random numbers is first reseeded with a seed drawn from itself, which is saved in place of its state
+	 *      A save which fails is logged without stopping the search, the previous point of save remaining valid
+	 * FR - Sauvegarde la recherche : la source de nombres aléatoires est d'abord réensemencée avec une graine tirée d'elle-même, sauvegardée à la place de son état
+	 *      Une sauvegarde qui échoue est journalisée sans arrêter la recherche, le point de sauvegarde précédent restant valide
+	 */
+	private void sauvegarder() {
+		
+		long graine = 0;
+		
+		if (sourceAleatoire != null) {
+			graine = sourceAleatoire.nextLong();
+			sourceAleatoire.reinitialiser(graine);
+		}
+		
+		long debut = System.nanoTime();
+		
+		try {
+			
+			pointDeSauvegarde.ecrire(g, evaluateurIndividu.getMotMystere(), population.getDetecteurStagnation(), graine, System.nanoTime() - debutTraitement);
+			
+			long fin = metriques.mesurer(PhaseMediateur.SAUVEGARDE, debut, g);
+			
+			if (log.isLoggable(Level.FINE))
+				log.log(Level.FINE, "Point de sauvegarde de la génération {0} écrit en {1} ms", new Object[] {g.getNumero(), (fin - debut) / 1_000_000});
+			
+		} catch (IOException e) {
+			
+			if (log.isLoggable(Level.WARNING))
+				log.log(Level.WARNING, "Echec du point de sauvegarde : {0}", e.getMessage());
+		}
+	}
 
 }
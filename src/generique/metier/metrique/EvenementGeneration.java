@@ -0,0 +1,48 @@
+package generique.metier.metrique;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * EN - Flight Recorder event of a generation treated by the Mediator, from the selection to the census
+ * FR - Evénement Flight Recorder d'une génération traitée par le Mediateur, de la sélection au recensement
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@Name("parlonsarchi.Generation")
+@Label("Génération traitée")
+@Category({"Parlons Archi", "Algorithme génétique"})
+@Description("Durée, scores et allocation du traitement d'une génération")
+@StackTrace(false)
+public class EvenementGeneration extends jdk.jfr.Event {
+
+	@Label("Numéro de génération")
+	int numeroGeneration;
+
+	@Label("Nombre d'individus")
+	int nbIndividus;
+
+	@Label("Meilleur score")
+	int meilleurScore;
+
+	@Label("Somme des scores")
+	int sommeScore;
+
+	@Label("Durée de la génération")
+	@Timespan(Timespan.NANOSECONDS)
+	long dureeGeneration;
+
+	@Label("Octets alloués")
+	@Description("Octets alloués par le thread du Mediateur, hors threads du pool d'évaluation")
+	@DataAmount(DataAmount.BYTES)
+	long octetsAlloues;
+
+}
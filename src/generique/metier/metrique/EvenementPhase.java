@@ -0,0 +1,39 @@
+package generique.metier.metrique;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * EN - Flight Recorder event of a phase of the Mediator, recorded with the settings of the recording (enabled, threshold)
+ * FR - Evénement Flight Recorder d'une phase du Mediateur, enregistré selon les réglages de l'enregistrement (activation, seuil)
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@Name("parlonsarchi.Phase")
+@Label("Phase du Mediateur")
+@Category({"Parlons Archi", "Algorithme génétique"})
+@Description("Durée d'une phase du traitement d'une génération")
+@StackTrace(false)
+public class EvenementPhase extends jdk.jfr.Event {
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Numéro de génération")
+	int numeroGeneration;
+
+	@Label("Nombre d'individus")
+	int nbIndividus;
+
+	@Label("Durée de la phase")
+	@Timespan(Timespan.NANOSECONDS)
+	long dureePhase;
+
+}
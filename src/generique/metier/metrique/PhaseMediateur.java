@@ -0,0 +1,56 @@
+package generique.metier.metrique;
+
+/**
+ * EN - Phases of the treatment of a generation by the Mediator, timed by the {@link RegistreMetriques}
+ * FR - Phases du traitement d'une génération par le Mediateur, chronométrées par le {@link RegistreMetriques}
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public enum PhaseMediateur {
+
+	/**
+	 * EN - Random creation of the initial generation
+	 * FR - Création aléatoire de la génération initiale
+	 */
+	GENERATION_INITIALE,
+
+	/**
+	 * EN - Evaluation of the individuals of a generation
+	 * FR - Evaluation des individus d'une génération
+	 */
+	EVALUATION,
+
+	/**
+	 * EN - Selection of the individuals and elimination of the unselected ones, done in a single pass over the generation
+	 * FR - Sélection des individus et élimination des non sélectionnés, faites en une seule passe sur la génération
+	 */
+	SELECTION,
+
+	/**
+	 * EN - Crossover of the selected individuals into the new generation
+	 * FR - Croisement des individus sélectionnés dans la nouvelle génération
+	 */
+	CROISEMENT,
+
+	/**
+	 * EN - Completion of the new generation with random individuals by the Generateur
+	 * FR - Complément de la nouvelle génération par des individus aléatoires du Generateur
+	 */
+	COMPLEMENT,
+
+	/**
+	 * EN - Census of the generation by the population
+	 * FR - Recensement de la génération par la population
+	 */
+	RECENSEMENT,
+
+	/**
+	 * EN - Writing of a point of save
+	 * FR - Ecriture d'un point de sauvegarde
+	 */
+	SAUVEGARDE
+
+}
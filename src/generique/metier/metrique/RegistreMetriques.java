@@ -0,0 +1,325 @@
+package generique.metier.metrique;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import generique.metier.entite.Generation;
+import generique.metier.entite.StatistiquesGeneration;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * EN - Registry of the metrics of a Mediator : duration of each phase in nanoseconds, generations treated, individuals evaluated and memory allocated
+ *      The measures are written by the thread of the Mediator and can be read at any time from any thread, the counters being LongAdder
+ *      Each measure is also recorded as a Flight Recorder event when a recording is running, so that the time can be followed without the FINE logs ;
+ *      the classes of the events are only used once the Flight Recorder is initialized, their first loading costing otherwise several hundred milliseconds
+ *      The allocation is the one of the thread of the Mediator : the work done by the threads of a parallel evaluation pool is not counted
+ * FR - Registre des métriques d'un Mediateur : durée de chaque phase en nanosecondes, générations traitées, individus évalués et mémoire allouée
+ *      Les mesures sont écrites par le thread du Mediateur et peuvent être lues à tout moment depuis n'importe quel thread, les compteurs étant des LongAdder
+ *      Chaque mesure est aussi enregistrée comme événement Flight Recorder lorsqu'un enregistrement est en cours, afin de suivre le temps sans les journaux FINE ;
+ *      les classes des événements ne sont utilisées qu'une fois le Flight Recorder initialisé, leur premier chargement coûtant sinon plusieurs centaines de millisecondes
+ *      L'allocation est celle du thread du Mediateur : le travail fait par les threads d'un pool d'évaluation parallèle n'est pas compté
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class RegistreMetriques {
+
+	/**
+	 * EN - Access to the memory allocated by a thread, null when the virtual machine does not provide it
+	 * FR - Accès à la mémoire allouée par un thread, null lorsque la machine virtuelle ne la fournit pas
+	 */
+	private static final com.sun.management.ThreadMXBean THREADS = lireThreads();
+
+	private static final PhaseMediateur[] PHASES = PhaseMediateur.values();
+
+	/**
+	 * EN - Cumulated duration of each phase, in nanoseconds
+	 * FR - Durée cumulée de chaque phase, en nanosecondes
+	 */
+	private final LongAdder[] durees = new LongAdder[PHASES.length];
+
+	/**
+	 * EN - Number of measures of each phase
+	 * FR - Nombre de mesures de chaque phase
+	 */
+	private final LongAdder[] nbMesures = new LongAdder[PHASES.length];
+
+	private final LongAdder nbGenerations = new LongAdder();
+
+	private final LongAdder nbIndividusEvalues = new LongAdder();
+
+	private final LongAdder octetsAlloues = new LongAdder();
+
+	/**
+	 * EN - Beginning and end of the treatment, given by System.nanoTime(), the end being 0 as long as the treatment goes on
+	 * FR - Début et fin du traitement, donnés par System.nanoTime(), la fin valant 0 tant que le traitement se poursuit
+	 */
+	private volatile long debut;
+	private volatile long fin;
+
+	/**
+	 * EN - Beginning of the generation being treated, only used by the thread of the Mediator
+	 * FR - Début de la génération en cours de traitement, utilisé par le seul thread du Mediateur
+	 */
+	private long debutGeneration;
+	private long octetsDebutGeneration;
+
+
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 */
+	public RegistreMetriques() {
+
+		for (int i = 0; i < PHASES.length; i++) {
+			durees[i] = new LongAdder();
+			nbMesures[i] = new LongAdder();
+		}
+
+		this.debut = System.nanoTime();
+	}
+
+
+	/**
+	 * EN - Marks the beginning of the treatment, from which the throughputs are computed
+	 * FR - Marque le début du traitement, à partir duquel les débits sont calculés
+	 */
+	public void demarrer() {
+		this.fin = 0;
+		this.debut = System.nanoTime();
+	}
+
+
+	/**
+	 * EN - Marks the end of the treatment, the throughputs being no longer computed up to now
+	 * FR - Marque la fin du traitement, les débits n'étant plus calculés jusqu'à maintenant
+	 */
+	public void arreter() {
+		this.fin = System.nanoTime();
+	}
+
+
+	/**
+	 * EN - Records the duration of a phase which has begun at a given time
+	 * FR - Enregistre la durée d'une phase ayant débuté à un instant donné
+	 *
+	 * @param phase      EN-phase measured </br> FR-phase mesurée
+	 * @param debutPhase EN-beginning of the phase, given by System.nanoTime() </br> FR-début de la phase, donné par System.nanoTime()
+	 * @param generation EN-generation concerned by the phase </br> FR-génération concernée par la phase
+	 * @return EN-the end of the phase, to be used as beginning of the following one </br> FR-la fin de la phase, à utiliser comme début de la suivante
+	 */
+	public long mesurer(PhaseMediateur phase, long debutPhase, Generation<?> generation) {
+
+		long finPhase = System.nanoTime();
+		long duree = finPhase - debutPhase;
+
+		durees[phase.ordinal()].add(duree);
+		nbMesures[phase.ordinal()].increment();
+
+		if (phase == PhaseMediateur.EVALUATION)
+			nbIndividusEvalues.add(generation.nbIndividus());
+
+		if (FlightRecorder.isInitialized())
+			enregistrerPhase(phase, generation, duree);
+
+		return finPhase;
+	}
+
+
+	private static void enregistrerPhase(PhaseMediateur phase, Generation<?> generation, long duree) {
+
+		EvenementPhase evenement = new EvenementPhase();
+
+		if (evenement.isEnabled()) {
+			evenement.phase = phase.name();
+			evenement.numeroGeneration = generation.getNumero();
+			evenement.nbIndividus = generation.nbIndividus();
+			evenement.dureePhase = duree;
+			evenement.commit();
+		}
+	}
+
+
+	/**
+	 * EN - Marks the beginning of the treatment of a generation
+	 * FR - Marque le début du traitement d'une génération
+	 *
+	 * @return EN-the beginning of the generation, given by System.nanoTime() </br> FR-le début de la génération, donné par System.nanoTime()
+	 */
+	public long debuterGeneration() {
+
+		this.octetsDebutGeneration = octetsAllouesThread();
+		this.debutGeneration = System.nanoTime();
+
+		return debutGeneration;
+	}
+
+
+	/**
+	 * EN - Records the end of the treatment of a generation, once evaluated and surveyed
+	 * FR - Enregistre la fin du traitement d'une génération, une fois évaluée et recensée
+	 *
+	 * @param generation EN-generation treated </br> FR-génération traitée
+	 */
+	public void terminerGeneration(Generation<?> generation) {
+
+		long duree = System.nanoTime() - debutGeneration;
+		long octets = octetsAllouesThread() - octetsDebutGeneration;
+
+		nbGenerations.increment();
+		octetsAlloues.add(octets);
+
+		if (FlightRecorder.isInitialized())
+			enregistrerGeneration(generation, duree, octets);
+	}
+
+
+	private static void enregistrerGeneration(Generation<?> generation, long duree, long octets) {
+
+		EvenementGeneration evenement = new EvenementGeneration();
+
+		if (evenement.isEnabled()) {
+
+			StatistiquesGeneration<?> statistiques = generation.getStatistiques();
+
+			evenement.numeroGeneration = generation.getNumero();
+			evenement.nbIndividus = generation.nbIndividus();
+			evenement.meilleurScore = statistiques == null ? 0 : statistiques.getScoreMax();
+			evenement.sommeScore = statistiques == null ? 0 : statistiques.getSomme();
+			evenement.dureeGeneration = duree;
+			evenement.octetsAlloues = octets;
+			evenement.commit();
+		}
+	}
+
+
+	/**
+	 * EN - Gives the cumulated duration of a phase
+	 * FR - Donne la durée cumulée d'une phase
+	 *
+	 * @param phase EN-phase measured </br> FR-phase mesurée
+	 * @return EN-the duration in nanoseconds </br> FR-la durée en nanosecondes
+	 */
+	public long getDuree(PhaseMediateur phase) {
+		return durees[phase.ordinal()].sum();
+	}
+
+
+	/**
+	 * EN - Gives the number of measures of a phase
+	 * FR - Donne le nombre de mesures d'une phase
+	 *
+	 * @param phase EN-phase measured </br> FR-phase mesurée
+	 * @return EN-the number of measures </br> FR-le nombre de mesures
+	 */
+	public long getNbMesures(PhaseMediateur phase) {
+		return nbMesures[phase.ordinal()].sum();
+	}
+
+
+	/**
+	 * EN - Gives the average duration of a phase
+	 * FR - Donne la durée moyenne d'une phase
+	 *
+	 * @param phase EN-phase measured </br> FR-phase mesurée
+	 * @return EN-the average duration in nanoseconds, 0 without measure </br> FR-la durée moyenne en nanosecondes, 0 sans mesure
+	 */
+	public double getDureeMoyenne(PhaseMediateur phase) {
+		long nb = getNbMesures(phase);
+		return nb == 0 ? 0 : (double) getDuree(phase) / nb;
+	}
+
+
+	public long getNbGenerations() {
+		return nbGenerations.sum();
+	}
+
+
+	public long getNbIndividusEvalues() {
+		return nbIndividusEvalues.sum();
+	}
+
+
+	/**
+	 * EN - Gives the memory allocated by the thread of the Mediator during the treatment of the generations
+	 * FR - Donne la mémoire allouée par le thread du Mediateur pendant le traitement des générations
+	 *
+	 * @return EN-the number of bytes, 0 when the virtual machine does not measure it </br> FR-le nombre d'octets, 0 lorsque la machine virtuelle ne la mesure pas
+	 */
+	public long getOctetsAlloues() {
+		return octetsAlloues.sum();
+	}
+
+
+	/**
+	 * EN - Gives the duration of the treatment, up to now as long as it goes on
+	 * FR - Donne la durée du traitement, jusqu'à maintenant tant qu'il se poursuit
+	 *
+	 * @return EN-the duration in nanoseconds </br> FR-la durée en nanosecondes
+	 */
+	public long getDureeEcoulee() {
+		long fin = this.fin;
+		return (fin == 0 ? System.nanoTime() : fin) - debut;
+	}
+
+
+	public double getGenerationsParSeconde() {
+		return parSeconde(getNbGenerations());
+	}
+
+
+	public double getIndividusEvaluesParSeconde() {
+		return parSeconde(getNbIndividusEvalues());
+	}
+
+
+	public double getOctetsAllouesParGeneration() {
+		long nb = getNbGenerations();
+		return nb == 0 ? 0 : (double) getOctetsAlloues() / nb;
+	}
+
+
+	@Override
+	public String toString() {
+
+		StringBuilder resultat = new StringBuilder();
+
+		resultat.append(String.format("%.1f générations/s, %.0f individus évalués/s, %.0f octets alloués/génération", getGenerationsParSeconde(), getIndividusEvaluesParSeconde(), getOctetsAllouesParGeneration()));
+
+		for (PhaseMediateur phase : PHASES) {
+			if (getNbMesures(phase) > 0)
+				resultat.append(String.format("%n  %-20s %10d ms %12.0f ns/mesure", phase, TimeUnit.NANOSECONDS.toMillis(getDuree(phase)), getDureeMoyenne(phase)));
+		}
+
+		return resultat.toString();
+	}
+
+
+	private double parSeconde(long nb) {
+		long duree = getDureeEcoulee();
+		return duree <= 0 ? 0 : nb * 1e9 / duree;
+	}
+
+
+	private static long octetsAllouesThread() {
+		return THREADS == null ? 0 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+
+	private static com.sun.management.ThreadMXBean lireThreads() {
+
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+		if (threads instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+			((com.sun.management.ThreadMXBean) threads).setThreadAllocatedMemoryEnabled(true);
+			return (com.sun.management.ThreadMXBean) threads;
+		}
+
+		return null;
+	}
+
+}
@@ -0,0 +1,484 @@
+package generique.metier.migration;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.Generation;
+import generique.metier.entite.Individu;
+import generique.metier.evaluation.Evaluateur;
+import generique.metier.mediation.JetonAnnulation;
+import generique.metier.mediation.Mediateur;
+import generique.metier.sauvegarde.PointDeSauvegarde;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.java.Log;
+
+/**
+ * EN - Class driving several sub-populations (islands) evolving concurrently, each one on its own thread
+ *      Every K generations, the best individuals of an island migrate to another island according to the topology
+ *      The migrants transit through lock-free queues, one per island
+ *      The treatment stops as soon as an island finds a solution or when the shared time budget has elapsed
+ * FR - Classe pilotant plusieurs sous-populations (îles) évoluant simultanément, chacune sur son propre thread
+ *      Toutes les K générations, les meilleurs individus d'une île migrent vers une autre île selon la topologie
+ *      Les migrants transitent par des files sans verrou, une par île
+ *      Le traitement s'arrête dès qu'une île trouve une solution ou lorsque le budget de temps partagé est écoulé
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+
+/**
+ * EN - Creates private static final java.util.logging.Logger log = java.util.logging.Logger.getLogger(Archipel.class.getName());
+ * FR - Création d'une réference privée statique finale vers un Logger reprenant le nom canonique de la classe
+ */
+@Log
+public class Archipel<T extends Individu<?>, R> implements Runnable {
+
+	/** EN - Reference to global LogManager
+	 *  FR - Reference au global LogManager
+	 */
+	private static final LogManager logManager = LogManager.getLogManager();
+
+	/** EN - Reads and initializes the logging configuration from the given input stream.
+	 *  FR - Lit et initialise la configuration de la journalisation à partir du flux d'entrée donné
+	 */
+	static{
+		try {
+			logManager.readConfiguration( new FileInputStream("geneticLogConfig.properties") );
+		} catch ( IOException exception ) {
+			log.log( Level.SEVERE, "Cannot read configuration file", exception );
+		}
+	}
+
+	/**
+	 * EN - Factory of the Mediators driving each island
+	 *      The Mediators must share the same Evaluator so that all the islands look for the same solution
+	 * FR - Fabrique des Mediateurs pilotant chaque île
+	 *      Les Mediateurs doivent partager le même Evaluateur afin que toutes les îles recherchent la même solution
+	 */
+	@NonNull
+	@Setter
+	private Supplier<Mediateur<T, R>> fabriqueMediateur;
+
+	/**
+	 * EN - Method of copying an individual, a migrant never being shared between two islands
+	 * FR - Méthode de copie d'un individu, un migrant n'étant jamais partagé entre deux îles
+	 */
+	@NonNull
+	@Setter
+	private UnaryOperator<T> fonctionCopieIndividu;
+
+	/**
+	 * EN - Source of random numbers of the archipelago, split into one source per island
+	 * FR - Source de nombres aléatoires de l'archipel, scindée en une source par île
+	 */
+	@NonNull
+	@Setter
+	private SourceAleatoire sourceAleatoire;
+
+	/**
+	 * EN - Number of islands
+	 * FR - Nombre d'îles
+	 */
+	private int nbIles;
+
+	/**
+	 * EN - Number of generations between two migrations
+	 * FR - Nombre de générations entre deux migrations
+	 */
+	private int intervalleMigration;
+
+	/**
+	 * EN - Number of individuals sent by an island at each migration
+	 * FR - Nombre d'individus envoyés par une île à chaque migration
+	 */
+	private int nbMigrants;
+
+	/**
+	 * EN - Topology used to route the migrants
+	 * FR - Topologie utilisée pour acheminer les migrants
+	 */
+	private TopologieMigration topologie;
+
+	/**
+	 * EN - Maximum allowable treatment time, in nanoseconds, shared by all the islands
+	 * FR - Durée maximale de traitement autorisée, en nanosecondes, partagée par toutes les îles
+	 */
+	private long dureeTraitement;
+
+	/**
+	 * EN - Number of threads dedicated to evaluation (1 : evaluation on the thread of each island, 0 : one thread per processor)
+	 * FR - Nombre de threads dédiés à l'évaluation (1 : évaluation sur le thread de chaque île, 0 : un thread par processeur)
+	 */
+	private int parallelismeEvaluation;
+
+	/**
+	 * EN - Evaluation pool shared by all the islands, so that the number of evaluation threads does not grow with the number of islands, null when the evaluation is sequential
+	 * FR - Pool d'évaluation partagé par toutes les îles, afin que le nombre de threads d'évaluation ne croisse pas avec le nombre d'îles, null lorsque l'évaluation est séquentielle
+	 */
+	private ForkJoinPool poolEvaluation;
+
+	/**
+	 * EN - Configuration of the evaluator shared by the islands, applied once before the islands start
+	 * FR - Configuration de l'évaluateur partagé par les îles, appliquée une fois avant le démarrage des îles
+	 */
+	private int tailleTrancheEvaluation;
+
+	private int tailleCacheEvaluation;
+
+	private boolean evaluationDecomposable;
+
+	/**
+	 * EN - Indicates whether the islands resume their search from their points of save, and prefix of the files of these points of save
+	 * FR - Indique si les îles reprennent leur recherche depuis leurs points de sauvegarde, et préfixe des fichiers de ces points de sauvegarde
+	 */
+	private boolean repriseRecherche;
+
+	private String fichierPointDeSauvegarde;
+
+	/**
+	 * EN - Token allowing all the islands to be cancelled together from outside
+	 * FR - Jeton permettant d'annuler toutes les îles ensemble depuis l'extérieur
+	 */
+	@NonNull
+	@Getter
+	@Setter
+	private JetonAnnulation jetonAnnulation = new JetonAnnulation();
+
+	/**
+	 * EN - Mediators driving each island
+	 * FR - Mediateurs pilotant chaque île
+	 */
+	private List<Mediateur<T, R>> lesIles;
+
+	/**
+	 * EN - Arrival queues of the migrants, one per island
+	 * FR - Files d'arrivée des migrants, une par île
+	 */
+	private List<Queue<T>> lesArrivees;
+
+	/**
+	 * EN - Sources of random numbers used to route the migrants, one per island as each island runs on its own thread
+	 * FR - Sources de nombres aléatoires utilisées pour acheminer les migrants, une par île car chaque île s'exécute sur son propre thread
+	 */
+	private List<SourceAleatoire> lesSources;
+
+	/**
+	 * EN - Indicates for each island whether it is still evolving (1) or not (0)
+	 * FR - Indique pour chaque île si elle évolue encore (1) ou non (0)
+	 */
+	private AtomicIntegerArray ilesActives;
+
+	/**
+	 * EN - Flag raised as soon as an island finds a solution
+	 * FR - Indicateur levé dès qu'une île trouve une solution
+	 */
+	private final AtomicBoolean solutionTrouvee = new AtomicBoolean();
+
+
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 *
+	 * @param fabriqueMediateur     @see {@link #fabriqueMediateur}
+	 * @param fonctionCopieIndividu @see {@link #fonctionCopieIndividu}
+	 * @param sourceAleatoire       @see {@link #sourceAleatoire}
+	 */
+	public Archipel(Supplier<Mediateur<T, R>> fabriqueMediateur, UnaryOperator<T> fonctionCopieIndividu, SourceAleatoire sourceAleatoire) {
+		setFabriqueMediateur(fabriqueMediateur);
+		setFonctionCopieIndividu(fonctionCopieIndividu);
+		setSourceAleatoire(sourceAleatoire);
+	}
+
+
+	private void init() {
+
+		try {
+
+			/*
+			 * EN - Configuration loading
+			 * FR - Chargement de la configuration
+			 */
+			Properties properties = new Properties();
+			properties.load(new FileInputStream("geneticConfig.properties"));
+
+			this.nbIles = Integer.valueOf(properties.getProperty("nbIles", "1"));
+			this.intervalleMigration = Integer.valueOf(properties.getProperty("intervalleMigration", "10"));
+			this.nbMigrants = Integer.valueOf(properties.getProperty("nbMigrants", "2"));
+			this.topologie = TopologieMigration.valueOf(properties.getProperty("topologieMigration", TopologieMigration.ANNEAU.name()));
+			this.dureeTraitement = TimeUnit.valueOf(properties.getProperty("uniteDureeExecution", "MINUTES").trim()).toNanos(Long.valueOf(properties.getProperty("dureeExecution")));
+			this.parallelismeEvaluation = Integer.valueOf(properties.getProperty("parallelismeEvaluation", "1"));
+			this.tailleTrancheEvaluation = Integer.valueOf(properties.getProperty("tailleTrancheEvaluation", "1000"));
+			this.tailleCacheEvaluation = Integer.valueOf(properties.getProperty("tailleCacheEvaluation", "0"));
+			this.evaluationDecomposable = Boolean.parseBoolean(properties.getProperty("evaluationDecomposable", "false"));
+			this.repriseRecherche = Boolean.parseBoolean(properties.getProperty("repriseRecherche", "false"));
+			this.fichierPointDeSauvegarde = properties.getProperty("fichierPointDeSauvegarde", "pointDeSauvegarde");
+
+		} catch (IOException e) {
+			if (log.isLoggable(Level.SEVERE)) {
+				log.log(Level.SEVERE, "Erreur à l'execution", e.getMessage());
+				log.log(Level.SEVERE, "Cause : ", e.getCause());
+			}
+			throw new RuntimeException(e);
+		}
+
+		this.lesIles = new ArrayList<Mediateur<T, R>>(nbIles);
+		this.lesArrivees = new ArrayList<Queue<T>>(nbIles);
+		this.lesSources = new ArrayList<SourceAleatoire>(nbIles);
+		this.ilesActives = new AtomicIntegerArray(nbIles);
+		this.solutionTrouvee.set(false);
+
+		long echeance = System.nanoTime() + dureeTraitement;
+
+		for (int i = 0; i < nbIles; i++) {
+
+			final int numeroIle = i;
+
+			Mediateur<T, R> mediateur = fabriqueMediateur.get();
+
+			/*
+			 * EN - Global stop : a solution has been found by an island or the shared time budget has elapsed
+			 * FR - Arrêt global : une solution a été trouvée par une île ou le budget de temps partagé est écoulé
+			 */
+			mediateur.setConditionArretExterne(() -> solutionTrouvee.get() || System.nanoTime() - echeance >= 0);
+			mediateur.setJetonAnnulation(jetonAnnulation);
+			mediateur.setTraitementFinDeGeneration(generation -> migrer(numeroIle, generation));
+			
+			/*
+			 * EN - Each island saves its search in its own file
+			 * FR - Chaque île sauvegarde sa recherche dans son propre fichier
+			 */
+			mediateur.setSuffixePointDeSauvegarde("-" + numeroIle);
+
+			lesIles.add(mediateur);
+			lesArrivees.add(new ConcurrentLinkedQueue<T>());
+			lesSources.add(sourceAleatoire.scinder());
+			ilesActives.set(i, 1);
+		}
+
+		configurerEvaluateur();
+
+		/*
+		 * EN - One evaluation pool for the whole archipelago, handed to each island which then does not create its own
+		 * FR - Un seul pool d'évaluation pour tout l'archipel, remis à chaque île qui ne crée alors pas le sien
+		 */
+		if (parallelismeEvaluation != 1) {
+
+			this.poolEvaluation = parallelismeEvaluation > 1 ? new ForkJoinPool(parallelismeEvaluation) : new ForkJoinPool();
+
+			for (Mediateur<T, R> mediateur : lesIles) {
+				mediateur.setPoolEvaluation(poolEvaluation);
+			}
+		}
+	}
+
+
+	@Override
+	public void run() {
+
+		init();
+
+		ExecutorService executeur = Executors.newFixedThreadPool(nbIles);
+
+		try {
+
+			List<Future<?>> lesTraitements = new ArrayList<Future<?>>(nbIles);
+
+			for (int i = 0; i < nbIles; i++) {
+
+				final int numeroIle = i;
+
+				lesTraitements.add(executeur.submit(() -> {
+					try {
+						lesIles.get(numeroIle).run();
+					} finally {
+						ilesActives.set(numeroIle, 0);
+					}
+				}));
+			}
+
+			for (Future<?> traitement : lesTraitements) {
+				traitement.get();
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		} finally {
+
+			executeur.shutdownNow();
+
+			if (poolEvaluation != null) {
+				poolEvaluation.shutdown();
+				poolEvaluation = null;
+			}
+		}
+
+		if (log.isLoggable(Level.INFO)) {
+			log.log(Level.INFO, "Nombre d''îles : {0}", nbIles);
+			log.log(Level.INFO, "La meilleure solution de l''archipel est : {0}", getMeilleurIndividu());
+		}
+	}
+
+
+	/**
+	 * EN - Configures once the evaluator shared by the islands, which then leave it untouched, so that they do not race to configure it
+	 *      When the search is resumed, the reference is restored from the first readable point of save of the islands, saved against the same reference
+	 * FR - Configure une fois l'évaluateur partagé par les îles, qui le laissent alors intact, afin qu'elles ne se concurrencent pas pour le configurer
+	 *      Lorsque la recherche est reprise, la référence est restaurée depuis le premier point de sauvegarde lisible des îles, sauvegardées par rapport à la même référence
+	 */
+	private void configurerEvaluateur() {
+
+		Evaluateur<T, R> evaluateur = lesIles.get(0).getEvaluateurIndividu();
+
+		evaluateur.setTailleTranche(tailleTrancheEvaluation);
+		evaluateur.setCapaciteCache(tailleCacheEvaluation);
+		evaluateur.setEvaluationDecomposable(evaluationDecomposable);
+
+		for (Mediateur<T, R> mediateur : lesIles) {
+			if (mediateur.getEvaluateurIndividu() == evaluateur)
+				mediateur.setEvaluateurPartage(true);
+		}
+
+		if (!repriseRecherche)
+			return;
+
+		for (int i = 0; i < nbIles; i++) {
+
+			Mediateur<T, R> mediateur = lesIles.get(i);
+
+			if (mediateur.getCodecIndividu() == null || mediateur.getCodecReference() == null)
+				return;
+
+			PointDeSauvegarde<T, R> pointDeSauvegarde = new PointDeSauvegarde<T, R>(	Paths.get(fichierPointDeSauvegarde + "-" + i + ".bin"),
+																						mediateur.getCodecIndividu(), mediateur.getCodecReference());
+
+			if (pointDeSauvegarde.existe()) {
+				try {
+					evaluateur.setMotMystere(pointDeSauvegarde.lireReference());
+					return;
+				} catch (IOException e) {
+					if (log.isLoggable(Level.WARNING))
+						log.log(Level.WARNING, "Point de sauvegarde illisible : {0}", e.getMessage());
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * EN - Treatment applied by an island at the end of each generation : sending and receiving migrants
+	 * FR - Traitement appliqué par une île à la fin de chaque génération : envoi et réception de migrants
+	 *
+	 * @param numeroIle  EN-number of the island </br> FR-numéro de l'île
+	 * @param generation EN-generation just evaluated by the island </br> FR-génération tout juste évaluée par l'île
+	 */
+	private void migrer(int numeroIle, Generation<T> generation) {
+
+		if (generation.contienSolution()) {
+			solutionTrouvee.set(true);
+			return;
+		}
+
+		/*
+		 * EN - Sending of the best individuals to the destination island
+		 * FR - Envoi des meilleurs individus vers l'île de destination
+		 */
+		if (nbIles > 1 && generation.getNumero() % intervalleMigration == 0) {
+
+			int destination = getDestination(numeroIle);
+
+			if (ilesActives.get(destination) == 1) {
+				for (T migrant : generation.getMeilleursIndividus(nbMigrants)) {
+					lesArrivees.get(destination).offer(fonctionCopieIndividu.apply(migrant));
+				}
+			}
+		}
+
+		/*
+		 * EN - Reception of the migrants, which take the place of the worst individuals
+		 * FR - Réception des migrants, qui prennent la place des moins bons individus
+		 */
+		List<T> lesImmigrants = new ArrayList<T>();
+
+		for (T immigrant = lesArrivees.get(numeroIle).poll(); immigrant != null; immigrant = lesArrivees.get(numeroIle).poll()) {
+
+			lesIles.get(numeroIle).getEvaluateurIndividu().evaluer(immigrant);
+
+			if (immigrant.isSolution())
+				solutionTrouvee.set(true);
+
+			lesImmigrants.add(immigrant);
+		}
+
+		if (!lesImmigrants.isEmpty())
+			generation.remplacerPiresIndividus(lesImmigrants);
+	}
+
+
+	/**
+	 * EN - Gives the island to which an island sends its migrants
+	 * FR - Donne l'île vers laquelle une île envoie ses migrants
+	 *
+	 * @param numeroIle EN-number of the sending island </br> FR-numéro de l'île émettrice
+	 * @return EN-number of the destination island </br> FR-numéro de l'île de destination
+	 */
+	private int getDestination(int numeroIle) {
+
+		if (topologie == TopologieMigration.ALEATOIRE) {
+
+			int destination = lesSources.get(numeroIle).nextInt(nbIles - 1);
+
+			return destination >= numeroIle ? destination + 1 : destination;
+		}
+
+		return (numeroIle + 1) % nbIles;
+	}
+
+
+	/**
+	 * EN - Returns the best individual among all the islands
+	 * FR - Renvoit le meilleur individu parmi toutes les îles
+	 *
+	 * @return EN-the best individual of the archipelago, null if the treatment has not started </br> FR-le meilleur individu de l'archipel, null si le traitement n'a pas démarré
+	 */
+	public T getMeilleurIndividu() {
+
+		T meilleurIndividu = null;
+
+		if (lesIles != null)
+			for (Mediateur<T, R> ile : lesIles) {
+
+				T meilleurIndividuIle = ile.getMeilleurIndividu();
+
+				if (meilleurIndividuIle != null && (meilleurIndividu == null || meilleurIndividuIle.getScore() > meilleurIndividu.getScore()))
+					meilleurIndividu = meilleurIndividuIle;
+			}
+
+		return meilleurIndividu;
+	}
+
+}
@@ -0,0 +1,26 @@
+package generique.metier.migration;
+
+/**
+ * EN - Topologies available to route the migrants from one island to another
+ * FR - Topologies disponibles pour acheminer les migrants d'une île à une autre
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public enum TopologieMigration {
+
+	/**
+	 * EN - Each island sends its migrants to the next island, the last one to the first one
+	 * FR - Chaque île envoie ses migrants à l'île suivante, la dernière à la première
+	 */
+	ANNEAU,
+
+	/**
+	 * EN - Each island sends its migrants to another island drawn at random
+	 * FR - Chaque île envoie ses migrants à une autre île tirée au hasard
+	 */
+	ALEATOIRE
+
+}
@@ -0,0 +1,50 @@
+package generique.metier.sauvegarde;
+
+import java.nio.ByteBuffer;
+
+/**
+ * EN - Generic interface of the binary encoding of a value in a point of save : an individual or the reference of the evaluator
+ *      A value is written at the position of a buffer which has at least {@link #getTaille(Object)} bytes remaining, then read back in the same order
+ * FR - Interface générique de l'encodage binaire d'une valeur dans un point de sauvegarde : un individu ou la référence de l'évaluateur
+ *      Une valeur est écrite à la position d'un tampon disposant d'au moins {@link #getTaille(Object)} octets restants, puis relue dans le même ordre
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the encoded values </br> FR-Type des valeurs encodées
+ */
+public interface CodecBinaire<T> {
+
+
+	/**
+	 * EN - Gives the number of bytes taken by the encoding of a value
+	 * FR - Donne le nombre d'octets occupés par l'encodage d'une valeur
+	 *
+	 * @param valeur EN-value to encode </br> FR-valeur à encoder
+	 * @return EN-the number of bytes </br> FR-le nombre d'octets
+	 */
+	int getTaille(T valeur);
+
+
+	/**
+	 * EN - Writes a value at the position of the buffer, which is moved forward
+	 * FR - Ecrit une valeur à la position du tampon, qui est avancée
+	 *
+	 * @param valeur  EN-value to encode </br> FR-valeur à encoder
+	 * @param tampon  EN-buffer receiving the bytes </br> FR-tampon recevant les octets
+	 */
+	void ecrire(T valeur, ByteBuffer tampon);
+
+
+	/**
+	 * EN - Reads a value at the position of the buffer, which is moved forward
+	 * FR - Lit une valeur à la position du tampon, qui est avancée
+	 *
+	 * @param tampon EN-buffer holding the bytes </br> FR-tampon contenant les octets
+	 * @return EN-the decoded value </br> FR-la valeur décodée
+	 */
+	T lire(ByteBuffer tampon);
+
+}
@@ -0,0 +1,45 @@
+package generique.metier.sauvegarde;
+
+import java.nio.ByteBuffer;
+
+/**
+ * EN - Binary encoding of a character string : its length, then its characters on two bytes each
+ * FR - Encodage binaire d'une chaîne de caractères : sa longueur, puis ses caractères sur deux octets chacun
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class CodecChaine implements CodecBinaire<String> {
+
+	@Override
+	public int getTaille(String valeur) {
+		return Integer.BYTES + Character.BYTES * valeur.length();
+	}
+
+
+	@Override
+	public void ecrire(String valeur, ByteBuffer tampon) {
+
+		tampon.putInt(valeur.length());
+
+		for (int i = 0; i < valeur.length(); i++) {
+			tampon.putChar(valeur.charAt(i));
+		}
+	}
+
+
+	@Override
+	public String lire(ByteBuffer tampon) {
+
+		char[] caracteres = new char[tampon.getInt()];
+
+		for (int i = 0; i < caracteres.length; i++) {
+			caracteres[i] = tampon.getChar();
+		}
+
+		return new String(caracteres);
+	}
+
+}
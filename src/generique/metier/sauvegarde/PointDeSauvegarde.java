@@ -0,0 +1,327 @@
+package generique.metier.sauvegarde;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
+
+import generique.metier.entite.Generation;
+import generique.metier.entite.Individu;
+import generique.metier.stagnation.DetecteurStagnation;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * EN - Point of save of a search, written in a compact binary layout rather than by Java serialization
+ *      The file holds a header (seed, elapsed time, number of the generation), the reference of the evaluator, the window of the stagnation detector,
+ *      then for each individual its score, its flags and its genome, and ends with a CRC32C checksum of all that precedes
+ *      The bytes go through a reusable direct buffer to a FileChannel on a temporary file, which is forced to disk then renamed atomically :
+ *      an interrupted save leaves the previous point of save intact
+ *      The file is read back with a FileChannel rather than mapped, a mapped file not being replaceable on every platform as long as it is not unmapped
+ *      A point of save is confined to the thread of its Mediator
+ * FR - Point de sauvegarde d'une recherche, écrit selon une disposition binaire compacte plutôt que par sérialisation Java
+ *      Le fichier contient un en-tête (graine, durée écoulée, numéro de la génération), la référence de l'évaluateur, la fenêtre du détecteur de stagnation,
+ *      puis pour chaque individu son score, ses indicateurs et son génome, et se termine par une somme de contrôle CRC32C de tout ce qui précède
+ *      Les octets passent par un tampon direct réutilisé vers un FileChannel sur un fichier temporaire, forcé sur disque puis renommé de façon atomique :
+ *      une sauvegarde interrompue laisse intact le point de sauvegarde précédent
+ *      Le fichier est relu avec un FileChannel plutôt que projeté en mémoire, un fichier projeté n'étant pas remplaçable sur toutes les plateformes tant qu'il n'est pas libéré
+ *      Un point de sauvegarde est confiné au thread de son Mediateur
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ * @param <R> EN-Type of the reference of the evaluator </br> FR-Type de la référence de l'évaluateur
+ */
+public class PointDeSauvegarde<T extends Individu<?>, R> {
+
+	/**
+	 * EN - Signature of the files of point of save
+	 * FR - Signature des fichiers de point de sauvegarde
+	 */
+	private static final int SIGNATURE = 0x47415053;
+
+	/**
+	 * EN - Version of the binary layout
+	 * FR - Version de la disposition binaire
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * EN - Initial size of the buffer, flushed to the file each time it is full
+	 * FR - Taille initiale du tampon, vidé dans le fichier chaque fois qu'il est plein
+	 */
+	private static final int TAILLE_TAMPON = 1 << 20;
+
+	private static final byte SELECTIONNE = 1;
+	private static final byte ENFANT = 2;
+	private static final byte SOLUTION = 4;
+
+	/**
+	 * EN - File of the point of save
+	 * FR - Fichier du point de sauvegarde
+	 */
+	@Getter
+	private final Path chemin;
+
+	/**
+	 * EN - Temporary file written before being renamed into the file of the point of save
+	 * FR - Fichier temporaire écrit avant d'être renommé en fichier du point de sauvegarde
+	 */
+	private final Path cheminTemporaire;
+
+	/**
+	 * EN - Encoding of the individuals
+	 * FR - Encodage des individus
+	 */
+	private final CodecBinaire<T> codecIndividu;
+
+	/**
+	 * EN - Encoding of the reference of the evaluator
+	 * FR - Encodage de la référence de l'évaluateur
+	 */
+	private final CodecBinaire<R> codecReference;
+
+	/**
+	 * EN - Buffer reused from one save to the next
+	 * FR - Tampon réutilisé d'une sauvegarde à l'autre
+	 */
+	private ByteBuffer tampon = ByteBuffer.allocateDirect(TAILLE_TAMPON);
+
+	/**
+	 * EN - Checksum of the bytes written or read
+	 * FR - Somme de contrôle des octets écrits ou lus
+	 */
+	private final CRC32C sommeControle = new CRC32C();
+
+
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 *
+	 * @param chemin         EN-file of the point of save </br> FR-fichier du point de sauvegarde
+	 * @param codecIndividu  EN-encoding of the individuals </br> FR-encodage des individus
+	 * @param codecReference EN-encoding of the reference of the evaluator </br> FR-encodage de la référence de l'évaluateur
+	 */
+	public PointDeSauvegarde(@NonNull Path chemin, @NonNull CodecBinaire<T> codecIndividu, @NonNull CodecBinaire<R> codecReference) {
+		this.chemin = chemin;
+		this.cheminTemporaire = chemin.resolveSibling(chemin.getFileName() + ".tmp");
+		this.codecIndividu = codecIndividu;
+		this.codecReference = codecReference;
+	}
+
+
+	/**
+	 * EN - Indicates whether a point of save exists
+	 * FR - Indique si un point de sauvegarde existe
+	 *
+	 * @return true EN-if the file of the point of save exists </br> FR-si le fichier du point de sauvegarde existe
+	 */
+	public boolean existe() {
+		return Files.isRegularFile(chemin);
+	}
+
+
+	/**
+	 * EN - Saves the state of a search, replacing the previous point of save once the new one is entirely on disk
+	 * FR - Sauvegarde l'état d'une recherche, en remplaçant le point de sauvegarde précédent une fois le nouveau entièrement sur disque
+	 *
+	 * @param generation   EN-generation being processed </br> FR-génération en cours de traitement
+	 * @param reference    EN-reference of the evaluator </br> FR-référence de l'évaluateur
+	 * @param detecteur    EN-stagnation detector of the population </br> FR-détecteur de stagnation de la population
+	 * @param graine       EN-seed with which the source of random numbers has just been reseeded </br> FR-graine avec laquelle la source de nombres aléatoires vient d'être réensemencée
+	 * @param dureeEcoulee EN-processing time elapsed, in nanoseconds </br> FR-durée de traitement écoulée, en nanosecondes
+	 * @throws IOException EN-if the file cannot be written </br> FR-si le fichier ne peut être écrit
+	 */
+	public void ecrire(Generation<T> generation, R reference, DetecteurStagnation detecteur, long graine, long dureeEcoulee) throws IOException {
+
+		try (FileChannel canal = FileChannel.open(cheminTemporaire, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			sommeControle.reset();
+			tampon.clear();
+
+			/* EN - Header, reference of the evaluator and window of the detector
+			 * FR - En-tête, référence de l'évaluateur et fenêtre du détecteur */
+			reserver(canal, 4 * Integer.BYTES + 2 * Long.BYTES + codecReference.getTaille(reference) + detecteur.getTaille());
+
+			tampon.putInt(SIGNATURE).putInt(VERSION).putLong(graine).putLong(dureeEcoulee).putInt(generation.getNumero());
+			codecReference.ecrire(reference, tampon);
+			detecteur.ecrire(tampon);
+
+			List<T> individus = generation.getLesIndividus();
+
+			tampon.putInt(individus.size());
+
+			/* EN - Individuals : score, flags and genome
+			 * FR - Individus : score, indicateurs et génome */
+			for (T individu : individus) {
+
+				reserver(canal, Integer.BYTES + 1 + codecIndividu.getTaille(individu));
+
+				tampon.putInt(individu.getScore());
+				tampon.put((byte) ((individu.isSelectionne() ? SELECTIONNE : 0) | (individu.isEnfant() ? ENFANT : 0) | (individu.isSolution() ? SOLUTION : 0)));
+				codecIndividu.ecrire(individu, tampon);
+			}
+
+			vider(canal);
+
+			/* EN - Checksum of all the bytes written
+			 * FR - Somme de contrôle de tous les octets écrits */
+			tampon.putLong(sommeControle.getValue());
+			tampon.flip();
+
+			while (tampon.hasRemaining()) {
+				canal.write(tampon);
+			}
+
+			tampon.clear();
+
+			canal.force(false);
+		}
+
+		Files.move(cheminTemporaire, chemin, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+
+	/**
+	 * EN - Reads the point of save, the window of the detector being restored in passing
+	 * FR - Lit le point de sauvegarde, la fenêtre du détecteur étant restaurée au passage
+	 *
+	 * @param fabriqueGeneration EN-factory of the generation receiving the individuals </br> FR-fabrique de la génération recevant les individus
+	 * @param detecteur          EN-stagnation detector to restore </br> FR-détecteur de stagnation à restaurer
+	 * @return EN-the state of the search </br> FR-l'état de la recherche
+	 * @throws IOException EN-if the file cannot be read or is corrupted </br> FR-si le fichier ne peut être lu ou est corrompu
+	 */
+	public Reprise<T, R> lire(IntFunction<Generation<T>> fabriqueGeneration, DetecteurStagnation detecteur) throws IOException {
+
+		ByteBuffer contenu = charger();
+
+		long graine = contenu.getLong();
+		long dureeEcoulee = contenu.getLong();
+
+		Generation<T> generation = fabriqueGeneration.apply(contenu.getInt());
+		R reference = codecReference.lire(contenu);
+
+		detecteur.lire(contenu);
+
+		int nbIndividus = contenu.getInt();
+
+		for (int i = 0; i < nbIndividus; i++) {
+
+			int score = contenu.getInt();
+			byte drapeaux = contenu.get();
+
+			T individu = codecIndividu.lire(contenu);
+
+			individu.setScore(score);
+			individu.setSelectionne((drapeaux & SELECTIONNE) != 0);
+			individu.setEnfant((drapeaux & ENFANT) != 0);
+			individu.setSolution((drapeaux & SOLUTION) != 0);
+
+			generation.ajouterIndividu(individu);
+		}
+
+		return new Reprise<T, R>(generation, reference, graine, dureeEcoulee);
+	}
+
+
+	/**
+	 * EN - Reads only the reference of the evaluator in the point of save
+	 * FR - Lit uniquement la référence de l'évaluateur dans le point de sauvegarde
+	 *
+	 * @return EN-the reference </br> FR-la référence
+	 * @throws IOException EN-if the file cannot be read or is corrupted </br> FR-si le fichier ne peut être lu ou est corrompu
+	 */
+	public R lireReference() throws IOException {
+
+		ByteBuffer contenu = charger();
+
+		contenu.getLong();
+		contenu.getLong();
+		contenu.getInt();
+
+		return codecReference.lire(contenu);
+	}
+
+
+	/**
+	 * EN - Loads the file and checks its checksum and its format, the content being positioned after the header
+	 * FR - Charge le fichier et contrôle sa somme de contrôle et son format, le contenu étant positionné après l'en-tête
+	 */
+	private ByteBuffer charger() throws IOException {
+
+		ByteBuffer contenu;
+
+		try (FileChannel canal = FileChannel.open(chemin, StandardOpenOption.READ)) {
+
+			if (canal.size() > Integer.MAX_VALUE)
+				throw new IOException("Point de sauvegarde trop volumineux : " + chemin);
+
+			contenu = ByteBuffer.allocate((int) canal.size());
+
+			while (contenu.hasRemaining() && canal.read(contenu) >= 0);
+
+			contenu.flip();
+		}
+
+		int finDonnees = contenu.limit() - Long.BYTES;
+
+		if (finDonnees < 0)
+			throw new IOException("Point de sauvegarde tronqué : " + chemin);
+
+		sommeControle.reset();
+		sommeControle.update(contenu.array(), 0, finDonnees);
+
+		if (sommeControle.getValue() != contenu.getLong(finDonnees))
+			throw new IOException("Point de sauvegarde corrompu : " + chemin);
+
+		if (contenu.getInt() != SIGNATURE || contenu.getInt() != VERSION)
+			throw new IOException("Point de sauvegarde d'un format inconnu : " + chemin);
+
+		return contenu;
+	}
+
+
+	/**
+	 * EN - Makes room for a number of bytes in the buffer, by flushing it, or by enlarging it for a value larger than the buffer
+	 * FR - Fait de la place pour un nombre d'octets dans le tampon, en le vidant, ou en l'agrandissant pour une valeur plus grande que le tampon
+	 */
+	private void reserver(FileChannel canal, int taille) throws IOException {
+
+		if (tampon.remaining() >= taille)
+			return;
+
+		vider(canal);
+
+		if (tampon.capacity() < taille)
+			tampon = ByteBuffer.allocateDirect(taille);
+	}
+
+
+	/**
+	 * EN - Writes the content of the buffer to the file, after having added it to the checksum
+	 * FR - Ecrit le contenu du tampon dans le fichier, après l'avoir ajouté à la somme de contrôle
+	 */
+	private void vider(FileChannel canal) throws IOException {
+
+		tampon.flip();
+
+		sommeControle.update(tampon);
+		tampon.rewind();
+
+		while (tampon.hasRemaining()) {
+			canal.write(tampon);
+		}
+
+		tampon.clear();
+	}
+
+}
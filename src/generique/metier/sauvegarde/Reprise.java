@@ -0,0 +1,48 @@
+package generique.metier.sauvegarde;
+
+import generique.metier.entite.Generation;
+import generique.metier.entite.Individu;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * EN - State of a search read from a point of save, from which the Mediator resumes
+ * FR - Etat d'une recherche lu depuis un point de sauvegarde, à partir duquel le Mediateur reprend
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ * @param <R> EN-Type of the reference of the evaluator </br> FR-Type de la référence de l'évaluateur
+ */
+@Getter
+@AllArgsConstructor
+public class Reprise<T extends Individu<?>, R> {
+
+	/**
+	 * EN - Generation being processed, its individuals keeping their score
+	 * FR - Génération en cours de traitement, ses individus conservant leur score
+	 */
+	private final Generation<T> generation;
+
+	/**
+	 * EN - Reference of the evaluator, the mystery value
+	 * FR - Référence de l'évaluateur, la valeur mystère
+	 */
+	private final R reference;
+
+	/**
+	 * EN - Seed with which the source of random numbers has been reseeded when saving
+	 * FR - Graine avec laquelle la source de nombres aléatoires a été réensemencée lors de la sauvegarde
+	 */
+	private final long graine;
+
+	/**
+	 * EN - Processing time elapsed when saving, in nanoseconds
+	 * FR - Durée de traitement écoulée lors de la sauvegarde, en nanosecondes
+	 */
+	private final long dureeEcoulee;
+
+}
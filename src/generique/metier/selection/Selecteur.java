@@ -2,6 +2,7 @@ package generique.metier.selection;
 
 import java.util.function.BiConsumer;
 
+import generique.metier.entite.Generation;
 import generique.metier.entite.Individu;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -48,4 +49,20 @@ public class Selecteur<T extends Individu<?>> {
 		
 	}
 	
+	
+	/**
+	 * EN - method to select the individuals of a generation and delete the unselected ones, in a single pass over the generation
+	 * FR - méthode permettant de sélectionner les individus d'une génération et de supprimer les non sélectionnés, en une seule passe sur la génération
+	 * 
+	 * @param generation EN-generation whose individuals are to be selected </br> FR-génération dont les individus sont à sélectionner
+	 */
+	public void selectionnerEtEliminer(Generation<T> generation) {
+		
+		generation.conserverSi(individu -> {
+			selectionner(individu);
+			return individu.isSelectionne();
+		});
+		
+	}
+	
 }
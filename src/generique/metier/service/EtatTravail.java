@@ -0,0 +1,44 @@
+package generique.metier.service;
+
+/**
+ * EN - State of a {@link Travail} of the solving server
+ * FR - Etat d'un {@link Travail} du serveur de résolution
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public enum EtatTravail {
+
+	/**
+	 * EN - The job waits for its first slice of generations
+	 * FR - Le travail attend sa première tranche de générations
+	 */
+	EN_ATTENTE,
+
+	/**
+	 * EN - The job has started, it is processed by slices alternating with those of the other jobs
+	 * FR - Le travail a démarré, il est traité par tranches alternant avec celles des autres travaux
+	 */
+	EN_COURS,
+
+	/**
+	 * EN - The search is over : solution found, stagnation or budget elapsed
+	 * FR - La recherche est finie : solution trouvée, stagnation ou budget écoulé
+	 */
+	TERMINE,
+
+	/**
+	 * EN - The job has been cancelled by its client
+	 * FR - Le travail a été annulé par son client
+	 */
+	ANNULE,
+
+	/**
+	 * EN - The search has failed with an error
+	 * FR - La recherche a échoué sur une erreur
+	 */
+	ECHOUE
+
+}
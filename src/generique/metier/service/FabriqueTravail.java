@@ -0,0 +1,29 @@
+package generique.metier.service;
+
+import java.time.Duration;
+
+/**
+ * EN - Factory of the jobs of a type of search of the solving server
+ * FR - Fabrique des travaux d'un type de recherche du serveur de résolution
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface FabriqueTravail {
+
+	/**
+	 * EN - Creates the job searching a target, always called by the same thread of the server
+	 * FR - Crée le travail recherchant une cible, toujours appelée par le même thread du serveur
+	 *
+	 * @param id     EN-identifier of the job </br> FR-identifiant du travail
+	 * @param cible  EN-target, as sent by the client </br> FR-cible, telle qu'envoyée par le client
+	 * @param budget EN-budget of treatment time, null for the one of the configuration </br> FR-budget de temps de traitement, null pour celui de la configuration
+	 * @return EN-the job, not started </br> FR-le travail, non démarré
+	 * @throws IllegalArgumentException EN-if the target is not valid </br> FR-si la cible n'est pas valide
+	 */
+	Travail<?> creer(long id, String cible, Duration budget);
+
+}
@@ -0,0 +1,227 @@
+package generique.metier.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * EN - Scheduler of the jobs of the solving server, sharing a pool of a bounded number of threads between all the jobs
+ *      A job is run by slices of a few generations : at the end of each slice, an unfinished job is put back at the end of the queue,
+ *      so that the jobs take turns on the threads and a short job is never starved by long ones (round robin)
+ *      The number of unfinished jobs is bounded : beyond, the submissions are rejected instead of lengthening the queue
+ *      The finished jobs stay available for consultation, up to a number beyond which the oldest ones are forgotten
+ * FR - Ordonnanceur des travaux du serveur de résolution, partageant un pool d'un nombre borné de threads entre tous les travaux
+ *      Un travail est exécuté par tranches de quelques générations : à la fin de chaque tranche, un travail non fini est remis en fin de file,
+ *      de sorte que les travaux se relaient sur les threads et qu'un travail court n'est jamais affamé par des longs (tourniquet)
+ *      Le nombre de travaux non finis est borné : au delà, les soumissions sont rejetées plutôt que d'allonger la file
+ *      Les travaux finis restent disponibles à la consultation, jusqu'à un nombre au delà duquel les plus anciens sont oubliés
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class OrdonnanceurTravaux {
+
+	private final ThreadPoolExecutor coeurs;
+
+	/**
+	 * EN - Number of generations of a slice
+	 * FR - Nombre de générations d'une tranche
+	 */
+	@Getter
+	private final int generationsParTranche;
+
+	/**
+	 * EN - Maximum number of unfinished jobs
+	 * FR - Nombre maximum de travaux non finis
+	 */
+	@Getter
+	private final int capacite;
+
+	/**
+	 * EN - Maximum number of finished jobs kept for consultation
+	 * FR - Nombre maximum de travaux finis conservés pour consultation
+	 */
+	private final int nbTravauxConserves;
+
+	private final Map<Long, Travail<?>> travaux = new ConcurrentHashMap<Long, Travail<?>>();
+
+	/**
+	 * EN - Finished jobs, in the order of their end
+	 * FR - Travaux finis, dans l'ordre de leur fin
+	 */
+	private final Queue<Travail<?>> travauxFinis = new ConcurrentLinkedQueue<Travail<?>>();
+
+	private final AtomicInteger nbNonFinis = new AtomicInteger();
+
+	private final AtomicLong identifiants = new AtomicLong();
+
+	@Getter
+	private final StatistiquesTravaux statistiques = new StatistiquesTravaux();
+
+
+	/**
+	 * EN - Constructor, starting the threads of the pool
+	 * FR - Constructeur, démarrant les threads du pool
+	 *
+	 * @param nbThreads            EN-number of threads, 0 for one per processor </br> FR-nombre de threads, 0 pour un par processeur
+	 * @param generationsParTranche EN-number of generations of a slice </br> FR-nombre de générations d'une tranche
+	 * @param capacite             EN-maximum number of unfinished jobs </br> FR-nombre maximum de travaux non finis
+	 * @param nbTravauxConserves   EN-maximum number of finished jobs kept </br> FR-nombre maximum de travaux finis conservés
+	 */
+	public OrdonnanceurTravaux(int nbThreads, int generationsParTranche, int capacite, int nbTravauxConserves) {
+
+		int nbCoeurs = nbThreads > 0 ? nbThreads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger numeroThread = new AtomicInteger();
+
+		this.coeurs = new ThreadPoolExecutor(	nbCoeurs, nbCoeurs, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+												tache -> new Thread(tache, "ordonnanceur-travaux-" + numeroThread.incrementAndGet()));
+		this.generationsParTranche = Math.max(1, generationsParTranche);
+		this.capacite = capacite;
+		this.nbTravauxConserves = nbTravauxConserves;
+	}
+
+
+	/**
+	 * EN - Gives a new identifier of job
+	 * FR - Donne un nouvel identifiant de travail
+	 *
+	 * @return EN-the identifier </br> FR-l'identifiant
+	 */
+	public long nouvelIdentifiant() {
+		return identifiants.incrementAndGet();
+	}
+
+
+	/**
+	 * EN - Submits a job, which is put at the end of the queue
+	 * FR - Soumet un travail, qui est placé en fin de file
+	 *
+	 * @param travail EN-job not started </br> FR-travail non démarré
+	 * @return true EN-if the job has been accepted, false if the maximum number of unfinished jobs is reached </br> FR-si le travail a été accepté, false si le nombre maximum de travaux non finis est atteint
+	 */
+	public boolean soumettre(Travail<?> travail) {
+
+		if (nbNonFinis.incrementAndGet() > capacite) {
+			nbNonFinis.decrementAndGet();
+			statistiques.rejeter();
+			return false;
+		}
+
+		travaux.put(travail.getId(), travail);
+		statistiques.soumettre();
+
+		try {
+			planifier(travail);
+		} catch (RejectedExecutionException e) {
+			travaux.remove(travail.getId());
+			nbNonFinis.decrementAndGet();
+			statistiques.rejeter();
+			return false;
+		}
+
+		return true;
+	}
+
+
+	/**
+	 * EN - Gives a job, unfinished or among the latest finished ones
+	 * FR - Donne un travail, non fini ou parmi les derniers finis
+	 *
+	 * @param id EN-identifier of the job </br> FR-identifiant du travail
+	 * @return EN-the job, null when unknown or forgotten </br> FR-le travail, null lorsqu'inconnu ou oublié
+	 */
+	public Travail<?> getTravail(long id) {
+		return travaux.get(id);
+	}
+
+
+	/**
+	 * EN - Gives the number of jobs waiting for a thread, started or not
+	 * FR - Donne le nombre de travaux attendant un thread, démarrés ou non
+	 *
+	 * @return EN-the depth of the queue </br> FR-la profondeur de la file
+	 */
+	public int getProfondeurFile() {
+		return coeurs.getQueue().size();
+	}
+
+
+	/**
+	 * EN - Gives the number of jobs whose slice is running
+	 * FR - Donne le nombre de travaux dont une tranche est en cours d'exécution
+	 *
+	 * @return EN-the number of running jobs </br> FR-le nombre de travaux en cours d'exécution
+	 */
+	public int getNbEnExecution() {
+		return coeurs.getActiveCount();
+	}
+
+
+	public int getNbThreads() {
+		return coeurs.getCorePoolSize();
+	}
+
+
+	/**
+	 * EN - Stops the scheduler, the unfinished jobs being cancelled
+	 * FR - Arrête l'ordonnanceur, les travaux non finis étant annulés
+	 */
+	public void arreter() {
+
+		for (Travail<?> travail : travaux.values()) {
+			travail.annuler();
+		}
+
+		coeurs.shutdownNow();
+	}
+
+
+	private void planifier(Travail<?> travail) {
+		coeurs.execute(() -> executerTranche(travail));
+	}
+
+
+	/**
+	 * EN - Runs a slice of a job, then puts it back in the queue, or records it when it is over
+	 * FR - Exécute une tranche d'un travail, puis le remet dans la file, ou l'enregistre lorsqu'il est fini
+	 */
+	private void executerTranche(Travail<?> travail) {
+
+		if (!travail.executerTranche(generationsParTranche)) {
+
+			try {
+				planifier(travail);
+				return;
+			} catch (RejectedExecutionException e) {
+				/* EN - The scheduler is stopped : the job is left unfinished
+				 * FR - L'ordonnanceur est arrêté : le travail est laissé non fini */
+				return;
+			}
+		}
+
+		nbNonFinis.decrementAndGet();
+		statistiques.terminer(travail);
+
+		travauxFinis.add(travail);
+
+		while (travauxFinis.size() > nbTravauxConserves) {
+
+			Travail<?> ancien = travauxFinis.poll();
+
+			if (ancien != null)
+				travaux.remove(ancien.getId());
+		}
+	}
+
+}
@@ -0,0 +1,370 @@
+package generique.metier.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import generique.metier.diffusion.InstantaneGeneration;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+/**
+ * EN - Local solving server : HTTP server listening on the loopback address only, receiving jobs and exposing their progress and the statistics
+ *        POST   /travaux?type=...&cible=...[&budget=ms] : submits a job, 202 with its identifier, 400 if invalid, 503 if the queue is full
+ *        GET    /travaux/{id}                           : state, progress and result of a job, 404 if unknown
+ *        DELETE /travaux/{id}                           : cancels a job
+ *        GET    /statistiques                           : queue depth, latency percentiles and throughput
+ *      The parameters can also be sent as a form in the body of the request ; the responses are JSON documents
+ *      The requests are handled by a single thread, so that the factories of jobs can split their sources of random numbers without sharing them ;
+ *      the searches themselves run on the threads of the {@link OrdonnanceurTravaux}
+ * FR - Serveur de résolution local : serveur HTTP n'écoutant que l'adresse de bouclage, recevant des travaux et exposant leur avancement et les statistiques
+ *        POST   /travaux?type=...&cible=...[&budget=ms] : soumet un travail, 202 avec son identifiant, 400 si invalide, 503 si la file est pleine
+ *        GET    /travaux/{id}                           : état, avancement et résultat d'un travail, 404 si inconnu
+ *        DELETE /travaux/{id}                           : annule un travail
+ *        GET    /statistiques                           : profondeur de file, centiles de latence et débit
+ *      Les paramètres peuvent aussi être envoyés sous forme de formulaire dans le corps de la requête ; les réponses sont des documents JSON
+ *      Les requêtes sont traitées par un seul thread, afin que les fabriques de travaux puissent scinder leurs sources de nombres aléatoires sans les partager ;
+ *      les recherches elles-mêmes s'exécutent sur les threads de l'{@link OrdonnanceurTravaux}
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+@Log
+public class ServeurSolveur implements AutoCloseable {
+
+	private static final String CHEMIN_TRAVAUX = "/travaux";
+
+	private static final String CHEMIN_STATISTIQUES = "/statistiques";
+
+	private final HttpServer serveur;
+
+	private final ExecutorService executeurRequetes;
+
+	private final OrdonnanceurTravaux ordonnanceur;
+
+	/**
+	 * EN - Factories of the jobs, by type of search
+	 * FR - Fabriques des travaux, par type de recherche
+	 */
+	private final Map<String, FabriqueTravail> fabriques;
+
+
+	/**
+	 * EN - Constructor, starting the server
+	 * FR - Constructeur, démarrant le serveur
+	 *
+	 * @param port         EN-port listened on the loopback address, 0 for any free port </br> FR-port écouté sur l'adresse de bouclage, 0 pour un port libre quelconque
+	 * @param ordonnanceur EN-scheduler of the jobs </br> FR-ordonnanceur des travaux
+	 * @param fabriques    EN-factories of the jobs, by type of search </br> FR-fabriques des travaux, par type de recherche
+	 * @throws IOException EN-if the port cannot be listened </br> FR-si le port ne peut être écouté
+	 */
+	public ServeurSolveur(int port, @NonNull OrdonnanceurTravaux ordonnanceur, @NonNull Map<String, FabriqueTravail> fabriques) throws IOException {
+
+		this.ordonnanceur = ordonnanceur;
+		this.fabriques = new HashMap<String, FabriqueTravail>(fabriques);
+
+		this.serveur = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		this.executeurRequetes = Executors.newSingleThreadExecutor(tache -> new Thread(tache, "serveur-solveur"));
+
+		serveur.setExecutor(executeurRequetes);
+		serveur.createContext(CHEMIN_TRAVAUX, this::traiterTravaux);
+		serveur.createContext(CHEMIN_STATISTIQUES, this::traiterStatistiques);
+		serveur.start();
+
+		if (log.isLoggable(Level.INFO))
+			log.log(Level.INFO, "Serveur de résolution à l''écoute sur {0}", serveur.getAddress());
+	}
+
+
+	/**
+	 * EN - Gives the port listened, useful when the server has been started on any free port
+	 * FR - Donne le port écouté, utile lorsque le serveur a été démarré sur un port libre quelconque
+	 *
+	 * @return EN-the port </br> FR-le port
+	 */
+	public int getPort() {
+		return serveur.getAddress().getPort();
+	}
+
+
+	/**
+	 * EN - Stops the server, then the scheduler, the unfinished jobs being cancelled
+	 * FR - Arrête le serveur, puis l'ordonnanceur, les travaux non finis étant annulés
+	 */
+	@Override
+	public void close() {
+		serveur.stop(0);
+		executeurRequetes.shutdownNow();
+		ordonnanceur.arreter();
+	}
+
+
+	private void traiterTravaux(HttpExchange echange) throws IOException {
+
+		try {
+
+			String chemin = echange.getRequestURI().getPath();
+			String methode = echange.getRequestMethod();
+
+			if (chemin.equals(CHEMIN_TRAVAUX) || chemin.equals(CHEMIN_TRAVAUX + "/")) {
+
+				if ("POST".equals(methode))
+					soumettre(echange);
+				else
+					repondre(echange, 405, erreur("Méthode non supportée : " + methode));
+
+				return;
+			}
+
+			Travail<?> travail;
+
+			try {
+				travail = ordonnanceur.getTravail(Long.parseLong(chemin.substring(CHEMIN_TRAVAUX.length() + 1)));
+			} catch (NumberFormatException e) {
+				travail = null;
+			}
+
+			if (travail == null) {
+				repondre(echange, 404, erreur("Travail inconnu : " + chemin));
+				return;
+			}
+
+			if ("GET".equals(methode)) {
+				repondre(echange, 200, decrire(travail));
+			} else if ("DELETE".equals(methode)) {
+				travail.annuler();
+				repondre(echange, 202, decrire(travail));
+			} else {
+				repondre(echange, 405, erreur("Méthode non supportée : " + methode));
+			}
+
+		} catch (RuntimeException e) {
+
+			if (log.isLoggable(Level.WARNING))
+				log.log(Level.WARNING, "Erreur de traitement de la requête " + echange.getRequestURI(), e);
+
+			repondre(echange, 500, erreur(String.valueOf(e.getMessage())));
+		}
+	}
+
+
+	/**
+	 * EN - Creates a job from the parameters of the request and submits it to the scheduler
+	 * FR - Crée un travail à partir des paramètres de la requête et le soumet à l'ordonnanceur
+	 */
+	private void soumettre(HttpExchange echange) throws IOException {
+
+		Map<String, String> parametres = lireParametres(echange);
+
+		String type = parametres.getOrDefault("type", "");
+		String cible = parametres.getOrDefault("cible", "").trim();
+		FabriqueTravail fabrique = fabriques.get(type);
+
+		if (fabrique == null) {
+			repondre(echange, 400, erreur("Type de recherche inconnu : " + type + ", types connus : " + fabriques.keySet()));
+			return;
+		}
+
+		if (cible.isEmpty()) {
+			repondre(echange, 400, erreur("Cible absente"));
+			return;
+		}
+
+		Duration budget = null;
+
+		if (parametres.containsKey("budget")) {
+
+			try {
+				budget = Duration.ofMillis(Long.parseLong(parametres.get("budget").trim()));
+			} catch (NumberFormatException e) {
+				budget = Duration.ZERO;
+			}
+
+			if (budget.isZero() || budget.isNegative()) {
+				repondre(echange, 400, erreur("Budget invalide, en millisecondes : " + parametres.get("budget")));
+				return;
+			}
+		}
+
+		Travail<?> travail;
+
+		try {
+			travail = fabrique.creer(ordonnanceur.nouvelIdentifiant(), cible, budget);
+		} catch (IllegalArgumentException e) {
+			repondre(echange, 400, erreur(String.valueOf(e.getMessage())));
+			return;
+		}
+
+		if (!ordonnanceur.soumettre(travail)) {
+			repondre(echange, 503, erreur("File des travaux pleine : " + ordonnanceur.getCapacite() + " travaux non finis"));
+			return;
+		}
+
+		echange.getResponseHeaders().set("Location", CHEMIN_TRAVAUX + "/" + travail.getId());
+		repondre(echange, 202, decrire(travail));
+	}
+
+
+	private void traiterStatistiques(HttpExchange echange) throws IOException {
+
+		if (!"GET".equals(echange.getRequestMethod())) {
+			repondre(echange, 405, erreur("Méthode non supportée : " + echange.getRequestMethod()));
+			return;
+		}
+
+		StatistiquesTravaux statistiques = ordonnanceur.getStatistiques();
+		long[] latences = statistiques.getLatences(50, 95, 99);
+
+		repondre(echange, 200, "{\"nbThreads\":" + ordonnanceur.getNbThreads()
+								+ ",\"profondeurFile\":" + ordonnanceur.getProfondeurFile()
+								+ ",\"enExecution\":" + ordonnanceur.getNbEnExecution()
+								+ ",\"soumis\":" + statistiques.getNbSoumis()
+								+ ",\"rejetes\":" + statistiques.getNbRejetes()
+								+ ",\"finis\":" + statistiques.getNbFinis()
+								+ ",\"solutions\":" + statistiques.getNbSolutions()
+								+ ",\"latenceMs\":{\"p50\":" + latences[0] + ",\"p95\":" + latences[1] + ",\"p99\":" + latences[2] + "}"
+								+ ",\"travauxParSeconde\":" + String.format(Locale.ROOT, "%.3f", statistiques.getTravauxParSeconde())
+								+ "}");
+	}
+
+
+	/**
+	 * EN - Describes a job as a JSON document
+	 * FR - Décrit un travail sous forme de document JSON
+	 */
+	private static String decrire(Travail<?> travail) {
+
+		StringBuilder json = new StringBuilder(256);
+		InstantaneGeneration<?> instantane = travail.getInstantane();
+
+		json.append("{\"id\":").append(travail.getId())
+			.append(",\"type\":").append(chaine(travail.getType()))
+			.append(",\"cible\":").append(chaine(travail.getCible()))
+			.append(",\"etat\":").append(chaine(travail.getEtat().name()));
+
+		/* EN - Once the search is over, its result is given by the values recorded from the Mediator, the last snapshot possibly being late
+		 * FR - Une fois la recherche finie, son résultat est donné par les valeurs enregistrées depuis le Mediateur, le dernier instantané pouvant être en retard */
+		if (travail.getResultat() != null) {
+			json.append(",\"generation\":").append(travail.getGenerationFinale())
+				.append(",\"meilleurScore\":").append(travail.getScoreFinal())
+				.append(",\"meilleurGenome\":").append(chaine(travail.getResultat()))
+				.append(",\"solution\":").append(travail.isSolution());
+		} else if (instantane != null) {
+			json.append(",\"generation\":").append(instantane.getNumeroGeneration())
+				.append(",\"meilleurScore\":").append(instantane.getMeilleurScore())
+				.append(",\"meilleurGenome\":").append(chaine(travail.getMeilleurGenome()))
+				.append(",\"solution\":").append(instantane.isSolution());
+		}
+
+		if (travail.getResultat() != null)
+			json.append(",\"resultat\":").append(chaine(travail.getResultat()));
+
+		if (travail.getErreur() != null)
+			json.append(",\"erreur\":").append(chaine(travail.getErreur()));
+
+		if (travail.getDebut() != 0)
+			json.append(",\"attenteMs\":").append(TimeUnit.NANOSECONDS.toMillis(travail.getDebut() - travail.getSoumission()));
+
+		if (travail.getFin() != 0)
+			json.append(",\"latenceMs\":").append(TimeUnit.NANOSECONDS.toMillis(travail.getFin() - travail.getSoumission()));
+
+		return json.append('}').toString();
+	}
+
+
+	private static String erreur(String message) {
+		return "{\"erreur\":" + chaine(message) + "}";
+	}
+
+
+	/**
+	 * EN - Gives a JSON string, escaping the quotes, the backslashes and the control characters
+	 * FR - Donne une chaîne JSON, en échappant les guillemets, les barres obliques inverses et les caractères de contrôle
+	 */
+	private static String chaine(String valeur) {
+
+		if (valeur == null)
+			return "null";
+
+		StringBuilder json = new StringBuilder(valeur.length() + 2).append('"');
+
+		for (int i = 0; i < valeur.length(); i++) {
+
+			char c = valeur.charAt(i);
+
+			if (c == '"' || c == '\\')
+				json.append('\\').append(c);
+			else if (c < 0x20)
+				json.append(String.format("\\u%04x", (int) c));
+			else
+				json.append(c);
+		}
+
+		return json.append('"').toString();
+	}
+
+
+	/**
+	 * EN - Reads the parameters of the query then those of the body sent as a form, both encoded in UTF-8
+	 * FR - Lit les paramètres de la requête puis ceux du corps envoyé sous forme de formulaire, tous deux encodés en UTF-8
+	 */
+	private static Map<String, String> lireParametres(HttpExchange echange) throws IOException {
+
+		Map<String, String> parametres = new HashMap<String, String>();
+
+		decoderParametres(echange.getRequestURI().getRawQuery(), parametres);
+
+		try (InputStream corps = echange.getRequestBody()) {
+			decoderParametres(new String(corps.readAllBytes(), StandardCharsets.UTF_8), parametres);
+		}
+
+		return parametres;
+	}
+
+
+	private static void decoderParametres(String parametresEncodes, Map<String, String> parametres) {
+
+		if (parametresEncodes == null || parametresEncodes.isEmpty())
+			return;
+
+		for (String parametre : parametresEncodes.split("&")) {
+
+			int egal = parametre.indexOf('=');
+
+			if (egal > 0)
+				parametres.put(	URLDecoder.decode(parametre.substring(0, egal), StandardCharsets.UTF_8),
+								URLDecoder.decode(parametre.substring(egal + 1), StandardCharsets.UTF_8));
+		}
+	}
+
+
+	private static void repondre(HttpExchange echange, int code, String json) throws IOException {
+
+		byte[] octets = json.getBytes(StandardCharsets.UTF_8);
+
+		echange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		echange.sendResponseHeaders(code, octets.length);
+
+		try (OutputStream sortie = echange.getResponseBody()) {
+			sortie.write(octets);
+		}
+	}
+
+}
@@ -0,0 +1,135 @@
+package generique.metier.service;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EN - Statistics of the jobs of the solving server : jobs submitted, rejected and finished, latency and throughput
+ *      The latency of a job goes from its submission to its end, waiting in the queue included ;
+ *      its percentiles are computed on the latest jobs finished only, kept in a ring of fixed size
+ * FR - Statistiques des travaux du serveur de résolution : travaux soumis, rejetés et finis, latence et débit
+ *      La latence d'un travail va de sa soumission à sa fin, attente dans la file comprise ;
+ *      ses centiles sont calculés sur les derniers travaux finis uniquement, conservés dans un anneau de taille fixe
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class StatistiquesTravaux {
+
+	/**
+	 * EN - Number of latest latencies on which the percentiles are computed
+	 * FR - Nombre de dernières latences sur lesquelles les centiles sont calculés
+	 */
+	private static final int NB_LATENCES = 4096;
+
+	private final LongAdder nbSoumis = new LongAdder();
+
+	private final LongAdder nbRejetes = new LongAdder();
+
+	private final LongAdder nbFinis = new LongAdder();
+
+	private final LongAdder nbSolutions = new LongAdder();
+
+	/**
+	 * EN - Ring of the latest latencies, in nanoseconds, protected by its own lock
+	 * FR - Anneau des dernières latences, en nanosecondes, protégé par son propre verrou
+	 */
+	private final long[] latences = new long[NB_LATENCES];
+
+	private long nbLatences;
+
+	private final long debut = System.nanoTime();
+
+
+	void soumettre() {
+		nbSoumis.increment();
+	}
+
+
+	void rejeter() {
+		nbRejetes.increment();
+	}
+
+
+	/**
+	 * EN - Records a finished job
+	 * FR - Enregistre un travail fini
+	 *
+	 * @param travail EN-finished job </br> FR-travail fini
+	 */
+	void terminer(Travail<?> travail) {
+
+		nbFinis.increment();
+
+		if (travail.isSolution())
+			nbSolutions.increment();
+
+		synchronized (latences) {
+			latences[(int) (nbLatences++ % NB_LATENCES)] = travail.getFin() - travail.getSoumission();
+		}
+	}
+
+
+	public long getNbSoumis() {
+		return nbSoumis.sum();
+	}
+
+
+	public long getNbRejetes() {
+		return nbRejetes.sum();
+	}
+
+
+	public long getNbFinis() {
+		return nbFinis.sum();
+	}
+
+
+	public long getNbSolutions() {
+		return nbSolutions.sum();
+	}
+
+
+	/**
+	 * EN - Gives the number of jobs finished per second since the start of the server
+	 * FR - Donne le nombre de travaux finis par seconde depuis le démarrage du serveur
+	 *
+	 * @return EN-the throughput </br> FR-le débit
+	 */
+	public double getTravauxParSeconde() {
+		long duree = System.nanoTime() - debut;
+		return duree <= 0 ? 0 : getNbFinis() * 1e9 / duree;
+	}
+
+
+	/**
+	 * EN - Gives percentiles of the latency of the latest jobs finished
+	 * FR - Donne des centiles de la latence des derniers travaux finis
+	 *
+	 * @param centiles EN-percentiles requested, between 0 and 100 </br> FR-centiles demandés, entre 0 et 100
+	 * @return EN-the latencies in milliseconds, in the order of the percentiles, 0 without job finished </br> FR-les latences en millisecondes, dans l'ordre des centiles, 0 sans travail fini
+	 */
+	public long[] getLatences(double... centiles) {
+
+		long[] copie;
+
+		synchronized (latences) {
+			copie = Arrays.copyOf(latences, (int) Math.min(nbLatences, NB_LATENCES));
+		}
+
+		Arrays.sort(copie);
+
+		long[] resultat = new long[centiles.length];
+
+		for (int i = 0; i < centiles.length && copie.length > 0; i++) {
+			int rang = (int) Math.ceil(centiles[i] / 100 * copie.length) - 1;
+			resultat[i] = TimeUnit.NANOSECONDS.toMillis(copie[Math.max(0, Math.min(copie.length - 1, rang))]);
+		}
+
+		return resultat;
+	}
+
+}
@@ -0,0 +1,236 @@
+package generique.metier.service;
+
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+import generique.metier.diffusion.InstantaneGeneration;
+import generique.metier.entite.Individu;
+import generique.metier.mediation.Mediateur;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+/**
+ * EN - Job of the solving server : the search of a target by a Mediator, run by slices of generations by the {@link OrdonnanceurTravaux}
+ *      The progress is read from the snapshots of the generations published by the Mediator, so that it can be consulted from any thread
+ *      while the Mediator goes on evolving ; the result is recorded from the Mediator once the search is over, the last snapshot possibly not being delivered yet
+ * FR - Travail du serveur de résolution : la recherche d'une cible par un Mediateur, exécutée par tranches de générations par l'{@link OrdonnanceurTravaux}
+ *      L'avancement est lu dans les instantanés des générations publiés par le Mediateur, afin de pouvoir être consulté depuis n'importe quel thread
+ *      pendant que le Mediateur continue d'évoluer ; le résultat est enregistré depuis le Mediateur une fois la recherche finie, le dernier instantané pouvant ne pas être encore livré
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ *
+ * @param <T> EN-Type of the individuals </br> FR-Type des individus
+ */
+@Log
+public class Travail<T extends Individu<?>> {
+
+	@Getter
+	private final long id;
+
+	/**
+	 * EN - Type of the search, as requested by the client (alphabetic, numeric...)
+	 * FR - Type de la recherche, tel que demandé par le client (alphabetic, numeric...)
+	 */
+	@Getter
+	private final String type;
+
+	/**
+	 * EN - Target searched, as requested by the client
+	 * FR - Cible recherchée, telle que demandée par le client
+	 */
+	@Getter
+	private final String cible;
+
+	private final Mediateur<T, ?> mediateur;
+
+	/**
+	 * EN - Textual form of a genome
+	 * FR - Forme textuelle d'un génome
+	 */
+	private final Function<T, String> formatGenome;
+
+	@Getter
+	private volatile EtatTravail etat = EtatTravail.EN_ATTENTE;
+
+	/**
+	 * EN - Latest snapshot of the search, null before the initial generation
+	 * FR - Dernier instantané de la recherche, null avant la génération initiale
+	 */
+	private volatile InstantaneGeneration<T> instantane;
+
+	/**
+	 * EN - Best genome at the end of the search, null as long as it goes on
+	 * FR - Meilleur génome à la fin de la recherche, null tant qu'elle se poursuit
+	 */
+	@Getter
+	private volatile String resultat;
+
+	/**
+	 * EN - Number of the last generation, score of the best individual and whether it is a solution, recorded at the end of the search before its result
+	 * FR - Numéro de la dernière génération, score du meilleur individu et s'il est une solution, enregistrés à la fin de la recherche avant son résultat
+	 */
+	@Getter
+	private volatile int generationFinale;
+
+	@Getter
+	private volatile int scoreFinal;
+
+	@Getter
+	private volatile boolean solution;
+
+	@Getter
+	private volatile String erreur;
+
+	/**
+	 * EN - Submission, beginning and end of the job, given by System.nanoTime(), 0 when not reached yet
+	 * FR - Soumission, début et fin du travail, donnés par System.nanoTime(), 0 lorsque pas encore atteints
+	 */
+	@Getter
+	private final long soumission = System.nanoTime();
+
+	@Getter
+	private volatile long debut;
+
+	@Getter
+	private volatile long fin;
+
+
+	/**
+	 * EN - Constructor, subscribing to the snapshots of the Mediator
+	 * FR - Constructeur, s'abonnant aux instantanés du Mediateur
+	 *
+	 * @param id           EN-identifier of the job </br> FR-identifiant du travail
+	 * @param type         EN-type of the search </br> FR-type de la recherche
+	 * @param cible        EN-target searched </br> FR-cible recherchée
+	 * @param mediateur    EN-Mediator searching the target, not started </br> FR-Mediateur recherchant la cible, non démarré
+	 * @param formatGenome EN-textual form of a genome </br> FR-forme textuelle d'un génome
+	 */
+	public Travail(long id, @NonNull String type, @NonNull String cible, @NonNull Mediateur<T, ?> mediateur, @NonNull Function<T, String> formatGenome) {
+
+		this.id = id;
+		this.type = type;
+		this.cible = cible;
+		this.mediateur = mediateur;
+		this.formatGenome = formatGenome;
+
+		mediateur.getInstantanes().subscribe(new Flow.Subscriber<InstantaneGeneration<T>>() {
+
+			@Override
+			public void onSubscribe(Flow.Subscription abonnement) {
+				abonnement.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(InstantaneGeneration<T> instantane) {
+				Travail.this.instantane = instantane;
+			}
+
+			/* EN - The snapshots only give the progress of the search, its result being recorded from the Mediator : their failure is logged without failing the job
+			 * FR - Les instantanés ne donnent que l'avancement de la recherche, son résultat étant enregistré depuis le Mediateur : leur échec est journalisé sans faire échouer le travail */
+			@Override
+			public void onError(Throwable erreur) {
+				if (log.isLoggable(Level.WARNING))
+					log.log(Level.WARNING, "Echec de la diffusion des instantanés du travail " + id, erreur);
+			}
+
+			@Override
+			public void onComplete() {
+			}
+		});
+	}
+
+
+	/**
+	 * EN - Runs a slice of the search on the current thread, starting it at the first slice and ending it at the last one
+	 *      Only one slice of a job runs at a time, the slices following one another through the queue of the scheduler
+	 * FR - Exécute une tranche de la recherche sur le thread courant, la démarrant à la première tranche et la terminant à la dernière
+	 *      Une seule tranche d'un travail s'exécute à la fois, les tranches se succédant au travers de la file de l'ordonnanceur
+	 *
+	 * @param nbGenerations EN-maximum number of generations of the slice </br> FR-nombre maximum de générations de la tranche
+	 * @return true EN-if the job is over </br> FR-si le travail est fini
+	 */
+	boolean executerTranche(int nbGenerations) {
+
+		try {
+
+			if (etat == EtatTravail.EN_ATTENTE) {
+				debut = System.nanoTime();
+				etat = EtatTravail.EN_COURS;
+				mediateur.demarrer();
+			}
+
+			if (!mediateur.avancer(nbGenerations))
+				return false;
+
+			mediateur.terminer();
+
+			T meilleurIndividu = mediateur.getMeilleurIndividu();
+
+			generationFinale = mediateur.getNumeroGeneration();
+			scoreFinal = meilleurIndividu == null ? 0 : meilleurIndividu.getScore();
+			solution = meilleurIndividu != null && meilleurIndividu.isSolution();
+			resultat = meilleurIndividu == null ? "" : formatGenome.apply(meilleurIndividu);
+			etat = mediateur.getJetonAnnulation().isAnnule() ? EtatTravail.ANNULE : EtatTravail.TERMINE;
+
+		} catch (RuntimeException e) {
+
+			if (log.isLoggable(Level.WARNING))
+				log.log(Level.WARNING, "Echec du travail " + id, e);
+
+			/* EN - The threads and pools of the Mediator are released, terminer() not having been reached
+			 * FR - Les threads et pools du Mediateur sont libérés, terminer() n'ayant pas été atteint */
+			mediateur.liberer();
+
+			erreur = String.valueOf(e.getMessage());
+			etat = EtatTravail.ECHOUE;
+		}
+
+		fin = System.nanoTime();
+
+		return true;
+	}
+
+
+	/**
+	 * EN - Cancels the job, which ends at its next slice, or at the next check of the Mediator if a slice is running
+	 * FR - Annule le travail, qui se termine à sa prochaine tranche, ou au prochain contrôle du Mediateur si une tranche est en cours
+	 */
+	public void annuler() {
+		mediateur.getJetonAnnulation().annuler();
+	}
+
+
+	public boolean isFini() {
+		EtatTravail etat = this.etat;
+		return etat != EtatTravail.EN_ATTENTE && etat != EtatTravail.EN_COURS;
+	}
+
+
+	/**
+	 * EN - Gives the latest snapshot of the search
+	 * FR - Donne le dernier instantané de la recherche
+	 *
+	 * @return EN-the snapshot, null before the initial generation </br> FR-l'instantané, null avant la génération initiale
+	 */
+	public InstantaneGeneration<T> getInstantane() {
+		return instantane;
+	}
+
+
+	/**
+	 * EN - Gives the textual form of the best genome of the latest snapshot
+	 * FR - Donne la forme textuelle du meilleur génome du dernier instantané
+	 *
+	 * @return EN-the genome, null when unknown </br> FR-le génome, null lorsqu'inconnu
+	 */
+	public String getMeilleurGenome() {
+		InstantaneGeneration<T> instantane = this.instantane;
+		return instantane == null || instantane.getMeilleurIndividu() == null ? null : formatGenome.apply(instantane.getMeilleurIndividu());
+	}
+
+}
@@ -0,0 +1,32 @@
+package generique.metier.stagnation;
+
+/**
+ * EN - Criteria available to detect that a population stagnates, evaluated over the window of the {@link DetecteurStagnation}
+ * FR - Critères disponibles pour détecter qu'une population stagne, évalués sur la fenêtre du {@link DetecteurStagnation}
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public enum CritereStagnation {
+
+	/**
+	 * EN - The best score has not been improved during the last generations of the window
+	 * FR - Le meilleur score n'a pas été amélioré pendant les dernières générations de la fenêtre
+	 */
+	SANS_AMELIORATION,
+
+	/**
+	 * EN - The average of the sums of the scores over the window is lower than the one over the previous window
+	 * FR - La moyenne des sommes des scores sur la fenêtre est inférieure à celle sur la fenêtre précédente
+	 */
+	MOYENNE_DECROISSANTE,
+
+	/**
+	 * EN - The slope of the sums of the scores over the window, by least squares, is below the threshold
+	 * FR - La pente des sommes des scores sur la fenêtre, par moindres carrés, est inférieure au seuil
+	 */
+	PENTE
+
+}
@@ -0,0 +1,332 @@
+package generique.metier.stagnation;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * EN - Detector of the stagnation of a population, following the statistics of the last generations over a fixed window
+ *      The sums of the scores of the last two windows are kept in a ring buffer of primitives, the sums and the slope being updated as they slide
+ *      Each census and each test is thus done in constant time and memory, whatever the number of generations
+ * FR - Détecteur de la stagnation d'une population, suivant les statistiques des dernières générations sur une fenêtre fixe
+ *      Les sommes des scores des deux dernières fenêtres sont conservées dans un tampon circulaire de primitifs, les sommes et la pente étant mises à jour au fil du glissement
+ *      Chaque recensement et chaque test se fait ainsi en temps et en mémoire constants, quel que soit le nombre de générations
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class DetecteurStagnation implements Serializable {
+
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * EN - Number of generations of the window
+	 * FR - Nombre de générations de la fenêtre
+	 */
+	@Getter
+	private final int fenetre;
+
+	/**
+	 * EN - Criteria whose first one met designates a stagnation, none meaning that the population never stagnates
+	 * FR - Critères dont le premier atteint désigne une stagnation, aucun signifiant que la population ne stagne jamais
+	 */
+	private final Set<CritereStagnation> criteres;
+
+	/**
+	 * EN - Slope of the sums of the scores below which the population stagnates, for the criterion PENTE
+	 * FR - Pente des sommes des scores en deçà de laquelle la population stagne, pour le critère PENTE
+	 */
+	@Getter
+	private final double seuilPente;
+
+	/**
+	 * EN - Ring buffer of the sums of the scores of the last two windows
+	 * FR - Tampon circulaire des sommes des scores des deux dernières fenêtres
+	 */
+	private final long[] sommes;
+
+	/**
+	 * EN - Slot of the buffer receiving the next census
+	 * FR - Emplacement du tampon recevant le prochain recensement
+	 */
+	private int position;
+
+	/**
+	 * EN - Number of generations surveyed
+	 * FR - Nombre de générations recensées
+	 */
+	@Getter
+	private long nbRecensements;
+
+	/**
+	 * EN - Sum of the sums of the scores over the last window
+	 * FR - Somme des sommes des scores sur la dernière fenêtre
+	 */
+	private long sommeFenetre;
+
+	/**
+	 * EN - Sum of the sums of the scores over the previous window
+	 * FR - Somme des sommes des scores sur la fenêtre précédente
+	 */
+	private long sommeFenetrePrecedente;
+
+	/**
+	 * EN - Sum of the sums of the scores of the last window weighted by their rank in the window, the oldest one having rank 0
+	 * FR - Somme des sommes des scores de la dernière fenêtre pondérées par leur rang dans la fenêtre, la plus ancienne ayant le rang 0
+	 */
+	private long sommePonderee;
+
+	/**
+	 * EN - Best score surveyed
+	 * FR - Meilleur score recensé
+	 */
+	@Getter
+	private int meilleurScore = -1;
+
+	/**
+	 * EN - Number of censuses when the best score was last improved
+	 * FR - Nombre de recensements lors de la dernière amélioration du meilleur score
+	 */
+	private long derniereAmelioration;
+
+	/**
+	 * EN - First criterion met at the last census, null when the population does not stagnate
+	 * FR - Premier critère atteint lors du dernier recensement, null lorsque la population ne stagne pas
+	 */
+	@Getter
+	private CritereStagnation critereAtteint;
+
+
+	/**
+	 * EN - Creates a detector without criterion, the population never stagnating
+	 * FR - Crée un détecteur sans critère, la population ne stagnant jamais
+	 */
+	public DetecteurStagnation() {
+		this(2, EnumSet.noneOf(CritereStagnation.class), 0);
+	}
+
+
+	/**
+	 * EN - Constructor
+	 * FR - Constructeur
+	 *
+	 * @param fenetre    EN-number of generations of the window, at least 2 </br> FR-nombre de générations de la fenêtre, au moins 2
+	 * @param criteres   EN-criteria designating a stagnation </br> FR-critères désignant une stagnation
+	 * @param seuilPente EN-slope below which the population stagnates, for the criterion PENTE </br> FR-pente en deçà de laquelle la population stagne, pour le critère PENTE
+	 */
+	public DetecteurStagnation(int fenetre, @NonNull Set<CritereStagnation> criteres, double seuilPente) {
+
+		if (fenetre < 2)
+			throw new IllegalArgumentException("La fenêtre de stagnation doit compter au moins 2 générations : " + fenetre);
+
+		this.fenetre = fenetre;
+		this.criteres = criteres.isEmpty() ? EnumSet.noneOf(CritereStagnation.class) : EnumSet.copyOf(criteres);
+		this.seuilPente = seuilPente;
+		this.sommes = new long[2 * fenetre];
+	}
+
+
+	/**
+	 * EN - Reads the criteria from a list of names separated by commas, an empty list giving no criterion
+	 * FR - Lit les critères depuis une liste de noms séparés par des virgules, une liste vide ne donnant aucun critère
+	 *
+	 * @param criteres EN-names of the criteria, null or empty when absent </br> FR-noms des critères, null ou vide lorsqu'absents
+	 * @return EN-the criteria </br> FR-les critères
+	 */
+	public static Set<CritereStagnation> lireCriteres(String criteres) {
+
+		if (criteres == null || criteres.isBlank())
+			return EnumSet.noneOf(CritereStagnation.class);
+
+		return Arrays.stream(criteres.split(","))
+				.map(String::trim)
+				.filter(critere -> !critere.isEmpty())
+				.map(CritereStagnation::valueOf)
+				.collect(Collectors.toCollection(() -> EnumSet.noneOf(CritereStagnation.class)));
+	}
+
+
+	/**
+	 * EN - Surveys a generation : its sum of the scores enters the window, the oldest one leaving it
+	 * FR - Recense une génération : sa somme des scores entre dans la fenêtre, la plus ancienne en sortant
+	 *
+	 * @param somme    EN-sum of the scores of the generation </br> FR-somme des scores de la génération
+	 * @param scoreMax EN-best score of the generation </br> FR-meilleur score de la génération
+	 */
+	public void recenser(int somme, int scoreMax) {
+
+		if (nbRecensements < fenetre) {
+
+			sommePonderee += nbRecensements * somme;
+			sommeFenetre += somme;
+
+		} else {
+
+			/* EN - The sum leaving the last window enters the previous one, the one leaving the previous window being overwritten
+			 * FR - La somme sortant de la dernière fenêtre entre dans la précédente, celle sortant de la fenêtre précédente étant écrasée */
+			long sortieFenetre = sommes[(position + fenetre) % sommes.length];
+
+			sommeFenetrePrecedente += sortieFenetre - sommes[position];
+			sommeFenetre += somme - sortieFenetre;
+
+			/* EN - Sliding of the ranks : each sum loses one rank, the new one taking the last rank
+			 * FR - Glissement des rangs : chaque somme perd un rang, la nouvelle prenant le dernier rang */
+			sommePonderee += (long) fenetre * somme - sommeFenetre;
+		}
+
+		sommes[position] = somme;
+		position = (position + 1) % sommes.length;
+		nbRecensements++;
+
+		if (scoreMax > meilleurScore) {
+			meilleurScore = scoreMax;
+			derniereAmelioration = nbRecensements;
+		}
+
+		critereAtteint = evaluerCriteres();
+	}
+
+
+	/**
+	 * EN - Indicates whether the population stagnates according to one of the criteria, at the last census
+	 * FR - Indique si la population stagne selon l'un des critères, lors du dernier recensement
+	 *
+	 * @return true EN-if the population stagnates </br> FR-si la population stagne
+	 */
+	public boolean isStagnation() {
+		return critereAtteint != null;
+	}
+
+
+	/**
+	 * EN - Gives the average of the sums of the scores over the last window, or over the generations surveyed while the window is not full
+	 * FR - Donne la moyenne des sommes des scores sur la dernière fenêtre, ou sur les générations recensées tant que la fenêtre n'est pas pleine
+	 *
+	 * @return EN-the moving average </br> FR-la moyenne mobile
+	 */
+	public double getMoyenneMobile() {
+		return nbRecensements == 0 ? 0 : (double) sommeFenetre / Math.min(nbRecensements, fenetre);
+	}
+
+
+	/**
+	 * EN - Gives the slope, by least squares, of the sums of the scores over the last window, zero while the window is not full
+	 * FR - Donne la pente, par moindres carrés, des sommes des scores sur la dernière fenêtre, nulle tant que la fenêtre n'est pas pleine
+	 *
+	 * @return EN-the increase of the sum of the scores per generation </br> FR-l'augmentation de la somme des scores par génération
+	 */
+	public double getPente() {
+
+		if (nbRecensements < fenetre)
+			return 0;
+
+		double sommeRangs = fenetre * (fenetre - 1.0) / 2.0;
+		double sommeCarresRangs = (fenetre - 1.0) * fenetre * (2.0 * fenetre - 1) / 6.0;
+
+		return (fenetre * (double) sommePonderee - sommeRangs * sommeFenetre) / (fenetre * sommeCarresRangs - sommeRangs * sommeRangs);
+	}
+
+
+	/**
+	 * EN - Gives the number of bytes taken by the state of the window in a point of save
+	 * FR - Donne le nombre d'octets occupés par l'état de la fenêtre dans un point de sauvegarde
+	 *
+	 * @return EN-the number of bytes </br> FR-le nombre d'octets
+	 */
+	public int getTaille() {
+		return 3 * Integer.BYTES + (5 + sommes.length) * Long.BYTES;
+	}
+
+
+	/**
+	 * EN - Writes the state of the window at the position of a buffer, the criteria being left to the configuration
+	 * FR - Ecrit l'état de la fenêtre à la position d'un tampon, les critères étant laissés à la configuration
+	 *
+	 * @param tampon EN-buffer receiving the state </br> FR-tampon recevant l'état
+	 */
+	public void ecrire(ByteBuffer tampon) {
+
+		tampon.putInt(fenetre).putInt(position).putInt(meilleurScore);
+		tampon.putLong(nbRecensements).putLong(derniereAmelioration).putLong(sommeFenetre).putLong(sommeFenetrePrecedente).putLong(sommePonderee);
+
+		for (long somme : sommes) {
+			tampon.putLong(somme);
+		}
+	}
+
+
+	/**
+	 * EN - Restores the state of the window written by {@link #ecrire(ByteBuffer)}
+	 *      A state written with another window is skipped, the detector then starting again from an empty window
+	 * FR - Restaure l'état de la fenêtre écrit par {@link #ecrire(ByteBuffer)}
+	 *      Un état écrit avec une autre fenêtre est sauté, le détecteur repartant alors d'une fenêtre vide
+	 *
+	 * @param tampon EN-buffer holding the state </br> FR-tampon contenant l'état
+	 * @return true EN-if the state has been restored </br> FR-si l'état a été restauré
+	 */
+	public boolean lire(ByteBuffer tampon) {
+
+		int fenetreLue = tampon.getInt();
+
+		if (fenetreLue != fenetre) {
+			tampon.position(tampon.position() + 2 * Integer.BYTES + (5 + 2 * fenetreLue) * Long.BYTES);
+			return false;
+		}
+
+		position = tampon.getInt();
+		meilleurScore = tampon.getInt();
+		nbRecensements = tampon.getLong();
+		derniereAmelioration = tampon.getLong();
+		sommeFenetre = tampon.getLong();
+		sommeFenetrePrecedente = tampon.getLong();
+		sommePonderee = tampon.getLong();
+
+		for (int i = 0; i < sommes.length; i++) {
+			sommes[i] = tampon.getLong();
+		}
+
+		critereAtteint = evaluerCriteres();
+
+		return true;
+	}
+
+
+	private CritereStagnation evaluerCriteres() {
+
+		for (CritereStagnation critere : criteres) {
+
+			switch (critere) {
+
+				case SANS_AMELIORATION:
+					if (nbRecensements - derniereAmelioration >= fenetre)
+						return critere;
+					break;
+
+				case MOYENNE_DECROISSANTE:
+					if (nbRecensements >= 2L * fenetre && sommeFenetre < sommeFenetrePrecedente)
+						return critere;
+					break;
+
+				case PENTE:
+					if (nbRecensements >= fenetre && getPente() < seuilPente)
+						return critere;
+					break;
+			}
+		}
+
+		return null;
+	}
+
+}
@@ -2,20 +2,27 @@ package numeric.lanceur;
 
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.LongBuffer;
 import java.util.List;
 import java.util.Properties;
-import java.util.Random;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.GenerationCompacte;
+import generique.metier.entite.IndividuCompact;
 import generique.metier.evaluation.Evaluateur;
 import generique.metier.mediation.Mediateur;
+import generique.metier.migration.Archipel;
 import lombok.extern.java.Log;
 import numeric.metier.entite.Nombre;
+import numeric.metier.operateur.OperateursNombre;
+import numeric.metier.sauvegarde.CodecIndividuCompact;
+import numeric.metier.sauvegarde.CodecNombre;
 
 
 
@@ -62,33 +69,27 @@ public class App {
 			Properties properties = new Properties();
 			properties.load(new FileInputStream("geneticConfig.properties"));
 
+			/* EN - Root source of random numbers, initialized by the seed of the configuration or, failing that, by a random seed logged to replay the run
+			 * FR - Source racine de nombres aléatoires, initialisée par la graine de la configuration ou, à défaut, par une graine aléatoire journalisée pour rejouer l'exécution */
+			SourceAleatoire sourceAleatoire = SourceAleatoire.creer(properties.getProperty("graineAleatoire"));
 
-			/* EN - Behavioral parameterization of the function in charge of generating the mystery number.
-			 * FR - Paramétrage comportemental de la fonction chargée de générer le nombre mystère. */
-			Supplier<String> fonctionGeneratriceNombreMystereAleatoire = () -> {
-
-				int mystery = new Random().nextInt(Integer.MAX_VALUE);
+			log.log(Level.INFO, "Graine aléatoire : {0}", String.valueOf(sourceAleatoire.getGraine()));
 
-				String nb = Integer.toBinaryString(mystery);
+			/* EN - The individuals can be stored as structure of arrays, see lancerGenerationCompacte
+			 * FR - Les individus peuvent être rangés sous forme de structure de tableaux, voir lancerGenerationCompacte */
+			if (Boolean.parseBoolean(properties.getProperty("generationCompacte", "false"))) {
+				lancerGenerationCompacte(properties, sourceAleatoire);
+				return;
+			}
 
-				while(nb.length() < 32 )
-					nb = new String("0").concat(nb);
-
-				return nb;
-			};
+			/* EN - Retrieve the number of bits of the number to search from the configuration
+			 * FR - Récuperation du nombre de bits du nombre à rechercher depuis la configuration  */
+			int longueurNombre = Integer.valueOf(properties.getProperty("longueurNombre", "32"));
 
 
-
-			/* EN - Behavioral parameterization of the function in charge of generating an individual randomly.
-			 * FR - Paramétrage comportemental de la fonction chargée de générer un individu aléatoirement. */	
-			Supplier<Nombre> fonctionGeneratriceIndividuAleatoire = () -> {
-
-				String nb = Integer.toBinaryString(new Random().nextInt(Integer.MAX_VALUE));
-				while(nb.length() < 32 )
-					nb = new String("0").concat(nb);
-
-				return new Nombre(nb);
-			};		
+			/* EN - Behavioral parameterization of the function in charge of generating the mystery number.
+			 * FR - Paramétrage comportemental de la fonction chargée de générer le nombre mystère. */
+			Supplier<Nombre> fonctionGeneratriceNombreMystereAleatoire = () -> OperateursNombre.aleatoire(longueurNombre, sourceAleatoire);
 
 
 			/* EN - Behavioral parameterization of the function responsible for evaluating an individual
@@ -97,41 +98,18 @@ public class App {
 			 * FR - Paramétrage comportemental de la fonction chargée de l'évaluation d'un individu. 
 			 *      x : Nombre mystère à trouver
 			 *      y : Individu candidat à scrorer */			
-			BiConsumer<Nombre, String> fonctionEvaluatriceIndividu = (x,y) ->{
-
-				/* EN - Table of characters constituting the mystery number
-				 * FR - Tableau des caractères constituant le nombre mystère */
-				char[] elementsMotMystere = y.toCharArray();
-
-				/* EN - Table of characters constituting an individual
-				 * FR - Tableau des caractères constituant un individu */
-				char[] elementsIndividu = x.getValeur().toCharArray();
-
-				/* EN - Score obtained by the individual
-				 * FR - Score obtenu par l'individu */
-				int scoreIndividu = 0;
-
-				/* EN - Individual scoring loop
-				 * FR - Boucle de scoring de l'individu */
-				for (int i = 0; i < elementsIndividu.length; i++) {
-					if (elementsIndividu[i] == elementsMotMystere[i])
-						scoreIndividu++;
-				}
-
-				/* EN - Assignment of the score to the individual
-				 * FR - Affectation du score à l'individu */
-				x.setScore(scoreIndividu);
-
-				/* EN - Designation of the individual as the solution where appropriate
-				 * FR - Désignation de l'individu comme solution le cas échéant */
-				x.setSolution(x.getScore() == elementsMotMystere.length);
-
-			};
+			BiConsumer<Nombre, Nombre> fonctionEvaluatriceIndividu = OperateursNombre::evaluer;
 
 
 			/* EN - Evaluator Instantiation
 			 * FR - Instanciation de l'évaluateur */	
-			Evaluateur<Nombre, String> evaluateurIndividu = new Evaluateur<Nombre, String> (fonctionGeneratriceNombreMystereAleatoire, fonctionEvaluatriceIndividu);
+			Evaluateur<Nombre, Nombre> evaluateurIndividu = new Evaluateur<Nombre, Nombre> (fonctionGeneratriceNombreMystereAleatoire, fonctionEvaluatriceIndividu);
+
+			/* EN - Key of an individual in the evaluation cache : a LongBuffer compares the content of the words
+			 *      The words are copied, the numbers being reused from one generation to the next
+			 * FR - Clé d'un individu dans le cache d'évaluation : un LongBuffer compare le contenu des mots
+			 *      Les mots sont copiés, les nombres étant réutilisés d'une génération à l'autre */
+			evaluateurIndividu.setFonctionCleCache(x -> LongBuffer.wrap(x.getValeur().clone()));
 
 
 			/* EN - Behavioral parameterization of the function in charge of the selection of the individuals
@@ -140,91 +118,140 @@ public class App {
 			 * FR - Paramétrage comportemental de la fonction chargée de la sélection des individus.			
 			 *      x : Individu candidat à la sélection
 			 *      y : Score seuil de sélection */	
-			BiConsumer<Nombre, Integer> fonctionSelectriceIndividu = (x,y) ->{
+			BiConsumer<Nombre, Integer> fonctionSelectriceIndividu = OperateursNombre::selectionner;
+
+
+			/* EN - Copy of an individual, for the migrants of the Archipelago and the snapshots of the generations
+			 * FR - Copie d'un individu, pour les migrants de l'Archipel et les instantanés des générations */
+			UnaryOperator<Nombre> fonctionCopieIndividu = x -> new Nombre(x.getValeur().clone(), x.getNbBits());
+
+
+			/* EN - Factory of the Mediators, all of them sharing the same evaluator and therefore the same mystery value
+			 *      Each Mediator receives its own source of random numbers, split from the root source, so that no source is shared between threads
+			 * FR - Fabrique des Mediateurs, tous partageant le même évaluateur et donc la même valeur mystère
+			 *      Chaque Mediateur reçoit sa propre source de nombres aléatoires, scindée de la source racine, afin qu'aucune source ne soit partagée entre threads */
+			Supplier<Mediateur<Nombre, Nombre>> fabriqueMediateur = () -> {
+
+				SourceAleatoire sourceMediateur = sourceAleatoire.scinder();
+
+				/* EN - Behavioral parameterization of the function in charge of generating an individual randomly.
+				 * FR - Paramétrage comportemental de la fonction chargée de générer un individu aléatoirement. */	
+				Supplier<Nombre> fonctionGeneratriceIndividuAleatoire = () -> OperateursNombre.aleatoire(longueurNombre, sourceMediateur);
+
+				/* EN - Behavioral parameterization of the function in charge of the generation of children
+				 *      x : First parent individual to be crossed.
+				 *      y : Second parent individual to be crossed
+				 * FR - Paramétrage comportemental de la fonction chargée de la génération d'individus enfants
+				 *      x : Premier individu parent devant être croisé
+				 *      y : Second individu parent devant être croisé */	
+				BiFunction<Nombre, Nombre, List<Nombre>> fonctionFabriqueDeDescendants = (x,y) -> OperateursNombre.croiser(x, y, sourceMediateur);
+
+				Mediateur<Nombre, Nombre> mediateur = new Mediateur<Nombre, Nombre>(	
+						fonctionGeneratriceNombreMystereAleatoire,
+						fonctionGeneratriceIndividuAleatoire,
+						fonctionEvaluatriceIndividu, 
+						evaluateurIndividu,
+						fonctionSelectriceIndividu,
+						fonctionFabriqueDeDescendants
+						);
+
+				/* EN - Crossover and random generation writing into the numbers released by the previous generations, without allocation
+				 * FR - Croisement et génération aléatoire écrivant dans les nombres libérés par les générations précédentes, sans allocation */
+				mediateur.setCroisementEnPlace((p1, p2, e1, e2) -> OperateursNombre.croiser(p1, p2, e1, e2, sourceMediateur));
+				mediateur.setFonctionReinitialisationAleatoire(x -> OperateursNombre.reinitialiser(x, sourceMediateur));
+				mediateur.setFabriqueIndividuVierge(() -> OperateursNombre.vierge(longueurNombre));
+				mediateur.setCroisementEnPlaceParMasque(OperateursNombre::croiser);
+				mediateur.setFonctionNbLoci(Nombre::getNbBits);
+
+				/* EN - Binary encodings and source of random numbers saved by the points of save
+				 * FR - Encodages binaires et source de nombres aléatoires sauvegardés par les points de sauvegarde */
+				mediateur.setCodecIndividu(new CodecNombre());
+				mediateur.setCodecReference(new CodecNombre());
+				mediateur.setSourceAleatoire(sourceMediateur);
+
+				/* EN - Copy of the best individual of the snapshots of the generations
+				 * FR - Copie du meilleur individu des instantanés des générations */
+				mediateur.setFonctionCopieIndividu(fonctionCopieIndividu);
+
+				return mediateur;
+			};
 
-				x.setSelectionne(x.getScore() >= y);
+			/* EN - Number of islands evolving concurrently
+			 * FR - Nombre d'îles évoluant simultanément */
+			int nbIles = Integer.valueOf(properties.getProperty("nbIles", "1"));
 
-			};
+			/* EN - Triggering the system by calling the run() method of the Archipelago, or of the Mediator when there is only one island
+			 * FR - Déclenchement du système par appel à la méthode run() de l'Archipel, ou du Mediateur lorsqu'il n'y a qu'une île. */			
+			if (nbIles > 1)
+				new Archipel<Nombre, Nombre>(fabriqueMediateur, fonctionCopieIndividu, sourceAleatoire.scinder()).run();
+			else
+				fabriqueMediateur.get().run();
 
 
 
-			/* EN - Behavioral parameterization of the function in charge of the generation of children
-			 *      x : First parent individual to be crossed.
-			 *      y : Second parent individual to be crossed
-			 * FR - Paramétrage comportemental de la fonction chargée de la génération d'individus enfants
-			 *      x : Premier individu parent devant être croisé
-			 *      y : Second individu parent devant être croisé */	
-			BiFunction<Nombre, Nombre, List<Nombre>> fonctionFabriqueDeDescendants = (x,y) -> { 
+		} catch (IOException e) {
+			log.log(Level.SEVERE, "Erreur à l'execution", e.getMessage());
+			log.log(Level.SEVERE, "Cause : ", e.getCause());
+		}
+	}		
+
 
-				/* EN - Collection of individual children
-				 * FR - Collection d'individus enfants */
-				List<Nombre> leGroupeEnfants = new ArrayList<Nombre>();
+	/**
+	 * EN - Launches the search of the mystery number with generations stored as structure of arrays ({@link GenerationCompacte})
+	 *      The individuals are then views on the slots of the generations rather than Nombre objects
+	 * FR - Lance la recherche du nombre mystère avec des générations rangées sous forme de structure de tableaux ({@link GenerationCompacte})
+	 *      Les individus sont alors des vues sur les emplacements des générations plutôt que des objets Nombre
+	 *
+	 * @param properties      EN-configuration </br> FR-configuration
+	 * @param sourceAleatoire EN-root source of random numbers </br> FR-source racine de nombres aléatoires
+	 */
+	private static void lancerGenerationCompacte(Properties properties, SourceAleatoire sourceAleatoire) {
 
-				/* EN - Table of characteristics constituting the first parent individual
-				 * FR - Tableau des caractères constituant le premier individu parent */
-				char[] elementsParentUn = x.getValeur().toCharArray();
+		/* EN - Number of bits of the number to search and number of individuals per generation
+		 * FR - Nombre de bits du nombre à rechercher et nombre d'individus par génération */
+		int longueurNombre = Integer.valueOf(properties.getProperty("longueurNombre", "32"));
+		int nbIndividusParGeneration = Integer.valueOf(properties.getProperty("nbIndividusParGeneration"));
 
-				/* EN - Table of characteristics constituting the second parent individual
-				 * FR - ableau des caractères constituant le second individu parent */
-				char[] elementsParentDeux = y.getValeur().toCharArray();
 
-				
-				/* EN - Table of characters constituting the first child individual
-				 * FR - Tableau des caractères constituant le premier individu enfant */
-				char[] elementsEnfantUn = new char[elementsParentUn.length];
-				
-				/* EN - Table of characters constituting the second child individual
-				 * FR - Tableau des caractères constituant le second individu enfant */
-				char[] elementsEnfantDeux = new char[elementsParentDeux.length];
+		/* EN - Behavioral parameterization of the function in charge of generating the mystery number.
+		 * FR - Paramétrage comportemental de la fonction chargée de générer le nombre mystère. */
+		Supplier<IndividuCompact> fonctionGeneratriceNombreMystereAleatoire = () -> OperateursNombre.aleatoireCompact(longueurNombre, sourceAleatoire);
 
 
-				/* EN - Generation loop of the two children individuals
-				 * FR - Boucle de génération des deux individus enfants */			
-				for (int i = 0; i < elementsParentUn.length; i++) {
+		/* EN - Behavioral parameterization of the function responsible for evaluating an individual : XOR and bit count directly in the generation
+		 * FR - Paramétrage comportemental de la fonction chargée de l'évaluation d'un individu : XOR et comptage des bits directement dans la génération */
+		BiConsumer<IndividuCompact, IndividuCompact> fonctionEvaluatriceIndividu = OperateursNombre::evaluer;
 
-					/* EN - Random selection of the mode of transmission of traits from parent to offspring
-					 * FR - Choix aléatoire du mode de transmission des caractères des individus parents aux individus enfants */			
-					int choix = (int) ((Math.random() * 10) % 2);
 
-					/* EN - Transmission of the characters from the parents to the children according to the determined mode
-					 * FR - Transmission des caractères des individus parents aux individus enfants selon le mode déterminé */			
-					if (choix == 1) {
-						elementsEnfantUn[i] = elementsParentUn[i];
-						elementsEnfantDeux[i] = elementsParentDeux[i];
-					} else {
-						elementsEnfantUn[i] = elementsParentDeux[i];
-						elementsEnfantDeux[i] = elementsParentUn[i];
-					}
+		/* EN - Evaluator Instantiation
+		 * FR - Instanciation de l'évaluateur */	
+		Evaluateur<IndividuCompact, IndividuCompact> evaluateurIndividu = new Evaluateur<IndividuCompact, IndividuCompact> (fonctionGeneratriceNombreMystereAleatoire, fonctionEvaluatriceIndividu);
 
-				}
+		/* EN - Key of an individual in the evaluation cache, getValeur() giving a copy of the words of the genome
+		 * FR - Clé d'un individu dans le cache d'évaluation, getValeur() donnant une copie des mots du génome */
+		evaluateurIndividu.setFonctionCleCache(x -> LongBuffer.wrap(x.getValeur()));
 
-				/* EN - Instantiation of the first child individual from its characters
-				 * FR - Instanciation du premier individu enfant à partir de ses caractères */						
-				Nombre enfantUn = new Nombre(new String(elementsEnfantUn));
-				
-				/* EN - Instantiation of the second child individual from its characters
-				 * FR - Instanciation du second individu enfant à partir de ses caractères */						
-				Nombre enfantDeux = new Nombre(new String(elementsEnfantDeux));
 
-				/* EN - Designation of new individuals as children
-				 * FR - Désignation des nouveaux individus comme individu enfant */						
-				enfantUn.setEnfant(true);
-				enfantDeux.setEnfant(true);
+		/* EN - Behavioral parameterization of the function in charge of the selection of the individuals
+		 * FR - Paramétrage comportemental de la fonction chargée de la sélection des individus */	
+		BiConsumer<IndividuCompact, Integer> fonctionSelectriceIndividu = OperateursNombre::selectionner;
 
-				/* EN - Adding new individuals to the collection of children individuals
-				 * FR - Ajout des nouveaux individus à la collection des individus enfants */
-				leGroupeEnfants.add(enfantUn);
-				leGroupeEnfants.add(enfantDeux);
 
-				return leGroupeEnfants; 
+		/* EN - Factory of the Mediators, working on compact generations, each of them with its own source of random numbers
+		 * FR - Fabrique des Mediateurs, travaillant sur des générations compactes, chacun avec sa propre source de nombres aléatoires */
+		Supplier<Mediateur<IndividuCompact, IndividuCompact>> fabriqueMediateur = () -> {
 
-			}; 
+			SourceAleatoire sourceMediateur = sourceAleatoire.scinder();
 
+			/* EN - Behavioral parameterization of the function in charge of generating an individual randomly
+			 * FR - Paramétrage comportemental de la fonction chargée de générer un individu aléatoirement */
+			Supplier<IndividuCompact> fonctionGeneratriceIndividuAleatoire = () -> OperateursNombre.aleatoireCompact(longueurNombre, sourceMediateur);
 
+			/* EN - Behavioral parameterization of the function in charge of the generation of children : mask-based crossover, word by word
+			 * FR - Paramétrage comportemental de la fonction chargée de la génération d'individus enfants : croisement par masque, mot par mot */	
+			BiFunction<IndividuCompact, IndividuCompact, List<IndividuCompact>> fonctionFabriqueDeDescendants = (x,y) -> OperateursNombre.croiser(x, y, sourceMediateur);
 
-			/* EN - Instantiation of the Mediator
-			 * FR - Instanciation du Mediateur. */			
-			Mediateur<Nombre, String> mediateur = new Mediateur<Nombre, String>(	
+			Mediateur<IndividuCompact, IndividuCompact> mediateur = new Mediateur<IndividuCompact, IndividuCompact>(	
 					fonctionGeneratriceNombreMystereAleatoire,
 					fonctionGeneratriceIndividuAleatoire,
 					fonctionEvaluatriceIndividu, 
@@ -233,17 +260,30 @@ public class App {
 					fonctionFabriqueDeDescendants
 					);
 
-			/* EN - Triggering the system by calling the Mediator's run() method
-			 * FR - Déclenchement du système par appel à la méthode run() du Mediateur. */			
-			mediateur.run();
+			mediateur.setFabriqueGeneration(numero -> new GenerationCompacte(numero, nbIndividusParGeneration, longueurNombre));
 
+			/* EN - Crossover and random generation writing directly into the slots of the compact generations, without allocation
+			 * FR - Croisement et génération aléatoire écrivant directement dans les emplacements des générations compactes, sans allocation */
+			mediateur.setCroisementEnPlace((p1, p2, e1, e2) -> OperateursNombre.croiser(p1, p2, e1, e2, sourceMediateur));
+			mediateur.setFonctionReinitialisationAleatoire(x -> OperateursNombre.reinitialiser(x, sourceMediateur));
+			mediateur.setCroisementEnPlaceParMasque(OperateursNombre::croiser);
+			mediateur.setFonctionNbLoci(IndividuCompact::getNbBits);
 
+			mediateur.setCodecIndividu(new CodecIndividuCompact());
+			mediateur.setCodecReference(new CodecIndividuCompact());
+			mediateur.setSourceAleatoire(sourceMediateur);
+			mediateur.setFonctionCopieIndividu(IndividuCompact::copie);
 
-		} catch (IOException e) {
-			log.log(Level.SEVERE, "Erreur à l'execution", e.getMessage());
-			log.log(Level.SEVERE, "Cause : ", e.getCause());
-		}
-	}		
+			return mediateur;
+		};
+
+		int nbIles = Integer.valueOf(properties.getProperty("nbIles", "1"));
+
+		if (nbIles > 1)
+			new Archipel<IndividuCompact, IndividuCompact>(fabriqueMediateur, IndividuCompact::copie, sourceAleatoire.scinder()).run();
+		else
+			fabriqueMediateur.get().run();
+	}
 
 
 
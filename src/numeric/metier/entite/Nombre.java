@@ -1,29 +1,68 @@
 package numeric.metier.entite;
 
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.GenomeBinaire;
 import generique.metier.entite.Individu;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
-import lombok.ToString;
 
-@ToString
-public class Nombre implements Individu<String>{
+/**
+ * EN - Class Type representing the entity manipulated by the generic genetic algorithm
+ *      Here a binary Number allowing the research of a mystery number
+ *      The bits are packed 64 by 64 in an array of long, bit i being stored in word i / 64 at position i % 64
+ *      The bits of the last word beyond the number of bits are always zero
+ * FR - Classe Type représentant l'entité manipulée par l'algorithme génétique générique
+ *      Ici un Nombre binaire permettant la recherche d'un nombre mystère
+ *      Les bits sont regroupés 64 par 64 dans un tableau de long, le bit i étant rangé dans le mot i / 64 à la position i % 64
+ *      Les bits du dernier mot au delà du nombre de bits sont toujours à zéro
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class Nombre implements Individu<long[]>{
 
+	/**
+	 * EN - Version of the class allowing serialization
+	 * FR - Version de la class permettant la sérialisation
+	 */
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * EN - Maximum number of bits displayed by toString()
+	 * FR - Nombre maximum de bits affichés par toString()
+	 */
+	private static final int NB_BITS_AFFICHES = 128;
+
+	/**
+	 * EN - Value of the number, packed in words of 64 bits
+	 * FR - Valeur du nombre, regroupée en mots de 64 bits
+	 */
 	@Getter
-	@Setter
 	@NonNull
-	private String valeur;
-	
+	private long[] valeur;
+
+	/**
+	 * EN - Number of bits of the number
+	 * FR - Nombre de bits du nombre
+	 */
+	@Getter
+	private final int nbBits;
+
+	/**
+	 * EN - Score of the number obtained at the last evaluation, -1 if never evaluated
+	 * FR - Score du nombre obtenu à la dernière évaluation, -1 s'il n'a jamais été évalué
+	 */
 	@Getter
 	@Setter
 	private int score;
-	
+
 	@Getter
 	@Setter
 	private boolean selectionne;
-	
+
 	@Getter
 	@Setter
 	private boolean enfant;
@@ -31,12 +70,79 @@ public class Nombre implements Individu<String>{
 	@Getter
 	@Setter
 	private boolean solution;
-	
-	public Nombre(String valeur) {
+
+	/**
+	 * EN - Epoch of the evaluator which gave its score to the number, 0 when the score is not up to date with the value
+	 * FR - Epoque de l'évaluateur ayant donné son score au nombre, 0 lorsque le score n'est pas à jour de la valeur
+	 */
+	@Getter
+	@Setter
+	private int epoqueEvaluation;
+
+
+	/**
+	 * EN - Constructor of the class
+	 * FR - Construteur de la classe
+	 *
+	 * @param valeur EN-value of the number packed in words of 64 bits </br> FR-valeur du nombre regroupée en mots de 64 bits
+	 * @param nbBits EN-number of bits of the number </br> FR-nombre de bits du nombre
+	 */
+	public Nombre(long[] valeur, int nbBits) {
 		setValeur(valeur);
+		this.nbBits = nbBits;
 		score = -1;
 	}
 
 
+	/**
+	 * EN - Modifies the value of the number, its score being no longer valid
+	 * FR - Modifie la valeur du nombre, son score n'étant plus valide
+	 *
+	 * @param valeur EN-value of the number packed in words of 64 bits </br> FR-valeur du nombre regroupée en mots de 64 bits
+	 */
+	public void setValeur(@NonNull long[] valeur) {
+		this.valeur = valeur;
+		this.epoqueEvaluation = 0;
+	}
+
+
+	/**
+	 * EN - Creates a number whose bits are drawn at random
+	 * FR - Crée un nombre dont les bits sont tirés au hasard
+	 *
+	 * @param nbBits EN-number of bits of the number </br> FR-nombre de bits du nombre
+	 * @param source EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the new number </br> FR-le nouveau nombre
+	 */
+	public static Nombre aleatoire(int nbBits, SourceAleatoire source) {
+
+		long[] valeur = new long[GenomeBinaire.getNbMots(nbBits)];
+
+		for (int i = 0; i < valeur.length; i++) {
+			valeur[i] = source.nextLong();
+		}
+
+		valeur[valeur.length - 1] &= GenomeBinaire.getMasqueDernierMot(nbBits);
+
+		return new Nombre(valeur, nbBits);
+	}
+
+
+	/**
+	 * EN - Counts the bits identical to those of another number of the same size
+	 * FR - Compte les bits identiques à ceux d'un autre nombre de même taille
+	 *
+	 * @param autre EN-number to compare with </br> FR-nombre avec lequel comparer
+	 * @return EN-the number of identical bits </br> FR-le nombre de bits identiques
+	 */
+	public int getNbBitsCommuns(Nombre autre) {
+		return nbBits - GenomeBinaire.getNbBitsDifferents(valeur, 0, autre.getValeur(), 0, valeur.length);
+	}
+
+
+	@Override
+	public String toString() {
+		return "Nombre(valeur=" + GenomeBinaire.toString(valeur, 0, nbBits, NB_BITS_AFFICHES) + ", score=" + score + ", selectionne=" + selectionne + ", enfant=" + enfant + ", solution=" + solution + ")";
+	}
 
 }
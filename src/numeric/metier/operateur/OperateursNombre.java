@@ -0,0 +1,320 @@
+package numeric.metier.operateur;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.GenomeBinaire;
+import generique.metier.entite.IndividuCompact;
+import numeric.metier.entite.Nombre;
+
+/**
+ * EN - Utility class gathering the operators of the genetic algorithm applied to the binary Numbers : random generation, evaluation, selection and crossover
+ *      Each operator exists for the {@link Nombre} objects and for the {@link IndividuCompact} views on compact generations
+ *      The operators are exposed as static methods so that they can be given by reference to the Mediator, and reused outside the application
+ *      The operators drawing random numbers receive the source of the Mediator which calls them
+ * FR - Classe utilitaire regroupant les opérateurs de l'algorithme génétique appliqués aux Nombres binaires : génération aléatoire, évaluation, sélection et croisement
+ *      Chaque opérateur existe pour les objets {@link Nombre} et pour les vues {@link IndividuCompact} sur les générations compactes
+ *      Les opérateurs sont exposés sous forme de méthodes statiques afin de pouvoir être donnés par référence au Mediateur, et réutilisés en dehors de l'application
+ *      Les opérateurs tirant des nombres aléatoires reçoivent la source du Mediateur qui les appelle
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public final class OperateursNombre {
+
+	private OperateursNombre() {
+	}
+
+
+	/**
+	 * EN - Generates a number of random bits
+	 * FR - Génère un nombre de bits aléatoires
+	 *
+	 * @param nbBits EN-number of bits </br> FR-nombre de bits
+	 * @param source EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the new number </br> FR-le nouveau nombre
+	 */
+	public static Nombre aleatoire(int nbBits, SourceAleatoire source) {
+		return Nombre.aleatoire(nbBits, source);
+	}
+
+
+	/**
+	 * EN - Generates an individual of random bits which does not belong to any generation
+	 * FR - Génère un individu de bits aléatoires n'appartenant à aucune génération
+	 *
+	 * @param nbBits EN-number of bits </br> FR-nombre de bits
+	 * @param source EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the new individual </br> FR-le nouvel individu
+	 */
+	public static IndividuCompact aleatoireCompact(int nbBits, SourceAleatoire source) {
+
+		IndividuCompact individu = IndividuCompact.creer(nbBits);
+
+		reinitialiser(individu, source);
+
+		return individu;
+	}
+
+
+	/**
+	 * EN - Creates a number whose bits are all at zero, intended to be overwritten by a crossover in place or a random reinitialization
+	 * FR - Crée un nombre dont tous les bits sont à zéro, destiné à être écrasé par un croisement en place ou une réinitialisation aléatoire
+	 *
+	 * @param nbBits EN-number of bits </br> FR-nombre de bits
+	 * @return EN-the new number </br> FR-le nouveau nombre
+	 */
+	public static Nombre vierge(int nbBits) {
+		return new Nombre(new long[GenomeBinaire.getNbMots(nbBits)], nbBits);
+	}
+
+
+	/**
+	 * EN - Evaluates a number : one point per bit identical to the one of the mystery number
+	 * FR - Evalue un nombre : un point par bit identique à celui du nombre mystère
+	 *
+	 * @param individu      EN-candidate individual to score </br> FR-individu candidat à scorer
+	 * @param nombreMystere EN-mystery number to find </br> FR-nombre mystère à trouver
+	 */
+	public static void evaluer(Nombre individu, Nombre nombreMystere) {
+
+		/* EN - Assignment of the score to the individual : number of bits identical to those of the mystery number
+		 * FR - Affectation du score à l'individu : nombre de bits identiques à ceux du nombre mystère */
+		individu.setScore(individu.getNbBitsCommuns(nombreMystere));
+
+		/* EN - Designation of the individual as the solution where appropriate
+		 * FR - Désignation de l'individu comme solution le cas échéant */
+		individu.setSolution(individu.getScore() == nombreMystere.getNbBits());
+	}
+
+
+	/**
+	 * EN - Evaluates an individual of a compact generation : XOR and bit count directly in the generation
+	 * FR - Evalue un individu d'une génération compacte : XOR et comptage des bits directement dans la génération
+	 *
+	 * @param individu      EN-candidate individual to score </br> FR-individu candidat à scorer
+	 * @param nombreMystere EN-mystery number to find </br> FR-nombre mystère à trouver
+	 */
+	public static void evaluer(IndividuCompact individu, IndividuCompact nombreMystere) {
+
+		individu.setScore(individu.getNbBitsCommuns(nombreMystere));
+
+		individu.setSolution(individu.getScore() == nombreMystere.getNbBits());
+	}
+
+
+	/**
+	 * EN - Selects a number when its score reaches the selection threshold
+	 * FR - Sélectionne un nombre lorsque son score atteint le seuil de sélection
+	 *
+	 * @param individu EN-individual candidate for selection </br> FR-individu candidat à la sélection
+	 * @param seuil    EN-selection threshold score </br> FR-score seuil de sélection
+	 */
+	public static void selectionner(Nombre individu, Integer seuil) {
+		individu.setSelectionne(individu.getScore() >= seuil);
+	}
+
+
+	/**
+	 * EN - Selects an individual of a compact generation when its score reaches the selection threshold
+	 * FR - Sélectionne un individu d'une génération compacte lorsque son score atteint le seuil de sélection
+	 *
+	 * @param individu EN-individual candidate for selection </br> FR-individu candidat à la sélection
+	 * @param seuil    EN-selection threshold score </br> FR-score seuil de sélection
+	 */
+	public static void selectionner(IndividuCompact individu, Integer seuil) {
+		individu.setSelectionne(individu.getScore() >= seuil);
+	}
+
+
+	/**
+	 * EN - Crosses two parent numbers into two child numbers according to a random mask, one word of 64 bits being drawn for 64 bits of the parents
+	 * FR - Croise deux nombres parents en deux nombres enfants selon un masque aléatoire, un mot de 64 bits étant tiré pour 64 bits des parents
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param source     EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the two child individuals </br> FR-les deux individus enfants
+	 */
+	public static List<Nombre> croiser(Nombre parentUn, Nombre parentDeux, SourceAleatoire source) {
+
+		int nbMots = GenomeBinaire.getNbMots(parentUn.getNbBits());
+
+		/* EN - Words constituting the two child individuals
+		 * FR - Mots constituant les deux individus enfants */
+		long[] elementsEnfantUn = new long[nbMots];
+		long[] elementsEnfantDeux = new long[nbMots];
+
+		/* EN - Transmission of the bits from the parents to the children according to the mask
+		 * FR - Transmission des bits des individus parents aux individus enfants selon le masque */
+		GenomeBinaire.croiser(parentUn.getValeur(), 0, parentDeux.getValeur(), 0, masqueAleatoire(nbMots, source), elementsEnfantUn, 0, elementsEnfantDeux, 0, nbMots);
+
+		/* EN - Instantiation of the two child individuals from their words
+		 * FR - Instanciation des deux individus enfants à partir de leurs mots */
+		Nombre enfantUn = new Nombre(elementsEnfantUn, parentUn.getNbBits());
+		Nombre enfantDeux = new Nombre(elementsEnfantDeux, parentUn.getNbBits());
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+
+		List<Nombre> leGroupeEnfants = new ArrayList<Nombre>(2);
+		leGroupeEnfants.add(enfantUn);
+		leGroupeEnfants.add(enfantDeux);
+
+		return leGroupeEnfants;
+	}
+
+
+	/**
+	 * EN - Crosses two parent individuals of compact generations into two child individuals according to a random mask, word by word
+	 * FR - Croise deux individus parents de générations compactes en deux individus enfants selon un masque aléatoire, mot par mot
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param source     EN-source of random numbers </br> FR-source de nombres aléatoires
+	 * @return EN-the two child individuals, which do not belong to any generation </br> FR-les deux individus enfants, n'appartenant à aucune génération
+	 */
+	public static List<IndividuCompact> croiser(IndividuCompact parentUn, IndividuCompact parentDeux, SourceAleatoire source) {
+
+		int nbMots = parentUn.getNbMots();
+
+		IndividuCompact enfantUn = IndividuCompact.creer(parentUn.getNbBits());
+		IndividuCompact enfantDeux = IndividuCompact.creer(parentUn.getNbBits());
+
+		GenomeBinaire.croiser(	parentUn.getTamponGenomes(), parentUn.getDebutGenome(), parentDeux.getTamponGenomes(), parentDeux.getDebutGenome(), masqueAleatoire(nbMots, source),
+								enfantUn.getTamponGenomes(), enfantUn.getDebutGenome(), enfantDeux.getTamponGenomes(), enfantDeux.getDebutGenome(), nbMots);
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+
+		List<IndividuCompact> leGroupeEnfants = new ArrayList<IndividuCompact>(2);
+		leGroupeEnfants.add(enfantUn);
+		leGroupeEnfants.add(enfantDeux);
+
+		return leGroupeEnfants;
+	}
+
+
+	/**
+	 * EN - Crosses two parent numbers according to a random mask, writing the bits into two existing child numbers instead of creating them
+	 * FR - Croise deux nombres parents selon un masque aléatoire, en écrivant les bits dans deux nombres enfants existants au lieu de les créer
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param enfantUn   EN-first child individual, overwritten </br> FR-premier individu enfant, écrasé
+	 * @param enfantDeux EN-second child individual, overwritten </br> FR-second individu enfant, écrasé
+	 * @param source     EN-source of random numbers </br> FR-source de nombres aléatoires
+	 */
+	public static void croiser(Nombre parentUn, Nombre parentDeux, Nombre enfantUn, Nombre enfantDeux, SourceAleatoire source) {
+
+		GenomeBinaire.croiser(parentUn.getValeur(), 0, parentDeux.getValeur(), 0, source, enfantUn.getValeur(), 0, enfantDeux.getValeur(), 0, GenomeBinaire.getNbMots(parentUn.getNbBits()));
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+	}
+
+
+	/**
+	 * EN - Crosses two parent individuals of compact generations according to a random mask, writing the words into two slots of a compact generation
+	 * FR - Croise deux individus parents de générations compactes selon un masque aléatoire, en écrivant les mots dans deux emplacements d'une génération compacte
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param enfantUn   EN-first child individual, overwritten </br> FR-premier individu enfant, écrasé
+	 * @param enfantDeux EN-second child individual, overwritten </br> FR-second individu enfant, écrasé
+	 * @param source     EN-source of random numbers </br> FR-source de nombres aléatoires
+	 */
+	public static void croiser(IndividuCompact parentUn, IndividuCompact parentDeux, IndividuCompact enfantUn, IndividuCompact enfantDeux, SourceAleatoire source) {
+
+		GenomeBinaire.croiser(	parentUn.getTamponGenomes(), parentUn.getDebutGenome(), parentDeux.getTamponGenomes(), parentDeux.getDebutGenome(), source,
+								enfantUn.getTamponGenomes(), enfantUn.getDebutGenome(), enfantDeux.getTamponGenomes(), enfantDeux.getDebutGenome(), parentUn.getNbMots());
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+	}
+
+
+	/**
+	 * EN - Crosses two parent numbers according to a mask drawn by the operator of crossover of the Entrecroiseur, writing the bits into two existing child numbers
+	 * FR - Croise deux nombres parents selon un masque tiré par l'opérateur de croisement de l'Entrecroiseur, en écrivant les bits dans deux nombres enfants existants
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param masque     EN-crossover mask, bit i being 1 when bit i of the first child comes from the first parent </br> FR-masque de croisement, le bit i valant 1 lorsque le bit i du premier enfant vient du premier parent
+	 * @param enfantUn   EN-first child individual, overwritten </br> FR-premier individu enfant, écrasé
+	 * @param enfantDeux EN-second child individual, overwritten </br> FR-second individu enfant, écrasé
+	 */
+	public static void croiser(Nombre parentUn, Nombre parentDeux, long[] masque, Nombre enfantUn, Nombre enfantDeux) {
+
+		GenomeBinaire.croiser(parentUn.getValeur(), 0, parentDeux.getValeur(), 0, masque, enfantUn.getValeur(), 0, enfantDeux.getValeur(), 0, GenomeBinaire.getNbMots(parentUn.getNbBits()));
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+	}
+
+
+	/**
+	 * EN - Crosses two parent individuals of compact generations according to a mask drawn by the operator of crossover of the Entrecroiseur,
+	 *      writing the words into two slots of a compact generation
+	 * FR - Croise deux individus parents de générations compactes selon un masque tiré par l'opérateur de croisement de l'Entrecroiseur,
+	 *      en écrivant les mots dans deux emplacements d'une génération compacte
+	 *
+	 * @param parentUn   EN-first parent individual to be crossed </br> FR-premier individu parent devant être croisé
+	 * @param parentDeux EN-second parent individual to be crossed </br> FR-second individu parent devant être croisé
+	 * @param masque     EN-crossover mask, bit i being 1 when bit i of the first child comes from the first parent </br> FR-masque de croisement, le bit i valant 1 lorsque le bit i du premier enfant vient du premier parent
+	 * @param enfantUn   EN-first child individual, overwritten </br> FR-premier individu enfant, écrasé
+	 * @param enfantDeux EN-second child individual, overwritten </br> FR-second individu enfant, écrasé
+	 */
+	public static void croiser(IndividuCompact parentUn, IndividuCompact parentDeux, long[] masque, IndividuCompact enfantUn, IndividuCompact enfantDeux) {
+
+		GenomeBinaire.croiser(	parentUn.getTamponGenomes(), parentUn.getDebutGenome(), parentDeux.getTamponGenomes(), parentDeux.getDebutGenome(), masque,
+								enfantUn.getTamponGenomes(), enfantUn.getDebutGenome(), enfantDeux.getTamponGenomes(), enfantDeux.getDebutGenome(), parentUn.getNbMots());
+
+		enfantUn.setEnfant(true);
+		enfantDeux.setEnfant(true);
+	}
+
+
+	/**
+	 * EN - Draws again at random the bits of an existing number
+	 * FR - Tire à nouveau au hasard les bits d'un nombre existant
+	 *
+	 * @param individu EN-number to overwrite </br> FR-nombre à écraser
+	 * @param source   EN-source of random numbers </br> FR-source de nombres aléatoires
+	 */
+	public static void reinitialiser(Nombre individu, SourceAleatoire source) {
+		GenomeBinaire.remplirAleatoirement(individu.getValeur(), 0, individu.getNbBits(), source);
+	}
+
+
+	/**
+	 * EN - Draws again at random the bits of an individual of a compact generation
+	 * FR - Tire à nouveau au hasard les bits d'un individu d'une génération compacte
+	 *
+	 * @param individu EN-individual to overwrite </br> FR-individu à écraser
+	 * @param source   EN-source of random numbers </br> FR-source de nombres aléatoires
+	 */
+	public static void reinitialiser(IndividuCompact individu, SourceAleatoire source) {
+		GenomeBinaire.remplirAleatoirement(individu.getTamponGenomes(), individu.getDebutGenome(), individu.getNbBits(), source);
+	}
+
+
+	/**
+	 * EN - Draws a random crossover mask
+	 * FR - Tire un masque de croisement aléatoire
+	 */
+	private static long[] masqueAleatoire(int nbMots, SourceAleatoire source) {
+
+		long[] masque = new long[nbMots];
+
+		for (int i = 0; i < nbMots; i++) {
+			masque[i] = source.nextLong();
+		}
+
+		return masque;
+	}
+
+}
@@ -0,0 +1,56 @@
+package numeric.metier.sauvegarde;
+
+import java.nio.ByteBuffer;
+
+import generique.metier.entite.IndividuCompact;
+import generique.metier.sauvegarde.CodecBinaire;
+
+/**
+ * EN - Binary encoding of an individual of a compact generation in a point of save : its number of bits, then its words of 64 bits
+ *      The words are read directly from the array of the generation, without copy
+ * FR - Encodage binaire d'un individu d'une génération compacte dans un point de sauvegarde : son nombre de bits, puis ses mots de 64 bits
+ *      Les mots sont lus directement dans le tableau de la génération, sans copie
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class CodecIndividuCompact implements CodecBinaire<IndividuCompact> {
+
+	@Override
+	public int getTaille(IndividuCompact valeur) {
+		return Integer.BYTES + Long.BYTES * valeur.getNbMots();
+	}
+
+
+	@Override
+	public void ecrire(IndividuCompact valeur, ByteBuffer tampon) {
+
+		long[] genomes = valeur.getTamponGenomes();
+		int debut = valeur.getDebutGenome();
+
+		tampon.putInt(valeur.getNbBits());
+
+		for (int i = 0; i < valeur.getNbMots(); i++) {
+			tampon.putLong(genomes[debut + i]);
+		}
+	}
+
+
+	@Override
+	public IndividuCompact lire(ByteBuffer tampon) {
+
+		IndividuCompact individu = IndividuCompact.creer(tampon.getInt());
+
+		long[] genomes = individu.getTamponGenomes();
+		int debut = individu.getDebutGenome();
+
+		for (int i = 0; i < individu.getNbMots(); i++) {
+			genomes[debut + i] = tampon.getLong();
+		}
+
+		return individu;
+	}
+
+}
@@ -0,0 +1,50 @@
+package numeric.metier.sauvegarde;
+
+import java.nio.ByteBuffer;
+
+import generique.metier.entite.GenomeBinaire;
+import generique.metier.sauvegarde.CodecBinaire;
+import numeric.metier.entite.Nombre;
+
+/**
+ * EN - Binary encoding of a Number in a point of save : its number of bits, then its words of 64 bits
+ * FR - Encodage binaire d'un Nombre dans un point de sauvegarde : son nombre de bits, puis ses mots de 64 bits
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+public class CodecNombre implements CodecBinaire<Nombre> {
+
+	@Override
+	public int getTaille(Nombre valeur) {
+		return Integer.BYTES + Long.BYTES * GenomeBinaire.getNbMots(valeur.getNbBits());
+	}
+
+
+	@Override
+	public void ecrire(Nombre valeur, ByteBuffer tampon) {
+
+		tampon.putInt(valeur.getNbBits());
+
+		for (long mot : valeur.getValeur()) {
+			tampon.putLong(mot);
+		}
+	}
+
+
+	@Override
+	public Nombre lire(ByteBuffer tampon) {
+
+		int nbBits = tampon.getInt();
+		long[] mots = new long[GenomeBinaire.getNbMots(nbBits)];
+
+		for (int i = 0; i < mots.length; i++) {
+			mots[i] = tampon.getLong();
+		}
+
+		return new Nombre(mots, nbBits);
+	}
+
+}
@@ -0,0 +1,194 @@
+package serveur.lanceur;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import alphabetic.metier.entite.Mot;
+import alphabetic.metier.operateur.OperateursMot;
+import generique.metier.aleatoire.SourceAleatoire;
+import generique.metier.entite.GenomeBinaire;
+import generique.metier.evaluation.Evaluateur;
+import generique.metier.journal.JournalAsynchrone;
+import generique.metier.journal.PolitiqueSaturation;
+import generique.metier.mediation.Mediateur;
+import generique.metier.service.FabriqueTravail;
+import generique.metier.service.OrdonnanceurTravaux;
+import generique.metier.service.ServeurSolveur;
+import generique.metier.service.Travail;
+import lombok.extern.java.Log;
+import numeric.metier.entite.Nombre;
+import numeric.metier.operateur.OperateursNombre;
+
+
+/**
+ * EN - Class allowing to launch the local solving server, which searches the mystery words and numbers submitted by its clients
+ *      The types of search are "alphabetic", the target being a word, and "numeric", the target being a binary number written with '0' and '1'
+ * FR - Classe permettant de lancer le serveur de résolution local, qui recherche les mots et nombres mystères soumis par ses clients
+ *      Les types de recherche sont "alphabetic", la cible étant un mot, et "numeric", la cible étant un nombre binaire écrit avec des '0' et des '1'
+ *
+ * @author Parlons Archi !
+ * @see <a href="https://www.youtube.com/@christophecadet" /a>
+ *
+ * @version 1.0
+ */
+
+/**
+ * EN - Creates private static final java.util.logging.Logger log = java.util.logging.Logger.getLogger(App.class.getName());
+ * FR - Création d'une réference privée statique finale vers un Logger reprenant le nom canonique de la classe
+ */
+@Log
+public class App {
+
+	/** EN - Reference to global LogManager
+	 *  FR - Reference au global LogManager
+	 */
+	private static final LogManager logManager = LogManager.getLogManager();
+
+	/** EN - Reads and initializes the logging configuration from the given input stream.
+	 *  FR - Lit et initialise la configuration de la journalisation à partir du flux d'entrée donné
+	 */
+	static{
+		try {
+			logManager.readConfiguration( new FileInputStream("geneticLogConfig.properties") );
+		} catch ( IOException exception ) {
+			log.log( Level.SEVERE, "Impossible de charger le fichier de configuration", exception );
+		}
+	}
+
+	public static void main(String[] args) {
+
+		try {
+
+			/* EN - Loading the configuration as Properties, once for all the jobs
+			 * FR - Chargement de la configuration sous forme de Properties, une fois pour tous les travaux */
+			Properties properties = new Properties();
+			properties.load(new FileInputStream("geneticConfig.properties"));
+
+			/* EN - Each Mediator evaluates sequentially, the jobs sharing the threads of the scheduler, and without point of save
+			 * FR - Chaque Mediateur évalue séquentiellement, les travaux se partageant les threads de l'ordonnanceur, et sans point de sauvegarde */
+			Properties configurationTravaux = new Properties();
+			configurationTravaux.putAll(properties);
+			configurationTravaux.setProperty("parallelismeEvaluation", "1");
+			configurationTravaux.setProperty("evaluationEnPipeline", "false");
+			configurationTravaux.setProperty("periodePointDeSauvegarde", "0");
+			configurationTravaux.setProperty("repriseRecherche", "false");
+
+			/* EN - Root source of random numbers, split by the thread of the server for each job
+			 * FR - Source racine de nombres aléatoires, scindée par le thread du serveur pour chaque travail */
+			SourceAleatoire sourceAleatoire = SourceAleatoire.creer(properties.getProperty("graineAleatoire"));
+
+			log.log(Level.INFO, "Graine aléatoire : {0}", String.valueOf(sourceAleatoire.getGraine()));
+
+			/* EN - Journal of the progress shared by all the jobs
+			 * FR - Journal de l'avancement partagé par tous les travaux */
+			JournalAsynchrone journal = new JournalAsynchrone(	Logger.getLogger(Mediateur.class.getName()), Integer.valueOf(properties.getProperty("capaciteJournal", "1024")),
+																PolitiqueSaturation.valueOf(properties.getProperty("politiqueJournal", "ABANDONNER").trim()));
+
+
+			/* EN - Factory of the jobs searching a word, built as the Mediators of the batch of the alphabetic launcher
+			 * FR - Fabrique des travaux recherchant un mot, construits comme les Mediateurs du lot du lanceur alphabetic */
+			FabriqueTravail fabriqueMot = (id, cible, budget) -> {
+
+				SourceAleatoire sourceMediateur = sourceAleatoire.scinder();
+
+				Mediateur<Mot, String> mediateur = new Mediateur<Mot, String>(
+						() -> cible,
+						() -> OperateursMot.aleatoire(cible.length(), sourceMediateur),
+						OperateursMot::evaluer,
+						new Evaluateur<Mot, String>(() -> cible, OperateursMot::evaluer),
+						OperateursMot::selectionner,
+						(x,y) -> OperateursMot.croiser(x, y, sourceMediateur)
+						);
+
+				mediateur.setFonctionCopieIndividu(x -> new Mot(x.getValeur()));
+				mediateur.setCroisementParMasque(OperateursMot::croiser);
+				mediateur.setFonctionNbLoci(Mot::getNbLoci);
+				configurer(mediateur, configurationTravaux, journal, sourceMediateur, budget);
+
+				return new Travail<Mot>(id, "alphabetic", cible, mediateur, Mot::getValeur);
+			};
+
+
+			/* EN - Factory of the jobs searching a binary number, with the crossover in place of the numeric launcher
+			 * FR - Fabrique des travaux recherchant un nombre binaire, avec le croisement en place du lanceur numeric */
+			FabriqueTravail fabriqueNombre = (id, cible, budget) -> {
+
+				int nbBits = cible.length();
+				Nombre nombreMystere = new Nombre(GenomeBinaire.lire(cible), nbBits);
+				SourceAleatoire sourceMediateur = sourceAleatoire.scinder();
+
+				Evaluateur<Nombre, Nombre> evaluateurIndividu = new Evaluateur<Nombre, Nombre>(() -> nombreMystere, OperateursNombre::evaluer);
+				evaluateurIndividu.setFonctionCleCache(x -> LongBuffer.wrap(x.getValeur().clone()));
+
+				Mediateur<Nombre, Nombre> mediateur = new Mediateur<Nombre, Nombre>(
+						() -> nombreMystere,
+						() -> OperateursNombre.aleatoire(nbBits, sourceMediateur),
+						OperateursNombre::evaluer,
+						evaluateurIndividu,
+						OperateursNombre::selectionner,
+						(x,y) -> OperateursNombre.croiser(x, y, sourceMediateur)
+						);
+
+				mediateur.setCroisementEnPlace((p1, p2, e1, e2) -> OperateursNombre.croiser(p1, p2, e1, e2, sourceMediateur));
+				mediateur.setFonctionReinitialisationAleatoire(x -> OperateursNombre.reinitialiser(x, sourceMediateur));
+				mediateur.setFabriqueIndividuVierge(() -> OperateursNombre.vierge(nbBits));
+				mediateur.setCroisementEnPlaceParMasque(OperateursNombre::croiser);
+				mediateur.setFonctionNbLoci(Nombre::getNbBits);
+				mediateur.setFonctionCopieIndividu(x -> new Nombre(x.getValeur().clone(), x.getNbBits()));
+				configurer(mediateur, configurationTravaux, journal, sourceMediateur, budget);
+
+				return new Travail<Nombre>(id, "numeric", cible, mediateur, x -> GenomeBinaire.toString(x.getValeur(), 0, x.getNbBits(), Integer.MAX_VALUE));
+			};
+
+			Map<String, FabriqueTravail> fabriques = new HashMap<String, FabriqueTravail>();
+			fabriques.put("alphabetic", fabriqueMot);
+			fabriques.put("numeric", fabriqueNombre);
+
+
+			/* EN - Scheduler sharing its threads between the jobs by slices of generations
+			 * FR - Ordonnanceur partageant ses threads entre les travaux par tranches de générations */
+			OrdonnanceurTravaux ordonnanceur = new OrdonnanceurTravaux(	Integer.valueOf(properties.getProperty("nbThreadsServeur", "0")),
+																		Integer.valueOf(properties.getProperty("generationsParTranche", "1")),
+																		Integer.valueOf(properties.getProperty("capaciteFileTravaux", "1000")),
+																		Integer.valueOf(properties.getProperty("nbTravauxConserves", "10000")));
+
+			ServeurSolveur serveur = new ServeurSolveur(Integer.valueOf(properties.getProperty("portServeur", "8080")), ordonnanceur, fabriques);
+
+			/* EN - The server runs until the virtual machine is stopped, the jobs then being cancelled and the journal emptied
+			 * FR - Le serveur tourne jusqu'à l'arrêt de la machine virtuelle, les travaux étant alors annulés et le journal vidé */
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				serveur.close();
+				journal.close();
+			}, "arret-serveur-solveur"));
+
+		} catch (IOException e) {
+			log.log(Level.SEVERE, "Erreur à l'execution", e.getMessage());
+			log.log(Level.SEVERE, "Cause : ", e.getCause());
+		}
+	}
+
+
+	/**
+	 * EN - Configures the Mediator of a job : configuration shared by the jobs, journal, source of random numbers and budget of the job
+	 *      The budget is counted from the start of the job, its waiting in the queue excluded, before its first slice as between its slices
+	 * FR - Configure le Mediateur d'un travail : configuration partagée par les travaux, journal, source de nombres aléatoires et budget du travail
+	 *      Le budget est compté à partir du démarrage du travail, son attente dans la file exclue, avant sa première tranche comme entre ses tranches
+	 */
+	private static void configurer(	Mediateur<?, ?> mediateur, Properties configuration, JournalAsynchrone journal, SourceAleatoire source,
+									Duration budget) {
+
+		mediateur.setConfiguration(configuration);
+		mediateur.setJournal(journal);
+		mediateur.setSourceAleatoire(source);
+		mediateur.setBudgetTraitement(budget);
+	}
+
+}